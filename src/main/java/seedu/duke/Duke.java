@@ -2,28 +2,43 @@ package seedu.duke;
 
 import seedu.duke.command.Command;
 import seedu.duke.command.ReminderCommand;
-import seedu.duke.data.UserData;
+import seedu.duke.data.Profile;
+import seedu.duke.data.ProfileManager;
 import seedu.duke.event.EventList;
 import seedu.duke.exception.DukeException;
+import seedu.duke.metrics.SessionReplay;
 import seedu.duke.parser.Parser;
-import seedu.duke.storage.Storage;
+import seedu.duke.reminder.ReminderScheduler;
+import seedu.duke.server.ApiServer;
+import seedu.duke.storage.DataWatcher;
 import seedu.duke.storage.StorageParser;
+import seedu.duke.trace.FlightRecording;
 import seedu.duke.ui.Ui;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Scanner;
 
 public class Duke {
 
-    private Storage storage;
-    private UserData data;
+    private ProfileManager profiles;
     private Ui ui;
     private Command com;
     private Parser currentParse;
 
     //Location refers to the "data" directory stored in the folder of this application
     private static final String FILELOCATION = "data";
+    private static final String SERVER_FLAG = "--server";
+    private static final String RECORDING_FLAG = "--jfr";
+    private static final String DEFAULT_RECORDING_FILE = "scheduler.jfr";
+    private static final String CAPTURE_FLAG = "--capture";
+    private static final String DEFAULT_CAPTURE_FILE = "session.txt";
+    private static final String REPLAY_FLAG = "--replay";
+    private static final int DEFAULT_SERVER_PORT = 8080;
+    private static final int PROFILE_CACHE_SIZE = 8;
 
 
     /**
@@ -34,11 +49,9 @@ public class Duke {
     public Duke(String filePath) {
         ui = new Ui();
 
-        storage = new Storage(filePath, ui);
+        profiles = new ProfileManager(filePath, ui, PROFILE_CACHE_SIZE);
 
-        data = new UserData();
-
-        currentParse = new Parser();
+        currentParse = new Parser(profiles);
 
         EventLogger.clearLog();
         EventLogger.initEventLogger(ui);
@@ -52,11 +65,16 @@ public class Duke {
     public void run() {
 
         ui.printWelcomeMessage();
-        storage.loadAll(data);
+        Profile profile = profiles.getActive();
+        ReminderScheduler reminderScheduler = new ReminderScheduler(ui);
+        profiles.setReminderScheduler(reminderScheduler);
+        reminderScheduler.start();
+        DataWatcher dataWatcher = new DataWatcher();
+        profiles.setDataWatcher(dataWatcher);
         ui.printDividerLine();
         try {
             Command reminder = currentParse.parse("reminder");
-            reminder.execute(data, ui, storage);
+            profile.getStore().execute(reminder, ui, profile.getStorage());
         } catch (DukeException e) {
             ui.printErrorMessage(e.getMessage());
         }
@@ -72,22 +90,67 @@ public class Duke {
                     ui.printDividerLine();
                     Command c = currentParse.parse(commInputs);
                     isExit = c.isExit();
-                    c.execute(data, ui, storage);
+                    profile = profiles.getActive();
+                    profile.getStore().execute(c, ui, profile.getStorage());
                 }
 
             } catch (DukeException e) {
                 ui.printErrorMessage(e.getMessage());
             }
         }
-        storage.saveAll(data);
+        reminderScheduler.stop();
+        dataWatcher.stop();
+        profiles.saveAll();
+        ui.stopCapture();
         ui.printByeMessage();
 
     }
 
+    /**
+     * Loads the user's data and serves it over HTTP on localhost instead of reading commands from the console.
+     * Requests may choose a profile, otherwise the default profile is used.
+     * The server keeps running until the program is terminated.
+     *
+     * @param port port to listen on.
+     * @throws IOException if the server cannot listen on the port.
+     */
+    public void runServer(int port) throws IOException {
+        profiles.getActive();
+        ApiServer server = new ApiServer(port, profiles);
+        server.start();
+        ui.printMessage("Scheduler API is running at http://localhost:" + server.getPort() + "/");
+    }
+
+    /**
+     * Records every line typed in the console to the session file, to be replayed with "--replay".
+     *
+     * @param sessionFile file to record the session to.
+     * @throws IOException if the session file cannot be created.
+     */
+    public void captureSession(Path sessionFile) throws IOException {
+        ui.startCapture(sessionFile);
+        ui.printMessage("Recording this session to " + sessionFile);
+    }
+
+    /**
+     * Replays a captured session against a copy of the data folder and prints the time taken by each command.
+     *
+     * @param sessionFile file the session was captured to.
+     * @param dataFolder  data folder to copy, with folders separated by commas.
+     * @throws IOException if the session file cannot be read or the data folder cannot be copied.
+     */
+    private static void replaySession(Path sessionFile, String dataFolder) throws IOException {
+        SessionReplay replay = new SessionReplay(sessionFile, dataFolder);
+        replay.run();
+        new Ui().printReplayReport(replay.report());
+    }
+
     /**
      * Main function where the program starts.
      *
-     * @param args No arguments entered so far
+     * @param args "--server [PORT]" to serve the schedule over HTTP, "--jfr [FILE]" to record flight recorder
+     *             events to FILE until the program exits, "--capture [FILE]" to record the lines typed to FILE,
+     *             and "--replay FILE [DATA_FOLDER]" to replay a captured session and print how long commands took.
      */
     public static void main(String[] args) throws Exception {
         /*String logo = " ____        _        \n"
@@ -100,8 +163,41 @@ public class Duke {
 
         Scanner in = new Scanner(System.in);
         System.out.println("Hello " + in.nextLine());*/
+        ArrayList<String> arguments = new ArrayList<>(Arrays.asList(args));
+        int recordingIndex = arguments.indexOf(RECORDING_FLAG);
+        if (recordingIndex >= 0) {
+            arguments.remove(recordingIndex);
+            String recordingFile = DEFAULT_RECORDING_FILE;
+            if (recordingIndex < arguments.size() && !arguments.get(recordingIndex).startsWith("--")) {
+                recordingFile = arguments.remove(recordingIndex);
+            }
+            FlightRecording.start(Paths.get(recordingFile));
+        }
+
+        if (arguments.size() > 1 && arguments.get(0).equals(REPLAY_FLAG)) {
+            replaySession(Paths.get(arguments.get(1)), (arguments.size() > 2) ? arguments.get(2) : FILELOCATION);
+            return;
+        }
+        int captureIndex = arguments.indexOf(CAPTURE_FLAG);
+        Path captureFile = null;
+        if (captureIndex >= 0) {
+            arguments.remove(captureIndex);
+            captureFile = Paths.get(DEFAULT_CAPTURE_FILE);
+            if (captureIndex < arguments.size() && !arguments.get(captureIndex).startsWith("--")) {
+                captureFile = Paths.get(arguments.remove(captureIndex));
+            }
+        }
+
         Duke duke = new Duke(FILELOCATION);
-        duke.run();
+        if (captureFile != null) {
+            duke.captureSession(captureFile);
+        }
+        if (arguments.size() > 0 && arguments.get(0).equals(SERVER_FLAG)) {
+            int port = (arguments.size() > 1) ? Integer.parseInt(arguments.get(1)) : DEFAULT_SERVER_PORT;
+            duke.runServer(port);
+        } else {
+            duke.run();
+        }
     }
 
 
@@ -2,6 +2,7 @@ package seedu.duke.command;
 
 import seedu.duke.EventLogger;
 import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
 import seedu.duke.event.Personal;
 import seedu.duke.event.Timetable;
 import seedu.duke.event.Zoom;
@@ -12,13 +13,13 @@ import seedu.duke.exception.WrongNumberOfArgumentsException;
 import seedu.duke.exception.EventAddErrorException;
 import seedu.duke.exception.MissingDescriptionException;
 import seedu.duke.exception.InvalidListException;
+import seedu.duke.parser.CommandArguments;
 import seedu.duke.parser.DateTimeParser;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Arrays;
 import java.util.logging.Logger;
 
 
@@ -27,7 +28,7 @@ import java.util.logging.Logger;
  */
 public class AddCommand extends Command {
     private String eventType;
-    private String argument;
+    private String[] argumentWords;
     private Boolean isInvalidEventType = false;
     private static Logger logger = EventLogger.getEventLogger();
 
@@ -37,13 +38,21 @@ public class AddCommand extends Command {
      * @param command from user input
      */
     public AddCommand(String command) {
+        this((command == null) ? null : CommandArguments.ofArgument(command));
+    }
+
+    /**
+     * Constructor for adding events from the fields of the user input, the event type followed by the event fields.
+     *
+     * @param arguments fields of the user input after the command keyword.
+     */
+    public AddCommand(CommandArguments arguments) {
         this.isExit = false;
-        if (command == null || command.equals("") || command.equals(" ")) {
+        if (arguments == null || arguments.getArgument().isBlank()) {
             isInvalidEventType = true;
         } else {
-            String[] commandWords = command.split(";");
-            if (!(commandWords.length == 0)) {
-                String tempEventType = commandWords[0].toLowerCase().trim();
+            if (arguments.toFieldArray(0).length != 0) {
+                String tempEventType = arguments.getField(0).toLowerCase();
                 switch (tempEventType) {
                 case "zoom":
                     eventType = "Zoom";
@@ -58,8 +67,7 @@ public class AddCommand extends Command {
                     isInvalidEventType = true;
                     break;
                 }
-                String[] argumentWords = Arrays.copyOfRange(commandWords, 1, commandWords.length);
-                argument = String.join(";", argumentWords);
+                argumentWords = arguments.toFieldArray(1);
             }
             logger.fine("Add Command constructed");
         }
@@ -75,7 +83,7 @@ public class AddCommand extends Command {
      */
     @Override
     public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
-        if (argument == null) {
+        if (argumentWords == null) {
             logger.warning("EventAddErrorException -- Wrong format for add command.");
             throw new EventAddErrorException("Wrong format for the add command!");
         }
@@ -85,8 +93,7 @@ public class AddCommand extends Command {
                     + " Timetable or Zoom.");
         }
 
-        String[] argumentWords = argument.split(";");
-        if (argumentWords[0].trim().equals("")) {
+        if (argumentWords.length == 0 || argumentWords[0].trim().equals("")) {
             logger.warning("MissingDescriptionException -- Event has empty description.");
             throw new MissingDescriptionException("This event has an empty description!");
         }
@@ -128,6 +135,81 @@ public class AddCommand extends Command {
      */
     private void addTimetable(UserData data, Ui ui, String[] argumentWords) throws DateErrorException,
             TimeErrorException, WrongNumberOfArgumentsException, InvalidListException {
+        data.addToEventList("Timetable", createTimetable(argumentWords));
+        logger.fine("Timetable event successfully added.");
+    }
+
+    /**
+     * Adds a Personal event.
+     *
+     * @param data object of UserData class containing user's data.
+     * @param ui containing the responses to print.
+     * @param argumentWords String array containing user input arguments
+     * @throws DateErrorException the date input is not valid.
+     * @throws TimeErrorException the time input is not valid.
+     * @throws WrongNumberOfArgumentsException the number of arguments cannot create a valid personal event.
+     * @throws InvalidListException the eventlist that the event added to is not valid (should never occur).
+     */
+    private void addPersonal(UserData data, Ui ui, String[] argumentWords) throws DateErrorException,
+            TimeErrorException, WrongNumberOfArgumentsException, InvalidListException {
+        data.addToEventList("Personal", createPersonal(argumentWords));
+        logger.fine("Personal event successfully added.");
+    }
+
+    /**
+     * Adds a Zoom event.
+     *
+     * @param data object of UserData class containing user's data.
+     * @param ui containing the responses to print.
+     * @param argumentWords String array containing user input arguments
+     * @throws DateErrorException the date input is not valid.
+     * @throws TimeErrorException the time input is not valid.
+     * @throws WrongNumberOfArgumentsException the number of arguments cannot create a valid zoom event.
+     * @throws InvalidListException the eventlist that the event added to is not valid (should never occur).
+     */
+    private void addZoom(UserData data, Ui ui, String[] argumentWords) throws DateErrorException,
+            TimeErrorException, WrongNumberOfArgumentsException, InvalidListException  {
+        data.addToEventList("Zoom", createZoom(argumentWords));
+        logger.fine("Zoom event successfully added.");
+    }
+
+    /**
+     * Creates an event of the given type from its argument fields, without adding it to any list.
+     * The fields follow the same order as the add command, e.g. description, [location], date, time for Timetable.
+     *
+     * @param eventType Personal, Timetable or Zoom.
+     * @param argumentWords String array containing the event fields.
+     * @return the event created from the fields.
+     * @throws DukeException if the fields cannot create a valid event of the given type.
+     */
+    static Event createEvent(String eventType, String[] argumentWords) throws DukeException {
+        if (argumentWords.length == 0 || argumentWords[0].trim().equals("")) {
+            throw new MissingDescriptionException("This event has an empty description!");
+        }
+        switch (eventType) {
+        case "Personal":
+            return createPersonal(argumentWords);
+        case "Zoom":
+            return createZoom(argumentWords);
+        case "Timetable":
+            return createTimetable(argumentWords);
+        default:
+            throw new EventAddErrorException("Invalid event type to be added! Valid event types are Personal,"
+                    + " Timetable or Zoom");
+        }
+    }
+
+    /**
+     * Creates a Timetable event from description, [location], date and time fields.
+     *
+     * @param argumentWords String array containing user input arguments
+     * @return the Timetable event created.
+     * @throws DateErrorException the date input is not valid.
+     * @throws TimeErrorException the time input is not valid.
+     * @throws WrongNumberOfArgumentsException the number of arguments cannot create a valid timetable event.
+     */
+    private static Timetable createTimetable(String[] argumentWords) throws DateErrorException,
+            TimeErrorException, WrongNumberOfArgumentsException {
         if (argumentWords.length == 3 || argumentWords.length == 4) {
             // 2 cases: description & date & time , description & location & date & time
             if (argumentWords.length == 3) {
@@ -135,17 +217,14 @@ public class AddCommand extends Command {
                 assert localDate != null : "date is not detected after parsing";
                 LocalTime localTime = DateTimeParser.timeParser(argumentWords[2].trim());
                 assert localTime != null : "time is not detected after parsing";
-                data.addToEventList("Timetable", new Timetable(argumentWords[0].trim(), localDate, localTime));
+                return new Timetable(argumentWords[0].trim(), localDate, localTime);
             } else {
                 LocalDate localDate = DateTimeParser.dateParser(argumentWords[2].trim());
                 assert localDate != null : "date is not detected after parsing";
                 LocalTime localTime = DateTimeParser.timeParser(argumentWords[3].trim());
                 assert localTime != null : "time is not detected after parsing";
-                data.addToEventList("Timetable", new Timetable(argumentWords[0].trim(),
-                        argumentWords[1].trim(), localDate, localTime));
-
+                return new Timetable(argumentWords[0].trim(), argumentWords[1].trim(), localDate, localTime);
             }
-            logger.fine("Timetable event successfully added.");
         } else {
             logger.warning("WrongNumberOfArgumentsException -- Incorrect number of parameters for Timetable event!");
             throw new WrongNumberOfArgumentsException("Incorrect number of parameters for Timetable event! A Timetable "
@@ -154,34 +233,31 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Adds a Personal event.
+     * Creates a Personal event from description, [date] and [time] fields.
      *
-     * @param data object of UserData class containing user's data.
-     * @param ui containing the responses to print.
      * @param argumentWords String array containing user input arguments
+     * @return the Personal event created.
      * @throws DateErrorException the date input is not valid.
      * @throws TimeErrorException the time input is not valid.
      * @throws WrongNumberOfArgumentsException the number of arguments cannot create a valid personal event.
-     * @throws InvalidListException the eventlist that the event added to is not valid (should never occur).
      */
-    private void addPersonal(UserData data, Ui ui, String[] argumentWords) throws DateErrorException,
-            TimeErrorException, WrongNumberOfArgumentsException, InvalidListException {
+    private static Personal createPersonal(String[] argumentWords) throws DateErrorException,
+            TimeErrorException, WrongNumberOfArgumentsException {
         if (argumentWords.length >= 1 && argumentWords.length <= 3) {
             // 3 cases: only description, description and date, description and date and time
             if (argumentWords.length == 1) {
-                data.addToEventList("Personal", new Personal(argumentWords[0].trim()));
+                return new Personal(argumentWords[0].trim());
             } else if (argumentWords.length == 2) {
                 LocalDate localDate = DateTimeParser.dateParser(argumentWords[1].trim());
                 assert localDate != null : "date is not detected after parsing";
-                data.addToEventList("Personal", new Personal(argumentWords[0].trim(), localDate));
+                return new Personal(argumentWords[0].trim(), localDate);
             } else {
                 LocalDate localDate = DateTimeParser.dateParser(argumentWords[1].trim());
                 assert localDate != null : "date is not detected after parsing";
                 LocalTime localTime = DateTimeParser.timeParser(argumentWords[2].trim());
                 assert localTime != null : "time is not detected after parsing";
-                data.addToEventList("Personal", new Personal(argumentWords[0].trim(), localDate, localTime));
+                return new Personal(argumentWords[0].trim(), localDate, localTime);
             }
-            logger.fine("Personal event successfully added.");
         } else {
             logger.warning("WrongNumberOfArgumentsException -- Incorrect number of parameters for Personal event!");
             throw new WrongNumberOfArgumentsException("Incorrect number of parameters for Personal event! A Personal"
@@ -190,35 +266,36 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Adds a Zoom event.
+     * Creates a Zoom event from description, link, [date] and [time] fields.
      *
-     * @param data object of UserData class containing user's data.
-     * @param ui containing the responses to print.
      * @param argumentWords String array containing user input arguments
+     * @return the Zoom event created.
      * @throws DateErrorException the date input is not valid.
      * @throws TimeErrorException the time input is not valid.
      * @throws WrongNumberOfArgumentsException the number of arguments cannot create a valid zoom event.
-     * @throws InvalidListException the eventlist that the event added to is not valid (should never occur).
      */
-    private void addZoom(UserData data, Ui ui, String[] argumentWords) throws DateErrorException,
-            TimeErrorException, WrongNumberOfArgumentsException, InvalidListException  {
+    private static Zoom createZoom(String[] argumentWords) throws DateErrorException,
+            TimeErrorException, WrongNumberOfArgumentsException {
         if (argumentWords.length == 2 || argumentWords.length == 4) {
             // 2 cases: only have description & zoomlink , have description,zoomlink, date,time
             if (argumentWords.length == 2) {
-                data.addToEventList("Zoom", new Zoom(argumentWords[0].trim(), argumentWords[1].trim()));
+                return new Zoom(argumentWords[0].trim(), argumentWords[1].trim());
             } else {
                 LocalDate localDate = DateTimeParser.dateParser(argumentWords[2].trim());
                 assert localDate != null : "date is not detected after parsing";
                 LocalTime localTime = DateTimeParser.timeParser(argumentWords[3].trim());
                 assert localTime != null : "time is not detected after parsing";
-                data.addToEventList("Zoom", new Zoom(argumentWords[0].trim(),
-                        argumentWords[1].trim(), localDate, localTime));
+                return new Zoom(argumentWords[0].trim(), argumentWords[1].trim(), localDate, localTime);
             }
-            logger.fine("Zoom event successfully added.");
         } else {
             logger.warning("WrongNumberOfArgumentsException -- Incorrect number of parameters for Zoom event!");
             throw new WrongNumberOfArgumentsException("Incorrect number of parameters for Zoom event! A Zoom event"
                     + " can contain description and link or description, link, date and time.");
         }
     }
+
+    @Override
+    public String getListName() {
+        return eventType;
+    }
 }
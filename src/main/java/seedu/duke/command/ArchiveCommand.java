@@ -0,0 +1,146 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidIndexException;
+import seedu.duke.exception.WrongNumberFormatException;
+import seedu.duke.storage.Archive;
+import seedu.duke.storage.ArchivedEvent;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Command to move old completed events to the archive, search the archive, restore archived events,
+ * or set how old completed events must be to be archived automatically.
+ * Moving events into or out of the archive cannot be undone, as the undo history does not cover the archive file,
+ * so the history is cleared after the archive changes.
+ */
+public class ArchiveCommand extends Command {
+    private static final int DEFAULT_DAYS = 30;
+    private static final String SEARCH = "search";
+    private static final String RESTORE = "restore";
+    private static final String AUTO = "auto";
+    private static final String OFF = "off";
+    private static final String FORMAT = "The format for archive is: \"archive [DAYS]\", \"archive search [KEYWORD]\", "
+            + "\"archive restore NUMBER\" or \"archive auto DAYS/off\".";
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final String action;
+    private final String argument;
+
+    /**
+     * Creates an archive command.
+     *
+     * @param command number of days, search with a keyword, restore with a number or auto with a number of days.
+     */
+    public ArchiveCommand(String command) {
+        this.isExit = false;
+        this.command = command.trim();
+        String[] words = this.command.split(" ", 2);
+        action = words[0].toLowerCase();
+        argument = (words.length > 1) ? words[1].trim() : "";
+    }
+
+    /**
+     * Carries out the archive action given.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if the arguments are invalid or the archive cannot be read or written.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        Archive archive = storage.getArchive();
+        try {
+            switch (action) {
+            case SEARCH:
+                ui.printArchiveSearchResults(archive.search(argument));
+                break;
+            case RESTORE:
+                restore(data, ui, storage, archive);
+                break;
+            case AUTO:
+                int policyDays = argument.equalsIgnoreCase(OFF) ? -1 : parseDays(argument);
+                archive.setPolicyDays(policyDays);
+                ui.printArchivePolicyMessage(policyDays);
+                break;
+            default:
+                archiveOldEvents(data, ui, storage, archive);
+                break;
+            }
+        } catch (IOException e) {
+            logger.warning("Archive could not be read or written: " + e.getMessage());
+            throw new DukeException("Error! The archive in the data folder could not be read or written.");
+        }
+    }
+
+    private void archiveOldEvents(UserData data, Ui ui, Storage storage, Archive archive)
+            throws DukeException, IOException {
+        int days = action.isEmpty() ? DEFAULT_DAYS : parseDays(command);
+        int sizeBefore = Storage.countEvents(data);
+        ArrayList<String> changedLists = archive.archiveBefore(data, LocalDate.now().minusDays(days));
+        if (!changedLists.isEmpty()) {
+            clearHistory(data);
+        }
+        for (String listName : changedLists) {
+            storage.saveFile(storage.getFileLocation(listName), data, listName);
+        }
+        logger.fine("Archive command archived events from " + changedLists);
+        ui.printArchivedMessage(sizeBefore - Storage.countEvents(data), days);
+    }
+
+    private void restore(UserData data, Ui ui, Storage storage, Archive archive) throws DukeException, IOException {
+        int number;
+        try {
+            number = Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            throw new WrongNumberFormatException("Archived event number given is not an integer."
+                    + System.lineSeparator() + FORMAT);
+        }
+        ArchivedEvent archivedEvent = archive.restore(data, number);
+        if (archivedEvent == null) {
+            throw new InvalidIndexException("There is no archived event " + number
+                    + ". Use archive search to find the number of an archived event.");
+        }
+        clearHistory(data);
+        String listName = archivedEvent.getListName();
+        storage.saveFile(storage.getFileLocation(listName), data, listName);
+        ui.printArchiveRestoredMessage(archivedEvent);
+    }
+
+    /**
+     * Forgets the commands that could be undone, including this one, as undoing them would no longer match what
+     * is in the archive file.
+     */
+    private static void clearHistory(UserData data) {
+        if (data.getHistory() != null) {
+            data.getHistory().clear();
+            logger.fine("Undo history cleared after the archive changed");
+        }
+    }
+
+    private static int parseDays(String days) throws WrongNumberFormatException {
+        try {
+            int parsedDays = Integer.parseInt(days);
+            if (parsedDays >= 0) {
+                return parsedDays;
+            }
+        } catch (NumberFormatException e) {
+            //handled below
+        }
+        throw new WrongNumberFormatException("Number of days must be a whole number of at least 0."
+                + System.lineSeparator() + FORMAT);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return action.equals(SEARCH);
+    }
+}
@@ -26,4 +26,8 @@ public class ByeCommand extends Command {
     public void execute(UserData data, Ui ui, Storage storage) {
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
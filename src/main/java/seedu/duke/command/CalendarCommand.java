@@ -5,22 +5,24 @@ import seedu.duke.data.UserData;
 import seedu.duke.event.Event;
 import seedu.duke.event.EventList;
 import seedu.duke.exception.DukeException;
+import seedu.duke.query.QueryResult;
+import seedu.duke.query.UpcomingEvents;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.logging.Logger;
 
 /**
  * Command to print events in a calendar format.
  */
 public class CalendarCommand extends Command {
-    private Map<LocalDate, ArrayList<Event>> calendarMap = new TreeMap<>();
+    private Map<LocalDate, ArrayList<Event>> calendarMap = new LinkedHashMap<>();
     private int eventsWithoutDateCount = 0;
+    private int calendarEventCount = 0;
     private static Logger logger = EventLogger.getEventLogger();
 
     /**
@@ -34,11 +36,10 @@ public class CalendarCommand extends Command {
 
     @Override
     public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
-        ArrayList<EventList> eventLists = data.getAllEventLists();
-        for (EventList list : eventLists) {
-            ArrayList<Event> events = list.getEvents();
-            addEventsToCalendar(events);
+        for (QueryResult result : UpcomingEvents.all(data)) {
+            addEventToCalendar(result.getEvent());
         }
+        eventsWithoutDateCount = countAllEvents(data) - calendarEventCount;
         logger.fine("Calendar created successfully.");
         int calendarCount = calendarMap.size();
         ui.printCalendarStart(calendarCount, eventsWithoutDateCount);
@@ -57,36 +58,36 @@ public class CalendarCommand extends Command {
     }
 
     /**
-     * Adds events from event arraylist into the calendar treemap.
+     * Adds a timed event to the events on its date. Events come in date and time order, so each date's events
+     * are in time order without sorting.
      *
-     * @param events to add into the calendar.
+     * @param e event to add into the calendar.
      */
-    private void addEventsToCalendar(ArrayList<Event> events) {
-        for (Event e : events) {
-            ArrayList<Event> eventRepeatList = e.getRepeatEventList();
-            if (eventRepeatList != null) {
-                addEventsToCalendar(eventRepeatList);
-            }
-            addEventToCalendar(e);
+    private void addEventToCalendar(Event e) {
+        if (e.getTime() == null) {
+            return;
+        }
+        LocalDate eventDate = e.getDate();
+        ArrayList<Event> eventsOnDate = calendarMap.get(eventDate);
+        if (eventsOnDate == null) {
+            eventsOnDate = new ArrayList<>();
+            calendarMap.put(eventDate, eventsOnDate);
         }
+        eventsOnDate.add(e);
+        calendarEventCount++;
     }
 
-    private void addEventToCalendar(Event e) {
-        LocalDate eventDate = e.getDate();
-        LocalTime eventTime = e.getTime();
-        if (eventDate != null && eventTime != null) {
-            ArrayList<Event> eventsOnDate;
-            if (calendarMap.containsKey(eventDate)) {
-                eventsOnDate = calendarMap.get(eventDate);
-                eventsOnDate.add(e);
-            } else {
-                eventsOnDate = new ArrayList<>();
-                eventsOnDate.add(e);
-                calendarMap.put(eventDate, eventsOnDate);
+    /**
+     * Returns the number of events in all lists, counting each repeat of an event.
+     */
+    private static int countAllEvents(UserData data) {
+        int count = 0;
+        for (EventList list : data.getAllEventLists()) {
+            for (Event e : list.getEvents()) {
+                count += 1 + ((e.getRepeatEventList() == null) ? 0 : e.getRepeatEventList().size());
             }
-        } else {
-            eventsWithoutDateCount++;
         }
+        return count;
     }
 
     /**
@@ -98,4 +99,9 @@ public class CalendarCommand extends Command {
     public static Command parse(String input) {
         return new CalendarCommand(null);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
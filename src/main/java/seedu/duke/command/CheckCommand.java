@@ -11,6 +11,7 @@ import seedu.duke.exception.MissingSemicolonException;
 import seedu.duke.exception.TimeErrorException;
 import seedu.duke.exception.TryRegularParserException;
 import seedu.duke.exception.WrongNumberOfArgumentsException;
+import seedu.duke.parser.CommandArguments;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
@@ -29,16 +30,30 @@ import static seedu.duke.parser.DateTimeParser.timeParser;
  * Command to check availability.
  */
 public class CheckCommand extends Command {
+    private static final String FORMAT = "The format for check is: "
+            + "\"check [<START_DATE>]; [<START_TIME>]; [<END_DATE>]; [<END_TIME>]\".";
     private static Logger logger = EventLogger.getEventLogger();
 
+    private final CommandArguments arguments;
+
     /**
      * Constructor for checking availability.
      *
      * @param command from user input
      */
     public CheckCommand(String command) {
+        this(CommandArguments.ofArgument(command));
+    }
+
+    /**
+     * Constructor for checking availability from the fields of the user input.
+     *
+     * @param arguments fields of the user input after the command keyword.
+     */
+    public CheckCommand(CommandArguments arguments) {
         this.isExit = false;
-        this.command = command;
+        this.arguments = arguments;
+        this.command = arguments.getArgument();
     }
 
     /**
@@ -58,48 +73,44 @@ public class CheckCommand extends Command {
     public void execute(UserData data, Ui ui, Storage storage) throws MissingSemicolonException, DateErrorException,
             TimeErrorException, InvalidTimePeriodException, InvalidListException, WrongNumberOfArgumentsException  {
         logger.fine("Start executing check command: \"" + command + "\"");
-        if (!command.contains(";")) {
+        if (!arguments.hasFields(2)) {
             logger.warning("MissingSemicolonException: User input fields was not separated with semicolon.");
             throw new MissingSemicolonException("Remember to separate input fields with a ';'." + System.lineSeparator()
-                    + "The format for check is: \"check [<START_DATE>]; [<START_TIME>]; [<END_DATE>]; [<END_TIME>]\".");
+                    + FORMAT);
+        }
+        if (!arguments.hasFields(4)) {
+            logger.warning("WrongNumberOfArgumentsException: Not enough date/time fields were given to be processed.");
+            throw new WrongNumberOfArgumentsException("Insufficient fields provided to check events. "
+                    + "Remember to put a semicolon even for blank fields." + System.lineSeparator() + FORMAT);
         }
 
-        String[] datesAndTime = command.split(";");
-
-        try {
-            LocalDate startDate = getDate(datesAndTime[0].trim());
-            LocalDate endDate = getDate(datesAndTime[2].trim());
-            assert startDate != null : "null date read for startDate";
-            assert endDate != null : "null date read for endDate";
-
-            LocalTime startTime = getTime(datesAndTime[1].trim());
-            LocalTime endTime = getTime(datesAndTime[3].trim());
-            assert startTime != null : "null time read for startTime";
-            assert endTime != null : "null time read for endTime";
+        LocalDate startDate = getDate(arguments.getField(0));
+        LocalDate endDate = getDate(arguments.getField(2));
+        assert startDate != null : "null date read for startDate";
+        assert endDate != null : "null date read for endDate";
 
-            boolean isTimePeriodValid = verifyValidTimePeriod(startDate, endDate, startTime, endTime);
+        LocalTime startTime = getTime(arguments.getField(1));
+        LocalTime endTime = getTime(arguments.getField(3));
+        assert startTime != null : "null time read for startTime";
+        assert endTime != null : "null time read for endTime";
 
-            if (!isTimePeriodValid) {
-                logger.warning("InvalidTimePeriodException: Start of time period given was not before end of period.");
-                throw new InvalidTimePeriodException("The start of the time period should be earlier than the end.");
-            }
+        boolean isTimePeriodValid = verifyValidTimePeriod(startDate, endDate, startTime, endTime);
 
-            ArrayList<Event> eventsInTimeRange = new ArrayList<>();
-            String[] eventTypes = new String[]{"Personal", "Timetable", "Zoom"};
-            for (String type: eventTypes) {
-                ArrayList<Event> events = data.getEventList(type).getEvents();
-                eventsInTimeRange.addAll(checkEventsInTimeRange(events, startDate, endDate, startTime, endTime));
-            }
-            EventList coinciding = new EventList("coinciding", eventsInTimeRange);
+        if (!isTimePeriodValid) {
+            logger.warning("InvalidTimePeriodException: Start of time period given was not before end of period.");
+            throw new InvalidTimePeriodException("The start of the time period should be earlier than the end.");
+        }
 
-            ui.printList(coinciding);
-            logger.fine("Check command successfully executed.");
-        } catch (ArrayIndexOutOfBoundsException e) { // if datesAndTime[x] is unable to be accessed
-            logger.warning("WrongNumberOfArgumentsException: Not enough date/time fields were given to be processed.");
-            throw new WrongNumberOfArgumentsException("Insufficient fields provided to check events. "
-                    + "Remember to put a semicolon even for blank fields." + System.lineSeparator()
-                    + "The format for check is: \"check [<START_DATE>]; [<START_TIME>]; [<END_DATE>]; [<END_TIME>]\".");
+        ArrayList<Event> eventsInTimeRange = new ArrayList<>();
+        String[] eventTypes = new String[]{"Personal", "Timetable", "Zoom"};
+        for (String type: eventTypes) {
+            ArrayList<Event> events = data.getEventList(type).getEvents();
+            eventsInTimeRange.addAll(checkEventsInTimeRange(events, startDate, endDate, startTime, endTime));
         }
+        EventList coinciding = new EventList("coinciding", eventsInTimeRange);
+
+        ui.printList(coinciding);
+        logger.fine("Check command successfully executed.");
     }
 
     /**
@@ -296,4 +307,9 @@ public class CheckCommand extends Command {
         logger.fine("Successfully checked events in time period.");
         return eventsInTimeRange;
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
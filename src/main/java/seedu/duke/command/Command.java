@@ -26,4 +26,36 @@ public abstract class Command {
     public boolean isExit() {
         return isExit;
     }
+
+    /**
+     * Returns the word the command is typed with, such as add for AddCommand.
+     *
+     * @return command word.
+     */
+    public String getCommandWord() {
+        String className = getClass().getSimpleName();
+        if (className.endsWith("Command")) {
+            className = className.substring(0, className.length() - "Command".length());
+        }
+        return className.toLowerCase();
+    }
+
+    /**
+     * Returns the name of the list the command works on.
+     *
+     * @return name of EventList, or null if the command does not work on one list.
+     */
+    public String getListName() {
+        return null;
+    }
+
+    /**
+     * Returns true if the command only reads the user's data, so it can run on a snapshot of the data
+     * without waiting for commands that change it.
+     *
+     * @return true if the command does not change the user's data.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
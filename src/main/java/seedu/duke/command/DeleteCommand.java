@@ -9,6 +9,7 @@ import seedu.duke.exception.InvalidEventDateException;
 import seedu.duke.exception.MissingSemicolonException;
 import seedu.duke.exception.WrongNumberFormatException;
 import seedu.duke.exception.WrongNumberOfArgumentsException;
+import seedu.duke.parser.CommandArguments;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
@@ -20,13 +21,28 @@ import static seedu.duke.parser.DateTimeParser.dateParser;
 
 public class DeleteCommand extends Command {
     private final String listType;
+    private final CommandArguments arguments;
+    private final EventSelection selection;
 
     private static Logger logger = EventLogger.getEventLogger();
 
-    public DeleteCommand(String listType, String command) {
+    public DeleteCommand(String listType, CommandArguments arguments) {
+        this(listType, arguments, null);
+    }
+
+    /**
+     * Constructor for a DeleteCommand acting on several events at once.
+     *
+     * @param listType  name of the list the events are in.
+     * @param arguments fields of the user input after the command keyword.
+     * @param selection events chosen, or null to act on the single event whose index is given.
+     */
+    DeleteCommand(String listType, CommandArguments arguments, EventSelection selection) {
         this.isExit = false;
         this.listType = listType;
-        this.command = command;
+        this.arguments = arguments;
+        this.selection = selection;
+        this.command = arguments.getFieldsFrom(1);
     }
 
     /**
@@ -36,40 +52,51 @@ public class DeleteCommand extends Command {
      * @return the DeleteCommand corresponding to the list type and event indicated in the input.
      * @throws MissingSemicolonException if the input does not contain any semicolons to separate input fields.
      * @throws WrongNumberOfArgumentsException if the event type or event index is missing.
-     * @throws WrongNumberFormatException if the event index is not an integer.
+     * @throws WrongNumberFormatException if the event index is not an integer or a range of event indexes.
+     * @throws DukeException if a date or month choosing the events is not valid.
+     */
+    public static Command parse(String input) throws DukeException {
+        return parse(CommandArguments.ofArgument(input));
+    }
+
+    /**
+     * Parses the fields of the user input and returns the corresponding DeleteCommand.
+     *
+     * @param arguments the fields of the user input after the command keyword.
+     * @return the DeleteCommand corresponding to the list type and event indicated in the input.
+     * @throws MissingSemicolonException if the input does not contain any semicolons to separate input fields.
+     * @throws WrongNumberOfArgumentsException if the event type or event index is missing.
+     * @throws WrongNumberFormatException if the event index is not an integer or a range of event indexes.
+     * @throws DukeException if a date or month choosing the events is not valid.
      */
-    public static Command parse(String input) throws MissingSemicolonException,
-            WrongNumberOfArgumentsException, WrongNumberFormatException {
-        logger.fine("Parsing DeleteCommand input: \"" + input + "\"");
+    public static Command parse(CommandArguments arguments) throws DukeException {
+        logger.fine("Parsing DeleteCommand input: \"" + arguments.getArgument() + "\"");
 
-        if (!input.contains(";")) {
+        if (!arguments.hasFields(2)) {
             logger.warning("MissingSemicolonException: User input fields was not separated with semicolon.");
             throw new MissingSemicolonException("Remember to separate input fields with a ';'." + System.lineSeparator()
                     + "The format for delete is: \"delete <EVENT_TYPE>; <EVENT_INDEX>; [<REPEAT_EVENT_DATE>]\".");
         }
 
-        String[] inputParameters = input.trim().split(";", 2);
-
-        if (inputParameters[0].isBlank() || inputParameters[1].isBlank()) {
+        if (arguments.isFieldBlank(0) || arguments.isFieldBlank(1)) {
             logger.warning("WrongNumberOfArgumentsException: User did not provide event type or event index.");
             throw new WrongNumberOfArgumentsException("Event type or index is missing." + System.lineSeparator()
                     + "The format for delete is: \"delete <EVENT_TYPE>; <EVENT_INDEX>; [<REPEAT_EVENT_DATE>]\".");
         }
 
-        String listType = capitaliseFirstLetter(inputParameters[0].trim());
-        String eventIdentifier = inputParameters[1].trim();
-
-        try {
-            String[] eventIdentifierArray = eventIdentifier.split(";",2);
-            Integer.parseInt(eventIdentifierArray[0]);
-        } catch (NumberFormatException e) {
+        if (!arguments.isInteger(1)) {
+            EventSelection selection = EventSelection.parse(arguments.getField(1));
+            if (selection != null) {
+                logger.fine("Successfully parsed input and created DeleteCommand for " + selection.getDescription());
+                return new DeleteCommand(arguments.getListName(0), arguments, selection);
+            }
             logger.warning("WrongNumberFormatException: Event index given is not an integer.");
             throw new WrongNumberFormatException("Event index given is not an integer." + System.lineSeparator()
                     + "The format for delete is: \"delete <EVENT_TYPE>; <EVENT_INDEX>; [<REPEAT_EVENT_DATE>]\".");
         }
 
         logger.fine("Successfully parsed input and created DeleteCommand.");
-        return new DeleteCommand(listType, eventIdentifier);
+        return new DeleteCommand(arguments.getListName(0), arguments);
     }
 
     /**
@@ -85,23 +112,30 @@ public class DeleteCommand extends Command {
         logger.info("Start executing delete command.");
         logger.info("listType: \"" + listType + "\", command: \"" + command + "\"");
         EventList eventList = data.getEventList(listType);
-        String[] eventIdentifierArray = command.split(";");
-
-        int eventIndex = Integer.parseInt(eventIdentifierArray[0]) - 1;
+        if (selection != null) {
+            int changedCount = selection.delete(eventList);
+            ui.printEventsChangedMessage(changedCount, "deleted", listType, selection.getDescription());
+            if (changedCount > 0) {
+                storage.saveFile(storage.getFileLocation(listType), data, listType);
+            }
+            logger.fine(changedCount + " events deleted: " + selection.getDescription());
+            return;
+        }
+        int eventIndex = arguments.getInteger(1) - 1;
         Event deleteEvent = eventList.getEventByIndex(eventIndex);
 
-        if (deleteEvent.getRepeatType() == null || eventIdentifierArray.length == 1) {
-            eventList.getEvents().remove(deleteEvent);
+        if (deleteEvent.getRepeatType() == null || arguments.isFieldBlank(2)) {
+            eventList.remove(deleteEvent);
             ui.printEventDeletedMessage(deleteEvent);
             storage.saveFile(storage.getFileLocation(listType), data, listType);
             logger.fine("Event deleted: \"" + deleteEvent + "\"");
         } else { // event is a repeat task
-            LocalDate deleteEventDate = dateParser(eventIdentifierArray[1].trim());
+            LocalDate deleteEventDate = dateParser(arguments.getField(2));
             boolean isDateFound;
 
             if (deleteEventDate.isEqual(deleteEvent.getDate())) {
                 isDateFound = true;
-                eventList.getEvents().remove(deleteEvent);
+                eventList.remove(deleteEvent);
                 ui.printEventDeletedMessage(deleteEvent);
                 logger.fine("Event deleted: \"" + deleteEvent + "\"");
             } else {
@@ -118,17 +152,6 @@ public class DeleteCommand extends Command {
         }
     }
 
-    /**
-     * Capitalises the first letter of an input string.
-     *
-     * @param input the string to be capitalised.
-     * @return the capitalised string.
-     */
-    private static String capitaliseFirstLetter(String input) {
-        input = input.toLowerCase();
-        return input.substring(0, 1).toUpperCase() + input.substring(1);
-    }
-
     /**
      * Scans the repeat event array list of a repeat event for an event matching the given date and deletes it.
      *
@@ -145,7 +168,7 @@ public class DeleteCommand extends Command {
         for (Event e: repeatEventList) {
             if (e.getDate().isEqual(deleteEventDate)) {
                 isDateFound = true;
-                repeatEventList.remove(e);
+                deleteEvent.removeRepeatEvent(e);
                 ui.printEventDeletedMessage(e);
                 logger.info("Repeat list event deleted: \"" + e + "\"");
                 break;
@@ -159,4 +182,9 @@ public class DeleteCommand extends Command {
         logger.fine("Finished checking repeat event list.");
         return isDateFound;
     }
+
+    @Override
+    public String getListName() {
+        return listType;
+    }
 }
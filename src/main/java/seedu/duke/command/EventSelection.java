@@ -0,0 +1,268 @@
+package seedu.duke.command;
+
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.exception.DateErrorException;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidIndexException;
+import seedu.duke.exception.WrongNumberFormatException;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static seedu.duke.parser.DateTimeParser.dateParser;
+
+/**
+ * Events chosen by done, undone and delete in place of a single event index: a range of event indexes such as
+ * "1-200", or the occurrences of events on dates chosen by "all", "before DATE", "after DATE", "on DATE" or
+ * "in MONTH", optionally starting with "all occurrences".
+ * A range chooses whole events, while dates choose each event and each repeat of an event on its own.
+ * Changes are made in one pass over the list, so that the list is saved once for all of them.
+ */
+class EventSelection {
+    private static final Pattern INDEX_RANGE = Pattern.compile("(\\d+)\\s*-\\s*(\\d+)");
+    private static final String ALL = "all";
+    private static final String ALL_OCCURRENCES = "all occurrences";
+
+    private final int fromIndex;
+    private final int toIndex;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final String description;
+
+    private EventSelection(int fromIndex, int toIndex, LocalDate fromDate, LocalDate toDate, String description) {
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        this.description = description;
+    }
+
+    /**
+     * Parses the field given in place of an event index.
+     *
+     * @param field field of the user input after the list name.
+     * @return the events chosen, or null if the field does not choose several events.
+     * @throws DukeException if the field chooses several events but a number, date or month in it is not valid.
+     */
+    static EventSelection parse(String field) throws DukeException {
+        String selection = field.trim().toLowerCase();
+        Matcher rangeMatcher = INDEX_RANGE.matcher(selection);
+        if (rangeMatcher.matches()) {
+            int from;
+            int to;
+            try {
+                from = Integer.parseInt(rangeMatcher.group(1));
+                to = Integer.parseInt(rangeMatcher.group(2));
+            } catch (NumberFormatException e) {
+                throw new WrongNumberFormatException("Event index given is too large.");
+            }
+            if (from < 1 || to < from) {
+                throw new WrongNumberFormatException("An index range must be given as FIRST-LAST, "
+                        + "with FIRST at least 1 and not larger than LAST.");
+            }
+            return new EventSelection(from, to, null, null, "events " + from + " to " + to);
+        }
+
+        boolean hasAllPrefix = false;
+        if (selection.startsWith(ALL_OCCURRENCES)) {
+            selection = selection.substring(ALL_OCCURRENCES.length()).trim();
+            hasAllPrefix = true;
+        } else if (selection.startsWith(ALL)) {
+            selection = selection.substring(ALL.length()).trim();
+            hasAllPrefix = true;
+        }
+        if (selection.isEmpty()) {
+            return hasAllPrefix ? new EventSelection(0, 0, LocalDate.MIN, LocalDate.MAX, "all events") : null;
+        }
+
+        int spaceIndex = selection.indexOf(' ');
+        if (spaceIndex < 0) {
+            return null;
+        }
+        String word = selection.substring(0, spaceIndex);
+        String value = selection.substring(spaceIndex + 1).trim();
+        switch (word) {
+        case "before":
+            return new EventSelection(0, 0, LocalDate.MIN, dateParser(value).minusDays(1), "events before " + value);
+        case "after":
+            return new EventSelection(0, 0, dateParser(value).plusDays(1), LocalDate.MAX, "events after " + value);
+        case "on":
+            LocalDate date = dateParser(value);
+            return new EventSelection(0, 0, date, date, "events on " + value);
+        case "in":
+            YearMonth month = parseMonth(value);
+            return new EventSelection(0, 0, month.atDay(1), month.atEndOfMonth(), "events in " + value);
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Parses a month given as M/yyyy, or as the name of a month in the current year.
+     */
+    private static YearMonth parseMonth(String month) throws DateErrorException {
+        for (Month monthOfYear : Month.values()) {
+            if (monthOfYear.name().toLowerCase(Locale.ENGLISH).equals(month)) {
+                return YearMonth.now().withMonth(monthOfYear.getValue());
+            }
+        }
+        try {
+            return YearMonth.parse(month.replace('-', '/'), DateTimeFormatter.ofPattern("M/[yyyy][yy]"));
+        } catch (DateTimeParseException e) {
+            throw new DateErrorException();
+        }
+    }
+
+    /**
+     * Returns a description of the events chosen, such as "events 1 to 200".
+     *
+     * @return description of the events chosen.
+     */
+    String getDescription() {
+        return description;
+    }
+
+    /**
+     * Marks the chosen events as done or undone, skipping those already marked so.
+     *
+     * @param eventList list of the events.
+     * @param isDone    true to mark the events as done, false to mark them as undone.
+     * @return number of events and repeats marked.
+     * @throws InvalidIndexException if the range goes past the end of the list.
+     */
+    int mark(EventList eventList, boolean isDone) throws InvalidIndexException {
+        int markedCount = 0;
+        for (Event event : getChosenEvents(eventList)) {
+            markedCount += markIfNeeded(event, isDone);
+        }
+        if (fromDate == null) {
+            return markedCount;
+        }
+        for (Event event : eventList.getEvents()) {
+            if (event.getRepeatEventList() != null) {
+                for (Event repeatEvent : event.getRepeatEventList()) {
+                    markedCount += isChosen(repeatEvent) ? markIfNeeded(repeatEvent, isDone) : 0;
+                }
+            }
+        }
+        return markedCount;
+    }
+
+    /**
+     * Deletes the chosen events, moving the remaining events up once for all of them.
+     * When dates are chosen, an event on a chosen date is deleted with its repeats only if all of them are on chosen
+     * dates too. Otherwise only its repeats on chosen dates are deleted, and the event is kept so that its other
+     * repeats are not lost.
+     *
+     * @param eventList list of the events.
+     * @return number of events and repeats deleted.
+     * @throws InvalidIndexException if the range goes past the end of the list.
+     */
+    int delete(EventList eventList) throws InvalidIndexException {
+        ArrayList<Event> eventsToDelete = new ArrayList<>();
+        int deletedCount = 0;
+        for (Event event : getChosenEvents(eventList)) {
+            ArrayList<Event> repeatsKept = new ArrayList<>();
+            if (event.getRepeatEventList() != null) {
+                for (Event repeatEvent : event.getRepeatEventList()) {
+                    if (!isChosen(repeatEvent)) {
+                        repeatsKept.add(repeatEvent);
+                    }
+                }
+            }
+            if (repeatsKept.isEmpty()) {
+                eventsToDelete.add(event);
+                deletedCount += 1 + ((event.getRepeatEventList() == null) ? 0 : event.getRepeatEventList().size());
+            } else {
+                deletedCount += deleteRepeats(event, repeatsKept);
+            }
+        }
+        if (fromDate != null) {
+            for (Event event : eventList.getEvents()) {
+                if (isChosen(event) || event.getRepeatEventList() == null) {
+                    continue;
+                }
+                ArrayList<Event> repeatsKept = new ArrayList<>();
+                for (Event repeatEvent : event.getRepeatEventList()) {
+                    if (!isChosen(repeatEvent)) {
+                        repeatsKept.add(repeatEvent);
+                    }
+                }
+                deletedCount += deleteRepeats(event, repeatsKept);
+            }
+        }
+        eventList.removeAll(eventsToDelete);
+        return deletedCount;
+    }
+
+    /**
+     * Returns the events chosen by their index or their own date, in the order of the list.
+     */
+    private ArrayList<Event> getChosenEvents(EventList eventList) throws InvalidIndexException {
+        ArrayList<Event> chosenEvents = new ArrayList<>();
+        if (fromDate == null) {
+            if (toIndex > eventList.getSize()) {
+                throw new InvalidIndexException("Error, no such index is available!");
+            }
+            chosenEvents.addAll(eventList.getEvents().subList(fromIndex - 1, toIndex));
+            return chosenEvents;
+        }
+        for (Event event : eventList.getEvents()) {
+            if (isChosen(event)) {
+                chosenEvents.add(event);
+            }
+        }
+        return chosenEvents;
+    }
+
+    /**
+     * Returns true if the event is chosen by its date, if all events are chosen, or if it is a repeat of an event
+     * chosen by index.
+     */
+    private boolean isChosen(Event event) {
+        if (fromDate == null || (fromDate.equals(LocalDate.MIN) && toDate.equals(LocalDate.MAX))) {
+            return true;
+        }
+        LocalDate date = event.getDate();
+        return date != null && !date.isBefore(fromDate) && !date.isAfter(toDate);
+    }
+
+    private static int markIfNeeded(Event event, boolean isDone) {
+        if (event.getStatus().equals("O") == isDone) {
+            return 0;
+        }
+        if (isDone) {
+            event.markAsDone();
+        } else {
+            event.markAsUndone();
+        }
+        return 1;
+    }
+
+    /**
+     * Keeps only the given repeats of the event, dropping its repeat type if none are left.
+     *
+     * @return number of repeats deleted.
+     */
+    private static int deleteRepeats(Event event, ArrayList<Event> repeatsKept) {
+        int deletedCount = event.getRepeatEventList().size() - repeatsKept.size();
+        if (deletedCount == 0) {
+            return 0;
+        }
+        if (repeatsKept.isEmpty()) {
+            event.setRepeatType(null);
+            event.setRepeatEventList(null);
+        } else {
+            event.setRepeatEventList(repeatsKept);
+        }
+        return deletedCount;
+    }
+}
@@ -10,6 +10,7 @@ import seedu.duke.exception.TimeErrorException;
 import seedu.duke.exception.InvalidListException;
 import seedu.duke.parser.DateTimeParser;
 import seedu.duke.storage.Storage;
+import seedu.duke.trace.ExtractPhaseEvent;
 import seedu.duke.ui.Ui;
 
 import java.time.LocalDate;
@@ -66,7 +67,9 @@ public class ExtractCommand extends Command {
 
         ui.printExtractTextBodyRequestMessage();
         ui.printDividerLine();
+        ExtractPhaseEvent inputPhase = beginPhase();
         String textBody = receiveTextBody(ui);
+        commitPhase(inputPhase, "text input", textBody, 0);
 
         if (textBody == null) {
             logger.warning("InvalidExtractCommandException -- Text body not detected or is null.");
@@ -77,17 +80,23 @@ public class ExtractCommand extends Command {
             throw new InvalidExtractCommandException("There is no text body entered!");
         }
 
+        ExtractPhaseEvent zoomLinkPhase = beginPhase();
         ArrayList<String> zoomLinkList = detectZoomLink(textBody);
+        commitPhase(zoomLinkPhase, "zoom link detection", textBody, zoomLinkList.size());
         String zoomLink = null;
         if (zoomLinkList.size() > 0) {
             eventType = "Zoom";
             zoomLink = chooseZoomLink(zoomLinkList, ui);
         }
 
+        ExtractPhaseEvent datePhase = beginPhase();
         ArrayList<LocalDate> dateList = detectDate(textBody);
+        commitPhase(datePhase, "date detection", textBody, dateList.size());
         LocalDate finalDate = chooseDate(dateList, ui);
 
+        ExtractPhaseEvent timePhase = beginPhase();
         ArrayList<LocalTime> timeList = detectTime(textBody);
+        commitPhase(timePhase, "time detection", textBody, timeList.size());
         LocalTime finalTime = chooseTime(timeList, ui);
 
         createEvent(data, ui, finalDate, finalTime, zoomLink);
@@ -97,6 +106,30 @@ public class ExtractCommand extends Command {
         logger.fine("Extract command successfully executed, a new " + eventType + " event was created.");
     }
 
+    private static ExtractPhaseEvent beginPhase() {
+        ExtractPhaseEvent event = new ExtractPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the flight recorder event for a phase of extraction and commits it if it is being recorded.
+     *
+     * @param event      flight recorder event begun at the start of the phase.
+     * @param phase      name of the phase.
+     * @param textBody   text being extracted from, may be null.
+     * @param matchCount number of fields detected in the phase.
+     */
+    private static void commitPhase(ExtractPhaseEvent event, String phase, String textBody, int matchCount) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.phase = phase;
+            event.textLength = (textBody == null) ? 0 : textBody.length();
+            event.matchCount = matchCount;
+            event.commit();
+        }
+    }
+
     /**
      * Creates a personal or zoom event based on if there is a zoom link and the detected fields.
      *
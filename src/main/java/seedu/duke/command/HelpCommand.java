@@ -7,14 +7,24 @@ import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 
-
-
+/**
+ * Command to print help on a topic from the help file.
+ * The help file is read once, when help is first asked for, into a map of topics to wrapped lines,
+ * along with a map of every prefix of a topic name to the topics it starts, so each lookup is a hash lookup.
+ */
 public class HelpCommand extends Command {
+    private static final String HELP_FILE = "/helpfile.txt";
+    private static final String BEGIN_MARKER = "begin ";
+    private static final String END_MARKER = "end ";
+    private static final int WRAP_LENGTH = 80;
+
+    private static volatile HashMap<String, ArrayList<String>> topics;
+    private static volatile HashMap<String, ArrayList<String>> topicsByPrefix;
 
-    ArrayList<String> helpStuff;
     String helpTopic;
-    WordUtils wrapper = new WordUtils();
 
     /**
      * Creates a help command object to be executed.
@@ -24,58 +34,104 @@ public class HelpCommand extends Command {
     public HelpCommand(String argument) {
         this.isExit = false;
         this.command = null;
-        argument = argument.trim();
+        argument = argument.trim().toLowerCase();
         if (argument.equals("")) { //blank argument set to be summary
             argument = "summary";
         }
         this.helpTopic = argument;
-        helpStuff = new ArrayList<>();
-
     }
 
     /**
-     * Function will execute the command. Prints out the help information requested by user
+     * Function will execute the command. Prints out the help information requested by user.
+     * The topic can be shortened to any prefix that only one topic starts with.
      *
      * @param data    object of UserData class containing user's data.
      * @param ui      object of UI class that contains the user interface needed to print the help file
      * @param storage Storage oject with the save file path to write to to save changes.
-     * @throws InvalidHelpTopicException if there is no such help topic available
+     * @throws InvalidHelpTopicException if there is no such help topic available, or more than one topic matches
      */
     @Override
     public void execute(UserData data, Ui ui, Storage storage) throws InvalidHelpTopicException {
-        storage.loadSystemResources("/helpfile.txt", helpStuff);
-        int beginIndex = searchIndex(helpStuff, true);
-        int endIndex = searchIndex(helpStuff, false);
-
-        if (beginIndex < 0 || endIndex < 0) {
-            throw new InvalidHelpTopicException(this.helpTopic);
+        loadTopics(storage);
+        ArrayList<String> lines = topics.get(helpTopic);
+        if (lines == null) {
+            ArrayList<String> matchingTopics = topicsByPrefix.get(helpTopic);
+            if (matchingTopics == null) {
+                throw new InvalidHelpTopicException(helpTopic);
+            }
+            if (matchingTopics.size() > 1) {
+                throw new InvalidHelpTopicException(helpTopic, matchingTopics);
+            }
+            lines = topics.get(matchingTopics.get(0));
         }
 
-        for (int i = beginIndex + 1; i < endIndex; i++) {
-            String line = helpStuff.get(i);
-            line = wrapper.wrap(line, 80, "\n", false);
+        for (String line : lines) {
             ui.printMessage(line);
         }
-
     }
 
     /**
-     * Finds the line number of the start and end of the help topic located in the txt file.
-     * @param helpData ArrayList of Strings containing all help file info loaded from the helpfile.txt
-     * @param isBegin boolean Set to True to find the beginning of the help topic, set to false to find the end.
-     * @return integer of line number of the help topic beginning or end
+     * Reads the help file into the topic maps if it has not been read yet.
+     *
+     * @param storage Storage object used to read the help file.
      */
-    private int searchIndex(ArrayList<String> helpData, boolean isBegin) {
+    private static void loadTopics(Storage storage) {
+        if (topics != null) {
+            return;
+        }
+        synchronized (HelpCommand.class) {
+            if (topics != null) {
+                return;
+            }
+            ArrayList<String> helpFile = new ArrayList<>();
+            storage.loadSystemResources(HELP_FILE, helpFile);
+            assert !helpFile.isEmpty() : "help file should be packaged with the program";
+            HashMap<String, ArrayList<String>> parsedTopics = parseTopics(helpFile);
+
+            HashMap<String, ArrayList<String>> prefixes = new HashMap<>();
+            for (String topic : parsedTopics.keySet()) {
+                for (int length = 1; length < topic.length(); length++) {
+                    prefixes.computeIfAbsent(topic.substring(0, length), prefix -> new ArrayList<>()).add(topic);
+                }
+            }
+            for (ArrayList<String> matchingTopics : prefixes.values()) {
+                Collections.sort(matchingTopics);
+            }
 
-        String toSearchFor;
-        if (isBegin) {
-            toSearchFor = "begin " + helpTopic;
-        } else {
-            toSearchFor = "end " + helpTopic;
+            topicsByPrefix = prefixes;
+            topics = parsedTopics;
         }
+    }
+
+    /**
+     * Splits the help file into its topics, each a list of lines between "begin TOPIC" and "end TOPIC",
+     * wrapped to fit the terminal.
+     *
+     * @param helpFile lines of the help file.
+     * @return map of topic names to their wrapped lines.
+     */
+    private static HashMap<String, ArrayList<String>> parseTopics(ArrayList<String> helpFile) {
+        HashMap<String, ArrayList<String>> parsedTopics = new HashMap<>();
+        String currentTopic = null;
+        ArrayList<String> currentLines = null;
+        for (String line : helpFile) {
+            if (currentTopic == null) {
+                if (line.startsWith(BEGIN_MARKER)) {
+                    currentTopic = line.substring(BEGIN_MARKER.length());
+                    currentLines = new ArrayList<>();
+                }
+            } else if (line.equals(END_MARKER + currentTopic)) {
+                parsedTopics.put(currentTopic, currentLines);
+                currentTopic = null;
+            } else {
+                currentLines.add(WordUtils.wrap(line, WRAP_LENGTH, "\n", false));
+            }
+        }
+        return parsedTopics;
+    }
 
-        int index;
-        index = helpData.indexOf(toSearchFor);
-        return index;
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
@@ -0,0 +1,172 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.EventAddErrorException;
+import seedu.duke.exception.WrongNumberOfArgumentsException;
+import seedu.duke.parser.CsvParser;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Command to import Personal, Timetable or Zoom events in bulk from a CSV file.
+ */
+public class ImportCommand extends Command {
+    private static final int CHUNK_SIZE = 2048;
+    private static final String HEADER_FIELD = "description";
+    private String eventType;
+    private String fileName;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Constructor for importing events.
+     *
+     * @param command from user input, containing the event type and the CSV file path separated by a semicolon.
+     */
+    public ImportCommand(String command) {
+        this.isExit = false;
+        this.command = command;
+        String[] commandWords = command.split(";", 2);
+        if (commandWords.length == 2) {
+            switch (commandWords[0].toLowerCase().trim()) {
+            case "zoom":
+                eventType = "Zoom";
+                break;
+            case "personal":
+                eventType = "Personal";
+                break;
+            case "timetable":
+                eventType = "Timetable";
+                break;
+            default:
+                break;
+            }
+            fileName = commandWords[1].trim();
+        }
+        logger.fine("Import Command constructed");
+    }
+
+    /**
+     * Parses the CSV file in parallel chunks and appends every valid row to the event list, saving once at the end.
+     * Each row holds the same fields as the add command for that event type, separated by commas.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if the event type or file is invalid.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        if (fileName == null || fileName.isBlank()) {
+            logger.warning("WrongNumberOfArgumentsException -- Import command is missing the event type or file.");
+            throw new WrongNumberOfArgumentsException("Event type or file is missing." + System.lineSeparator()
+                    + "The format for import is: \"import <EVENT_TYPE>; <CSV_FILE>\".");
+        }
+        if (eventType == null) {
+            logger.warning("EventAddErrorException -- Invalid event type was entered for import.");
+            throw new EventAddErrorException("Invalid event type to be imported! Valid event types are Personal,"
+                    + " Timetable or Zoom.");
+        }
+
+        List<String> rows = readRows(Paths.get(fileName));
+        int chunkCount = (rows.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<ImportChunk> chunks = IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(i -> parseChunk(rows, i * CHUNK_SIZE, Math.min(rows.size(), (i + 1) * CHUNK_SIZE)))
+                .collect(Collectors.toList());
+
+        ArrayList<Event> importedEvents = new ArrayList<>();
+        ArrayList<String> rejectedRows = new ArrayList<>();
+        int totalRows = 0;
+        for (ImportChunk chunk : chunks) {
+            importedEvents.addAll(chunk.events);
+            rejectedRows.addAll(chunk.rejectedRows);
+            totalRows += chunk.rowCount;
+        }
+
+        if (!importedEvents.isEmpty()) {
+            data.getEventList(eventType).addAll(importedEvents);
+            storage.saveFile(storage.getFileLocation(eventType), data, eventType);
+        }
+        ui.printImportMessage(eventType, importedEvents.size(), totalRows, rejectedRows);
+        logger.fine("Import Command executed, " + importedEvents.size() + "/" + totalRows + " rows imported.");
+    }
+
+    /**
+     * Reads all the rows of the CSV file.
+     *
+     * @param filePath location of the CSV file.
+     * @return all lines in the file.
+     * @throws EventAddErrorException if the file cannot be read.
+     */
+    private List<String> readRows(Path filePath) throws EventAddErrorException {
+        try {
+            return Files.readAllLines(filePath);
+        } catch (IOException e) {
+            logger.warning("EventAddErrorException -- CSV file " + filePath + " could not be read.");
+            throw new EventAddErrorException("The file " + fileName + " could not be read!");
+        }
+    }
+
+    /**
+     * Parses and validates the rows in the range [start, end).
+     *
+     * @param rows all rows of the CSV file.
+     * @param start index of the first row in this chunk.
+     * @param end index after the last row in this chunk.
+     * @return the events created and the rows rejected in this chunk, both in file order.
+     */
+    private ImportChunk parseChunk(List<String> rows, int start, int end) {
+        ImportChunk chunk = new ImportChunk();
+        for (int i = start; i < end; i++) {
+            String row = rows.get(i);
+            if (row.isBlank()) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            String[] fields = CsvParser.splitRow(row);
+            if (fields == null) {
+                chunk.rejectedRows.add("Line " + lineNumber + ": a quoted field is not closed.");
+                chunk.rowCount++;
+                continue;
+            }
+            if (i == 0 && fields[0].trim().equalsIgnoreCase(HEADER_FIELD)) {
+                continue;
+            }
+            chunk.rowCount++;
+            try {
+                chunk.events.add(AddCommand.createEvent(eventType, fields));
+            } catch (DukeException e) {
+                String reason = e.getMessage().split(System.lineSeparator(), 2)[0];
+                chunk.rejectedRows.add("Line " + lineNumber + ": " + reason);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Result of parsing one chunk of rows.
+     */
+    private static class ImportChunk {
+        private final ArrayList<Event> events = new ArrayList<>();
+        private final ArrayList<String> rejectedRows = new ArrayList<>();
+        private int rowCount = 0;
+    }
+
+    @Override
+    public String getListName() {
+        return eventType;
+    }
+}
@@ -1,21 +1,40 @@
 package seedu.duke.command;
 
 import seedu.duke.EventLogger;
+import seedu.duke.event.Event;
 import seedu.duke.event.EventList;
 import seedu.duke.exception.DukeException;
+import seedu.duke.exception.WrongNumberFormatException;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 import seedu.duke.data.UserData;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 
+import static seedu.duke.parser.DateTimeParser.dateParser;
+
 /**
  * Command to list events.
+ * Events can be filtered by status, date range, notes and repeats, and shown a page at a time.
+ * Events are printed as they are found, and each event keeps its number in the list so that it can be used
+ * with other commands such as done and delete.
  */
 public class ListCommand extends Command {
+    private static final String FORMAT = "The format for list is: \"list [EVENT_TYPE][; FILTER]...\" where FILTER is "
+            + "done, undone, from DATE, to DATE, notes, repeat or page SIZE.";
     private static Logger logger = EventLogger.getEventLogger();
 
+    private Boolean isDoneWanted;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private boolean isNotesOnly = false;
+    private boolean isRepeatOnly = false;
+    private int pageSize = 0;
+    private int shownOnPage = 0;
+    private boolean isQuit = false;
+
     /**
      * Constructor for listing events seedu.duke
      *
@@ -28,12 +47,14 @@ public class ListCommand extends Command {
     @Override
     public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
         ArrayList<EventList> eventLists = data.getAllEventLists();
+        shownOnPage = 0;
+        isQuit = false;
         if (command == null) {
             ui.printAvailableList(eventLists);
         } else if (command.equals("All")) {
             listAll(ui, eventLists);
         } else {
-            ui.printList(data.getEventList(command));
+            listEvents(ui, data.getEventList(command));
         }
         logger.fine("List command finished running successfully.");
     }
@@ -41,7 +62,10 @@ public class ListCommand extends Command {
     private void listAll(Ui ui, ArrayList<EventList> eventLists) {
         int listNum = eventLists.size();
         for (EventList list : eventLists) {
-            ui.printList(list);
+            listEvents(ui, list);
+            if (isQuit) {
+                return;
+            }
             if (listNum > 1) {
                 ui.printDividerLine();
             }
@@ -49,19 +73,150 @@ public class ListCommand extends Command {
         }
     }
 
+    /**
+     * Prints the events of the list that pass the filters, asking the user to continue after every page.
+     *
+     * @param ui        containing the responses to print.
+     * @param eventList EventList to list.
+     */
+    private void listEvents(Ui ui, EventList eventList) {
+        ArrayList<Event> events = eventList.getEvents();
+        boolean isFound = false;
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            if (!isShown(event)) {
+                continue;
+            }
+            if (pageSize > 0 && shownOnPage == pageSize) {
+                ui.printContinueQuery();
+                if (ui.receiveCommand().toLowerCase().equals("q")) {
+                    isQuit = true;
+                    return;
+                }
+                shownOnPage = 0;
+            }
+            if (!isFound) {
+                ui.printListHeader(eventList.getName());
+                isFound = true;
+            }
+            ui.printListEvent(i + 1, event, eventList.getName());
+            shownOnPage++;
+        }
+        if (!isFound) {
+            ui.printNoEventsMessage(eventList.getName(), isFiltered());
+        }
+    }
+
+    private boolean isShown(Event event) {
+        if (isDoneWanted != null && event.getStatus().equals("O") != isDoneWanted) {
+            return false;
+        }
+        if (isNotesOnly && !event.hasNotes()) {
+            return false;
+        }
+        if (isRepeatOnly && event.getRepeatEventList() == null) {
+            return false;
+        }
+        if (fromDate == null && toDate == null) {
+            return true;
+        }
+        if (isInRange(event.getDate())) {
+            return true;
+        }
+        if (event.getRepeatEventList() != null) {
+            for (Event repeatEvent : event.getRepeatEventList()) {
+                if (isInRange(repeatEvent.getDate())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isInRange(LocalDate date) {
+        return date != null && (fromDate == null || !date.isBefore(fromDate))
+                && (toDate == null || !date.isAfter(toDate));
+    }
+
+    private boolean isFiltered() {
+        return isDoneWanted != null || fromDate != null || toDate != null || isNotesOnly || isRepeatOnly;
+    }
+
+    /**
+     * Reads one filter given after the list name.
+     *
+     * @param filter filter typed by the user.
+     * @throws DukeException if the filter is unknown or its date or page size is not valid.
+     */
+    private void addFilter(String filter) throws DukeException {
+        String[] words = filter.split("\\s+", 2);
+        String argument = (words.length > 1) ? words[1].trim() : "";
+        switch (words[0].toLowerCase()) {
+        case "done":
+            isDoneWanted = true;
+            break;
+        case "undone":
+            isDoneWanted = false;
+            break;
+        case "notes":
+            isNotesOnly = true;
+            break;
+        case "repeat":
+            isRepeatOnly = true;
+            break;
+        case "from":
+            fromDate = dateParser(argument);
+            break;
+        case "to":
+            toDate = dateParser(argument);
+            break;
+        case "page":
+            try {
+                pageSize = Integer.parseInt(argument);
+            } catch (NumberFormatException e) {
+                pageSize = -1;
+            }
+            if (pageSize < 1) {
+                throw new WrongNumberFormatException("Page size must be a whole number of at least 1."
+                        + System.lineSeparator() + FORMAT);
+            }
+            break;
+        default:
+            throw new DukeException("Unknown list filter \"" + filter + "\"." + System.lineSeparator() + FORMAT);
+        }
+    }
+
     /**
      * Static parser for list command creation.
      *
      * @param input user input.
      * @return ListCommand with input formatted.
+     * @throws DukeException if a filter given is not valid.
      */
-    public static Command parse(String input) {
-        if (input.isBlank()) {
+    public static Command parse(String input) throws DukeException {
+        String[] parts = input.split(";");
+        String listName = parts[0].trim();
+        if (listName.isEmpty()) {
             return new ListCommand(null);
-        } else {
-            input = input.toLowerCase();
-            input = input.substring(0, 1).toUpperCase() + input.substring(1);
-            return new ListCommand(input);
         }
+        listName = listName.toLowerCase();
+        listName = listName.substring(0, 1).toUpperCase() + listName.substring(1);
+        ListCommand listCommand = new ListCommand(listName);
+        for (int i = 1; i < parts.length; i++) {
+            if (!parts[i].isBlank()) {
+                listCommand.addFilter(parts[i].trim());
+            }
+        }
+        return listCommand;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String getListName() {
+        return command;
     }
 }
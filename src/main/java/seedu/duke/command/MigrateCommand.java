@@ -0,0 +1,55 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * Command to show how the event lists are stored, or move them to another storage layout.
+ */
+public class MigrateCommand extends Command {
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates a migrate command.
+     *
+     * @param command sharded or single to move to that layout, or blank to show the current layout.
+     */
+    public MigrateCommand(String command) {
+        this.isExit = false;
+        this.command = command.trim().toLowerCase();
+    }
+
+    /**
+     * Moves the event lists to the layout given, or prints the current layout if no layout is given.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if the layout is not valid or the files cannot be written.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        if (command.isEmpty()) {
+            ui.printLayoutMessage(storage.getLayout().equals(Storage.SHARDED_LAYOUT));
+            return;
+        }
+        if (!command.equals(Storage.SHARDED_LAYOUT) && !command.equals(Storage.SINGLE_FILE_LAYOUT)) {
+            throw new DukeException("The format for migrate is: \"migrate [sharded/single]\".");
+        }
+
+        try {
+            storage.migrate(data, command);
+        } catch (IOException e) {
+            logger.warning("Data folder could not be migrated: " + e.getMessage());
+            throw new DukeException("Error! The data folder could not be migrated to the " + command + " layout.");
+        }
+        logger.fine("Migrate command moved data to the " + command + " layout");
+        ui.printMigratedMessage(command.equals(Storage.SHARDED_LAYOUT));
+    }
+}
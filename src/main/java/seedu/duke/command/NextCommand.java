@@ -0,0 +1,79 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.WrongNumberFormatException;
+import seedu.duke.query.QueryResult;
+import seedu.duke.query.UpcomingEvents;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Command to show the next events from now across all lists, including each repeat of an event.
+ */
+public class NextCommand extends Command {
+    public static final int DEFAULT_COUNT = 5;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final int count;
+    private final Clock clock;
+
+    /**
+     * Creates a next command using the system clock.
+     *
+     * @param command blank, or the number of events to show.
+     * @throws WrongNumberFormatException if the number is not a whole number of at least 1.
+     */
+    public NextCommand(String command) throws WrongNumberFormatException {
+        this(command, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a next command using the given clock to tell the time now.
+     *
+     * @param command blank, or the number of events to show.
+     * @param clock   clock giving the current time.
+     * @throws WrongNumberFormatException if the number is not a whole number of at least 1.
+     */
+    public NextCommand(String command, Clock clock) throws WrongNumberFormatException {
+        this.isExit = false;
+        this.command = command.trim();
+        this.clock = clock;
+        if (this.command.isEmpty()) {
+            count = DEFAULT_COUNT;
+            return;
+        }
+        try {
+            count = Integer.parseInt(this.command);
+        } catch (NumberFormatException e) {
+            throw new WrongNumberFormatException("The number of events must be a whole number of at least 1.");
+        }
+        if (count < 1) {
+            throw new WrongNumberFormatException("The number of events must be a whole number of at least 1.");
+        }
+    }
+
+    /**
+     * Prints the next events from now, earliest first.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) {
+        ArrayList<QueryResult> results = UpcomingEvents.next(data, LocalDateTime.now(clock), count);
+        logger.fine("Next " + count + " events asked for, " + results.size() + " found");
+        ui.printNextEvents(results);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -117,10 +117,11 @@ public class NoteCommand extends Command {
                                                          ArrayList<String> additionalNotes) {
         LocalDateTime now = LocalDateTime.now();
         String timestamp = "---------" + now + "---------";
-        existingNotes.add(timestamp);
+        ArrayList<String> updatedNotes = new ArrayList<>(existingNotes);
+        updatedNotes.add(timestamp);
         additionalNotes = indicateNewLineUsingDelimeter(additionalNotes);
-        existingNotes.addAll(additionalNotes);
-        return existingNotes;
+        updatedNotes.addAll(additionalNotes);
+        return updatedNotes;
     }
 
     private ArrayList<String> indicateNewLineUsingDelimeter(ArrayList<String> notes) {
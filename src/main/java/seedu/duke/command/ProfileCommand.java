@@ -0,0 +1,55 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.ProfileManager;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.util.logging.Logger;
+
+/**
+ * Command to show the loaded profiles or switch to another profile.
+ */
+public class ProfileCommand extends Command {
+    private final ProfileManager profiles;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates a profile command.
+     *
+     * @param command  name of the profile to switch to, or blank to show the loaded profiles.
+     * @param profiles ProfileManager holding the profiles.
+     */
+    public ProfileCommand(String command, ProfileManager profiles) {
+        this.isExit = false;
+        this.command = command.trim();
+        this.profiles = profiles;
+    }
+
+    /**
+     * Switches to the profile given, or shows the active and loaded profiles if no profile is given.
+     * Commands after this one run on the data of the new profile.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if the profile name is invalid.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        if (command.isEmpty()) {
+            ui.printProfileListMessage(profiles.getActiveName(), profiles.getLoadedNames());
+            return;
+        }
+        profiles.switchTo(command);
+        logger.fine("Profile command switched to " + command);
+        ui.printProfileSwitchMessage(command);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.query.Query;
+import seedu.duke.query.QueryPlan;
+import seedu.duke.query.QueryPlanner;
+import seedu.duke.query.QueryResult;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Command to find the events of every list matching a query, or show how the query would be run.
+ */
+public class QueryCommand extends Command {
+    private static final QueryPlanner planner = new QueryPlanner();
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final Query query;
+
+    /**
+     * Creates a query command.
+     *
+     * @param query the query to run.
+     */
+    public QueryCommand(Query query) {
+        this.isExit = false;
+        this.query = query;
+    }
+
+    /**
+     * Parses the clauses of the query and returns the command to run it.
+     *
+     * @param input clauses of the query separated by commas, optionally starting with explain.
+     * @return the QueryCommand for the query.
+     * @throws DukeException if a clause is not valid.
+     */
+    public static QueryCommand parse(String input) throws DukeException {
+        QueryCommand command = new QueryCommand(Query.parse(input));
+        command.command = input;
+        return command;
+    }
+
+    /**
+     * Plans the query and prints the events it matches, or the plan if the query starts with explain.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if the query names a list that does not exist.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        QueryPlan plan = planner.plan(query, data);
+        if (query.isExplain()) {
+            ui.printQueryPlan(plan.describe());
+            return;
+        }
+        ArrayList<QueryResult> results = plan.run();
+        logger.fine("Query matched " + results.size() + " events");
+        ui.printQueryResults(results);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.History;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.util.logging.Logger;
+
+/**
+ * Command to make the last command undone again.
+ */
+public class RedoCommand extends Command {
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates a redo command.
+     */
+    public RedoCommand() {
+        this.isExit = false;
+    }
+
+    /**
+     * Redoes the last command undone and saves the data.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if there is nothing to redo.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        History history = data.getHistory();
+        String commandWord = (history == null) ? null : history.redo();
+        if (commandWord == null) {
+            throw new DukeException("There is nothing to redo.");
+        }
+        storage.saveAll(data);
+        logger.fine("Redo command redid " + commandWord);
+        ui.printUndoMessage(commandWord, true);
+    }
+}
@@ -6,6 +6,8 @@ import seedu.duke.event.Event;
 import seedu.duke.event.EventList;
 import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InvalidIndexException;
+import seedu.duke.exception.WrongNumberFormatException;
+import seedu.duke.reminder.ReminderScheduler;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
@@ -14,16 +16,31 @@ import java.util.ArrayList;
 import java.util.logging.Logger;
 
 /**
- * Command to print reminder for user.
+ * Command to print reminder for user, or set how long before each event a reminder is printed while the program runs.
  */
 public class ReminderCommand extends Command {
+    private static final String OFF = "off";
     private static Logger logger = EventLogger.getEventLogger();
 
+    private ReminderScheduler reminderScheduler;
+
     /**
      * Constructor for reminder seedu.duke.
      */
     public ReminderCommand() {
+        this("", null);
+    }
+
+    /**
+     * Constructor for reminder command that can also change the reminders printed before events.
+     *
+     * @param command           blank to print today's events, a number of minutes, or off.
+     * @param reminderScheduler scheduler printing reminders before events, or null if there is none.
+     */
+    public ReminderCommand(String command, ReminderScheduler reminderScheduler) {
         this.isExit = false;
+        this.command = command.trim();
+        this.reminderScheduler = reminderScheduler;
     }
 
     /**
@@ -36,6 +53,10 @@ public class ReminderCommand extends Command {
      */
     @Override
     public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        if (!command.isEmpty()) {
+            setReminderLead(ui);
+            return;
+        }
         ArrayList<EventList> allEventList = data.getAllEventLists();
         ArrayList<Event> reminderEvents = new ArrayList<>();
         for (int i = 0; i < allEventList.size(); i++) {
@@ -106,4 +127,39 @@ public class ReminderCommand extends Command {
         return todayRepeatedEvent;
     }
 
+    /**
+     * Sets how many minutes before each event a reminder is printed, or stops printing reminders.
+     *
+     * @param ui containing the responses to print.
+     * @throws DukeException if there is no scheduler or the number of minutes is not valid.
+     */
+    private void setReminderLead(Ui ui) throws DukeException {
+        if (reminderScheduler == null) {
+            throw new DukeException("Reminders are not printed before events here.");
+        }
+        if (command.equalsIgnoreCase(OFF)) {
+            reminderScheduler.stop();
+            ui.printReminderLeadMessage(-1);
+            return;
+        }
+        int minutes;
+        try {
+            minutes = Integer.parseInt(command);
+        } catch (NumberFormatException e) {
+            minutes = -1;
+        }
+        if (minutes < 0) {
+            throw new WrongNumberFormatException("Number of minutes must be a whole number of at least 0."
+                    + System.lineSeparator() + "The format for reminder is: \"reminder [MINUTES/off]\".");
+        }
+        reminderScheduler.setLeadMinutes(minutes);
+        reminderScheduler.start();
+        logger.fine("Reminders set to " + minutes + " minutes before events");
+        ui.printReminderLeadMessage(minutes);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return command.isEmpty();
+    }
 }
@@ -4,6 +4,7 @@ import seedu.duke.EventLogger;
 import seedu.duke.data.UserData;
 import seedu.duke.event.Event;
 import seedu.duke.event.EventList;
+import seedu.duke.event.RepeatUnit;
 import seedu.duke.exception.DukeException;
 import seedu.duke.exception.InvalidTimeUnitException;
 import seedu.duke.exception.MissingDeadlineRepeatException;
@@ -20,9 +21,6 @@ import java.util.logging.Logger;
 
 
 public class RepeatCommand extends Command {
-    public static final String DAILY = "DAILY";
-    public static final String WEEKLY = "WEEKLY";
-    public static final String MONTHLY = "MONTHLY";
     private static final String COMMANDTYPE_LIST = "list";
     private static final String COMMANDTYPE_ADD = "add";
     private static final String COMMANDTYPE_ERROR = "error";
@@ -199,27 +197,15 @@ public class RepeatCommand extends Command {
             eventToRepeat.setRepeatType(null);
             return;
         }
+        RepeatUnit repeatUnit = RepeatUnit.parse(repeatType);
+        if (repeatUnit == null) {
+            throw new InvalidTimeUnitException(repeatType);
+        }
+        eventToRepeat.setRepeatUnit(repeatUnit);
+        eventToRepeat.setRepeatEventList(null);
         for (int i = 1; i <= count; i++) {
-            LocalDate repeatDate;
             logger.fine("Repeat repetition number" + Integer.toString(i));
-            switch (repeatType) {
-            case MONTHLY:
-                logger.fine("Event date incremented monthly");
-                repeatDate = startDate.plusMonths(i);
-                break;
-            case WEEKLY:
-                logger.fine("Event date incremented weekly");
-                repeatDate = startDate.plusWeeks(i);
-                break;
-            case DAILY:
-                logger.fine("Event date incremented daily");
-                repeatDate = startDate.plusDays(i);
-                break;
-            default:
-                throw new InvalidTimeUnitException(repeatType);
-            }
-            eventToRepeat.setRepeatType(repeatType);
-            eventToRepeat.setRepeatEventList(null);
+            LocalDate repeatDate = repeatUnit.advance(startDate, i);
             Event repeatEvent;
             try {
                 repeatEvent = eventToRepeat.clone();
@@ -0,0 +1,78 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.MissingDescriptionException;
+import seedu.duke.query.SearchIndex;
+import seedu.duke.query.SearchResult;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Command to find the events whose description or location is like the text given, even if it is misspelt or
+ * only partly typed, and to suggest words completing the last word of the text.
+ */
+public class SearchCommand extends Command {
+    public static final int MAX_RESULTS = 20;
+    public static final int MAX_COMPLETIONS = 5;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final String search;
+    private final SearchIndex index;
+
+    /**
+     * Creates a search command.
+     *
+     * @param search text to search for.
+     * @throws MissingDescriptionException if the text is blank.
+     */
+    public SearchCommand(String search) throws MissingDescriptionException {
+        this(search, null);
+    }
+
+    /**
+     * Creates a search command that searches the given index, which is kept up to date as the data changes.
+     *
+     * @param search text to search for.
+     * @param index  index of the events of the active profile, or null to index the events when the command is run.
+     * @throws MissingDescriptionException if the text is blank.
+     */
+    public SearchCommand(String search, SearchIndex index) throws MissingDescriptionException {
+        if (search == null || search.isBlank()) {
+            throw new MissingDescriptionException("Please tell me what to search for!");
+        }
+        this.isExit = false;
+        this.search = search.trim();
+        this.command = search;
+        this.index = index;
+    }
+
+    /**
+     * Searches the events of every list and prints those found, most alike first, and the words that complete
+     * the last word searched for.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        long startTime = System.nanoTime();
+        SearchIndex searchIndex = (index == null) ? SearchIndex.of(data) : index;
+        ArrayList<SearchResult> results = searchIndex.search(search, MAX_RESULTS);
+        String lastWord = search.substring(search.lastIndexOf(' ') + 1);
+        ArrayList<String> completions = searchIndex.complete(lastWord, MAX_COMPLETIONS);
+        logger.fine("Search for " + search + " found " + results.size() + " events in "
+                + (System.nanoTime() - startTime) / 1000 + " microseconds");
+        ui.printSearchResults(results, lastWord, completions);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
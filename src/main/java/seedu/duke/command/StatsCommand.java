@@ -0,0 +1,153 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DateErrorException;
+import seedu.duke.exception.DukeException;
+import seedu.duke.metrics.Metrics;
+import seedu.duke.metrics.WorkloadCounter;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Command to show usage statistics, export them for monitoring tools, or show how many events fall on each day.
+ */
+public class StatsCommand extends Command {
+    private static final String EXPORT = "export";
+    private static final String LOAD = "load";
+    private static final String WEEKS = "weeks";
+    private static final String FORMAT = "The format for stats is: \"stats [export]\" or "
+            + "\"stats load [weeks] [MONTH]\".";
+    private static final String JSON_FILE = "metrics.json";
+    private static final String PROMETHEUS_FILE = "metrics.prom";
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final WorkloadCounter workloadCounter;
+
+    /**
+     * Creates a stats command.
+     *
+     * @param command blank to show the statistics, export to write them to files, or load to show the workload.
+     */
+    public StatsCommand(String command) {
+        this(command, null);
+    }
+
+    /**
+     * Creates a stats command that shows the workload from the given counts, which are kept up to date as the data
+     * changes.
+     *
+     * @param command         blank to show the statistics, export to write them to files, or load to show the workload.
+     * @param workloadCounter counts of events on each day, or null to count the events when the command is run.
+     */
+    public StatsCommand(String command, WorkloadCounter workloadCounter) {
+        this.isExit = false;
+        this.command = command.trim().toLowerCase();
+        this.workloadCounter = workloadCounter;
+    }
+
+    /**
+     * Prints the statistics, writes them as JSON and in the Prometheus text format to the data folder, or prints
+     * the number of events on each day of a month.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if the argument is invalid or the files cannot be written.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        if (command.isEmpty()) {
+            ui.printStats(Metrics.report(data));
+            return;
+        }
+        if (command.equals(LOAD) || command.startsWith(LOAD + " ")) {
+            printWorkload(data, ui);
+            return;
+        }
+        if (!command.equals(EXPORT)) {
+            throw new DukeException(FORMAT);
+        }
+
+        Path jsonFile = Paths.get(storage.getDirectoryString(), JSON_FILE);
+        Path prometheusFile = Paths.get(storage.getDirectoryString(), PROMETHEUS_FILE);
+        try {
+            Files.write(jsonFile, Metrics.toJson(data).getBytes(StandardCharsets.UTF_8));
+            Files.write(prometheusFile, Metrics.toPrometheus(data).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.warning("Statistics could not be exported: " + e.getMessage());
+            throw new DukeException("Error! Statistics could not be written to the data folder.");
+        }
+        logger.fine("Statistics exported to " + jsonFile + " and " + prometheusFile);
+        ui.printStatsExportedMessage(jsonFile.toString(), prometheusFile.toString());
+    }
+
+    /**
+     * Prints the number of events and undone events on each day of the month asked for, as a month grid, or on
+     * each week overlapping the month, as a histogram.
+     */
+    private void printWorkload(UserData data, Ui ui) throws DukeException {
+        String argument = command.substring(LOAD.length()).trim();
+        boolean isByWeek = argument.equals(WEEKS) || argument.startsWith(WEEKS + " ");
+        if (isByWeek) {
+            argument = argument.substring(WEEKS.length()).trim();
+        }
+        YearMonth month = argument.isEmpty() ? YearMonth.now() : parseMonth(argument);
+        WorkloadCounter counter = (workloadCounter == null) ? WorkloadCounter.of(data) : workloadCounter;
+
+        if (!isByWeek) {
+            int[] eventCounts = new int[month.lengthOfMonth()];
+            int[] undoneCounts = new int[month.lengthOfMonth()];
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                eventCounts[day - 1] = counter.getEventCount(month.atDay(day));
+                undoneCounts[day - 1] = counter.getUndoneCount(month.atDay(day));
+            }
+            ui.printWorkloadMonth(month, eventCounts, undoneCounts);
+            return;
+        }
+
+        ArrayList<LocalDate> weekStarts = new ArrayList<>();
+        LocalDate weekStart = month.atDay(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        while (!weekStart.isAfter(month.atEndOfMonth())) {
+            weekStarts.add(weekStart);
+            weekStart = weekStart.plusWeeks(1);
+        }
+        int[] eventCounts = new int[weekStarts.size()];
+        int[] undoneCounts = new int[weekStarts.size()];
+        for (int week = 0; week < weekStarts.size(); week++) {
+            for (int day = 0; day < 7; day++) {
+                eventCounts[week] += counter.getEventCount(weekStarts.get(week).plusDays(day));
+                undoneCounts[week] += counter.getUndoneCount(weekStarts.get(week).plusDays(day));
+            }
+        }
+        ui.printWorkloadWeeks(month, weekStarts, eventCounts, undoneCounts);
+    }
+
+    private static YearMonth parseMonth(String month) throws DukeException {
+        try {
+            return YearMonth.parse(month.replace('-', '/'), DateTimeFormatter.ofPattern("M/[yyyy][yy]"));
+        } catch (DateTimeParseException e) {
+            logger.warning("DateErrorException: Invalid month " + month + " was given for the workload.");
+            throw new DateErrorException();
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.duke.command;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.History;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.WrongNumberFormatException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.util.logging.Logger;
+
+/**
+ * Command to undo the last command that changed the user's data, or set how many commands can be undone.
+ */
+public class UndoCommand extends Command {
+    private static final String DEPTH = "depth";
+    private static final String FORMAT = "The format for undo is: \"undo\" or \"undo depth [NUMBER]\".";
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates an undo command.
+     *
+     * @param command blank to undo, or depth with an optional number of commands to keep.
+     */
+    public UndoCommand(String command) {
+        this.isExit = false;
+        this.command = command.trim();
+    }
+
+    /**
+     * Undoes the last command that changed the data and saves the data, or shows or sets the history depth.
+     *
+     * @param data    object of UserData class containing user's data.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @throws DukeException if there is nothing to undo or the depth given is not valid.
+     */
+    @Override
+    public void execute(UserData data, Ui ui, Storage storage) throws DukeException {
+        History history = data.getHistory();
+        if (history == null) {
+            throw new DukeException("Changes cannot be undone here.");
+        }
+        String[] words = command.split(" ", 2);
+        if (words[0].equalsIgnoreCase(DEPTH)) {
+            if (words.length > 1) {
+                history.setDepth(parseDepth(words[1].trim()));
+            }
+            ui.printHistoryDepthMessage(history.getDepth());
+            return;
+        }
+        if (!command.isEmpty()) {
+            throw new DukeException(FORMAT);
+        }
+
+        String commandWord = history.undo();
+        if (commandWord == null) {
+            throw new DukeException("There is nothing to undo.");
+        }
+        storage.saveAll(data);
+        logger.fine("Undo command undid " + commandWord);
+        ui.printUndoMessage(commandWord, false);
+    }
+
+    private static int parseDepth(String depth) throws WrongNumberFormatException {
+        try {
+            int parsedDepth = Integer.parseInt(depth);
+            if (parsedDepth >= 0) {
+                return parsedDepth;
+            }
+        } catch (NumberFormatException e) {
+            //handled below
+        }
+        throw new WrongNumberFormatException("Number of commands to keep must be a whole number of at least 0."
+                + System.lineSeparator() + FORMAT);
+    }
+}
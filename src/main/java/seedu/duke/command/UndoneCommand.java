@@ -9,6 +9,7 @@ import seedu.duke.exception.InvalidEventDateException;
 import seedu.duke.exception.MissingSemicolonException;
 import seedu.duke.exception.WrongNumberFormatException;
 import seedu.duke.exception.WrongNumberOfArgumentsException;
+import seedu.duke.parser.CommandArguments;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
@@ -20,18 +21,34 @@ import static seedu.duke.parser.DateTimeParser.dateParser;
 
 public class UndoneCommand extends Command {
     private final String listType;
+    private final CommandArguments arguments;
+    private final EventSelection selection;
 
     private static Logger logger = EventLogger.getEventLogger();
 
     /**
      * Constructor for setting event to undone.
      *
-     * @param command from user input
+     * @param listType  name of the list the event is in.
+     * @param arguments fields of the user input, the event index and an optional repeat date after the list name.
      */
-    public UndoneCommand(String listType, String command) {
+    public UndoneCommand(String listType, CommandArguments arguments) {
+        this(listType, arguments, null);
+    }
+
+    /**
+     * Constructor for a UndoneCommand acting on several events at once.
+     *
+     * @param listType  name of the list the events are in.
+     * @param arguments fields of the user input after the command keyword.
+     * @param selection events chosen, or null to act on the single event whose index is given.
+     */
+    UndoneCommand(String listType, CommandArguments arguments, EventSelection selection) {
         this.isExit = false;
         this.listType = listType;
-        this.command = command;
+        this.arguments = arguments;
+        this.selection = selection;
+        this.command = arguments.getFieldsFrom(1);
     }
 
     /**
@@ -41,40 +58,51 @@ public class UndoneCommand extends Command {
      * @return the UndoneCommand corresponding to the list type and event indicated in the input.
      * @throws MissingSemicolonException if the input does not contain any semicolons to separate input fields.
      * @throws WrongNumberOfArgumentsException if the event type or event index is missing.
-     * @throws WrongNumberFormatException if the event index is not an integer.
+     * @throws WrongNumberFormatException if the event index is not an integer or a range of event indexes.
+     * @throws DukeException if a date or month choosing the events is not valid.
+     */
+    public static Command parse(String input) throws DukeException {
+        return parse(CommandArguments.ofArgument(input));
+    }
+
+    /**
+     * Parses the fields of the user input and returns the corresponding UndoneCommand.
+     *
+     * @param arguments the fields of the user input after the command keyword.
+     * @return the UndoneCommand corresponding to the list type and event indicated in the input.
+     * @throws MissingSemicolonException if the input does not contain any semicolons to separate input fields.
+     * @throws WrongNumberOfArgumentsException if the event type or event index is missing.
+     * @throws WrongNumberFormatException if the event index is not an integer or a range of event indexes.
+     * @throws DukeException if a date or month choosing the events is not valid.
      */
-    public static Command parse(String input) throws MissingSemicolonException,
-            WrongNumberOfArgumentsException, WrongNumberFormatException {
-        logger.fine("Parsing UndoneCommand input: \"" + input + "\"");
+    public static Command parse(CommandArguments arguments) throws DukeException {
+        logger.fine("Parsing UndoneCommand input: \"" + arguments.getArgument() + "\"");
 
-        if (!input.contains(";")) {
+        if (!arguments.hasFields(2)) {
             logger.warning("MissingSemicolonException: User input fields was not separated with semicolon.");
             throw new MissingSemicolonException("Remember to separate input fields with a ';'." + System.lineSeparator()
                     + "The format for undone is: \"undone <EVENT_TYPE>; <EVENT_INDEX>; [<REPEAT_EVENT_DATE>]\".");
         }
 
-        String[] inputParameters = input.trim().split(";", 2);
-
-        if (inputParameters[0].isBlank() || inputParameters[1].isBlank()) {
+        if (arguments.isFieldBlank(0) || arguments.isFieldBlank(1)) {
             logger.warning("WrongNumberOfArgumentsException: User did not provide event type or event index.");
             throw new WrongNumberOfArgumentsException("Event type or index is missing." + System.lineSeparator()
                     + "The format for undone is: \"undone <EVENT_TYPE>; <EVENT_INDEX>; [<REPEAT_EVENT_DATE>]\".");
         }
 
-        String listType = capitaliseFirstLetter(inputParameters[0].trim());
-        String eventIdentifier = inputParameters[1].trim();
-
-        try {
-            String[] eventIdentifierArray = eventIdentifier.split(";",2);
-            Integer.parseInt(eventIdentifierArray[0]);
-        } catch (NumberFormatException e) {
+        if (!arguments.isInteger(1)) {
+            EventSelection selection = EventSelection.parse(arguments.getField(1));
+            if (selection != null) {
+                logger.fine("Successfully parsed input and created UndoneCommand for " + selection.getDescription());
+                return new UndoneCommand(arguments.getListName(0), arguments, selection);
+            }
             logger.warning("WrongNumberFormatException: Event index given is not an integer.");
             throw new WrongNumberFormatException("Event index given is not an integer." + System.lineSeparator()
                     + "The format for undone is: \"undone <EVENT_TYPE>; <EVENT_INDEX>; [<REPEAT_EVENT_DATE>]\".");
         }
 
         logger.fine("Successfully parsed input and created UndoneCommand.");
-        return new UndoneCommand(listType, eventIdentifier);
+        return new UndoneCommand(arguments.getListName(0), arguments);
     }
 
     /**
@@ -90,18 +118,25 @@ public class UndoneCommand extends Command {
         logger.fine("Start executing undone command.");
         logger.info("listType: \"" + listType + "\", command: " + command + "\"");
         EventList eventList = data.getEventList(listType);
-        String[] eventIdentifierArray = command.split(";");
-        
-        int eventIndex = Integer.parseInt(eventIdentifierArray[0]) - 1;
+        if (selection != null) {
+            int changedCount = selection.mark(eventList, false);
+            ui.printEventsChangedMessage(changedCount, "marked as undone", listType, selection.getDescription());
+            if (changedCount > 0) {
+                storage.saveFile(storage.getFileLocation(listType), data, listType);
+            }
+            logger.fine(changedCount + " events marked as undone: " + selection.getDescription());
+            return;
+        }
+        int eventIndex = arguments.getInteger(1) - 1;
         Event undoneEvent = eventList.getEventByIndex(eventIndex);
 
-        if (undoneEvent.getRepeatType() == null || eventIdentifierArray.length == 1) {
+        if (undoneEvent.getRepeatType() == null || arguments.isFieldBlank(2)) {
             undoneEvent.markAsUndone();
             ui.printEventMarkedUndoneMessage(undoneEvent);
             storage.saveFile(storage.getFileLocation(listType), data, listType);
             logger.fine("Event marked as undone: \"" + undoneEvent + "\"");
         } else { // event is a repeat task
-            LocalDate undoneEventDate = dateParser(eventIdentifierArray[1].trim());
+            LocalDate undoneEventDate = dateParser(arguments.getField(2));
             boolean isDateFound;
 
             if (undoneEventDate.isEqual(undoneEvent.getDate())) {
@@ -123,17 +158,6 @@ public class UndoneCommand extends Command {
         }
     }
 
-    /**
-     * Capitalises the first letter of an input string.
-     *
-     * @param input the string to be capitalised.
-     * @return the capitalised string.
-     */
-    private static String capitaliseFirstLetter(String input) {
-        input = input.toLowerCase();
-        return input.substring(0, 1).toUpperCase() + input.substring(1);
-    }
-
     /**
      * Scans the repeat event array list of a repeat event for an event matching the given date and marks it undone.
      *
@@ -156,4 +180,9 @@ public class UndoneCommand extends Command {
         logger.fine("Finished checking repeat event list.");
         return isDateFound;
     }
+
+    @Override
+    public String getListName() {
+        return listType;
+    }
 }
@@ -93,4 +93,9 @@ public class ViewCommand extends Command {
             throw new NumberFormatException("Index must be numerical format!");
         }
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -0,0 +1,173 @@
+package seedu.duke.data;
+
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tells the views derived from the user's data, such as the reminders and the workload counts, what changed in it.
+ * Like {@link History}, each change to a list or an event publishes itself where it is made: events added to or
+ * removed from a list, changes to the fields or the repeats of an event, and lists loaded from a file in bulk.
+ * Changes made on this thread while a write to the data is open are collected, and given to the subscribers together
+ * when the write ends, so that a write adding thousands of events is applied by each subscriber at once.
+ * Changes made while no write is open, such as while the data is first loaded, are not published.
+ */
+public class ChangeBus {
+    private static final ThreadLocal<ChangeBus> publishingBus = new ThreadLocal<>();
+
+    private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private ArrayList<Change> openBatch;
+    private int openCount = 0;
+    private ChangeBus outerBus;
+
+    /**
+     * Kind of change made to the data.
+     */
+    public enum Kind {
+        /** An event was added to a list. */
+        ADD,
+        /** An event was removed from a list. */
+        REMOVE,
+        /** A field of an event, such as its date or done status, was changed. */
+        FIELD,
+        /** The repeats of an event, or how it repeats, were changed. */
+        REPEAT,
+        /** The events of a list were loaded in bulk, so the whole list should be read again. */
+        LOAD
+    }
+
+    /**
+     * View of the data that is kept up to date from the changes made to it.
+     */
+    public interface Subscriber {
+        /**
+         * Applies the changes made by one write, in the order they were made. Called while other writes still
+         * wait, so it should be quick.
+         *
+         * @param data    live UserData after the changes.
+         * @param changes changes made by the write.
+         */
+        void apply(UserData data, List<Change> changes);
+    }
+
+    /**
+     * One change made to the data.
+     */
+    public static class Change {
+        private final Kind kind;
+        private final EventList list;
+        private final Event event;
+
+        private Change(Kind kind, EventList list, Event event) {
+            this.kind = kind;
+            this.list = list;
+            this.event = event;
+        }
+
+        /**
+         * Returns the kind of change.
+         *
+         * @return kind of change.
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the list added to, removed from or loaded, or null for changes to an event.
+         *
+         * @return list changed.
+         */
+        public EventList getList() {
+            return list;
+        }
+
+        /**
+         * Returns the event added, removed or changed, which may be a repeat of an event, or null for a loaded list.
+         *
+         * @return event changed.
+         */
+        public Event getEvent() {
+            return event;
+        }
+    }
+
+    /**
+     * Publishes a change made to the data on this thread, if a write is open on it.
+     * Loading a list replaces the additions and removals of the list published before in the same write.
+     *
+     * @param kind  kind of change.
+     * @param list  list added to, removed from or loaded, or null for changes to an event.
+     * @param event event added, removed or changed, or null for a loaded list.
+     */
+    public static void publish(Kind kind, EventList list, Event event) {
+        ChangeBus bus = publishingBus.get();
+        if (bus == null || bus.openBatch == null) {
+            return;
+        }
+        if (kind == Kind.LOAD) {
+            bus.openBatch.removeIf(change -> change.list == list);
+        }
+        bus.openBatch.add(new Change(kind, list, event));
+    }
+
+    /**
+     * Adds a subscriber that is given the changes of every write from now on.
+     *
+     * @param subscriber to give the changes to.
+     */
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Removes a subscriber added with {@link #subscribe(Subscriber)}.
+     *
+     * @param subscriber to remove.
+     */
+    public void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Starts collecting the changes made on this thread. A write opened inside another write of the same data
+     * adds its changes to the outer write.
+     */
+    void begin() {
+        if (openCount++ > 0) {
+            return;
+        }
+        outerBus = publishingBus.get();
+        openBatch = new ArrayList<>();
+        publishingBus.set(this);
+    }
+
+    /**
+     * Stops collecting changes, and gives the changes collected since {@link #begin()} to every subscriber.
+     *
+     * @param data live UserData after the changes.
+     */
+    void end(UserData data) {
+        if (--openCount > 0) {
+            return;
+        }
+        List<Change> changes = Collections.unmodifiableList(openBatch);
+        openBatch = null;
+        if (outerBus == null) {
+            publishingBus.remove();
+        } else {
+            publishingBus.set(outerBus);
+        }
+        outerBus = null;
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.apply(data, changes);
+        }
+    }
+}
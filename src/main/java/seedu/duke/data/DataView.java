@@ -0,0 +1,59 @@
+package seedu.duke.data;
+
+import java.util.List;
+
+/**
+ * View derived from the data of one profile, such as its reminders, search index or workload counts, that follows
+ * the store it watches: it is made again from the whole data when it starts watching a store, and kept up to date
+ * from the changes published by each write afterwards.
+ * Subclasses guard their state with their own monitor, which is also held while the watched store is changed.
+ */
+public abstract class DataView {
+    private final ChangeBus.Subscriber subscriber = this::apply;
+    private UserDataStore store;
+
+    /**
+     * Makes the view from the data in the given store, and keeps it up to date as the data changes.
+     * The view of the store watched before is dropped.
+     *
+     * @param newStore UserDataStore of the profile to view.
+     */
+    public void watch(UserDataStore newStore) {
+        synchronized (this) {
+            if (store == newStore) {
+                return;
+            }
+            if (store != null) {
+                store.getChangeBus().unsubscribe(subscriber);
+            }
+            store = newStore;
+        }
+        newStore.getChangeBus().subscribe(subscriber);
+        newStore.refresh(this::refresh);
+    }
+
+    /**
+     * Returns the store watched.
+     *
+     * @return UserDataStore watched, or null if no store was watched yet.
+     */
+    protected synchronized UserDataStore getStore() {
+        return store;
+    }
+
+    /**
+     * Makes the view again from every event in the data.
+     * Must be called while no other thread changes the data, such as while holding the UserDataStore's write lock.
+     *
+     * @param data UserData to view.
+     */
+    protected abstract void refresh(UserData data);
+
+    /**
+     * Updates the view for the events added, removed or changed by a write to the data.
+     *
+     * @param data    live UserData after the changes.
+     * @param changes changes made by the write.
+     */
+    protected abstract void apply(UserData data, List<ChangeBus.Change> changes);
+}
@@ -0,0 +1,193 @@
+package seedu.duke.data;
+
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values derived from each event of the user's data with its repeats, such as the reminders of the event or the days
+ * it is counted on, kept up to date from the changes given by a {@link ChangeBus}.
+ * Only the events added, removed or changed are derived again, each once for all its changes in a write.
+ * A change to a repeat of an event derives the event again, as the value covers the event with all its repeats.
+ *
+ * @param <V> type of the value derived from an event.
+ */
+public class DerivedValues<V> {
+    private static final Event[] NO_REPEATS = new Event[0];
+
+    private final Deriver<V> deriver;
+    private final IdentityHashMap<Event, Derived<V>> derivedByEvent = new IdentityHashMap<>();
+    private final IdentityHashMap<Event, Event> repeatedFrom = new IdentityHashMap<>();
+
+    /**
+     * Makes and drops the values derived from events.
+     *
+     * @param <V> type of the value derived from an event.
+     */
+    public interface Deriver<V> {
+        /**
+         * Derives the value of an event and its repeats.
+         *
+         * @param list     list the event is in.
+         * @param event    event to derive the value of.
+         * @param oldValue value derived from the event before it changed, or null if it was not derived before.
+         *                 Parts of it that are not reused should be dropped.
+         * @return value of the event, which may be null.
+         */
+        V derive(EventList list, Event event, V oldValue);
+
+        /**
+         * Drops the value of an event that was removed from its list.
+         *
+         * @param value value derived from the event, which may be null.
+         */
+        void discard(V value);
+    }
+
+    /**
+     * Creates an empty set of values derived with the given deriver.
+     *
+     * @param deriver to make and drop the values with.
+     */
+    public DerivedValues(Deriver<V> deriver) {
+        this.deriver = deriver;
+    }
+
+    /**
+     * Drops every value, and derives the value of every event in the data again.
+     *
+     * @param data UserData to derive the values of.
+     * @return number of events derived.
+     */
+    public int reset(UserData data) {
+        for (Derived<V> derived : derivedByEvent.values()) {
+            deriver.discard(derived.value);
+        }
+        clear();
+        int derivedCount = 0;
+        for (EventList list : data.getAllEventLists()) {
+            for (Event event : list.getEvents()) {
+                derive(list, event);
+                derivedCount++;
+            }
+        }
+        return derivedCount;
+    }
+
+    /**
+     * Forgets every value without dropping it, such as when the values are dropped all at once by the caller.
+     */
+    public void clear() {
+        derivedByEvent.clear();
+        repeatedFrom.clear();
+    }
+
+    /**
+     * Derives again the values of the events added or changed, and drops the values of the events removed.
+     * Changes to events not in any list, such as events being made before they are added, are skipped.
+     *
+     * @param changes changes made by one write, in the order they were made.
+     * @return number of events derived.
+     */
+    public int apply(List<ChangeBus.Change> changes) {
+        IdentityHashMap<Event, EventList> changedEvents = new IdentityHashMap<>();
+        for (ChangeBus.Change change : changes) {
+            Event event = change.getEvent();
+            switch (change.getKind()) {
+            case ADD:
+                changedEvents.put(event, change.getList());
+                break;
+            case REMOVE:
+                changedEvents.remove(event);
+                drop(event);
+                break;
+            case LOAD:
+                dropList(change.getList());
+                changedEvents.values().removeIf(list -> list == change.getList());
+                for (Event listEvent : change.getList().getEvents()) {
+                    changedEvents.put(listEvent, change.getList());
+                }
+                break;
+            default:
+                Event changedEvent = repeatedFrom.getOrDefault(event, event);
+                Derived<V> derived = derivedByEvent.get(changedEvent);
+                if (derived != null) {
+                    changedEvents.putIfAbsent(changedEvent, derived.list);
+                }
+                break;
+            }
+        }
+        for (Map.Entry<Event, EventList> entry : changedEvents.entrySet()) {
+            derive(entry.getValue(), entry.getKey());
+        }
+        return changedEvents.size();
+    }
+
+    /**
+     * Returns the number of events with a derived value.
+     *
+     * @return number of events derived.
+     */
+    public int getSize() {
+        return derivedByEvent.size();
+    }
+
+    private void derive(EventList list, Event event) {
+        Derived<V> oldDerived = derivedByEvent.get(event);
+        if (oldDerived != null) {
+            forgetRepeats(event, oldDerived);
+        }
+        V value = deriver.derive(list, event, (oldDerived == null) ? null : oldDerived.value);
+        Event[] repeats = (event.getRepeatEventList() == null) ? NO_REPEATS
+                : event.getRepeatEventList().toArray(NO_REPEATS);
+        for (Event repeatEvent : repeats) {
+            repeatedFrom.put(repeatEvent, event);
+        }
+        derivedByEvent.put(event, new Derived<>(list, repeats, value));
+    }
+
+    private void drop(Event event) {
+        Derived<V> derived = derivedByEvent.remove(event);
+        if (derived != null) {
+            forgetRepeats(event, derived);
+            deriver.discard(derived.value);
+        }
+    }
+
+    private void dropList(EventList list) {
+        Iterator<Map.Entry<Event, Derived<V>>> iterator = derivedByEvent.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Event, Derived<V>> entry = iterator.next();
+            if (entry.getValue().list == list) {
+                iterator.remove();
+                forgetRepeats(entry.getKey(), entry.getValue());
+                deriver.discard(entry.getValue().value);
+            }
+        }
+    }
+
+    private void forgetRepeats(Event event, Derived<V> derived) {
+        for (Event repeatEvent : derived.repeats) {
+            repeatedFrom.remove(repeatEvent, event);
+        }
+    }
+
+    /**
+     * Value derived from an event, with the list it was in and the repeats it had when it was derived.
+     */
+    private static class Derived<V> {
+        private final EventList list;
+        private final Event[] repeats;
+        private final V value;
+
+        private Derived(EventList list, Event[] repeats, V value) {
+            this.list = list;
+            this.repeats = repeats;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package seedu.duke.data;
+
+import seedu.duke.EventLogger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Undo and redo history of the user's data.
+ * Instead of copying the data before every command, each change made while a command runs records how to undo and
+ * redo itself, such as the old and new date of an event or the position an event was removed from.
+ * The changes of one command are undone or redone together, and only the given number of commands are kept,
+ * so the memory used grows with the size of the changes made, not the size of the lists.
+ */
+public class History {
+    public static final int DEFAULT_DEPTH = 20;
+    private static final ThreadLocal<History> recordingHistory = new ThreadLocal<>();
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final ArrayDeque<Transaction> undoStack = new ArrayDeque<>();
+    private final ArrayDeque<Transaction> redoStack = new ArrayDeque<>();
+    private int depth = DEFAULT_DEPTH;
+    private long recordedCount = 0;
+    private Transaction openTransaction;
+    private History outerHistory;
+
+    /**
+     * Records a change to the data made on this thread, if a command is being recorded on it.
+     *
+     * @param undo puts the data back as it was before the change.
+     * @param redo makes the change again after it was undone.
+     */
+    public static void record(Runnable undo, Runnable redo) {
+        History history = recordingHistory.get();
+        if (history != null && history.openTransaction != null) {
+            history.openTransaction.undoActions.add(undo);
+            history.openTransaction.redoActions.add(redo);
+        }
+    }
+
+    /**
+     * Starts recording the changes made on this thread as one command.
+     *
+     * @param description name of the command, shown when it is undone.
+     */
+    void begin(String description) {
+        outerHistory = recordingHistory.get();
+        openTransaction = new Transaction(description);
+        recordingHistory.set(this);
+    }
+
+    /**
+     * Stops recording, and keeps the changes recorded since {@link #begin(String)} to be undone.
+     * Making a change clears the commands that were undone, as they can no longer be redone.
+     */
+    void end() {
+        Transaction transaction = openTransaction;
+        openTransaction = null;
+        restoreRecordingHistory(outerHistory);
+        outerHistory = null;
+        if (transaction == null || transaction.undoActions.isEmpty()) {
+            return;
+        }
+        recordedCount++;
+        transaction.number = recordedCount;
+        push(undoStack, transaction);
+        redoStack.clear();
+    }
+
+    /**
+     * Undoes the changes of the last command that changed the data.
+     *
+     * @return name of the command undone, or null if there is nothing to undo.
+     */
+    public String undo() {
+        Transaction transaction = undoStack.poll();
+        if (transaction == null) {
+            return null;
+        }
+        replay(transaction.undoActions, true);
+        push(redoStack, transaction);
+        logger.fine("Undid " + transaction.description + ", " + transaction.undoActions.size() + " changes");
+        return transaction.description;
+    }
+
+    /**
+     * Makes the changes of the last command undone again.
+     *
+     * @return name of the command redone, or null if there is nothing to redo.
+     */
+    public String redo() {
+        Transaction transaction = redoStack.poll();
+        if (transaction == null) {
+            return null;
+        }
+        replay(transaction.redoActions, false);
+        push(undoStack, transaction);
+        logger.fine("Redid " + transaction.description + ", " + transaction.redoActions.size() + " changes");
+        return transaction.description;
+    }
+
+    /**
+     * Forgets every command that could be undone or redone, such as after the data is changed outside the program
+     * in a way the history cannot undo. Changes already recorded by the command being recorded are forgotten too,
+     * so that the command itself cannot be undone either.
+     */
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        if (openTransaction != null) {
+            openTransaction.undoActions.clear();
+            openTransaction.redoActions.clear();
+        }
+    }
+
+    /**
+     * Sets the number of commands that can be undone. The oldest commands are forgotten if there are more.
+     *
+     * @param depth number of commands kept, at least 0.
+     */
+    public void setDepth(int depth) {
+        assert depth >= 0 : "depth cannot be negative";
+        this.depth = depth;
+        while (undoStack.size() > depth) {
+            undoStack.removeLast();
+        }
+        while (redoStack.size() > depth) {
+            redoStack.removeLast();
+        }
+    }
+
+    /**
+     * Returns the number of commands that can be undone.
+     *
+     * @return number of commands kept.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of commands that can be undone right now.
+     *
+     * @return number of commands in the undo history.
+     */
+    public int getUndoCount() {
+        return undoStack.size();
+    }
+
+    /**
+     * Returns the number the next command recorded is given. Commands are numbered from 1 in the order recorded,
+     * and the command being recorded, if any, is given this number when it ends.
+     *
+     * @return number of the next command.
+     */
+    public long getNextNumber() {
+        return recordedCount + 1;
+    }
+
+    /**
+     * Returns the number of the oldest command that can still be undone or redone, so that what only commands
+     * numbered before it could give back, such as removed notes, can be forgotten.
+     *
+     * @return number of the oldest command kept, or {@link #getNextNumber()} if none is kept.
+     */
+    public long getOldestNumber() {
+        long oldestNumber = getNextNumber();
+        for (Transaction transaction : undoStack) {
+            oldestNumber = Math.min(oldestNumber, transaction.number);
+        }
+        for (Transaction transaction : redoStack) {
+            oldestNumber = Math.min(oldestNumber, transaction.number);
+        }
+        return oldestNumber;
+    }
+
+    private void push(ArrayDeque<Transaction> stack, Transaction transaction) {
+        stack.push(transaction);
+        while (stack.size() > depth) {
+            stack.removeLast();
+        }
+    }
+
+    /**
+     * Runs the actions without recording them, undo actions from the last to the first, redo actions in order.
+     *
+     * @param actions   actions to run.
+     * @param isReverse true to run the actions from the last to the first.
+     */
+    private void replay(ArrayList<Runnable> actions, boolean isReverse) {
+        History recording = recordingHistory.get();
+        recordingHistory.remove();
+        try {
+            for (int i = 0; i < actions.size(); i++) {
+                actions.get(isReverse ? actions.size() - 1 - i : i).run();
+            }
+        } finally {
+            restoreRecordingHistory(recording);
+        }
+    }
+
+    private static void restoreRecordingHistory(History history) {
+        if (history == null) {
+            recordingHistory.remove();
+        } else {
+            recordingHistory.set(history);
+        }
+    }
+
+    /**
+     * Changes made by one command.
+     */
+    private static class Transaction {
+        private final String description;
+        private final ArrayList<Runnable> undoActions = new ArrayList<>();
+        private final ArrayList<Runnable> redoActions = new ArrayList<>();
+        private long number;
+
+        private Transaction(String description) {
+            this.description = description;
+        }
+    }
+}
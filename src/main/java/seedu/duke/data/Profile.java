@@ -0,0 +1,52 @@
+package seedu.duke.data;
+
+import seedu.duke.storage.Storage;
+
+/**
+ * A user's data together with the storage it is loaded from and saved to.
+ */
+public class Profile {
+    private final String name;
+    private final UserDataStore store;
+    private final Storage storage;
+
+    /**
+     * Creates a profile with the given name, data and storage.
+     *
+     * @param name    name of the profile.
+     * @param store   UserDataStore guarding the profile's data.
+     * @param storage Storage object used to save the profile's data.
+     */
+    public Profile(String name, UserDataStore store, Storage storage) {
+        this.name = name;
+        this.store = store;
+        this.storage = storage;
+    }
+
+    /**
+     * Returns the name of the profile.
+     *
+     * @return name of the profile.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the UserDataStore guarding the profile's data.
+     *
+     * @return UserDataStore guarding the profile's data.
+     */
+    public UserDataStore getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the Storage object used to save the profile's data.
+     *
+     * @return Storage object used to save the profile's data.
+     */
+    public Storage getStorage() {
+        return storage;
+    }
+}
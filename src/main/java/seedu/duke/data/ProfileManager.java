@@ -0,0 +1,399 @@
+package seedu.duke.data;
+
+import seedu.duke.EventLogger;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidProfileException;
+import seedu.duke.metrics.WorkloadCounter;
+import seedu.duke.query.DateOrder;
+import seedu.duke.query.SearchIndex;
+import seedu.duke.reminder.ReminderScheduler;
+import seedu.duke.storage.DataWatcher;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the data of several users, each in its own data directory, loaded in one program.
+ * The default profile is stored in the base data directory and other profiles in "profiles/NAME" under it.
+ * Only the most recently used profiles are kept in memory. When more profiles are loaded than the cache can hold,
+ * the least recently used profile is saved and unloaded, and is loaded again from its files when next used.
+ * Profiles acquired by a caller that is still using them are not unloaded until they are released.
+ * Profiles are loaded from their files without holding the manager's lock, so only the callers asking for a profile
+ * being loaded wait for it.
+ */
+public class ProfileManager {
+    public static final String DEFAULT_PROFILE = "default";
+    private static final String PROFILE_DIRECTORY = "profiles";
+    private static final Pattern PROFILE_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+    /** Ui of profiles loaded for other programs, which have no console to print load and save messages to. */
+    private static final Ui QUIET_UI = new Ui((Scanner) null, new PrintStream(OutputStream.nullOutputStream()));
+
+    private final String baseDirectory;
+    private final Ui ui;
+    private final int capacity;
+    private final LinkedHashMap<String, Profile> loadedProfiles = new LinkedHashMap<>(16, 0.75f, true);
+    private final HashMap<String, Profile> unloadingProfiles = new HashMap<>();
+    private final HashMap<String, CompletableFuture<Profile>> loadingProfiles = new HashMap<>();
+    private final HashMap<String, Integer> leaseCounts = new HashMap<>();
+    private final ArrayList<DataView> views = new ArrayList<>();
+    private volatile String activeName = DEFAULT_PROFILE;
+    private ReminderScheduler reminderScheduler;
+    private DataWatcher dataWatcher;
+    private WorkloadCounter workloadCounter;
+    private SearchIndex searchIndex;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates a profile manager for profiles stored under the given directory.
+     *
+     * @param baseDirectory directory of the default profile, with folders separated by commas as in Storage.
+     * @param ui            Ui used to print load and save messages.
+     * @param capacity      maximum number of profiles kept loaded, at least 1.
+     */
+    public ProfileManager(String baseDirectory, Ui ui, int capacity) {
+        assert capacity >= 1 : "at least one profile must be kept loaded";
+        this.baseDirectory = baseDirectory;
+        this.ui = ui;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the profile with the given name, loading it if it is not already loaded.
+     * The profile may be unloaded as soon as other profiles are used, so callers that keep using it while other
+     * threads may load profiles should {@link #acquire(String)} it instead.
+     *
+     * @param name of the profile.
+     * @return the profile.
+     * @throws InvalidProfileException if the name is not a valid profile name.
+     */
+    public Profile get(String name) throws InvalidProfileException {
+        return use(name, ui, profile -> { });
+    }
+
+    /**
+     * Returns the profile with the given name like {@link #get(String)}, and keeps it loaded until it is given back
+     * with {@link #release(Profile)}, so that its changes are never made to a copy that was already unloaded.
+     * A profile loaded here prints no messages, as it is acquired for other programs rather than the user at the
+     * console, until the user switches to it.
+     *
+     * @param name of the profile.
+     * @return the profile.
+     * @throws InvalidProfileException if the name is not a valid profile name.
+     */
+    public Profile acquire(String name) throws InvalidProfileException {
+        return use(name, QUIET_UI, profile -> leaseCounts.merge(name, 1, Integer::sum));
+    }
+
+    /**
+     * Gives back a profile taken with {@link #acquire(String)}, unloading it if more profiles are loaded than the
+     * cache can hold and nobody else is using it.
+     *
+     * @param profile profile taken with {@link #acquire(String)}.
+     */
+    public void release(Profile profile) {
+        ArrayList<Profile> unloaded;
+        synchronized (this) {
+            Integer leaseCount = leaseCounts.get(profile.getName());
+            assert leaseCount != null : "only acquired profiles are released";
+            if (leaseCount == 1) {
+                leaseCounts.remove(profile.getName());
+            } else {
+                leaseCounts.put(profile.getName(), leaseCount - 1);
+            }
+            unloaded = unloadLeastRecentlyUsed(null);
+        }
+        saveUnloaded(unloaded);
+    }
+
+    /**
+     * Makes the profile with the given name the active profile, loading it if needed.
+     *
+     * @param name of the profile.
+     * @return the profile.
+     * @throws InvalidProfileException if the name is not a valid profile name.
+     */
+    public Profile switchTo(String name) throws InvalidProfileException {
+        Profile profile = use(name, ui, switchedProfile -> {
+            activeName = name;
+            switchedProfile.getStorage().setUi(ui);
+            for (DataView view : views) {
+                view.watch(switchedProfile.getStore());
+            }
+            if (dataWatcher != null) {
+                dataWatcher.watch(switchedProfile);
+            }
+        });
+        logger.info("Switched to profile " + name);
+        return profile;
+    }
+
+    /**
+     * Returns the active profile, loading it if needed.
+     *
+     * @return the active profile.
+     */
+    public Profile getActive() {
+        try {
+            return get(activeName);
+        } catch (InvalidProfileException e) {
+            throw new AssertionError("Active profile name is always valid", e);
+        }
+    }
+
+    /**
+     * Returns the name of the active profile.
+     *
+     * @return name of the active profile.
+     */
+    public String getActiveName() {
+        return activeName;
+    }
+
+    /**
+     * Returns the names of the loaded profiles, from least to most recently used.
+     *
+     * @return names of loaded profiles.
+     */
+    public synchronized ArrayList<String> getLoadedNames() {
+        return new ArrayList<>(loadedProfiles.keySet());
+    }
+
+    /**
+     * Sets the scheduler that reminds the user of the events of the active profile, and points it at the active
+     * profile now and whenever the user switches profile.
+     *
+     * @param reminderScheduler scheduler of event reminders.
+     */
+    public void setReminderScheduler(ReminderScheduler reminderScheduler) {
+        getActive();
+        synchronized (this) {
+            this.reminderScheduler = watchActive(reminderScheduler);
+        }
+    }
+
+    /**
+     * Sets the watcher that loads changes made to the active profile's files outside the program, and points it at
+     * the active profile now and whenever the user switches profile.
+     *
+     * @param dataWatcher watcher of the data folder.
+     */
+    public void setDataWatcher(DataWatcher dataWatcher) {
+        this.dataWatcher = dataWatcher;
+        dataWatcher.watch(getActive());
+    }
+
+    /**
+     * Returns the scheduler that reminds the user of the events of the active profile.
+     *
+     * @return ReminderScheduler, or null if reminders are not printed while the program runs.
+     */
+    public synchronized ReminderScheduler getReminderScheduler() {
+        return reminderScheduler;
+    }
+
+    /**
+     * Returns the counts of events on each day of the active profile, kept up to date as its data changes.
+     * The counts are first made when this is first called, and follow the active profile afterwards.
+     *
+     * @return WorkloadCounter of the active profile.
+     */
+    public WorkloadCounter getWorkloadCounter() {
+        getActive();
+        synchronized (this) {
+            if (workloadCounter == null) {
+                workloadCounter = watchActive(new WorkloadCounter());
+            }
+            return workloadCounter;
+        }
+    }
+
+    /**
+     * Returns the search index of the events of the active profile, kept up to date as its data changes.
+     * The index is first made when this is first called, and follows the active profile afterwards.
+     *
+     * @return SearchIndex of the active profile.
+     */
+    public SearchIndex getSearchIndex() {
+        getActive();
+        synchronized (this) {
+            if (searchIndex == null) {
+                searchIndex = watchActive(new SearchIndex());
+            }
+            return searchIndex;
+        }
+    }
+
+    /**
+     * Points the view at the active profile now and whenever the user switches profile.
+     * Must be called while holding the monitor, after the active profile was loaded with {@link #getActive()}.
+     *
+     * @param view view of the data to keep up to date.
+     * @return the view.
+     */
+    private <V extends DataView> V watchActive(V view) {
+        assert Thread.holdsLock(this) : "views are only added while holding the monitor";
+        Profile active = loadedProfiles.get(activeName);
+        assert active != null : "the active profile is never unloaded once loaded";
+        view.watch(active.getStore());
+        views.add(view);
+        return view;
+    }
+
+    /**
+     * Saves the data of every loaded profile.
+     */
+    public void saveAll() {
+        ArrayList<Profile> loaded;
+        synchronized (this) {
+            loaded = new ArrayList<>(loadedProfiles.values());
+        }
+        for (Profile profile : loaded) {
+            save(profile);
+        }
+    }
+
+    /**
+     * Returns the profile with the given name, loading it if needed, after running the given step on it while holding
+     * the monitor. The step only runs while the profile is still loaded, so a profile unloaded by another thread
+     * after it was found is found again.
+     *
+     * @param name   of the profile.
+     * @param loadUi Ui to print the messages of the profile to if it is loaded.
+     * @param step   to run on the profile while holding the monitor, such as taking a lease on it.
+     * @return the profile.
+     * @throws InvalidProfileException if the name is not a valid profile name.
+     */
+    private Profile use(String name, Ui loadUi, Consumer<Profile> step) throws InvalidProfileException {
+        Profile profile;
+        ArrayList<Profile> unloaded;
+        while (true) {
+            profile = find(name, loadUi);
+            synchronized (this) {
+                if (loadedProfiles.get(name) == profile) {
+                    step.accept(profile);
+                    unloaded = unloadLeastRecentlyUsed(name);
+                    break;
+                }
+            }
+        }
+        saveUnloaded(unloaded);
+        return profile;
+    }
+
+    /**
+     * Returns the loaded profile with the given name, taking it back if it is still being saved after it was
+     * unloaded, or loads it from its files. Loading is done without holding the monitor, and other callers asking
+     * for the same profile meanwhile wait for that load instead of loading it again.
+     */
+    private Profile find(String name, Ui loadUi) throws InvalidProfileException {
+        assert !Thread.holdsLock(this) : "profiles are not loaded while holding the monitor";
+        if (!PROFILE_NAME.matcher(name).matches()) {
+            throw new InvalidProfileException(name);
+        }
+        CompletableFuture<Profile> loading;
+        synchronized (this) {
+            Profile profile = loadedProfiles.get(name);
+            if (profile != null) {
+                logger.fine("Profile " + name + " found in cache");
+                return profile;
+            }
+            profile = unloadingProfiles.remove(name);
+            if (profile != null) {
+                logger.fine("Profile " + name + " taken back while it was being unloaded");
+                loadedProfiles.put(name, profile);
+                return profile;
+            }
+            loading = loadingProfiles.get(name);
+            if (loading != null) {
+                logger.fine("Profile " + name + " is being loaded by another caller");
+            } else {
+                loadingProfiles.put(name, new CompletableFuture<>());
+            }
+        }
+        if (loading != null) {
+            return loading.join();
+        }
+
+        Profile profile;
+        try {
+            profile = load(name, loadUi);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                loadingProfiles.remove(name).completeExceptionally(e);
+            }
+            throw e;
+        }
+        synchronized (this) {
+            loadedProfiles.put(name, profile);
+            loadingProfiles.remove(name).complete(profile);
+        }
+        return profile;
+    }
+
+    private Profile load(String name, Ui loadUi) {
+        String directory = name.equals(DEFAULT_PROFILE) ? baseDirectory
+                : baseDirectory + "," + PROFILE_DIRECTORY + "," + name;
+        Storage storage = new Storage(directory, loadUi);
+        UserData data = new UserData();
+        storage.loadAll(data);
+        logger.info("Profile " + name + " loaded from " + storage.getDirectoryString());
+        UserDataStore store = new UserDataStore(data);
+        DateOrder.keep(store);
+        return new Profile(name, store, storage);
+    }
+
+    /**
+     * Unloads the least recently used profiles until no more than the capacity are loaded. The active profile,
+     * the profile just requested and profiles still acquired are never unloaded.
+     * The profiles unloaded are kept until they are saved by {@link #saveUnloaded(ArrayList)}, so that a profile
+     * requested again in the meantime is taken back instead of being loaded from files not saved yet.
+     *
+     * @param requestedName name of the profile just requested, or null if none was requested.
+     * @return profiles unloaded, to be saved once the manager is no longer locked.
+     */
+    private ArrayList<Profile> unloadLeastRecentlyUsed(String requestedName) {
+        ArrayList<Profile> unloaded = new ArrayList<>();
+        Iterator<Map.Entry<String, Profile>> iterator = loadedProfiles.entrySet().iterator();
+        while (loadedProfiles.size() > capacity && iterator.hasNext()) {
+            Map.Entry<String, Profile> eldest = iterator.next();
+            String name = eldest.getKey();
+            if (name.equals(activeName) || name.equals(requestedName) || leaseCounts.containsKey(name)) {
+                continue;
+            }
+            iterator.remove();
+            unloadingProfiles.put(name, eldest.getValue());
+            unloaded.add(eldest.getValue());
+            logger.info("Profile " + name + " unloaded from cache");
+        }
+        return unloaded;
+    }
+
+    private void saveUnloaded(ArrayList<Profile> unloaded) {
+        for (Profile profile : unloaded) {
+            save(profile);
+            synchronized (this) {
+                unloadingProfiles.remove(profile.getName(), profile);
+            }
+        }
+    }
+
+    private void save(Profile profile) {
+        try {
+            profile.getStore().write(data -> profile.getStorage().saveAll(data));
+        } catch (DukeException e) {
+            logger.warning("Profile " + profile.getName() + " could not be saved: " + e.getMessage());
+        }
+    }
+}
@@ -15,6 +15,9 @@ import java.util.logging.Logger;
 public class UserData {
     private ArrayList<EventList> eventLists = new ArrayList<>();
     private Goal goal;
+    private long version = 0;
+    private boolean isReadOnly = false;
+    private History history = new History();
     private static Logger logger = EventLogger.getEventLogger();
 
     /**
@@ -36,6 +39,21 @@ public class UserData {
         this.eventLists = new ArrayList<>(eventLists);
     }
 
+    /**
+     * Constructor for a read only snapshot of UserData at the given version.
+     *
+     * @param eventLists read only EventLists of the snapshot.
+     * @param goal       user's goal at the time of the snapshot.
+     * @param version    version of the data the snapshot was taken at.
+     */
+    UserData(ArrayList<EventList> eventLists, Goal goal, long version) {
+        this.eventLists = eventLists;
+        this.goal = goal;
+        this.version = version;
+        this.isReadOnly = true;
+        this.history = null;
+    }
+
     /**
      * Adds the given Event into the EventList with specified name.
      *
@@ -81,7 +99,12 @@ public class UserData {
      * @param goal to set to.
      */
     public void setGoal(Goal goal) {
+        if (isReadOnly) {
+            throw new UnsupportedOperationException("Snapshot of user data is read only");
+        }
+        Goal oldGoal = this.goal;
         this.goal = goal;
+        History.record(() -> setGoal(oldGoal), () -> setGoal(goal));
     }
 
     /**
@@ -93,4 +116,30 @@ public class UserData {
         return goal;
     }
 
+    /**
+     * Returns the version of the data this snapshot was taken at, or 0 if this is not a snapshot.
+     *
+     * @return version of the data.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this is a read only snapshot of the data.
+     *
+     * @return true if the data cannot be changed.
+     */
+    public boolean isReadOnly() {
+        return isReadOnly;
+    }
+
+    /**
+     * Returns the undo and redo history of the data, or null if this is a read only snapshot.
+     *
+     * @return History of the changes made to the data.
+     */
+    public History getHistory() {
+        return history;
+    }
 }
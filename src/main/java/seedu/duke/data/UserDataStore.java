@@ -0,0 +1,279 @@
+package seedu.duke.data;
+
+import seedu.duke.EventLogger;
+import seedu.duke.command.Command;
+import seedu.duke.event.EventList;
+import seedu.duke.exception.DukeException;
+import seedu.duke.metrics.Metrics;
+import seedu.duke.storage.Storage;
+import seedu.duke.trace.CommandEvent;
+import seedu.duke.ui.Ui;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Guards the user's data so that it can be read and changed from many threads.
+ * All changes go through {@link #write(Mutation)} one at a time. Readers get an immutable snapshot of the data
+ * from {@link #snapshot()}, stamped with the version of the data it was taken at, and never wait for writers.
+ * Snapshots are copy on write per EventList: lists that did not change since the last snapshot are shared.
+ * The changes made by each write are given to the subscribers of the store's {@link ChangeBus} when it ends.
+ */
+public class UserDataStore {
+    private final UserData data;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final IdentityHashMap<EventList, ListSnapshot> listSnapshots = new IdentityHashMap<>();
+    private final CopyOnWriteArrayList<Consumer<UserData>> writeListeners = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<SnapshotListener> snapshotListeners = new CopyOnWriteArrayList<>();
+    private final ChangeBus changeBus = new ChangeBus();
+    private volatile long version = 1;
+    private volatile UserData snapshot;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * A change to the user's data.
+     */
+    public interface Mutation {
+        void apply(UserData data) throws DukeException;
+    }
+
+    /**
+     * View of the live data that is handed on to the copies of the lists made for snapshots.
+     */
+    public interface SnapshotListener {
+        /**
+         * Called with each list copied into a snapshot, while the write lock is still held.
+         *
+         * @param list live EventList.
+         * @param copy read only copy of the list, with its events and their repeats in the same order.
+         */
+        void copied(EventList list, EventList copy);
+    }
+
+    /**
+     * Creates a store guarding the given data. The data should not be changed except through this store afterwards.
+     *
+     * @param data UserData object containing the user's data.
+     */
+    public UserDataStore(UserData data) {
+        this.data = data;
+    }
+
+    /**
+     * Returns the live data. Only safe to use before the store is shared between threads, such as while loading.
+     *
+     * @return live UserData.
+     */
+    public UserData getData() {
+        return data;
+    }
+
+    /**
+     * Returns the version of the live data, which increases with every write.
+     *
+     * @return current version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Applies the given change to the live data. Writes from all threads are applied one at a time.
+     *
+     * @param mutation change to apply.
+     * @throws DukeException if the change fails. Parts of the change made before the failure are kept.
+     */
+    public void write(Mutation mutation) throws DukeException {
+        write(null, mutation);
+    }
+
+    /**
+     * Applies the given change to the live data, recording it in the data's history so that it can be undone.
+     * Writes from all threads are applied one at a time.
+     *
+     * @param description name of the change shown when it is undone, or null to not record the change.
+     * @param mutation    change to apply.
+     * @throws DukeException if the change fails. Parts of the change made before the failure are kept,
+     *                       and can be undone.
+     */
+    public void write(String description, Mutation mutation) throws DukeException {
+        writeLock.lock();
+        History history = (description == null) ? null : data.getHistory();
+        try {
+            changeBus.begin();
+            if (history != null) {
+                history.begin(description);
+            }
+            mutation.apply(data);
+        } finally {
+            if (history != null) {
+                history.end();
+            }
+            changeBus.end(data);
+            version++;
+            for (Consumer<UserData> listener : writeListeners) {
+                listener.accept(data);
+            }
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a listener that is given the live data after every write, while other writes still wait.
+     * Listeners should be quick, as they delay the next write.
+     *
+     * @param listener to call after every write.
+     */
+    public void addWriteListener(Consumer<UserData> listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addWriteListener(Consumer)}.
+     *
+     * @param listener to remove.
+     */
+    public void removeWriteListener(Consumer<UserData> listener) {
+        writeListeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener that is given each list copied into a snapshot, while other writes still wait.
+     *
+     * @param listener to call with each list copied.
+     */
+    public void addSnapshotListener(SnapshotListener listener) {
+        snapshotListeners.add(listener);
+    }
+
+    /**
+     * Returns the bus giving the changes made by each write to its subscribers, while other writes still wait.
+     *
+     * @return ChangeBus of the store.
+     */
+    public ChangeBus getChangeBus() {
+        return changeBus;
+    }
+
+    /**
+     * Gives the live data to the listener while no write is in progress, without changing the data.
+     *
+     * @param listener to call with the live data.
+     */
+    public void refresh(Consumer<UserData> listener) {
+        writeLock.lock();
+        try {
+            listener.accept(data);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the data. If a write is in progress, the latest published snapshot is
+     * returned instead of waiting, so a reader may briefly see the data as it was before that write.
+     * Only the first snapshot waits for the write lock, as there is no earlier snapshot to return.
+     *
+     * @return read only UserData.
+     */
+    public UserData snapshot() {
+        UserData current = snapshot;
+        if (current == null) {
+            writeLock.lock();
+        } else if (current.getVersion() == version || !writeLock.tryLock()) {
+            return current;
+        }
+        try {
+            if (snapshot == null || snapshot.getVersion() != version) {
+                snapshot = takeSnapshot();
+            }
+            return snapshot;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Runs the command as a reader on a snapshot if it does not change the data, otherwise as a writer.
+     * The time taken, including waiting for other writers, is recorded in the command's metrics
+     * and as a flight recorder event.
+     *
+     * @param command command to run.
+     * @param ui      containing the responses to print.
+     * @param storage with the save file path to write to.
+     * @return the snapshot a read only command ran on, or the live data if the command changes the data.
+     * @throws DukeException if the command fails.
+     */
+    public UserData execute(Command command, Ui ui, Storage storage) throws DukeException {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        boolean isFailed = true;
+        try {
+            UserData commandData;
+            if (command.isReadOnly()) {
+                commandData = snapshot();
+                command.execute(commandData, ui, storage);
+            } else {
+                commandData = data;
+                write(command.getCommandWord(), liveData -> command.execute(liveData, ui, storage));
+            }
+            isFailed = false;
+            return commandData;
+        } finally {
+            Metrics.recordCommand(command.getCommandWord(), System.nanoTime() - startTime);
+            event.end();
+            if (event.shouldCommit()) {
+                event.commandWord = command.getCommandWord();
+                event.listName = command.getListName();
+                event.isReadOnly = command.isReadOnly();
+                event.isFailed = isFailed;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Builds a snapshot of the live data, copying only the EventLists that changed since the last snapshot.
+     * Must be called while holding the write lock.
+     *
+     * @return read only UserData at the current version.
+     */
+    private UserData takeSnapshot() {
+        ArrayList<EventList> lists = new ArrayList<>();
+        int copiedCount = 0;
+        for (EventList list : data.getAllEventLists()) {
+            long stamp = list.getModificationCount();
+            ListSnapshot listSnapshot = listSnapshots.get(list);
+            if (listSnapshot == null || listSnapshot.stamp != stamp) {
+                listSnapshot = new ListSnapshot(stamp, list.snapshot());
+                for (SnapshotListener listener : snapshotListeners) {
+                    listener.copied(list, listSnapshot.list);
+                }
+                listSnapshots.put(list, listSnapshot);
+                copiedCount++;
+            }
+            lists.add(listSnapshot.list);
+        }
+        listSnapshots.keySet().retainAll(new ArrayList<>(data.getAllEventLists()));
+        logger.fine("Snapshot taken at version " + version + ", " + copiedCount + " lists copied");
+        return new UserData(lists, data.getGoal(), version);
+    }
+
+    /**
+     * Read only copy of an EventList and the stamp of the list when it was copied.
+     */
+    private static class ListSnapshot {
+        private final long stamp;
+        private final EventList list;
+
+        private ListSnapshot(long stamp, EventList list) {
+            this.stamp = stamp;
+            this.list = list;
+        }
+    }
+}
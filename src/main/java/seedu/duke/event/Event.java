@@ -1,18 +1,45 @@
 package seedu.duke.event;
 
+import seedu.duke.data.ChangeBus;
+import seedu.duke.data.History;
+import seedu.duke.exception.MissingNotesException;
+
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 
+/**
+ * Event in the user's schedule.
+ * Events are kept compact as there can be very many of them: the date and time are stored as the epoch day and
+ * minute of the day, events without notes share one empty notes list, and repeated strings are interned.
+ * Notes loaded from the data folder stay in its note store until they are read (see {@link StoredNotes}).
+ * The text shown for an event is kept until the event changes, so listing unchanged events formats nothing again.
+ */
 public abstract class Event implements Cloneable {
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final short NO_TIME = -1;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final ArrayList<String> NO_NOTES = new ReadOnlyList<>(Collections.emptyList());
+    private static final DateTimeFormatter CALENDAR_TIME_FORMAT = DateTimeFormatter.ofPattern("h:mm a");
+    private static final DateTimeFormatter REPEAT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter REPEAT_TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final int LIST_TEXT = 0;
+    private static final int CALENDAR_TEXT = 1;
+    private static final int REPEAT_TEXT = 2;
+
     protected String description;
-    protected LocalDate date;
-    protected LocalTime time;
+    private int epochDay = NO_DATE;
+    private short minuteOfDay = NO_TIME;
     protected boolean isDone;
     protected ArrayList<Event> repeatEventList;
-    protected String repeatType;
+    private RepeatUnit repeatUnit;
     protected ArrayList<String> notes;
+    private StoredNotes storedNotes;
+    private int version;
+    private EventList list;
+    private RenderedText renderedText;
 
     /**
      * Creates a new event with the given description and default its done status to false.
@@ -22,9 +49,9 @@ public abstract class Event implements Cloneable {
     public Event(String description) {
         setDescription(description);
         isDone = false;
-        repeatType = null;
+        repeatUnit = null;
         repeatEventList = null;
-        notes = new ArrayList<String>();
+        notes = NO_NOTES;
         assert notes.size() == 0 : "Notes should be empty";
 
     }
@@ -35,7 +62,9 @@ public abstract class Event implements Cloneable {
      * @param description of event.
      */
     public void setDescription(String description) {
-        this.description = description;
+        String oldDescription = this.description;
+        this.description = intern(description);
+        recordChange(ChangeBus.Kind.FIELD, () -> setDescription(oldDescription), () -> setDescription(description));
     }
 
     /**
@@ -44,25 +73,57 @@ public abstract class Event implements Cloneable {
      * @param date of event.
      */
     public void setDate(LocalDate date) {
-        this.date = date;
+        setEpochDay((date == null) ? NO_DATE : (int) date.toEpochDay());
+    }
+
+    private void setEpochDay(int epochDay) {
+        int oldEpochDay = this.epochDay;
+        this.epochDay = epochDay;
+        recordChange(ChangeBus.Kind.FIELD, () -> setEpochDay(oldEpochDay), () -> setEpochDay(epochDay));
     }
 
     /**
-     * Sets event's time.
+     * Sets event's time. Only the hour and minute are kept.
      *
      * @param time of event.
      */
     public void setTime(LocalTime time) {
-        this.time = time;
+        setMinuteOfDay((time == null) ? NO_TIME : (short) (time.getHour() * MINUTES_PER_HOUR + time.getMinute()));
+    }
+
+    private void setMinuteOfDay(short minuteOfDay) {
+        short oldMinuteOfDay = this.minuteOfDay;
+        this.minuteOfDay = minuteOfDay;
+        recordChange(ChangeBus.Kind.FIELD, () -> setMinuteOfDay(oldMinuteOfDay), () -> setMinuteOfDay(minuteOfDay));
     }
 
     /**
      * Sets event's repeatType.
      *
-     * @param repeatType of event.
+     * @param repeatType of event, which is daily, weekly or monthly in any case, or null if it does not repeat.
+     * @throws IllegalArgumentException if the repeat type is not a valid repeat unit.
      */
     public void setRepeatType(String repeatType) {
-        this.repeatType = repeatType;
+        if (repeatType == null) {
+            setRepeatUnit(null);
+            return;
+        }
+        RepeatUnit unit = RepeatUnit.parse(repeatType);
+        if (unit == null) {
+            throw new IllegalArgumentException(repeatType + " is not a repeat unit");
+        }
+        setRepeatUnit(unit);
+    }
+
+    /**
+     * Sets the unit the event repeats by.
+     *
+     * @param repeatUnit of event, or null if it does not repeat.
+     */
+    public void setRepeatUnit(RepeatUnit repeatUnit) {
+        RepeatUnit oldRepeatUnit = this.repeatUnit;
+        this.repeatUnit = repeatUnit;
+        recordChange(ChangeBus.Kind.REPEAT, () -> setRepeatUnit(oldRepeatUnit), () -> setRepeatUnit(repeatUnit));
     }
 
     /**
@@ -71,30 +132,92 @@ public abstract class Event implements Cloneable {
      * @param repeatEventList to set to.
      */
     public void setRepeatEventList(ArrayList<Event> repeatEventList) {
+        ArrayList<Event> oldRepeatEventList = this.repeatEventList;
+        setRepeatsList(oldRepeatEventList, null);
         this.repeatEventList = repeatEventList;
+        setRepeatsList(repeatEventList, list);
+        recordChange(ChangeBus.Kind.REPEAT, () -> setRepeatEventList(oldRepeatEventList),
+                () -> setRepeatEventList(repeatEventList));
     }
 
     /**
      * Sets the event's done status to true.
      */
     public void markAsDone() {
-        this.isDone = true;
+        setDone(true);
     }
 
     /**
      * Sets the event's done status to false.
      */
     public void markAsUndone() {
-        this.isDone = false;
+        setDone(false);
+    }
+
+    private void setDone(boolean isDone) {
+        boolean wasDone = this.isDone;
+        this.isDone = isDone;
+        recordChange(ChangeBus.Kind.FIELD, () -> setDone(wasDone), () -> setDone(isDone));
     }
 
     /**
-     * Set notes for event.
+     * Set notes for event. The event keeps the given list, so it should not be changed afterwards.
      *
      * @param notes for event.
      */
     public void setNotes(ArrayList<String> notes) {
+        ArrayList<String> oldNotes = this.notes;
+        StoredNotes oldStoredNotes = storedNotes;
+        this.notes = (notes == null || notes.isEmpty()) ? NO_NOTES : notes;
+        storedNotes = null;
+        recordChange(ChangeBus.Kind.FIELD, () -> restoreNotes(oldNotes, oldStoredNotes), () -> setNotes(notes));
+    }
+
+    private void restoreNotes(ArrayList<String> notes, StoredNotes storedNotes) {
         this.notes = notes;
+        this.storedNotes = storedNotes;
+        countChange();
+        ChangeBus.publish(ChangeBus.Kind.FIELD, null, this);
+    }
+
+    /**
+     * Sets the notes of the event to notes in a note store, which are only read when the notes are shown.
+     * This does not count as a change to the event, as it is used when the notes are loaded or saved.
+     *
+     * @param storedNotes reference to the notes in the store.
+     */
+    public void setStoredNotes(StoredNotes storedNotes) {
+        this.storedNotes = storedNotes;
+        notes = NO_NOTES;
+    }
+
+    /**
+     * Returns the reference to the notes of the event in a note store.
+     *
+     * @return reference to the notes, or null if the notes are kept in the event.
+     */
+    public StoredNotes getStoredNotes() {
+        return storedNotes;
+    }
+
+    /**
+     * Removes the given event from the events repeated from this event.
+     *
+     * @param repeatEvent event in the repeat event list to remove.
+     */
+    public void removeRepeatEvent(Event repeatEvent) {
+        int index = repeatEventList.indexOf(repeatEvent);
+        if (index < 0) {
+            return;
+        }
+        repeatEventList.remove(index);
+        repeatEvent.list = null;
+        recordChange(ChangeBus.Kind.REPEAT, () -> {
+            repeatEventList.add(index, repeatEvent);
+            repeatEvent.list = list;
+            countChange();
+            ChangeBus.publish(ChangeBus.Kind.REPEAT, null, this);
+        }, () -> removeRepeatEvent(repeatEvent));
     }
 
     /**
@@ -121,7 +244,7 @@ public abstract class Event implements Cloneable {
      * @return LocalDate object containing the date of the event
      */
     public LocalDate getDate() {
-        return this.date;
+        return (epochDay == NO_DATE) ? null : LocalDate.ofEpochDay(epochDay);
     }
 
     /**
@@ -130,7 +253,10 @@ public abstract class Event implements Cloneable {
      * @return LocalTime object containing the time of the event
      */
     public LocalTime getTime() {
-        return this.time;
+        if (minuteOfDay == NO_TIME) {
+            return null;
+        }
+        return LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
     }
 
     /**
@@ -148,13 +274,22 @@ public abstract class Event implements Cloneable {
      * @return repeatType of event.
      */
     public String getRepeatType() {
-        if (repeatType == null) {
+        if (repeatUnit == null) {
             return null;
         } else {
-            return repeatType.toLowerCase();
+            return repeatUnit.getLabel();
         }
     }
 
+    /**
+     * Returns the unit the event repeats by.
+     *
+     * @return repeat unit of event, or null if it does not repeat.
+     */
+    public RepeatUnit getRepeatUnit() {
+        return repeatUnit;
+    }
+
     /**
      * Returns the repeatCount of the event.
      *
@@ -168,17 +303,150 @@ public abstract class Event implements Cloneable {
     }
 
     /**
-     * Get notes for event.
+     * Get notes for event. The list returned cannot be changed if there are no notes,
+     * so copy it to add notes and set the copy with {@link #setNotes(ArrayList)}.
      *
      * @return list of notes.
+     * @throws MissingNotesException if the notes are kept in a note store that no longer has them.
      */
-    public ArrayList<String> getNotes() {
+    public ArrayList<String> getNotes() throws MissingNotesException {
+        if (storedNotes != null) {
+            return storedNotes.load();
+        }
         return notes;
     }
 
+    /**
+     * Returns true if the event has notes, without reading notes kept in a note store.
+     *
+     * @return true if there are notes for the event.
+     */
+    public boolean hasNotes() {
+        return storedNotes != null || !notes.isEmpty();
+    }
+
+    /**
+     * Counts a change to the event, and to the list it is in, so that views of the list know it changed.
+     */
+    protected void countChange() {
+        version++;
+        if (list != null) {
+            list.countChange();
+        }
+    }
+
+    /**
+     * Counts a change to the event, and if the event is in a list, records how to undo it and publishes it.
+     * Fields set while an event is made, loaded or copied are neither recorded nor published, as the event is only
+     * seen, and taken back by an undo, through the list it is added to afterwards.
+     *
+     * @param kind kind of change published.
+     * @param undo action undoing the change.
+     * @param redo action making the change again.
+     */
+    protected void recordChange(ChangeBus.Kind kind, Runnable undo, Runnable redo) {
+        countChange();
+        if (list != null) {
+            History.record(undo, redo);
+            ChangeBus.publish(kind, null, this);
+        }
+    }
+
+    /**
+     * Sets the list the event and its repeats are in, whose changes are counted with the changes of the event.
+     *
+     * @param list list the event was added to, or null if it was removed from its list.
+     */
+    void setList(EventList list) {
+        this.list = list;
+        setRepeatsList(repeatEventList, list);
+    }
+
+    /**
+     * Returns the list the event is in.
+     *
+     * @return list of the event, or null if it is not in a list.
+     */
+    EventList getList() {
+        return list;
+    }
+
+    private static void setRepeatsList(ArrayList<Event> repeatEvents, EventList list) {
+        if (repeatEvents != null) {
+            for (Event repeatEvent : repeatEvents) {
+                repeatEvent.list = list;
+            }
+        }
+    }
+
+    /**
+     * Returns the version of the event, which increases every time the event is changed.
+     *
+     * @return version of event.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a deep copy of the event. The notes and repeated events of the copy are copies too,
+     * so changing them does not change this event. Notes kept in a note store are shared, as they cannot be changed.
+     *
+     * @return copy of the event.
+     * @throws CloneNotSupportedException never, as events are always cloneable.
+     */
     @Override
     public Event clone() throws CloneNotSupportedException {
-        return (Event) super.clone();
+        Event copy = (Event) super.clone();
+        copy.list = null;
+        copy.renderedText = null;
+        if (notes != NO_NOTES) {
+            copy.notes = new ArrayList<>(notes);
+        }
+        if (repeatEventList != null) {
+            copy.repeatEventList = new ArrayList<>(repeatEventList.size());
+            for (Event repeatEvent : repeatEventList) {
+                copy.repeatEventList.add(repeatEvent.clone());
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the interned copy of the given string, so that events with the same text share one string.
+     *
+     * @param value string to intern, may be null.
+     * @return interned string, or null if the value is null.
+     */
+    protected static String intern(String value) {
+        return (value == null) ? null : value.intern();
+    }
+
+    /**
+     * Returns a copy of the event that is not affected by later changes to the event,
+     * and whose notes and repeated events cannot be changed.
+     * The copy starts with its own copy of the texts formatted for the event, so that readers of the copy and the
+     * writer of the event never fill in the same texts.
+     *
+     * @return read only copy of the event.
+     */
+    Event readOnlyCopy() {
+        try {
+            Event copy = (Event) super.clone();
+            copy.list = null;
+            copy.renderedText = (renderedText == null) ? null : renderedText.copy();
+            copy.notes = (notes == NO_NOTES) ? NO_NOTES : new ReadOnlyList<>(notes);
+            if (repeatEventList != null) {
+                ArrayList<Event> repeatCopies = new ArrayList<>(repeatEventList.size());
+                for (Event repeatEvent : repeatEventList) {
+                    repeatCopies.add(repeatEvent.readOnlyCopy());
+                }
+                copy.repeatEventList = new ReadOnlyList<>(repeatCopies);
+            }
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError("Events are always cloneable", e);
+        }
     }
 
     @Override
@@ -192,8 +460,91 @@ public abstract class Event implements Cloneable {
      * @return String representation of event in calendar format.
      */
     public String toCalendarString() {
-        return String.format("%s | ", time.format(DateTimeFormatter.ofPattern("h:mm a")))
-                + String.format("%s | ", getStatus())
-                + String.format("%s ", getDescription());
+        return getTime().format(CALENDAR_TIME_FORMAT) + " | " + getStatus() + " | " + getDescription() + " ";
+    }
+
+    /**
+     * Returns the date, time and done status of the event, as shown for a repeat of an event in a list.
+     *
+     * @return String representation of the event as a repeat.
+     */
+    public String toRepeatString() {
+        String time = (getTime() == null) ? "" : getTime().format(REPEAT_TIME_FORMAT) + " ";
+        return getDate().format(REPEAT_DATE_FORMAT) + " " + time + "[" + getStatus() + "]";
+    }
+
+    /**
+     * Returns {@link #toString()}, formatting it again only if the event changed since it was last formatted.
+     *
+     * @return String representation of the event.
+     */
+    public String getListText() {
+        RenderedText current = getRenderedText();
+        String text = current.lines[LIST_TEXT];
+        if (text == null) {
+            text = toString();
+            current.lines[LIST_TEXT] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Returns {@link #toCalendarString()}, formatting it again only if the event changed since it was last formatted.
+     *
+     * @return String representation of the event in calendar format.
+     */
+    public String getCalendarText() {
+        RenderedText current = getRenderedText();
+        String text = current.lines[CALENDAR_TEXT];
+        if (text == null) {
+            text = toCalendarString();
+            current.lines[CALENDAR_TEXT] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Returns {@link #toRepeatString()}, formatting it again only if the event changed since it was last formatted.
+     *
+     * @return String representation of the event as a repeat.
+     */
+    public String getRepeatText() {
+        RenderedText current = getRenderedText();
+        String text = current.lines[REPEAT_TEXT];
+        if (text == null) {
+            text = toRepeatString();
+            current.lines[REPEAT_TEXT] = text;
+        }
+        return text;
+    }
+
+    /**
+     * Returns the texts formatted for the current version of the event, starting afresh if the event changed.
+     */
+    private RenderedText getRenderedText() {
+        RenderedText current = renderedText;
+        if (current == null || current.version != version) {
+            current = new RenderedText(version);
+            renderedText = current;
+        }
+        return current;
+    }
+
+    /**
+     * Texts of an event formatted at one version of the event.
+     */
+    private static class RenderedText {
+        private final int version;
+        private final String[] lines = new String[3];
+
+        private RenderedText(int version) {
+            this.version = version;
+        }
+
+        private RenderedText copy() {
+            RenderedText copy = new RenderedText(version);
+            System.arraycopy(lines, 0, copy.lines, 0, lines.length);
+            return copy;
+        }
     }
 }
@@ -1,14 +1,21 @@
 package seedu.duke.event;
 
 import seedu.duke.EventLogger;
+import seedu.duke.data.ChangeBus;
+import seedu.duke.data.History;
 import seedu.duke.exception.InvalidIndexException;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 public class EventList {
     private String name;
     private ArrayList<Event> events;
+    private long modificationCount = 0;
     private static Logger logger = EventLogger.getEventLogger();
 
     /**
@@ -37,7 +44,114 @@ public class EventList {
      * @param event to add.
      */
     public void add(Event event) {
-        events.add(event);
+        add(events.size(), event);
+    }
+
+    /**
+     * Adds given Event to the EventList at the given index, moving the events from that index back by one.
+     *
+     * @param index to add the event at, from 0 to the number of events.
+     * @param event to add.
+     */
+    public void add(int index, Event event) {
+        events.add(index, event);
+        event.setList(this);
+        modificationCount++;
+        History.record(() -> remove(event), () -> add(index, event));
+        ChangeBus.publish(ChangeBus.Kind.ADD, this, event);
+    }
+
+    /**
+     * Adds all the given Events to the end of the EventList in order.
+     *
+     * @param newEvents to add.
+     */
+    public void addAll(List<Event> newEvents) {
+        addAll(events.size(), newEvents);
+    }
+
+    /**
+     * Adds all the given Events in order at the given index, moving the events from that index back, in one pass.
+     *
+     * @param index     to add the first event at, from 0 to the number of events.
+     * @param newEvents to add.
+     */
+    public void addAll(int index, List<Event> newEvents) {
+        if (newEvents.isEmpty()) {
+            return;
+        }
+        events.addAll(index, newEvents);
+        setListOfAll(newEvents, this);
+        modificationCount++;
+        ArrayList<Event> addedEvents = new ArrayList<>(newEvents);
+        History.record(() -> {
+            events.subList(index, index + addedEvents.size()).clear();
+            setListOfAll(addedEvents, null);
+            modificationCount++;
+            publishAll(ChangeBus.Kind.REMOVE, addedEvents);
+        }, () -> addAll(index, addedEvents));
+        publishAll(ChangeBus.Kind.ADD, addedEvents);
+    }
+
+    /**
+     * Removes the given Event from the EventList.
+     *
+     * @param event to remove.
+     */
+    public void remove(Event event) {
+        int index = events.indexOf(event);
+        if (index < 0) {
+            return;
+        }
+        events.remove(index);
+        event.setList(null);
+        modificationCount++;
+        History.record(() -> add(index, event), () -> remove(event));
+        ChangeBus.publish(ChangeBus.Kind.REMOVE, this, event);
+    }
+
+    /**
+     * Removes all the given Events from the EventList, moving the remaining events up in one pass over the list.
+     *
+     * @param oldEvents to remove.
+     */
+    public void removeAll(List<Event> oldEvents) {
+        Set<Event> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRemove.addAll(oldEvents);
+        ArrayList<Event> eventsBefore = new ArrayList<>(events);
+        if (!events.removeIf(toRemove::contains)) {
+            return;
+        }
+        modificationCount++;
+        ArrayList<Event> removedEvents = new ArrayList<>(eventsBefore);
+        removedEvents.removeIf(event -> !toRemove.contains(event));
+        setListOfAll(removedEvents, null);
+        History.record(() -> {
+            events.clear();
+            events.addAll(eventsBefore);
+            setListOfAll(removedEvents, this);
+            modificationCount++;
+            publishAll(ChangeBus.Kind.ADD, removedEvents);
+        }, () -> removeAll(removedEvents));
+        publishAll(ChangeBus.Kind.REMOVE, removedEvents);
+    }
+
+    private void setListOfAll(List<Event> changedEvents, EventList list) {
+        for (Event event : changedEvents) {
+            event.setList(list);
+        }
+    }
+
+    /**
+     * Publishes a change of the given kind for each of the given events.
+     *
+     * @param kind          kind of change.
+     * @param changedEvents events changed.
+     */
+    private void publishAll(ChangeBus.Kind kind, List<Event> changedEvents) {
+        for (Event event : changedEvents) {
+            ChangeBus.publish(kind, this, event);
+        }
     }
 
     /**
@@ -87,6 +201,39 @@ public class EventList {
 
     }
 
+    /**
+     * Returns the number of changes made to the EventList. The count increases whenever events are added or removed
+     * through the EventList, or any event in it or repeated from it is changed, and never decreases.
+     *
+     * @return number of changes made.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Counts a change to an event in the EventList or repeated from one.
+     */
+    void countChange() {
+        modificationCount++;
+    }
+
+    /**
+     * Returns a read only copy of the EventList, which is not affected by later changes to this EventList
+     * or its events. Adding or removing events from the copy throws UnsupportedOperationException.
+     *
+     * @return read only copy of the EventList.
+     */
+    public EventList snapshot() {
+        ArrayList<Event> copies = new ArrayList<>(events.size());
+        for (Event event : events) {
+            copies.add(event.readOnlyCopy());
+        }
+        EventList snapshot = new EventList(name);
+        snapshot.events = new ReadOnlyList<>(copies);
+        return snapshot;
+    }
+
     /**
      * Returns the number of events in the EventList.
      *
@@ -56,6 +56,8 @@ public class Personal extends Event {
 
     @Override
     public String toString() {
+        LocalDate date = getDate();
+        LocalTime time = getTime();
         if (time != null && date != null) {
             return "[P]" + super.toString() + " on " + date + ", " + time;
         } else if (time == null && date != null) {
@@ -0,0 +1,106 @@
+package seedu.duke.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * ArrayList that cannot be changed after it is created.
+ * Used wherever an ArrayList is expected but the contents are shared and must stay the same, such as snapshots.
+ *
+ * @param <E> type of elements in the list.
+ */
+class ReadOnlyList<E> extends ArrayList<E> {
+
+    /**
+     * Creates a read only list containing the given elements.
+     *
+     * @param elements to put in the list.
+     */
+    ReadOnlyList(Collection<? extends E> elements) {
+        super(elements);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("This list is read only");
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        throw readOnly();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw readOnly();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        throw readOnly();
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        throw readOnly();
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+    }
+}
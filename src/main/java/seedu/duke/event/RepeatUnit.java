@@ -0,0 +1,60 @@
+package seedu.duke.event;
+
+import java.time.LocalDate;
+
+/**
+ * Time unit that a repeating event advances by between occurrences.
+ */
+public enum RepeatUnit {
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    private final String label;
+
+    RepeatUnit() {
+        label = name().toLowerCase();
+    }
+
+    /**
+     * Returns the name of the repeat unit in lower case, as shown to the user.
+     *
+     * @return label of the repeat unit.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the date of the given occurrence of an event repeating by this unit.
+     *
+     * @param startDate  date of the original event.
+     * @param occurrence number of units after the original event.
+     * @return date of the occurrence.
+     */
+    public LocalDate advance(LocalDate startDate, int occurrence) {
+        switch (this) {
+        case DAILY:
+            return startDate.plusDays(occurrence);
+        case WEEKLY:
+            return startDate.plusWeeks(occurrence);
+        default:
+            return startDate.plusMonths(occurrence);
+        }
+    }
+
+    /**
+     * Returns the repeat unit with the given name, ignoring case.
+     *
+     * @param name of the repeat unit, such as daily.
+     * @return the repeat unit, or null if there is no repeat unit with the name.
+     */
+    public static RepeatUnit parse(String name) {
+        for (RepeatUnit unit : values()) {
+            if (unit.name().equalsIgnoreCase(name)) {
+                return unit;
+            }
+        }
+        return null;
+    }
+}
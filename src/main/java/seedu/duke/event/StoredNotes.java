@@ -0,0 +1,51 @@
+package seedu.duke.event;
+
+import seedu.duke.exception.MissingNotesException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Notes of an event that are kept in a note store under the hash of their contents, instead of in the event.
+ * The notes are only read from the store when they are shown, so events with long notes stay small.
+ * Events with the same notes, such as the repeats of an event, share one stored copy.
+ */
+public class StoredNotes {
+    private final String hash;
+    private final Function<String, List<String>> loader;
+
+    /**
+     * Creates a reference to notes in a note store.
+     *
+     * @param hash   hash of the notes, used as their name in the store.
+     * @param loader reads the notes with the given hash from the store, giving null if they cannot be read.
+     */
+    public StoredNotes(String hash, Function<String, List<String>> loader) {
+        this.hash = hash;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the hash the notes are stored under.
+     *
+     * @return hash of the notes.
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * Reads the notes from the store.
+     *
+     * @return notes, which cannot be changed.
+     * @throws MissingNotesException if the notes are not in the store.
+     */
+    ArrayList<String> load() throws MissingNotesException {
+        List<String> notes = loader.apply(hash);
+        if (notes == null) {
+            throw new MissingNotesException(hash);
+        }
+        return new ReadOnlyList<>(notes);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.duke.event;
 
+import seedu.duke.data.ChangeBus;
+
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -38,7 +40,9 @@ public class Timetable extends Event {
      * @param location of Timetable Event.
      */
     public void setLocation(String location) {
-        this.location = location;
+        String oldLocation = this.location;
+        this.location = intern(location);
+        recordChange(ChangeBus.Kind.FIELD, () -> setLocation(oldLocation), () -> setLocation(location));
     }
 
     /**
@@ -57,6 +61,8 @@ public class Timetable extends Event {
 
     @Override
     public String toString() {
+        LocalDate date = getDate();
+        LocalTime time = getTime();
         if (location != null) {
             return "[T]" + super.toString() + ", Location: " + location + " on " + date + ", " + time;
         } else {
@@ -1,5 +1,7 @@
 package seedu.duke.event;
 
+import seedu.duke.data.ChangeBus;
+
 import java.time.LocalDate;
 import java.time.LocalTime;
 
@@ -37,7 +39,9 @@ public class Zoom extends Event {
      * @param zoomLink of Zoom Event.
      */
     public void setZoomLink(String zoomLink) {
-        this.zoomLink = zoomLink;
+        String oldZoomLink = this.zoomLink;
+        this.zoomLink = intern(zoomLink);
+        recordChange(ChangeBus.Kind.FIELD, () -> setZoomLink(oldZoomLink), () -> setZoomLink(zoomLink));
     }
 
     /**
@@ -56,6 +60,8 @@ public class Zoom extends Event {
 
     @Override
     public String toString() {
+        LocalDate date = getDate();
+        LocalTime time = getTime();
         if (time != null && date != null) {
             return "[Z]" + super.toString() + ", Link: " + zoomLink + " on " + date + ", " + time;
         } else {
@@ -0,0 +1,8 @@
+package seedu.duke.exception;
+
+public class InvalidCommandException extends DukeException {
+
+    public InvalidCommandException() {
+        super("Invalid Command.");
+    }
+}
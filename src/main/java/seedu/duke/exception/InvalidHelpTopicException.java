@@ -1,8 +1,14 @@
 package seedu.duke.exception;
 
+import java.util.ArrayList;
+
 public class InvalidHelpTopicException extends DukeException {
 
     public InvalidHelpTopicException(String topic) {
         super(topic + " is not a valid help command. Type help to see a list of all available help topics");
     }
+
+    public InvalidHelpTopicException(String topic, ArrayList<String> matchingTopics) {
+        super(topic + " could be any of these help topics: " + String.join(", ", matchingTopics));
+    }
 }
@@ -0,0 +1,8 @@
+package seedu.duke.exception;
+
+public class InvalidProfileException extends DukeException {
+
+    public InvalidProfileException(String name) {
+        super(name + " is not a valid profile name. Profile names can only contain letters, digits, - and _");
+    }
+}
@@ -0,0 +1,8 @@
+package seedu.duke.exception;
+
+public class MissingNotesException extends DukeException {
+
+    public MissingNotesException(String hash) {
+        super("The notes of this event could not be read from notes/" + hash + ".txt in the data folder.");
+    }
+}
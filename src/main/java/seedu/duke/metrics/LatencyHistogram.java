@@ -0,0 +1,139 @@
+package seedu.duke.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of durations with one bucket per power of two nanoseconds.
+ * Recording only increments counters, so it is cheap enough to run on every command and can be used from many
+ * threads at once. Percentiles are estimated as the upper bound of the bucket they fall in.
+ */
+public class LatencyHistogram {
+    static final int BUCKET_COUNT = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        buckets[bucketOf(duration)].increment();
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+    }
+
+    /**
+     * Clears all durations recorded.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Returns the index of the bucket holding the given duration.
+     * Bucket i holds durations of less than 2^i nanoseconds.
+     *
+     * @param nanos duration in nanoseconds.
+     * @return bucket index.
+     */
+    static int bucketOf(long nanos) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Returns the largest duration in the given bucket.
+     *
+     * @param bucket index of bucket.
+     * @return upper bound of bucket in nanoseconds.
+     */
+    static long upperBoundNanos(int bucket) {
+        return (bucket >= 63) ? Long.MAX_VALUE : (1L << bucket);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     *
+     * @return number of durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all durations recorded.
+     *
+     * @return total duration in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns the longest duration recorded.
+     *
+     * @return longest duration in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the number of durations recorded in each bucket.
+     *
+     * @return counts of each bucket.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns an estimate of the duration below which the given fraction of durations fall.
+     *
+     * @param fraction between 0 and 1, such as 0.99 for the 99th percentile.
+     * @return estimated percentile in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentileNanos(double fraction) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                return Math.min(upperBoundNanos(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.duke.metrics;
+
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.ui.JsonFormatter;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects usage statistics for the whole program: how long each type of command takes,
+ * how long saving and loading files takes and how many bytes they move, and how often commands fail to parse.
+ * Recording only updates counters, so it adds well under a microsecond to each command.
+ */
+public class Metrics {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static final ConcurrentHashMap<String, LatencyHistogram> commandLatencies = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LongAdder> parseFailures = new ConcurrentHashMap<>();
+    private static final LatencyHistogram saveLatency = new LatencyHistogram();
+    private static final LatencyHistogram loadLatency = new LatencyHistogram();
+    private static final LongAdder bytesWritten = new LongAdder();
+    private static final LongAdder bytesRead = new LongAdder();
+
+    /**
+     * Records how long a command took to run.
+     *
+     * @param commandWord word the command was typed with, such as add.
+     * @param nanos       duration in nanoseconds.
+     */
+    public static void recordCommand(String commandWord, long nanos) {
+        commandLatencies.computeIfAbsent(commandWord, word -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Records a command that could not be parsed.
+     *
+     * @param commandWord first word of the command typed.
+     */
+    public static void recordParseFailure(String commandWord) {
+        parseFailures.computeIfAbsent(commandWord, word -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a file being saved.
+     *
+     * @param nanos duration in nanoseconds.
+     * @param bytes number of bytes written.
+     */
+    public static void recordSave(long nanos, long bytes) {
+        saveLatency.record(nanos);
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Records a file being loaded.
+     *
+     * @param nanos duration in nanoseconds.
+     * @param bytes number of bytes read.
+     */
+    public static void recordLoad(long nanos, long bytes) {
+        loadLatency.record(nanos);
+        bytesRead.add(bytes);
+    }
+
+    /**
+     * Clears all statistics recorded so far.
+     */
+    public static void reset() {
+        commandLatencies.clear();
+        parseFailures.clear();
+        saveLatency.reset();
+        loadLatency.reset();
+        bytesWritten.reset();
+        bytesRead.reset();
+    }
+
+    /**
+     * Returns the statistics as lines of text for the user to read.
+     *
+     * @param data UserData to report the list sizes of.
+     * @return lines of the report.
+     */
+    public static ArrayList<String> report(UserData data) {
+        ArrayList<String> lines = new ArrayList<>();
+        lines.add("Commands (count, mean, p50, p99, max in ms):");
+        for (Map.Entry<String, LatencyHistogram> entry : sortedCommandLatencies().entrySet()) {
+            lines.add("  " + entry.getKey() + ": " + describe(entry.getValue()));
+        }
+        lines.add("Saves: " + describe(saveLatency) + ", " + bytesWritten.sum() + " bytes written");
+        lines.add("Loads: " + describe(loadLatency) + ", " + bytesRead.sum() + " bytes read");
+        lines.add("Parse failures:");
+        for (Map.Entry<String, Long> entry : sortedParseFailures().entrySet()) {
+            lines.add("  " + entry.getKey() + ": " + entry.getValue());
+        }
+        lines.add("Lists (events, occurrences including repeats):");
+        for (EventList list : data.getAllEventLists()) {
+            lines.add("  " + list.getName() + ": " + list.getSize() + ", " + countOccurrences(list));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the statistics as a JSON object.
+     *
+     * @param data UserData to report the list sizes of.
+     * @return JSON text.
+     */
+    public static String toJson(UserData data) {
+        StringBuilder json = new StringBuilder("{\"commands\":{");
+        String separator = "";
+        for (Map.Entry<String, LatencyHistogram> entry : sortedCommandLatencies().entrySet()) {
+            json.append(separator).append(JsonFormatter.quote(entry.getKey())).append(':');
+            appendJson(json, entry.getValue(), "");
+            separator = ",";
+        }
+        json.append("},\"save\":");
+        appendJson(json, saveLatency, ",\"bytes\":" + bytesWritten.sum());
+        json.append(",\"load\":");
+        appendJson(json, loadLatency, ",\"bytes\":" + bytesRead.sum());
+        json.append(",\"parseFailures\":{");
+        separator = "";
+        for (Map.Entry<String, Long> entry : sortedParseFailures().entrySet()) {
+            json.append(separator).append(JsonFormatter.quote(entry.getKey())).append(':').append(entry.getValue());
+            separator = ",";
+        }
+        json.append("},\"lists\":{");
+        separator = "";
+        for (EventList list : data.getAllEventLists()) {
+            json.append(separator).append(JsonFormatter.quote(list.getName()))
+                    .append(":{\"events\":").append(list.getSize())
+                    .append(",\"occurrences\":").append(countOccurrences(list)).append('}');
+            separator = ",";
+        }
+        json.append("}}");
+        return json.toString();
+    }
+
+    /**
+     * Returns the statistics in the Prometheus text exposition format.
+     *
+     * @param data UserData to report the list sizes of.
+     * @return Prometheus metrics text.
+     */
+    public static String toPrometheus(UserData data) {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP scheduler_command_duration_seconds Time taken to run each type of command.\n");
+        text.append("# TYPE scheduler_command_duration_seconds histogram\n");
+        for (Map.Entry<String, LatencyHistogram> entry : sortedCommandLatencies().entrySet()) {
+            appendPrometheusHistogram(text, "scheduler_command_duration_seconds",
+                    "command=\"" + entry.getKey() + "\"", entry.getValue());
+        }
+        text.append("# HELP scheduler_storage_duration_seconds Time taken to save or load a file.\n");
+        text.append("# TYPE scheduler_storage_duration_seconds histogram\n");
+        appendPrometheusHistogram(text, "scheduler_storage_duration_seconds", "operation=\"save\"", saveLatency);
+        appendPrometheusHistogram(text, "scheduler_storage_duration_seconds", "operation=\"load\"", loadLatency);
+        text.append("# HELP scheduler_storage_bytes_total Bytes written to or read from save files.\n");
+        text.append("# TYPE scheduler_storage_bytes_total counter\n");
+        text.append("scheduler_storage_bytes_total{operation=\"save\"} ").append(bytesWritten.sum()).append('\n');
+        text.append("scheduler_storage_bytes_total{operation=\"load\"} ").append(bytesRead.sum()).append('\n');
+        text.append("# HELP scheduler_parse_failures_total Commands that could not be parsed.\n");
+        text.append("# TYPE scheduler_parse_failures_total counter\n");
+        for (Map.Entry<String, Long> entry : sortedParseFailures().entrySet()) {
+            text.append("scheduler_parse_failures_total{command=\"").append(escapeLabel(entry.getKey()))
+                    .append("\"} ").append(entry.getValue()).append('\n');
+        }
+        text.append("# HELP scheduler_list_events Events in each list.\n");
+        text.append("# TYPE scheduler_list_events gauge\n");
+        for (EventList list : data.getAllEventLists()) {
+            text.append("scheduler_list_events{list=\"").append(list.getName()).append("\"} ")
+                    .append(list.getSize()).append('\n');
+        }
+        text.append("# HELP scheduler_list_occurrences Event occurrences in each list, including repeats.\n");
+        text.append("# TYPE scheduler_list_occurrences gauge\n");
+        for (EventList list : data.getAllEventLists()) {
+            text.append("scheduler_list_occurrences{list=\"").append(list.getName()).append("\"} ")
+                    .append(countOccurrences(list)).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the number of occurrences of events in the list, counting every repeat of an event.
+     *
+     * @param list EventList to count.
+     * @return number of occurrences.
+     */
+    static long countOccurrences(EventList list) {
+        long occurrences = 0;
+        for (Event event : list.getEvents()) {
+            occurrences += 1 + event.getRepeatCount();
+        }
+        return occurrences;
+    }
+
+    private static TreeMap<String, LatencyHistogram> sortedCommandLatencies() {
+        return new TreeMap<>(commandLatencies);
+    }
+
+    private static TreeMap<String, Long> sortedParseFailures() {
+        TreeMap<String, Long> sorted = new TreeMap<>();
+        parseFailures.forEach((word, count) -> sorted.put(word, count.sum()));
+        return sorted;
+    }
+
+    private static String describe(LatencyHistogram histogram) {
+        long count = histogram.getCount();
+        double mean = (count == 0) ? 0 : histogram.getTotalNanos() / (double) count;
+        return String.format(Locale.ROOT, "%d, %.3f, %.3f, %.3f, %.3f", count, mean / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(0.5) / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(0.99) / NANOS_PER_MILLI, histogram.getMaxNanos() / NANOS_PER_MILLI);
+    }
+
+    private static void appendJson(StringBuilder json, LatencyHistogram histogram, String extraFields) {
+        long count = histogram.getCount();
+        double mean = (count == 0) ? 0 : histogram.getTotalNanos() / (double) count;
+        json.append(String.format(Locale.ROOT,
+                "{\"count\":%d,\"meanMillis\":%.3f,\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"maxMillis\":%.3f",
+                count, mean / NANOS_PER_MILLI, histogram.getPercentileNanos(0.5) / NANOS_PER_MILLI,
+                histogram.getPercentileNanos(0.99) / NANOS_PER_MILLI, histogram.getMaxNanos() / NANOS_PER_MILLI));
+        json.append(extraFields).append('}');
+    }
+
+    private static void appendPrometheusHistogram(StringBuilder text, String name, String labels,
+                                                  LatencyHistogram histogram) {
+        long[] counts = histogram.getBucketCounts();
+        int lastBucket = LatencyHistogram.BUCKET_COUNT - 2;
+        while (lastBucket > 0 && counts[lastBucket] == 0) {
+            lastBucket--;
+        }
+        long cumulative = 0;
+        for (int i = 0; i <= lastBucket; i++) {
+            cumulative += counts[i];
+            text.append(name).append("_bucket{").append(labels).append(",le=\"")
+                    .append(LatencyHistogram.upperBoundNanos(i) / NANOS_PER_SECOND).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+        text.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+                .append(histogram.getCount()).append('\n');
+        text.append(name).append("_sum{").append(labels).append("} ")
+                .append(histogram.getTotalNanos() / NANOS_PER_SECOND).append('\n');
+        text.append(name).append("_count{").append(labels).append("} ").append(histogram.getCount()).append('\n');
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.duke.metrics;
+
+import seedu.duke.EventLogger;
+import seedu.duke.command.Command;
+import seedu.duke.data.Profile;
+import seedu.duke.data.ProfileManager;
+import seedu.duke.exception.DukeException;
+import seedu.duke.parser.Parser;
+import seedu.duke.ui.Ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Replays a session captured with "--capture" against a copy of a data folder, without a console, and times every
+ * command so that a slow session can be run again as a benchmark.
+ * Each line of the session file is the number of milliseconds since the capture started, a tab, and the line the
+ * user typed. The lines are read as input in the same order, including the lines read by commands such as note,
+ * and the output of the commands is discarded. The data folder itself is never changed.
+ */
+public class SessionReplay {
+    private static final String REPLAY_DIRECTORY = "replay";
+    private static final String LOAD = "(load)";
+    private static final String INVALID = "(invalid)";
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int PROFILE_CACHE_SIZE = 8;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final Path sessionFile;
+    private final String dataDirectory;
+    private final TreeMap<String, ArrayList<Long>> latencies = new TreeMap<>();
+    private long sessionMillis = 0;
+
+    /**
+     * Creates a replay of the given session against the given data folder.
+     *
+     * @param sessionFile   file the session was captured to.
+     * @param dataDirectory data folder to copy, with folders separated by commas as in Storage.
+     */
+    public SessionReplay(Path sessionFile, String dataDirectory) {
+        this.sessionFile = sessionFile;
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * Copies the data folder, runs every line of the session against the copy, and deletes the copy.
+     *
+     * @throws IOException if the session file cannot be read or the data folder cannot be copied.
+     */
+    public void run() throws IOException {
+        StringBuilder input = new StringBuilder();
+        List<String> sessionLines = Files.readAllLines(sessionFile, StandardCharsets.UTF_8);
+        for (String sessionLine : sessionLines) {
+            int tabIndex = sessionLine.indexOf('\t');
+            if (tabIndex < 0) {
+                continue;
+            }
+            sessionMillis = Math.max(sessionMillis, parseMillis(sessionLine.substring(0, tabIndex)));
+            input.append(sessionLine.substring(tabIndex + 1)).append('\n');
+        }
+
+        String replayName = "session-" + System.currentTimeMillis();
+        Path origin = Paths.get(System.getProperty("user.dir"));
+        Path source = origin.resolve(Paths.get("", dataDirectory.split(",")));
+        Path copy = origin.resolve(REPLAY_DIRECTORY).resolve(replayName);
+        copyDirectory(source, copy);
+        try {
+            Ui ui = new Ui(new BufferedReader(new StringReader(input.toString())),
+                    new PrintStream(OutputStream.nullOutputStream()));
+            replay(REPLAY_DIRECTORY + "," + replayName, ui);
+        } finally {
+            deleteDirectory(copy);
+            try {
+                Files.deleteIfExists(copy.getParent());
+            } catch (DirectoryNotEmptyException e) {
+                //another replay is still running
+            }
+        }
+        logger.info("Session " + sessionFile + " of " + sessionLines.size() + " lines replayed");
+    }
+
+    /**
+     * Returns the number of times each command was run, and its median, 99th percentile and maximum time.
+     *
+     * @return lines of the report.
+     */
+    public ArrayList<String> report() {
+        ArrayList<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Replayed a session captured over %.1f s", sessionMillis / 1000.0));
+        lines.add("Commands (count, p50, p99, max in ms):");
+        for (Map.Entry<String, ArrayList<Long>> entry : latencies.entrySet()) {
+            ArrayList<Long> sorted = new ArrayList<>(entry.getValue());
+            Collections.sort(sorted);
+            lines.add(String.format(Locale.ROOT, "  %s: %d, %.3f, %.3f, %.3f", entry.getKey(), sorted.size(),
+                    percentile(sorted, 0.5) / NANOS_PER_MILLI, percentile(sorted, 0.99) / NANOS_PER_MILLI,
+                    sorted.get(sorted.size() - 1) / NANOS_PER_MILLI));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the times recorded for each command word, in the order the commands were run.
+     *
+     * @return durations in nanoseconds by command word.
+     */
+    public TreeMap<String, ArrayList<Long>> getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the value at the given fraction of the sorted values, by the nearest rank.
+     *
+     * @param sorted   values in increasing order, not empty.
+     * @param fraction between 0 and 1.
+     * @return the percentile.
+     */
+    static long percentile(ArrayList<Long> sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+
+    private void replay(String directory, Ui ui) {
+        long startTime = System.nanoTime();
+        ProfileManager profiles = new ProfileManager(directory, ui, PROFILE_CACHE_SIZE);
+        profiles.getActive();
+        record(LOAD, System.nanoTime() - startTime);
+        Parser parser = new Parser(profiles);
+
+        boolean isExit = false;
+        while (!isExit) {
+            String userInput;
+            try {
+                userInput = ui.receiveCommand();
+            } catch (NoSuchElementException e) {
+                break;
+            }
+            for (String commandInput : parser.multiParse(userInput)) {
+                String commandWord = INVALID;
+                startTime = System.nanoTime();
+                try {
+                    Command command = parser.parse(commandInput);
+                    commandWord = command.getCommandWord();
+                    isExit = command.isExit();
+                    Profile profile = profiles.getActive();
+                    profile.getStore().execute(command, ui, profile.getStorage());
+                } catch (DukeException e) {
+                    //the error is part of the session, so it is timed like any other command
+                } catch (NoSuchElementException e) {
+                    isExit = true;
+                }
+                record(commandWord, System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    private void record(String commandWord, long nanos) {
+        latencies.computeIfAbsent(commandWord, word -> new ArrayList<>()).add(nanos);
+    }
+
+    private static long parseMillis(String millis) {
+        try {
+            return Long.parseLong(millis.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        Files.createDirectories(target);
+        if (!Files.exists(source)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path copied = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(copied);
+                } else {
+                    Files.copy(file, copied);
+                }
+            }
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
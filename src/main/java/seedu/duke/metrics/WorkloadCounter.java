@@ -0,0 +1,146 @@
+package seedu.duke.metrics;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.ChangeBus;
+import seedu.duke.data.DataView;
+import seedu.duke.data.DerivedValues;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Counts the events, and the undone events, on each day across all lists, counting every repeat of an event.
+ * The counts are kept in one bucket for each day and updated from the changes made by each write to the data:
+ * only the events that were added, removed or changed are counted again.
+ */
+public class WorkloadCounter extends DataView {
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final HashMap<Long, int[]> dayCounts = new HashMap<>();
+    private final DerivedValues<Contribution> contributions = new DerivedValues<>(new DerivedValues.Deriver<>() {
+        @Override
+        public Contribution derive(EventList list, Event event, Contribution oldContribution) {
+            return count(event, oldContribution);
+        }
+
+        @Override
+        public void discard(Contribution contribution) {
+            uncount(contribution);
+        }
+    });
+
+    /**
+     * Counts every event in the data again.
+     * Must be called while no other thread changes the data, such as while holding the UserDataStore's write lock.
+     *
+     * @param data UserData to count.
+     */
+    @Override
+    public synchronized void refresh(UserData data) {
+        contributions.reset(data);
+        logger.fine("Workload counts made for " + contributions.getSize() + " events, " + dayCounts.size() + " days");
+    }
+
+    /**
+     * Counts again the events added, removed or changed by a write to the data.
+     *
+     * @param data    live UserData after the changes.
+     * @param changes changes made by the write.
+     */
+    @Override
+    protected synchronized void apply(UserData data, List<ChangeBus.Change> changes) {
+        int recountedCount = contributions.apply(changes);
+        if (recountedCount > 0) {
+            logger.fine("Workload counts updated for " + recountedCount + " events, " + dayCounts.size() + " days");
+        }
+    }
+
+    private Contribution count(Event event, Contribution oldContribution) {
+        uncount(oldContribution);
+        Contribution contribution = new Contribution(event);
+        contribution.addTo(dayCounts, 1);
+        return contribution;
+    }
+
+    private void uncount(Contribution contribution) {
+        if (contribution != null) {
+            contribution.addTo(dayCounts, -1);
+        }
+    }
+
+    /**
+     * Returns the number of events on the given day, counting every repeat of an event.
+     *
+     * @param day date to count.
+     * @return number of events on the day.
+     */
+    public synchronized int getEventCount(LocalDate day) {
+        int[] counts = dayCounts.get(day.toEpochDay());
+        return (counts == null) ? 0 : counts[0];
+    }
+
+    /**
+     * Returns the number of events not done on the given day, counting every repeat of an event.
+     *
+     * @param day date to count.
+     * @return number of undone events on the day.
+     */
+    public synchronized int getUndoneCount(LocalDate day) {
+        int[] counts = dayCounts.get(day.toEpochDay());
+        return (counts == null) ? 0 : counts[1];
+    }
+
+    /**
+     * Returns a counter of the events in the given data, not kept up to date as the data changes.
+     *
+     * @param data UserData to count.
+     * @return counts of the data.
+     */
+    public static WorkloadCounter of(UserData data) {
+        WorkloadCounter counter = new WorkloadCounter();
+        counter.refresh(data);
+        return counter;
+    }
+
+    /**
+     * Days counted for an event and its repeats, and whether each is undone.
+     */
+    private static class Contribution {
+        private final long[] days;
+        private final boolean[] isUndone;
+
+        private Contribution(Event event) {
+            int occurrenceCount = 1 + ((event.getRepeatEventList() == null) ? 0 : event.getRepeatEventList().size());
+            long[] countedDays = new long[occurrenceCount];
+            boolean[] countedUndone = new boolean[occurrenceCount];
+            int size = 0;
+            for (int i = 0; i < occurrenceCount; i++) {
+                Event occurrence = (i == 0) ? event : event.getRepeatEventList().get(i - 1);
+                if (occurrence.getDate() != null) {
+                    countedDays[size] = occurrence.getDate().toEpochDay();
+                    countedUndone[size] = !occurrence.getStatus().equals("O");
+                    size++;
+                }
+            }
+            days = Arrays.copyOf(countedDays, size);
+            isUndone = Arrays.copyOf(countedUndone, size);
+        }
+
+        private void addTo(HashMap<Long, int[]> dayCounts, int sign) {
+            for (int i = 0; i < days.length; i++) {
+                int[] counts = dayCounts.computeIfAbsent(days[i], day -> new int[2]);
+                counts[0] += sign;
+                counts[1] += isUndone[i] ? sign : 0;
+                if (counts[0] == 0) {
+                    dayCounts.remove(days[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package seedu.duke.parser;
+
+/**
+ * View of one line of user input, scanned once into the command word and the fields of its argument.
+ * Only the positions of the words and of the ';' separating the fields are kept, so reading a field, checking that
+ * it is blank or reading it as a number does not split the line again, and the number of fields can be checked
+ * before any of them is read instead of catching an exception for a missing field.
+ */
+public class CommandArguments {
+    private static final char FIELD_SEPARATOR = ';';
+    private static final long NOT_AN_INTEGER = Long.MIN_VALUE;
+
+    private final String input;
+    private final int commandWordEnd;
+    private final int argumentStart;
+    private final int argumentEnd;
+    private final int[] separators;
+
+    private CommandArguments(String input, int commandWordEnd, int argumentStart, int argumentEnd) {
+        this.input = input;
+        this.commandWordEnd = commandWordEnd;
+        this.argumentStart = argumentStart;
+        this.argumentEnd = argumentEnd;
+
+        int separatorCount = 0;
+        for (int i = argumentStart; i < argumentEnd; i++) {
+            if (input.charAt(i) == FIELD_SEPARATOR) {
+                separatorCount++;
+            }
+        }
+        separators = new int[separatorCount];
+        int next = 0;
+        for (int i = argumentStart; i < argumentEnd && next < separatorCount; i++) {
+            if (input.charAt(i) == FIELD_SEPARATOR) {
+                separators[next++] = i;
+            }
+        }
+    }
+
+    /**
+     * Scans a line of user input, whose first word is the command word and whose rest is the argument.
+     * Spaces at the end of the line are not part of the argument.
+     *
+     * @param userInput line typed by the user.
+     * @return the command word and argument of the line.
+     */
+    public static CommandArguments tokenize(String userInput) {
+        int commandWordEnd = userInput.indexOf(' ');
+        int argumentStart;
+        if (commandWordEnd < 0) {
+            commandWordEnd = userInput.length();
+            argumentStart = userInput.length();
+        } else {
+            argumentStart = commandWordEnd + 1;
+        }
+        int argumentEnd = userInput.length();
+        while (argumentEnd > argumentStart && userInput.charAt(argumentEnd - 1) == ' ') {
+            argumentEnd--;
+        }
+        return new CommandArguments(userInput, commandWordEnd, argumentStart, argumentEnd);
+    }
+
+    /**
+     * Scans the argument of a command whose command word was already removed.
+     *
+     * @param argument argument of the command, such as "personal; 1".
+     * @return the fields of the argument, with an empty command word.
+     */
+    public static CommandArguments ofArgument(String argument) {
+        return new CommandArguments(argument, 0, 0, argument.length());
+    }
+
+    /**
+     * Returns the first word of the input.
+     *
+     * @return command word, or an empty string if the input starts with a space.
+     */
+    public String getCommandWord() {
+        return input.substring(0, commandWordEnd);
+    }
+
+    /**
+     * Returns the input after the command word.
+     *
+     * @return argument of the command, or an empty string if there is none.
+     */
+    public String getArgument() {
+        return input.substring(argumentStart, argumentEnd);
+    }
+
+    /**
+     * Returns the number of fields in the argument, which is one more than the number of ';' in it.
+     *
+     * @return number of fields, at least 1.
+     */
+    public int getFieldCount() {
+        return separators.length + 1;
+    }
+
+    /**
+     * Returns true if the argument has at least the given number of fields.
+     *
+     * @param count number of fields needed.
+     * @return true if there are enough fields.
+     */
+    public boolean hasFields(int count) {
+        return getFieldCount() >= count;
+    }
+
+    /**
+     * Returns the field at the given position, without the spaces around it.
+     *
+     * @param index position of the field, starting from 0.
+     * @return the field, or an empty string if there is no field at the position.
+     */
+    public String getField(int index) {
+        if (index >= getFieldCount()) {
+            return "";
+        }
+        int start = skipSpacesForward(fieldStart(index), fieldEnd(index));
+        int end = skipSpacesBackward(start, fieldEnd(index));
+        return input.substring(start, end);
+    }
+
+    /**
+     * Returns true if there is no field at the given position or the field only has spaces.
+     *
+     * @param index position of the field, starting from 0.
+     * @return true if the field is blank or missing.
+     */
+    public boolean isFieldBlank(int index) {
+        if (index >= getFieldCount()) {
+            return true;
+        }
+        return skipSpacesForward(fieldStart(index), fieldEnd(index)) == fieldEnd(index);
+    }
+
+    /**
+     * Returns the field at the given position as the name of an event list, with only its first letter capitalised.
+     *
+     * @param index position of the field, starting from 0.
+     * @return list name, such as "Personal" for "PERSONAL".
+     */
+    public String getListName(int index) {
+        String field = getField(index).toLowerCase();
+        if (field.isEmpty()) {
+            return field;
+        }
+        return Character.toUpperCase(field.charAt(0)) + field.substring(1);
+    }
+
+    /**
+     * Returns true if the field at the given position is a whole number that fits in an int, read the same way
+     * as {@link Integer#parseInt(String)} but without throwing an exception when it is not.
+     *
+     * @param index position of the field, starting from 0.
+     * @return true if {@link #getInteger(int)} can read the field.
+     */
+    public boolean isInteger(int index) {
+        if (index >= getFieldCount()) {
+            return false;
+        }
+        int start = skipSpacesForward(fieldStart(index), fieldEnd(index));
+        int end = skipSpacesBackward(start, fieldEnd(index));
+        return readInteger(start, end) != NOT_AN_INTEGER;
+    }
+
+    /**
+     * Returns the field at the given position as a whole number.
+     *
+     * @param index position of a field for which {@link #isInteger(int)} is true.
+     * @return the number in the field.
+     */
+    public int getInteger(int index) {
+        assert isInteger(index) : "field " + index + " is not an integer";
+        int start = skipSpacesForward(fieldStart(index), fieldEnd(index));
+        int end = skipSpacesBackward(start, fieldEnd(index));
+        return (int) readInteger(start, end);
+    }
+
+    /**
+     * Returns the fields from the given position to the end of the argument, as typed.
+     *
+     * @param index position of the first field, starting from 0.
+     * @return the fields with the ';' between them and without the spaces around them,
+     *         or an empty string if there is no field at the position.
+     */
+    public String getFieldsFrom(int index) {
+        if (index >= getFieldCount()) {
+            return "";
+        }
+        int start = skipSpacesForward(fieldStart(index), argumentEnd);
+        return input.substring(start, skipSpacesBackward(start, argumentEnd));
+    }
+
+    /**
+     * Returns the fields from the given position as an array, as {@link String#split(String)} with ";" would give
+     * them for the same text: the spaces around each field are kept and empty fields at the end are left out.
+     *
+     * @param from position of the first field, starting from 0.
+     * @return fields from the position.
+     */
+    public String[] toFieldArray(int from) {
+        int to = getFieldCount();
+        while (to > from && fieldStart(to - 1) == fieldEnd(to - 1)) {
+            to--;
+        }
+        String[] fields = new String[Math.max(0, to - from)];
+        for (int i = from; i < to; i++) {
+            fields[i - from] = input.substring(fieldStart(i), fieldEnd(i));
+        }
+        return fields;
+    }
+
+    private int fieldStart(int index) {
+        return (index == 0) ? argumentStart : separators[index - 1] + 1;
+    }
+
+    private int fieldEnd(int index) {
+        return (index == separators.length) ? argumentEnd : separators[index];
+    }
+
+    private int skipSpacesForward(int start, int end) {
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int skipSpacesBackward(int start, int end) {
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private long readInteger(int start, int end) {
+        if (start == end) {
+            return NOT_AN_INTEGER;
+        }
+        boolean isNegative = input.charAt(start) == '-';
+        int position = (isNegative || input.charAt(start) == '+') ? start + 1 : start;
+        if (position == end) {
+            return NOT_AN_INTEGER;
+        }
+        long value = 0;
+        for (; position < end; position++) {
+            int digit = Character.digit(input.charAt(position), 10);
+            if (digit < 0) {
+                return NOT_AN_INTEGER;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return NOT_AN_INTEGER;
+            }
+        }
+        value = isNegative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            return NOT_AN_INTEGER;
+        }
+        return value;
+    }
+}
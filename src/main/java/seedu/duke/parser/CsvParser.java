@@ -0,0 +1,47 @@
+package seedu.duke.parser;
+
+import java.util.ArrayList;
+
+public class CsvParser {
+
+    /**
+     * Splits a single CSV row into its fields.
+     * Fields may be surrounded by double quotes to contain commas, and a doubled quote inside a quoted field
+     * stands for a literal quote.
+     *
+     * @param row one line of the CSV file.
+     * @return array of fields in the row, or null if a quoted field is not closed.
+     */
+    public static String[] splitRow(String row) {
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (i < row.length()) {
+            char c = row.charAt(i);
+            if (isQuoted) {
+                if (c == '"' && i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+            i++;
+        }
+        if (isQuoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
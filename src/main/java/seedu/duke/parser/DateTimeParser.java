@@ -12,6 +12,22 @@ public class DateTimeParser {
     private static final String[] dateFormatStrings = {"yyyy/M/d", "yyyy-M-d", "d/M/yy",
         "d/M/yyyy", "d-M-yy", "d-M-yyyy"};
     private static final String[] timeFormatStrings = {"h:m a", "hhmm a", "H:m", "HHmm"};
+    private static final DateTimeFormatter[] dateFormatters = compile(dateFormatStrings);
+    private static final DateTimeFormatter[] timeFormatters = compile(timeFormatStrings);
+
+    /**
+     * Builds the formatters for the given patterns once, so that parsing does not recompile them on every call.
+     *
+     * @param patterns date or time patterns to compile.
+     * @return array of formatters in the same order as the patterns.
+     */
+    private static DateTimeFormatter[] compile(String[] patterns) {
+        DateTimeFormatter[] formatters = new DateTimeFormatter[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            formatters[i] = DateTimeFormatter.ofPattern(patterns[i]);
+        }
+        return formatters;
+    }
 
     /**
      * Parses the given date through the acceptable formats.
@@ -24,10 +40,9 @@ public class DateTimeParser {
     public static LocalDate dateParser(String date) throws DateErrorException {
         assert date != null : "date cannot be null";
         int i = 0;
-        while (i < dateFormatStrings.length) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(dateFormatStrings[i]);
+        while (i < dateFormatters.length) {
             try {
-                return LocalDate.parse(date, formatter);
+                return LocalDate.parse(date, dateFormatters[i]);
             } catch (DateTimeException e) {
                 i++;
             }
@@ -56,10 +71,9 @@ public class DateTimeParser {
             }
         }
         int i = 0;
-        while (i < timeFormatStrings.length) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(timeFormatStrings[i]);
+        while (i < timeFormatters.length) {
             try {
-                return LocalTime.parse(time, formatter);
+                return LocalTime.parse(time, timeFormatters[i]);
             } catch (DateTimeException e) {
                 i++;
             }
@@ -2,6 +2,7 @@ package seedu.duke.parser;
 
 
 import seedu.duke.command.AddCommand;
+import seedu.duke.command.ArchiveCommand;
 import seedu.duke.command.ByeCommand;
 import seedu.duke.command.CalendarCommand;
 import seedu.duke.command.CheckCommand;
@@ -12,20 +13,34 @@ import seedu.duke.command.DoneCommand;
 import seedu.duke.command.ExtractCommand;
 import seedu.duke.command.GoalCommand;
 import seedu.duke.command.HelpCommand;
+import seedu.duke.command.ImportCommand;
 import seedu.duke.command.ListCommand;
+import seedu.duke.command.MigrateCommand;
+import seedu.duke.command.NextCommand;
 import seedu.duke.command.NoteCommand;
+import seedu.duke.command.ProfileCommand;
+import seedu.duke.command.QueryCommand;
+import seedu.duke.command.RedoCommand;
 import seedu.duke.command.ReminderCommand;
 import seedu.duke.command.RepeatCommand;
 import seedu.duke.command.SaveCommand;
+import seedu.duke.command.SearchCommand;
+import seedu.duke.command.StatsCommand;
+import seedu.duke.command.UndoCommand;
 import seedu.duke.command.UndoneCommand;
 import seedu.duke.command.ViewCommand;
+import seedu.duke.data.ProfileManager;
 import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidCommandException;
+import seedu.duke.metrics.Metrics;
 
 
 import java.util.ArrayList;
-import java.util.Arrays;
 
 public class Parser {
+    private static final String UNKNOWN_COMMAND = "unknown";
+
+    private ProfileManager profiles;
 
     /**
      * Default Constructor for parser.
@@ -34,38 +49,68 @@ public class Parser {
 
     }
 
+    /**
+     * Constructor for parser that can also create commands to switch between the given profiles.
+     *
+     * @param profiles ProfileManager holding the user profiles.
+     */
+    public Parser(ProfileManager profiles) {
+        this.profiles = profiles;
+    }
+
     /**
      * Function takes in user input and then generates the correct command requested from the user input.
      *
      * @param userInput String containing what is typed by the user on the computer
-     * @return Command from what is written by user. Return null if incorrect command
+     * @return Command from what is written by user.
+     * @throws DukeException if the command word is unknown or the argument is invalid for the command.
      */
     public Command parse(String userInput) throws DukeException {
-
-        String[] words = userInput.split(" ");
-
-        if (words.length == 0) {
-
-            System.out.println("Error, no command entered");
-            return null;
+        CommandArguments arguments = CommandArguments.tokenize(userInput);
+        String commandWord = arguments.getCommandWord();
+
+        try {
+            return parseCommand(commandWord, arguments);
+        } catch (InvalidCommandException e) {
+            Metrics.recordParseFailure(UNKNOWN_COMMAND);
+            throw e;
+        } catch (DukeException e) {
+            Metrics.recordParseFailure(commandWord);
+            throw e;
         }
+    }
 
-        String commandWord = words[0];
-        String[] argumentWords = Arrays.copyOfRange(words, 1, words.length);
-        String argument = String.join(" ", argumentWords);
-
+    /**
+     * Creates the command for the given command word.
+     *
+     * @param commandWord first word of the user input.
+     * @param arguments   the user input scanned into its command word and argument fields.
+     * @return Command for the command word.
+     * @throws DukeException if the command word is unknown or the argument is invalid for the command.
+     */
+    private Command parseCommand(String commandWord, CommandArguments arguments) throws DukeException {
+        String argument = arguments.getArgument();
         switch (commandWord) {
         case "add":
-            return new AddCommand(argument);
+            return new AddCommand(arguments);
 
         case "list":
             return ListCommand.parse(argument);
 
+        case "query":
+            return QueryCommand.parse(argument);
+
+        case "search":
+            return new SearchCommand(argument, (profiles == null) ? null : profiles.getSearchIndex());
+
+        case "next":
+            return new NextCommand(argument);
+
         case "bye":
             return new ByeCommand();
 
         case "check":
-            return new CheckCommand(argument + " ");
+            return new CheckCommand(arguments);
 
         case "repeat":
             return RepeatCommand.parse(argument);
@@ -77,16 +122,16 @@ public class Parser {
             return new DeadlineCommand(argument);
 
         case "reminder":
-            return new ReminderCommand();
+            return new ReminderCommand(argument, (profiles == null) ? null : profiles.getReminderScheduler());
 
         case "done":
-            return DoneCommand.parse(argument);
+            return DoneCommand.parse(arguments);
 
         case "undone":
-            return UndoneCommand.parse(argument);
+            return UndoneCommand.parse(arguments);
 
         case "delete":
-            return DeleteCommand.parse(argument);
+            return DeleteCommand.parse(arguments);
 
         case "calendar":
             return CalendarCommand.parse(argument);
@@ -97,6 +142,9 @@ public class Parser {
         case "extract":
             return new ExtractCommand(argument);
 
+        case "import":
+            return new ImportCommand(argument);
+
         case "note":
             return new NoteCommand(argument);
 
@@ -106,8 +154,29 @@ public class Parser {
         case "view":
             return new ViewCommand(argument);
 
+        case "profile":
+            if (profiles == null) {
+                throw new DukeException("Profiles are not available here.");
+            }
+            return new ProfileCommand(argument, profiles);
+
+        case "stats":
+            return new StatsCommand(argument, (profiles == null) ? null : profiles.getWorkloadCounter());
+
+        case "migrate":
+            return new MigrateCommand(argument);
+
+        case "archive":
+            return new ArchiveCommand(argument);
+
+        case "undo":
+            return new UndoCommand(argument);
+
+        case "redo":
+            return new RedoCommand();
+
         default:
-            throw new DukeException("Invalid Command.");
+            throw new InvalidCommandException();
         }
     }
 
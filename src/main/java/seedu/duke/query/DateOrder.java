@@ -0,0 +1,220 @@
+package seedu.duke.query;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.ChangeBus;
+import seedu.duke.data.DataView;
+import seedu.duke.data.DerivedValues;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * Dated events and repeats of each list of one store, in the order of {@link EventIndex#DATE_ORDER}, kept up to date
+ * from the changes made by each write: only the events added, removed or moved to another date or time are placed
+ * again. When a list is copied into a snapshot, its entries are handed to the copy's {@link EventIndex} already in
+ * order, so queries of the snapshot never sort them.
+ * Entries at the same date and time are kept in the order they were placed, not in list order.
+ */
+public class DateOrder extends DataView implements UserDataStore.SnapshotListener {
+    private static final int NO_TIME = -1;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final IdentityHashMap<EventList, TreeSet<Entry>> orders = new IdentityHashMap<>();
+    private final DerivedValues<Entry[]> placedEvents = new DerivedValues<>(new DerivedValues.Deriver<>() {
+        @Override
+        public Entry[] derive(EventList list, Event event, Entry[] oldEntries) {
+            return place(list, event, oldEntries);
+        }
+
+        @Override
+        public void discard(Entry[] entries) {
+            removeAll(entries);
+        }
+    });
+    private long nextSequence = 0;
+
+    /**
+     * Keeps the date order of the lists in the given store, and hands it to the copies of the lists in its snapshots.
+     *
+     * @param store UserDataStore of a profile.
+     */
+    public static void keep(UserDataStore store) {
+        DateOrder dateOrder = new DateOrder();
+        dateOrder.watch(store);
+        store.addSnapshotListener(dateOrder);
+    }
+
+    /**
+     * Places every dated event in the data again.
+     * Must be called while no other thread changes the data, such as while holding the UserDataStore's write lock.
+     *
+     * @param data UserData to order.
+     */
+    @Override
+    protected synchronized void refresh(UserData data) {
+        placedEvents.clear();
+        orders.clear();
+        placedEvents.reset(data);
+        logger.fine("Date order made for " + placedEvents.getSize() + " events");
+    }
+
+    /**
+     * Places again the events added, removed or changed by a write to the data.
+     *
+     * @param data    live UserData after the changes.
+     * @param changes changes made by the write.
+     */
+    @Override
+    protected synchronized void apply(UserData data, List<ChangeBus.Change> changes) {
+        placedEvents.apply(changes);
+        orders.keySet().retainAll(data.getAllEventLists());
+    }
+
+    /**
+     * Hands the date order of the list to the index of its copy, matching each entry to its copy by position.
+     * If the order does not match the copy, the copy is left to be sorted when it is first queried.
+     *
+     * @param list live EventList.
+     * @param copy read only copy of the list.
+     */
+    @Override
+    public synchronized void copied(EventList list, EventList copy) {
+        TreeSet<Entry> order = orders.get(list);
+        if (order == null || list.getSize() != copy.getSize()) {
+            return;
+        }
+        IdentityHashMap<Event, Event> copies = new IdentityHashMap<>();
+        int datedCount = 0;
+        for (int i = 0; i < list.getSize(); i++) {
+            Event event = list.getEvents().get(i);
+            Event copiedEvent = copy.getEvents().get(i);
+            copies.put(event, copiedEvent);
+            datedCount += (copiedEvent.getDate() == null) ? 0 : 1;
+            if (event.getRepeatEventList() != null && copiedEvent.getRepeatEventList() != null) {
+                for (int j = 0; j < event.getRepeatEventList().size(); j++) {
+                    Event copiedRepeat = copiedEvent.getRepeatEventList().get(j);
+                    copies.put(event.getRepeatEventList().get(j), copiedRepeat);
+                    datedCount += (copiedRepeat.getDate() == null) ? 0 : 1;
+                }
+            }
+        }
+
+        Event[] byDate = new Event[order.size()];
+        int size = 0;
+        for (Entry entry : order) {
+            Event copiedEntry = copies.get(entry.occurrence);
+            if (copiedEntry == null || !entry.isAt(copiedEntry)) {
+                break;
+            }
+            byDate[size++] = copiedEntry;
+        }
+        if (size != order.size() || size != datedCount) {
+            logger.warning("Date order of " + list.getName() + " does not match its events, left to be sorted");
+            return;
+        }
+        EventIndex.keepSorted(copy, byDate);
+    }
+
+    /**
+     * Places the dated occurrences of an event, keeping the entries of the occurrences whose date and time did not
+     * change, and removing the others.
+     *
+     * @return entries of the event, or null if it has no dated occurrence.
+     */
+    private Entry[] place(EventList list, Event event, Entry[] oldEntries) {
+        IdentityHashMap<Event, Entry> oldByOccurrence = new IdentityHashMap<>();
+        if (oldEntries != null) {
+            for (Entry entry : oldEntries) {
+                oldByOccurrence.put(entry.occurrence, entry);
+            }
+        }
+        TreeSet<Entry> order = orders.computeIfAbsent(list, key -> new TreeSet<>());
+        ArrayList<Entry> entries = new ArrayList<>();
+        placeOccurrence(order, event, oldByOccurrence, entries);
+        if (event.getRepeatEventList() != null) {
+            for (Event repeatEvent : event.getRepeatEventList()) {
+                placeOccurrence(order, repeatEvent, oldByOccurrence, entries);
+            }
+        }
+        removeAll(oldByOccurrence.values().toArray(new Entry[0]));
+        return entries.isEmpty() ? null : entries.toArray(new Entry[0]);
+    }
+
+    private void placeOccurrence(TreeSet<Entry> order, Event occurrence, IdentityHashMap<Event, Entry> oldEntries,
+            ArrayList<Entry> entries) {
+        Entry oldEntry = oldEntries.remove(occurrence);
+        if (oldEntry != null && oldEntry.order == order && oldEntry.isAt(occurrence)) {
+            entries.add(oldEntry);
+            return;
+        }
+        if (oldEntry != null) {
+            oldEntry.order.remove(oldEntry);
+        }
+        if (occurrence.getDate() == null) {
+            return;
+        }
+        Entry entry = new Entry(occurrence, nextSequence++, order);
+        order.add(entry);
+        entries.add(entry);
+    }
+
+    private static void removeAll(Entry[] entries) {
+        if (entries == null) {
+            return;
+        }
+        for (Entry entry : entries) {
+            entry.order.remove(entry);
+        }
+    }
+
+    /**
+     * Dated occurrence of an event, with the date and time it was placed at, and the order of the list it is in.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final Event occurrence;
+        private final long epochDay;
+        private final int minuteOfDay;
+        private final long sequence;
+        private final TreeSet<Entry> order;
+
+        private Entry(Event occurrence, long sequence, TreeSet<Entry> order) {
+            this.occurrence = occurrence;
+            this.epochDay = occurrence.getDate().toEpochDay();
+            this.minuteOfDay = getMinuteOfDay(occurrence.getTime());
+            this.sequence = sequence;
+            this.order = order;
+        }
+
+        /**
+         * Returns true if the event is on the date and at the time the entry was placed at.
+         */
+        private boolean isAt(Event event) {
+            return event.getDate() != null && event.getDate().toEpochDay() == epochDay
+                    && getMinuteOfDay(event.getTime()) == minuteOfDay;
+        }
+
+        private static int getMinuteOfDay(LocalTime time) {
+            return (time == null) ? NO_TIME : time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if (epochDay != other.epochDay) {
+                return Long.compare(epochDay, other.epochDay);
+            }
+            if (minuteOfDay != other.minuteOfDay) {
+                return Integer.compare(minuteOfDay, other.minuteOfDay);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.duke.query;
+
+import seedu.duke.EventLogger;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Access paths into the events of one list, built when a query first reads the list and kept until the list changes.
+ * Every event and every repeat of an event is one entry. Dated entries are sorted by date, and by time within a day
+ * with untimed entries first, so that the entries in a range of dates are found by binary search. Entries are also
+ * split by whether they are done.
+ * The index of a list copied into a snapshot is usually handed over by the {@link DateOrder} of its store when the
+ * copy is made, with its dated entries already in order, so only lists without one are sorted here.
+ * Each list is indexed under its own lock, so queries of different lists never wait for each other.
+ */
+class EventIndex {
+    private static final Map<EventList, EventIndex> indexes = new WeakHashMap<>();
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /** Orders dated entries by date, then by time with untimed entries first. */
+    static final Comparator<Event> DATE_ORDER = Comparator.<Event>comparingLong(entry -> entry.getDate().toEpochDay())
+            .thenComparing(Event::getTime, Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()));
+
+    private final long stamp;
+    private final Event[] entries;
+    private final Event[] byDate;
+    private final long[] days;
+    private final Event[] doneEntries;
+    private final Event[] undoneEntries;
+
+    private EventIndex(long stamp, ArrayList<Event> entryList, Event[] sortedByDate) {
+        this.stamp = stamp;
+        entries = entryList.toArray(new Event[0]);
+
+        ArrayList<Event> dated = new ArrayList<>();
+        ArrayList<Event> done = new ArrayList<>();
+        ArrayList<Event> undone = new ArrayList<>();
+        for (Event entry : entries) {
+            if (entry.getDate() != null && sortedByDate == null) {
+                dated.add(entry);
+            }
+            if (entry.getStatus().equals("O")) {
+                done.add(entry);
+            } else {
+                undone.add(entry);
+            }
+        }
+        if (sortedByDate == null) {
+            byDate = dated.toArray(new Event[0]);
+            Arrays.sort(byDate, DATE_ORDER);
+        } else {
+            byDate = sortedByDate;
+        }
+        days = new long[byDate.length];
+        for (int i = 0; i < byDate.length; i++) {
+            days[i] = byDate[i].getDate().toEpochDay();
+        }
+        doneEntries = done.toArray(new Event[0]);
+        undoneEntries = undone.toArray(new Event[0]);
+    }
+
+    /**
+     * Returns the index of the events in the list and their repeats, building it again only if the list changed
+     * since it was last built.
+     *
+     * @param list EventList to index.
+     * @return up to date index of the list.
+     */
+    static EventIndex of(EventList list) {
+        long stamp = list.getModificationCount();
+        EventIndex index = getBuilt(list);
+        if (index != null && index.isBuiltAt(stamp)) {
+            return index;
+        }
+        synchronized (list) {
+            index = getBuilt(list);
+            if (index == null || !index.isBuiltAt(stamp)) {
+                index = new EventIndex(stamp, getEntries(list), null);
+                putBuilt(list, index);
+                logger.fine("Query index of " + list.getName() + " built, " + index.getEntries().length + " entries");
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Keeps the index of a list whose dated entries are already sorted, such as a list copied into a snapshot.
+     * The list must not change afterwards, or be changed only by the caller, as its index is taken as is.
+     *
+     * @param list   EventList to index.
+     * @param byDate dated entries of the list and their repeats, sorted by {@link #DATE_ORDER}.
+     */
+    static void keepSorted(EventList list, Event[] byDate) {
+        putBuilt(list, new EventIndex(list.getModificationCount(), getEntries(list), byDate));
+    }
+
+    /**
+     * Returns the events in the list with the repeats of each event after it.
+     */
+    private static ArrayList<Event> getEntries(EventList list) {
+        ArrayList<Event> entries = new ArrayList<>();
+        for (Event event : list.getEvents()) {
+            entries.add(event);
+            if (event.getRepeatEventList() != null) {
+                entries.addAll(event.getRepeatEventList());
+            }
+        }
+        return entries;
+    }
+
+    private static EventIndex getBuilt(EventList list) {
+        synchronized (indexes) {
+            return indexes.get(list);
+        }
+    }
+
+    private static void putBuilt(EventList list, EventIndex index) {
+        synchronized (indexes) {
+            indexes.put(list, index);
+        }
+    }
+
+    /**
+     * Returns true if the index was built when the given number of changes had been made to the list.
+     *
+     * @param listStamp number of changes made to the list so far.
+     * @return true if the index is up to date.
+     */
+    boolean isBuiltAt(long listStamp) {
+        return stamp == listStamp;
+    }
+
+    /**
+     * Returns every entry, in the order of the list with the repeats of an event after it.
+     *
+     * @return all entries.
+     */
+    Event[] getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the dated entries sorted by date.
+     *
+     * @return dated entries.
+     */
+    Event[] getEntriesByDate() {
+        return byDate;
+    }
+
+    /**
+     * Returns the entries with the given status.
+     *
+     * @param isDone true for done entries, false for undone entries.
+     * @return entries with the status, in list order.
+     */
+    Event[] getEntriesWithStatus(boolean isDone) {
+        return isDone ? doneEntries : undoneEntries;
+    }
+
+    /**
+     * Returns the position in {@link #getEntriesByDate()} of the first entry on or after the given day.
+     *
+     * @param epochDay day to search for.
+     * @return position of the first entry on or after the day, or the number of dated entries if there is none.
+     */
+    int firstOnOrAfter(long epochDay) {
+        int low = 0;
+        int high = days.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (days[middle] < epochDay) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,317 @@
+package seedu.duke.query;
+
+import seedu.duke.exception.DateErrorException;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.WrongNumberFormatException;
+import seedu.duke.parser.DateTimeParser;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+/**
+ * Query over the events of every list, made of clauses separated by commas, such as
+ * "list in (Zoom, Timetable), date between 1/10/2020 and 31/10/2020, status undone, sort by date, limit 20".
+ * Each clause either restricts the events matched or says how the matches are ordered and how many are shown.
+ */
+public class Query {
+    public static final String SORT_BY_DATE = "date";
+    public static final String SORT_BY_DESCRIPTION = "description";
+    static final String FORMAT = "The clauses of a query are: list in (LIST, ...), date between DATE and DATE, "
+            + "date on/from/to DATE, status done/undone, description contains TEXT, has notes, has repeat, "
+            + "sort by date/description [desc] and limit NUMBER, separated by commas.";
+    private static final String EXPLAIN = "explain";
+
+    private ArrayList<String> listNames;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private boolean hasDateRange;
+    private Boolean isDoneWanted;
+    private String keyword;
+    private boolean isNotesWanted;
+    private boolean isRepeatWanted;
+    private String sortKey;
+    private boolean isDescending;
+    private int limit = -1;
+    private boolean isExplain;
+
+    /**
+     * Parses the clauses of a query. A query starting with "explain" shows how it would be run instead.
+     *
+     * @param text clauses separated by commas, or blank to match every event.
+     * @return the query.
+     * @throws DukeException if a clause is not valid.
+     */
+    public static Query parse(String text) throws DukeException {
+        Query query = new Query();
+        String clauses = text.trim();
+        if (clauses.toLowerCase().startsWith(EXPLAIN)
+                && (clauses.length() == EXPLAIN.length() || clauses.charAt(EXPLAIN.length()) == ' ')) {
+            query.isExplain = true;
+            clauses = clauses.substring(EXPLAIN.length()).trim();
+        }
+        for (String clause : splitClauses(clauses)) {
+            query.addClause(clause);
+        }
+        return query;
+    }
+
+    /**
+     * Splits the query on the commas that are not inside brackets or quotes.
+     *
+     * @param text clauses separated by commas.
+     * @return the clauses, without blank ones.
+     * @throws DukeException if a bracket or quote is not closed.
+     */
+    private static ArrayList<String> splitClauses(String text) throws DukeException {
+        ArrayList<String> clauses = new ArrayList<>();
+        int depth = 0;
+        boolean isQuoted = false;
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                isQuoted = !isQuoted;
+            } else if (!isQuoted && c == '(') {
+                depth++;
+            } else if (!isQuoted && c == ')') {
+                depth--;
+            } else if (!isQuoted && depth == 0 && c == ',') {
+                clauses.add(text.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        if (isQuoted || depth != 0) {
+            throw new DukeException("A quote or bracket in the query is not closed." + System.lineSeparator()
+                    + FORMAT);
+        }
+        clauses.add(text.substring(start).trim());
+        clauses.removeIf(String::isEmpty);
+        return clauses;
+    }
+
+    private void addClause(String clause) throws DukeException {
+        String[] words = clause.split("\\s+", 2);
+        String field = words[0].toLowerCase();
+        String rest = (words.length > 1) ? words[1].trim() : "";
+        String restLowerCase = rest.toLowerCase();
+        switch (field) {
+        case "list":
+            parseLists(rest);
+            break;
+        case "date":
+            parseDates(rest);
+            break;
+        case "status":
+            if (!restLowerCase.equals("done") && !restLowerCase.equals("undone")) {
+                throw invalidClause(clause);
+            }
+            isDoneWanted = restLowerCase.equals("done");
+            break;
+        case "description":
+            if (!restLowerCase.startsWith("contains ")) {
+                throw invalidClause(clause);
+            }
+            keyword = unquote(rest.substring("contains ".length()).trim()).toLowerCase();
+            break;
+        case "has":
+            if (restLowerCase.equals("notes")) {
+                isNotesWanted = true;
+            } else if (restLowerCase.equals("repeat")) {
+                isRepeatWanted = true;
+            } else {
+                throw invalidClause(clause);
+            }
+            break;
+        case "sort":
+            parseSort(clause, restLowerCase);
+            break;
+        case "limit":
+            limit = parseLimit(rest);
+            break;
+        default:
+            throw invalidClause(clause);
+        }
+    }
+
+    private void parseLists(String rest) throws DukeException {
+        String names = rest;
+        if (names.toLowerCase().startsWith("in ") || names.toLowerCase().startsWith("in(")) {
+            names = names.substring(2).trim();
+        }
+        if (names.startsWith("(") && names.endsWith(")")) {
+            names = names.substring(1, names.length() - 1);
+        }
+        listNames = new ArrayList<>();
+        for (String name : names.split(",")) {
+            String trimmedName = name.trim().toLowerCase();
+            if (trimmedName.isEmpty()) {
+                throw invalidClause("list " + rest);
+            }
+            listNames.add(Character.toUpperCase(trimmedName.charAt(0)) + trimmedName.substring(1));
+        }
+    }
+
+    private void parseDates(String rest) throws DukeException {
+        String[] words = rest.split("\\s+", 2);
+        String operator = words[0].toLowerCase();
+        String dates = (words.length > 1) ? words[1].trim() : "";
+        switch (operator) {
+        case "between":
+            String[] range = dates.split("(?i)\\s+and\\s+");
+            if (range.length != 2) {
+                throw invalidClause("date " + rest);
+            }
+            setDateRange(parseDate(range[0]), parseDate(range[1]));
+            break;
+        case "on":
+            LocalDate date = parseDate(dates);
+            setDateRange(date, date);
+            break;
+        case "from":
+            setDateRange(parseDate(dates), toDate);
+            break;
+        case "to":
+            setDateRange(fromDate, parseDate(dates));
+            break;
+        default:
+            throw invalidClause("date " + rest);
+        }
+    }
+
+    private void setDateRange(LocalDate from, LocalDate to) {
+        fromDate = from;
+        toDate = to;
+        hasDateRange = true;
+    }
+
+    private static LocalDate parseDate(String date) throws DateErrorException {
+        return DateTimeParser.dateParser(date.trim());
+    }
+
+    private void parseSort(String clause, String rest) throws DukeException {
+        String[] words = rest.split("\\s+");
+        if (words.length < 2 || words.length > 3 || !words[0].equals("by")
+                || (!words[1].equals(SORT_BY_DATE) && !words[1].equals(SORT_BY_DESCRIPTION))) {
+            throw invalidClause(clause);
+        }
+        sortKey = words[1];
+        if (words.length == 3) {
+            if (!words[2].equals("desc") && !words[2].equals("asc")) {
+                throw invalidClause(clause);
+            }
+            isDescending = words[2].equals("desc");
+        }
+    }
+
+    private static int parseLimit(String rest) throws WrongNumberFormatException {
+        try {
+            int limit = Integer.parseInt(rest);
+            if (limit > 0) {
+                return limit;
+            }
+        } catch (NumberFormatException e) {
+            //handled below
+        }
+        throw new WrongNumberFormatException("The limit of a query must be a whole number of at least 1."
+                + System.lineSeparator() + FORMAT);
+    }
+
+    private static String unquote(String text) {
+        if (text.length() >= 2 && text.startsWith("\"") && text.endsWith("\"")) {
+            return text.substring(1, text.length() - 1);
+        }
+        return text;
+    }
+
+    private static DukeException invalidClause(String clause) {
+        return new DukeException("\"" + clause + "\" is not a valid query clause." + System.lineSeparator() + FORMAT);
+    }
+
+    /**
+     * Returns the names of the lists to search.
+     *
+     * @return list names, or null to search every list.
+     */
+    public ArrayList<String> getListNames() {
+        return listNames;
+    }
+
+    public boolean hasDateRange() {
+        return hasDateRange;
+    }
+
+    /**
+     * Returns the first date matched.
+     *
+     * @return first date, or null if there is no earliest date.
+     */
+    public LocalDate getFromDate() {
+        return fromDate;
+    }
+
+    /**
+     * Returns the last date matched.
+     *
+     * @return last date, or null if there is no latest date.
+     */
+    public LocalDate getToDate() {
+        return toDate;
+    }
+
+    /**
+     * Returns the status matched.
+     *
+     * @return true for done events, false for undone events, or null for both.
+     */
+    public Boolean getDoneWanted() {
+        return isDoneWanted;
+    }
+
+    /**
+     * Returns the text the description must contain.
+     *
+     * @return lower case text, or null if the description is not checked.
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public boolean isNotesWanted() {
+        return isNotesWanted;
+    }
+
+    public boolean isRepeatWanted() {
+        return isRepeatWanted;
+    }
+
+    /**
+     * Returns what the matches are sorted by.
+     *
+     * @return SORT_BY_DATE, SORT_BY_DESCRIPTION, or null to keep the order they are found in.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /**
+     * Returns the largest number of matches shown.
+     *
+     * @return limit, or -1 to show every match.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns true if the plan of the query should be shown instead of its matches.
+     *
+     * @return true for an explain query.
+     */
+    public boolean isExplain() {
+        return isExplain;
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.duke.query;
+
+import seedu.duke.event.Event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * How a query is run: which entries of each list are read, and which clauses are checked on each entry read.
+ * Without a sort, reading stops as soon as the limit is reached.
+ */
+public class QueryPlan {
+    private final Query query;
+    private final ArrayList<ListScan> scans;
+    private final ArrayList<String> skippedLists;
+
+    QueryPlan(Query query, ArrayList<ListScan> scans, ArrayList<String> skippedLists) {
+        this.query = query;
+        this.scans = scans;
+        this.skippedLists = skippedLists;
+    }
+
+    /**
+     * Runs the plan.
+     *
+     * @return the events matched, sorted and limited as the query asks.
+     */
+    public ArrayList<QueryResult> run() {
+        ArrayList<QueryResult> results = new ArrayList<>();
+        boolean canStopAtLimit = query.getSortKey() == null && query.getLimit() > 0;
+        for (ListScan scan : scans) {
+            for (int i = scan.start; i < scan.end; i++) {
+                if (scan.matches(scan.source[i])) {
+                    results.add(new QueryResult(scan.listName, scan.source[i]));
+                    if (canStopAtLimit && results.size() == query.getLimit()) {
+                        return results;
+                    }
+                }
+            }
+        }
+        if (query.getSortKey() != null) {
+            Comparator<QueryResult> order = query.getSortKey().equals(Query.SORT_BY_DATE)
+                    ? Comparator.comparing(result -> result.getEvent().getDate(),
+                            Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+                    : Comparator.comparing(result -> result.getEvent().getDescription(), String.CASE_INSENSITIVE_ORDER);
+            if (query.getSortKey().equals(Query.SORT_BY_DATE)) {
+                order = order.thenComparing(result -> result.getEvent().getTime(),
+                        Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()));
+            }
+            results.sort(query.isDescending() ? order.reversed() : order);
+        }
+        if (query.getLimit() > 0 && results.size() > query.getLimit()) {
+            return new ArrayList<>(results.subList(0, query.getLimit()));
+        }
+        return results;
+    }
+
+    /**
+     * Describes the plan, one line for each list and one for the sort and limit.
+     *
+     * @return lines describing the plan.
+     */
+    public ArrayList<String> describe() {
+        ArrayList<String> lines = new ArrayList<>();
+        for (ListScan scan : scans) {
+            String line = scan.listName + ": " + scan.accessPath + ", " + (scan.end - scan.start) + " of "
+                    + scan.entryCount + " entries read";
+            if (!scan.checkedClauses.isEmpty()) {
+                line += ", then " + String.join(", ", scan.checkedClauses) + " checked";
+            }
+            lines.add(line);
+        }
+        for (String listName : skippedLists) {
+            lines.add(listName + ": not read");
+        }
+        if (query.getSortKey() != null) {
+            lines.add("Sorted by " + query.getSortKey() + (query.isDescending() ? ", descending" : "")
+                    + ((query.getLimit() > 0) ? ", first " + query.getLimit() + " shown" : ""));
+        } else if (query.getLimit() > 0) {
+            lines.add("Reading stops after " + query.getLimit() + " matches");
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the access path chosen for the list.
+     *
+     * @param listName name of the list.
+     * @return access path, or null if the list is not read.
+     */
+    String getAccessPath(String listName) {
+        for (ListScan scan : scans) {
+            if (scan.listName.equals(listName)) {
+                return scan.accessPath;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Entries of one list read by a query, and the clauses checked on them.
+     */
+    static class ListScan {
+        private final String listName;
+        private final String accessPath;
+        private final Event[] source;
+        private final int start;
+        private final int end;
+        private final int entryCount;
+        private final ArrayList<String> checkedClauses;
+        private final ArrayList<Predicate<Event>> filters;
+
+        ListScan(String listName, String accessPath, Event[] source, int start, int end, int entryCount,
+                 ArrayList<String> checkedClauses, ArrayList<Predicate<Event>> filters) {
+            this.listName = listName;
+            this.accessPath = accessPath;
+            this.source = source;
+            this.start = start;
+            this.end = end;
+            this.entryCount = entryCount;
+            this.checkedClauses = checkedClauses;
+            this.filters = filters;
+        }
+
+        private boolean matches(Event event) {
+            for (Predicate<Event> filter : filters) {
+                if (!filter.test(event)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
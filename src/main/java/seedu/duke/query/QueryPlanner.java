@@ -0,0 +1,127 @@
+package seedu.duke.query;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.exception.InvalidListException;
+
+import java.util.ArrayList;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * Turns a query into a plan that reads as few events as it can.
+ * Lists not named by the query are not read at all. For each list read, the planner counts how many entries each
+ * access path of the list's {@link EventIndex} would read: every entry, the entries in the date range, or the
+ * entries with the status wanted. It reads the smallest, and checks the clauses that path does not already ensure.
+ * Indexes are kept for each list until the list changes, so queries on unchanged data do not build them again.
+ */
+public class QueryPlanner {
+    static final String FULL_SCAN = "full scan";
+    static final String DATE_RANGE_SCAN = "date range scan";
+    static final String STATUS_PARTITION = "status partition";
+
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Plans the query over the given data.
+     *
+     * @param query Query to plan.
+     * @param data  UserData to search.
+     * @return plan of the query.
+     * @throws InvalidListException if the query names a list that does not exist.
+     */
+    public QueryPlan plan(Query query, UserData data) throws InvalidListException {
+        ArrayList<EventList> lists = new ArrayList<>();
+        if (query.getListNames() == null) {
+            lists.addAll(data.getAllEventLists());
+        } else {
+            for (String listName : query.getListNames()) {
+                lists.add(data.getEventList(listName));
+            }
+        }
+
+        ArrayList<QueryPlan.ListScan> scans = new ArrayList<>();
+        for (EventList list : lists) {
+            scans.add(planScan(query, list));
+        }
+        ArrayList<String> skippedLists = new ArrayList<>();
+        for (EventList list : data.getAllEventLists()) {
+            if (!lists.contains(list)) {
+                skippedLists.add(list.getName());
+            }
+        }
+        return new QueryPlan(query, scans, skippedLists);
+    }
+
+    private QueryPlan.ListScan planScan(Query query, EventList list) {
+        EventIndex index = EventIndex.of(list);
+        Event[] source = index.getEntries();
+        int start = 0;
+        int end = source.length;
+        String accessPath = FULL_SCAN;
+
+        if (query.hasDateRange()) {
+            long fromDay = (query.getFromDate() == null) ? Long.MIN_VALUE : query.getFromDate().toEpochDay();
+            int dateStart = index.firstOnOrAfter(fromDay);
+            int dateEnd = (query.getToDate() == null) ? index.getEntriesByDate().length
+                    : index.firstOnOrAfter(query.getToDate().toEpochDay() + 1);
+            if (dateEnd - dateStart < end - start) {
+                source = index.getEntriesByDate();
+                start = dateStart;
+                end = Math.max(dateStart, dateEnd);
+                accessPath = DATE_RANGE_SCAN;
+            }
+        }
+        if (query.getDoneWanted() != null) {
+            Event[] statusEntries = index.getEntriesWithStatus(query.getDoneWanted());
+            if (statusEntries.length < end - start) {
+                source = statusEntries;
+                start = 0;
+                end = statusEntries.length;
+                accessPath = STATUS_PARTITION;
+            }
+        }
+
+        ArrayList<String> checkedClauses = new ArrayList<>();
+        ArrayList<Predicate<Event>> filters = new ArrayList<>();
+        addFilters(query, accessPath, checkedClauses, filters);
+        logger.fine("Query reads " + (end - start) + " of " + index.getEntries().length + " entries of "
+                + list.getName() + " by " + accessPath);
+        return new QueryPlan.ListScan(list.getName(), accessPath, source, start, end, index.getEntries().length,
+                checkedClauses, filters);
+    }
+
+    /**
+     * Adds a filter for each clause of the query the access path does not ensure, cheapest first.
+     */
+    private static void addFilters(Query query, String accessPath, ArrayList<String> checkedClauses,
+                                   ArrayList<Predicate<Event>> filters) {
+        Boolean isDoneWanted = query.getDoneWanted();
+        if (isDoneWanted != null && !accessPath.equals(STATUS_PARTITION)) {
+            checkedClauses.add("status");
+            filters.add(event -> event.getStatus().equals("O") == isDoneWanted);
+        }
+        if (query.isNotesWanted()) {
+            checkedClauses.add("notes");
+            filters.add(Event::hasNotes);
+        }
+        if (query.isRepeatWanted()) {
+            checkedClauses.add("repeat");
+            filters.add(event -> event.getRepeatType() != null);
+        }
+        if (query.hasDateRange() && !accessPath.equals(DATE_RANGE_SCAN)) {
+            long fromDay = (query.getFromDate() == null) ? Long.MIN_VALUE : query.getFromDate().toEpochDay();
+            long toDay = (query.getToDate() == null) ? Long.MAX_VALUE : query.getToDate().toEpochDay();
+            checkedClauses.add("date");
+            filters.add(event -> event.getDate() != null && event.getDate().toEpochDay() >= fromDay
+                    && event.getDate().toEpochDay() <= toDay);
+        }
+        String keyword = query.getKeyword();
+        if (keyword != null) {
+            checkedClauses.add("description");
+            filters.add(event -> event.getDescription().toLowerCase().contains(keyword));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.duke.query;
+
+import seedu.duke.event.Event;
+
+/**
+ * Event matched by a query, with the name of the list it is in.
+ */
+public class QueryResult {
+    private final String listName;
+    private final Event event;
+
+    QueryResult(String listName, Event event) {
+        this.listName = listName;
+        this.event = event;
+    }
+
+    public String getListName() {
+        return listName;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+}
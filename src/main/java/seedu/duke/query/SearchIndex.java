@@ -0,0 +1,385 @@
+package seedu.duke.query;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.ChangeBus;
+import seedu.duke.data.DataView;
+import seedu.duke.data.DerivedValues;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.event.Timetable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Trigram index over the descriptions of events and the locations of timetable events, for searches that still find
+ * events when words are misspelt or only partly typed.
+ * Each distinct text is split into words, and each word, with a space before and after it, into the runs of three
+ * characters it contains. A search counts, for each indexed text, how many of the trigrams of the search it shares,
+ * so only texts sharing a trigram with the search are looked at.
+ * The index is kept up to date from the changes made by each write to the data: only the events added, removed or
+ * changed are indexed again, and a text shared by many events, such as that of a weekly lesson, is indexed once.
+ */
+public class SearchIndex extends DataView {
+    /** Smallest share of the trigrams of a search that a text must contain to be found. */
+    static final double MIN_SIMILARITY = 0.5;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final HashMap<String, Integer> textIds = new HashMap<>();
+    private final ArrayList<IndexedText> texts = new ArrayList<>();
+    private final ArrayDeque<Integer> freeIds = new ArrayDeque<>();
+    private final HashMap<Long, Postings> postings = new HashMap<>();
+    private final TreeMap<String, Integer> wordCounts = new TreeMap<>();
+    private final DerivedValues<IndexedEvent> indexedEvents = new DerivedValues<>(new DerivedValues.Deriver<>() {
+        @Override
+        public IndexedEvent derive(EventList list, Event event, IndexedEvent oldIndexed) {
+            return index(list, event, oldIndexed);
+        }
+
+        @Override
+        public void discard(IndexedEvent indexed) {
+            unindex(indexed);
+        }
+    });
+    private ArrayList<EventList> lists = new ArrayList<>();
+    private int[] sharedCounts = new int[0];
+
+    /**
+     * Indexes every event in the data again.
+     * Must be called while no other thread changes the data, such as while holding the UserDataStore's write lock.
+     *
+     * @param data UserData to index.
+     */
+    @Override
+    public synchronized void refresh(UserData data) {
+        lists = data.getAllEventLists();
+        indexedEvents.reset(data);
+        logger.fine("Search index made for " + indexedEvents.getSize() + " events, " + textIds.size() + " texts");
+    }
+
+    /**
+     * Indexes again the events added, removed or changed by a write to the data.
+     *
+     * @param data    live UserData after the changes.
+     * @param changes changes made by the write.
+     */
+    @Override
+    protected synchronized void apply(UserData data, List<ChangeBus.Change> changes) {
+        lists = data.getAllEventLists();
+        int indexedCount = indexedEvents.apply(changes);
+        if (indexedCount > 0) {
+            logger.fine("Search index updated for " + indexedCount + " events, " + textIds.size() + " texts");
+        }
+    }
+
+    /**
+     * Returns an index of the events in the given data, not kept up to date as the data changes.
+     *
+     * @param data UserData to index.
+     * @return index of the data.
+     */
+    public static SearchIndex of(UserData data) {
+        SearchIndex index = new SearchIndex();
+        index.refresh(data);
+        return index;
+    }
+
+    /**
+     * Finds the events whose description or location is like the given text, most alike first.
+     * Texts containing the search as it is typed come first, then texts sharing the most trigrams with it.
+     * Events with the same text are given in the order of their lists.
+     *
+     * @param search   text to search for.
+     * @param maxCount largest number of events to return.
+     * @return text of the events found, as they were when last indexed, and the lists they are in.
+     */
+    public synchronized ArrayList<SearchResult> search(String search, int maxCount) {
+        String normalised = normalise(search);
+        long[] searchTrigrams = getTrigrams(getWords(normalised));
+        ArrayList<SearchResult> results = new ArrayList<>();
+        if (searchTrigrams.length == 0) {
+            return results;
+        }
+
+        if (sharedCounts.length < texts.size()) {
+            sharedCounts = new int[texts.size()];
+        }
+        ArrayList<Integer> candidateIds = new ArrayList<>();
+        for (long trigram : searchTrigrams) {
+            Postings textsWithTrigram = postings.get(trigram);
+            if (textsWithTrigram == null) {
+                continue;
+            }
+            for (int i = 0; i < textsWithTrigram.size; i++) {
+                int id = textsWithTrigram.ids[i];
+                if (sharedCounts[id] == 0) {
+                    candidateIds.add(id);
+                }
+                sharedCounts[id]++;
+            }
+        }
+
+        ArrayList<Match> matches = new ArrayList<>();
+        for (int id : candidateIds) {
+            IndexedText text = texts.get(id);
+            int shared = sharedCounts[id];
+            sharedCounts[id] = 0;
+            double similarity = text.text.contains(normalised) ? 1 : (double) shared / searchTrigrams.length;
+            if (similarity >= MIN_SIMILARITY) {
+                double closeness = (double) shared / (searchTrigrams.length + text.trigrams.length - shared);
+                matches.add(new Match(text.text, similarity, closeness));
+            }
+        }
+        matches.sort((first, second) -> {
+            if (first.similarity != second.similarity) {
+                return Double.compare(second.similarity, first.similarity);
+            }
+            if (first.closeness != second.closeness) {
+                return Double.compare(second.closeness, first.closeness);
+            }
+            return first.text.compareTo(second.text);
+        });
+
+        for (Match match : matches) {
+            ArrayList<IndexedEvent> events = new ArrayList<>(texts.get(textIds.get(match.text)).events);
+            events.sort(Comparator.comparingInt(indexed -> lists.indexOf(indexed.list)));
+            for (IndexedEvent indexed : events) {
+                if (results.size() == maxCount) {
+                    return results;
+                }
+                results.add(new SearchResult(indexed.list.getName(), indexed.listText));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the indexed words starting with the given prefix, the most used first.
+     * The prefix itself is not returned, as it is already complete.
+     *
+     * @param prefix   start of a word.
+     * @param maxCount largest number of words to return.
+     * @return words completing the prefix.
+     */
+    public synchronized ArrayList<String> complete(String prefix, int maxCount) {
+        String normalised = normalise(prefix);
+        ArrayList<String> words = new ArrayList<>();
+        if (normalised.isEmpty()) {
+            return words;
+        }
+        words.addAll(wordCounts.subMap(normalised, false, normalised + Character.MAX_VALUE, false).keySet());
+        words.sort((first, second) -> {
+            int countDifference = wordCounts.get(second) - wordCounts.get(first);
+            return (countDifference != 0) ? countDifference : first.compareTo(second);
+        });
+        return new ArrayList<>(words.subList(0, Math.min(maxCount, words.size())));
+    }
+
+    /**
+     * Returns the number of distinct texts indexed.
+     *
+     * @return number of texts.
+     */
+    synchronized int getTextCount() {
+        return textIds.size();
+    }
+
+    private IndexedEvent index(EventList list, Event event, IndexedEvent oldIndexed) {
+        String text = getText(event);
+        if (oldIndexed != null) {
+            if (oldIndexed.list == list && oldIndexed.text.equals(text)) {
+                oldIndexed.listText = event.getListText();
+                return oldIndexed;
+            }
+            unindex(oldIndexed);
+        }
+        IndexedEvent indexed = new IndexedEvent(text, list, event.getListText());
+        addText(text).events.add(indexed);
+        return indexed;
+    }
+
+    private void unindex(IndexedEvent indexed) {
+        int id = textIds.get(indexed.text);
+        IndexedText indexedText = texts.get(id);
+        indexedText.events.remove(indexed);
+        if (indexedText.events.isEmpty()) {
+            releaseText(id, indexedText);
+        }
+    }
+
+    /**
+     * Returns the indexed text, indexing it first if no event has it yet.
+     */
+    private IndexedText addText(String text) {
+        Integer existingId = textIds.get(text);
+        if (existingId != null) {
+            return texts.get(existingId);
+        }
+        String[] words = getWords(text);
+        IndexedText indexedText = new IndexedText(text, words, getTrigrams(words));
+        int id;
+        if (freeIds.isEmpty()) {
+            id = texts.size();
+            texts.add(indexedText);
+        } else {
+            id = freeIds.pop();
+            texts.set(id, indexedText);
+        }
+        textIds.put(text, id);
+        for (long trigram : indexedText.trigrams) {
+            postings.computeIfAbsent(trigram, key -> new Postings()).add(id);
+        }
+        for (String word : new HashSet<>(Arrays.asList(words))) {
+            wordCounts.merge(word, 1, Integer::sum);
+        }
+        return indexedText;
+    }
+
+    /**
+     * Drops a text that no event has any more.
+     */
+    private void releaseText(int id, IndexedText indexedText) {
+        for (long trigram : indexedText.trigrams) {
+            Postings textsWithTrigram = postings.get(trigram);
+            textsWithTrigram.remove(id);
+            if (textsWithTrigram.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+        for (String word : new HashSet<>(Arrays.asList(indexedText.words))) {
+            if (wordCounts.merge(word, -1, Integer::sum) == 0) {
+                wordCounts.remove(word);
+            }
+        }
+        textIds.remove(indexedText.text);
+        texts.set(id, null);
+        freeIds.push(id);
+    }
+
+    private static String getText(Event event) {
+        String text = normalise(event.getDescription());
+        if (event instanceof Timetable && ((Timetable) event).getLocation() != null) {
+            text += " " + normalise(((Timetable) event).getLocation());
+        }
+        return text;
+    }
+
+    private static String normalise(String text) {
+        return (text == null) ? "" : text.trim().toLowerCase();
+    }
+
+    private static String[] getWords(String text) {
+        ArrayList<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the distinct trigrams of the words, each packed into a long, with a space before and after each word.
+     */
+    private static long[] getTrigrams(String[] words) {
+        HashSet<Long> trigrams = new HashSet<>();
+        for (String word : words) {
+            String padded = " " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16)
+                        | padded.charAt(i + 2));
+            }
+        }
+        long[] result = new long[trigrams.size()];
+        int i = 0;
+        for (long trigram : trigrams) {
+            result[i++] = trigram;
+        }
+        return result;
+    }
+
+    /**
+     * A distinct text in the index, and the events that have it, in the order they were indexed.
+     */
+    private static class IndexedText {
+        private final String text;
+        private final String[] words;
+        private final long[] trigrams;
+        private final ArrayList<IndexedEvent> events = new ArrayList<>();
+
+        private IndexedText(String text, String[] words, long[] trigrams) {
+            this.text = text;
+            this.words = words;
+            this.trigrams = trigrams;
+        }
+    }
+
+    /**
+     * An indexed event, with its text, the list it is in, and its text as printed in a list when it was last indexed.
+     * The event itself is not kept, as searches must not read the live data, which may be changing.
+     */
+    private static class IndexedEvent {
+        private final String text;
+        private final EventList list;
+        private String listText;
+
+        private IndexedEvent(String text, EventList list, String listText) {
+            this.text = text;
+            this.list = list;
+            this.listText = listText;
+        }
+    }
+
+    /**
+     * Ids of the texts containing a trigram, in no particular order.
+     */
+    private static class Postings {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        private void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private void remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * A text found by a search, with the share of the search's trigrams it contains, and the share of the
+     * trigrams of both that they have in common.
+     */
+    private static class Match {
+        private final String text;
+        private final double similarity;
+        private final double closeness;
+
+        private Match(String text, double similarity, double closeness) {
+            this.text = text;
+            this.similarity = similarity;
+            this.closeness = closeness;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.duke.query;
+
+/**
+ * Event found by a search, as it was when it was last indexed, with the name of the list it is in.
+ * The text is kept instead of the event, so that printing the result does not read the live data.
+ */
+public class SearchResult {
+    private final String listName;
+    private final String text;
+
+    SearchResult(String listName, String text) {
+        this.listName = listName;
+        this.text = text;
+    }
+
+    public String getListName() {
+        return listName;
+    }
+
+    public String getText() {
+        return text;
+    }
+}
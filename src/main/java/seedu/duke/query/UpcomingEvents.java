@@ -0,0 +1,105 @@
+package seedu.duke.query;
+
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+
+/**
+ * Finds the next events after a given time across all lists, counting every repeat of an event.
+ * The dated entries of each list's {@link EventIndex} are already in date and time order, so each list is read from
+ * its first entry after the time, and the lists are merged with a heap holding the next entry of each list.
+ * Finding the next N events of k lists reads about N entries and takes O(N log k) steps after the indexes are built.
+ * The same merge lists all dated events in order for the calendar, without sorting them again.
+ */
+public class UpcomingEvents {
+    /**
+     * Returns the next events after the given time, earliest first. Untimed events on the day of the given time
+     * are included, as they may not have happened yet.
+     *
+     * @param data     UserData to search.
+     * @param after    time the events must not be before.
+     * @param maxCount largest number of events to return.
+     * @return events found and the lists they are in.
+     */
+    public static ArrayList<QueryResult> next(UserData data, LocalDateTime after, int maxCount) {
+        return merge(data, after, maxCount);
+    }
+
+    /**
+     * Returns all dated events across all lists in date and time order, with untimed events first on each date.
+     *
+     * @param data UserData to search.
+     * @return dated events and the lists they are in.
+     */
+    public static ArrayList<QueryResult> all(UserData data) {
+        return merge(data, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Merges the dated entries of all lists from the given time, or from the first entry if the time is null.
+     */
+    private static ArrayList<QueryResult> merge(UserData data, LocalDateTime after, int maxCount) {
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+        int listOrder = 0;
+        for (EventList list : data.getAllEventLists()) {
+            EventIndex index = EventIndex.of(list);
+            Event[] entries = index.getEntriesByDate();
+            int position = (after == null) ? 0 : index.firstOnOrAfter(after.toLocalDate().toEpochDay());
+            while (after != null && position < entries.length && isEarlierToday(entries[position], after)) {
+                position++;
+            }
+            if (position < entries.length) {
+                cursors.add(new Cursor(list.getName(), listOrder, entries, position));
+            }
+            listOrder++;
+        }
+
+        ArrayList<QueryResult> results = new ArrayList<>();
+        while (results.size() < maxCount && !cursors.isEmpty()) {
+            Cursor cursor = cursors.poll();
+            results.add(new QueryResult(cursor.listName, cursor.current()));
+            cursor.position++;
+            if (cursor.position < cursor.entries.length) {
+                cursors.add(cursor);
+            }
+        }
+        return results;
+    }
+
+    private static boolean isEarlierToday(Event entry, LocalDateTime after) {
+        return entry.getDate().equals(after.toLocalDate()) && entry.getTime() != null
+                && entry.getTime().isBefore(after.toLocalTime());
+    }
+
+    /**
+     * Position in the date ordered entries of one list. Cursors are ordered by their current entry, and by the order
+     * of their lists for entries at the same time.
+     */
+    private static class Cursor implements Comparable<Cursor> {
+        private final String listName;
+        private final int listOrder;
+        private final Event[] entries;
+        private int position;
+
+        private Cursor(String listName, int listOrder, Event[] entries, int position) {
+            this.listName = listName;
+            this.listOrder = listOrder;
+            this.entries = entries;
+            this.position = position;
+        }
+
+        private Event current() {
+            return entries[position];
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int order = EventIndex.DATE_ORDER.compare(current(), other.current());
+            return (order != 0) ? order : Integer.compare(listOrder, other.listOrder);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package seedu.duke.reminder;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.ChangeBus;
+import seedu.duke.data.DataView;
+import seedu.duke.data.DerivedValues;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.ui.Ui;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.logging.Logger;
+
+/**
+ * Prints a reminder a number of minutes before each upcoming timed event, including each repeat of an event,
+ * from a background thread.
+ * Upcoming reminders are kept in a priority queue ordered by the time they are due, and the thread sleeps until
+ * the first one is due instead of checking every event regularly.
+ * After each write to the data, only the events that were added, removed or changed are scheduled again, as told
+ * by the changes the write published. Reminders of removed or changed events are left in the queue, marked as
+ * cancelled, and skipped when they are due.
+ */
+public class ReminderScheduler extends DataView {
+    public static final int DEFAULT_LEAD_MINUTES = 15;
+    private static final long MILLISECONDS_PER_MINUTE = 60_000L;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private final Ui ui;
+    private final Clock clock;
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>();
+    private final DerivedValues<ArrayList<Reminder>> scheduled = new DerivedValues<>(new DerivedValues.Deriver<>() {
+        @Override
+        public ArrayList<Reminder> derive(EventList list, Event event, ArrayList<Reminder> oldReminders) {
+            return schedule(list.getName(), event, oldReminders);
+        }
+
+        @Override
+        public void discard(ArrayList<Reminder> reminders) {
+            cancelAll(reminders);
+        }
+    });
+    private int leadMinutes = DEFAULT_LEAD_MINUTES;
+    private int cancelledCount = 0;
+    private Thread thread;
+    private boolean isRunning = false;
+
+    /**
+     * Creates a scheduler printing reminders to the given Ui, using the system clock.
+     *
+     * @param ui Ui to print reminders to.
+     */
+    public ReminderScheduler(Ui ui) {
+        this(ui, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a scheduler printing reminders to the given Ui, using the given clock to tell when reminders are due.
+     *
+     * @param ui    Ui to print reminders to.
+     * @param clock clock giving the current time.
+     */
+    public ReminderScheduler(Ui ui, Clock clock) {
+        this.ui = ui;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts the background thread that prints reminders when they are due.
+     */
+    public synchronized void start() {
+        if (isRunning) {
+            return;
+        }
+        isRunning = true;
+        thread = new Thread(this::run, "reminder-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Reminder scheduler started with " + queue.size() + " reminders");
+    }
+
+    /**
+     * Stops the background thread. Reminders are still kept up to date, and are printed again after a restart.
+     */
+    public synchronized void stop() {
+        isRunning = false;
+        thread = null;
+        notifyAll();
+    }
+
+    /**
+     * Returns true if the background thread is printing reminders.
+     *
+     * @return true if started and not stopped.
+     */
+    public synchronized boolean isRunning() {
+        return isRunning;
+    }
+
+    /**
+     * Sets how many minutes before an event its reminder is printed, and schedules every reminder again.
+     *
+     * @param minutes number of minutes, at least 0.
+     */
+    public void setLeadMinutes(int minutes) {
+        assert minutes >= 0 : "reminders cannot be printed after the event starts";
+        UserDataStore currentStore;
+        synchronized (this) {
+            leadMinutes = minutes;
+            currentStore = getStore();
+        }
+        if (currentStore != null) {
+            currentStore.refresh(this::refresh);
+        }
+    }
+
+    /**
+     * Returns how many minutes before an event its reminder is printed.
+     *
+     * @return number of minutes.
+     */
+    public synchronized int getLeadMinutes() {
+        return leadMinutes;
+    }
+
+    /**
+     * Returns the number of reminders waiting to be printed.
+     *
+     * @return number of reminders scheduled and not cancelled.
+     */
+    public synchronized int getPendingCount() {
+        return queue.size() - cancelledCount;
+    }
+
+    /**
+     * Schedules the reminders of every event again.
+     * Must be called while no other thread changes the data, such as while holding the UserDataStore's write lock.
+     *
+     * @param data live UserData.
+     */
+    @Override
+    protected synchronized void refresh(UserData data) {
+        queue.clear();
+        cancelledCount = 0;
+        scheduled.clear();
+        scheduled.reset(data);
+        logger.fine("Reminders scheduled for " + scheduled.getSize() + " events, " + getPendingCount() + " pending");
+        notifyAll();
+    }
+
+    /**
+     * Schedules again the reminders of the events added, removed or changed by a write to the data.
+     *
+     * @param data    live UserData after the changes.
+     * @param changes changes made by the write.
+     */
+    @Override
+    protected synchronized void apply(UserData data, List<ChangeBus.Change> changes) {
+        int scheduledCount = scheduled.apply(changes);
+        if (cancelledCount > queue.size() / 2) {
+            removeCancelled();
+        }
+        if (scheduledCount > 0) {
+            logger.fine("Reminders rescheduled for " + scheduledCount + " events, " + getPendingCount() + " pending");
+            notifyAll();
+        }
+    }
+
+    /**
+     * Prints the reminders that are due, in the order they are due.
+     *
+     * @return number of reminders printed.
+     */
+    int fireDue() {
+        ArrayList<Reminder> due = new ArrayList<>();
+        long nowMillis;
+        synchronized (this) {
+            nowMillis = clock.millis();
+            while (!queue.isEmpty() && queue.peek().dueMillis <= nowMillis) {
+                Reminder reminder = queue.poll();
+                reminder.isQueued = false;
+                if (reminder.isCancelled) {
+                    cancelledCount--;
+                } else {
+                    due.add(reminder);
+                }
+            }
+        }
+        for (Reminder reminder : due) {
+            long minutesLeft = Math.max(0, (reminder.startMillis - nowMillis + MILLISECONDS_PER_MINUTE - 1)
+                    / MILLISECONDS_PER_MINUTE);
+            ui.printReminderNotification(reminder.listName, reminder.eventText, minutesLeft);
+        }
+        return due.size();
+    }
+
+    private void run() {
+        Thread currentThread = Thread.currentThread();
+        while (true) {
+            synchronized (this) {
+                try {
+                    while (thread == currentThread && !isDue()) {
+                        //wait(0) waits until notified, so a reminder due by now still waits at least 1 ms
+                        long delay = queue.isEmpty() ? 0 : Math.max(1, queue.peek().dueMillis - clock.millis());
+                        wait(delay);
+                    }
+                } catch (InterruptedException e) {
+                    logger.warning("Reminder scheduler interrupted");
+                    return;
+                }
+                if (thread != currentThread) {
+                    return;
+                }
+            }
+            fireDue();
+        }
+    }
+
+    private boolean isDue() {
+        return !queue.isEmpty() && queue.peek().dueMillis <= clock.millis();
+    }
+
+    /**
+     * Schedules the reminders of an event and its repeats, keeping the reminders of the occurrences that did not
+     * change and cancelling the others.
+     *
+     * @return reminders of the event, or null if it has none.
+     */
+    private ArrayList<Reminder> schedule(String listName, Event event, ArrayList<Reminder> oldReminders) {
+        IdentityHashMap<Event, Reminder> oldByOccurrence = new IdentityHashMap<>();
+        if (oldReminders != null) {
+            for (Reminder reminder : oldReminders) {
+                oldByOccurrence.put(reminder.occurrence, reminder);
+            }
+        }
+        ArrayList<Reminder> reminders = new ArrayList<>();
+        long nowMillis = clock.millis();
+        scheduleOccurrence(listName, event, oldByOccurrence, reminders, nowMillis);
+        if (event.getRepeatEventList() != null) {
+            for (Event repeatEvent : event.getRepeatEventList()) {
+                scheduleOccurrence(listName, repeatEvent, oldByOccurrence, reminders, nowMillis);
+            }
+        }
+        cancelAll(oldByOccurrence.values());
+        return reminders.isEmpty() ? null : reminders;
+    }
+
+    private void scheduleOccurrence(String listName, Event occurrence, IdentityHashMap<Event, Reminder> oldReminders,
+            ArrayList<Reminder> reminders, long nowMillis) {
+        Reminder oldReminder = oldReminders.remove(occurrence);
+        if (oldReminder != null && oldReminder.version == occurrence.getVersion()) {
+            reminders.add(oldReminder);
+            return;
+        }
+        if (oldReminder != null) {
+            cancel(oldReminder);
+        }
+        if (occurrence.getDate() == null || occurrence.getTime() == null || occurrence.getStatus().equals("O")) {
+            return;
+        }
+        long startMillis = LocalDateTime.of(occurrence.getDate(), occurrence.getTime()).atZone(clock.getZone())
+                .toInstant().toEpochMilli();
+        if (startMillis <= nowMillis) {
+            return;
+        }
+        Reminder reminder = new Reminder(startMillis - leadMinutes * MILLISECONDS_PER_MINUTE, startMillis,
+                listName, occurrence, occurrence.toString());
+        queue.add(reminder);
+        reminders.add(reminder);
+    }
+
+    private void cancelAll(Iterable<Reminder> reminders) {
+        if (reminders == null) {
+            return;
+        }
+        for (Reminder reminder : reminders) {
+            cancel(reminder);
+        }
+    }
+
+    /**
+     * Marks the reminder as cancelled. Only reminders still in the queue are counted as cancelled, as the count is
+     * used to tell how many reminders in the queue are still pending.
+     */
+    private void cancel(Reminder reminder) {
+        if (!reminder.isCancelled && reminder.isQueued) {
+            reminder.isCancelled = true;
+            cancelledCount++;
+        }
+    }
+
+    private void removeCancelled() {
+        Iterator<Reminder> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            Reminder reminder = iterator.next();
+            if (reminder.isCancelled) {
+                reminder.isQueued = false;
+                iterator.remove();
+            }
+        }
+        cancelledCount = 0;
+    }
+
+    /**
+     * Reminder of one occurrence of an event, with the text to print so that printing does not read the live data.
+     * The occurrence is only kept to find the reminder again when the event changes.
+     */
+    private static class Reminder implements Comparable<Reminder> {
+        private final long dueMillis;
+        private final long startMillis;
+        private final String listName;
+        private final Event occurrence;
+        private final String eventText;
+        private final long version;
+        private boolean isCancelled = false;
+        private boolean isQueued = true;
+
+        private Reminder(long dueMillis, long startMillis, String listName, Event occurrence, String eventText) {
+            this.dueMillis = dueMillis;
+            this.startMillis = startMillis;
+            this.listName = listName;
+            this.occurrence = occurrence;
+            this.eventText = eventText;
+            this.version = occurrence.getVersion();
+        }
+
+        @Override
+        public int compareTo(Reminder other) {
+            return Long.compare(dueMillis, other.dueMillis);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.duke.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import seedu.duke.EventLogger;
+import seedu.duke.command.Command;
+import seedu.duke.data.Profile;
+import seedu.duke.data.ProfileManager;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.exception.DukeException;
+import seedu.duke.parser.Parser;
+import seedu.duke.ui.JsonFormatter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Serves the schedule over HTTP on localhost, so that other local tools can query and update it with JSON replies.
+ * Read commands run on the latest snapshot of the data and never wait for writes, and reply with each event they
+ * show as structured data, along with the lines they would print as a fallback.
+ * Write commands are applied one at a time to the live data through the {@link UserDataStore}.
+ * Each request runs on the profile named in its "profile" query parameter, or the active profile if none is given,
+ * which is kept loaded until the request is done.
+ */
+public class ApiServer {
+    private static final String[] READ_COMMANDS = {"list", "check", "calendar", "reminder", "stats"};
+    private static final String[] WRITE_COMMANDS = {"add", "done", "delete"};
+    private static final String ARGUMENT_PARAMETER = "args=";
+    private static final String PROFILE_PARAMETER = "profile=";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ProfileManager profiles;
+    private final Parser parser = new Parser();
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates a server for the given data that listens on the loopback address only.
+     *
+     * @param port     port to listen on, 0 to pick any free port.
+     * @param profiles ProfileManager holding the users' data.
+     * @throws IOException if the server cannot listen on the port.
+     */
+    public ApiServer(int port, ProfileManager profiles) throws IOException {
+        this.profiles = profiles;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        for (String commandWord : READ_COMMANDS) {
+            server.createContext("/" + commandWord, exchange -> handle(exchange, commandWord, false));
+        }
+        for (String commandWord : WRITE_COMMANDS) {
+            server.createContext("/" + commandWord, exchange -> handle(exchange, commandWord, true));
+        }
+        executor = createExecutor();
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server started on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests and waits briefly for requests being handled to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return port number.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles each request on its own virtual thread when the Java runtime supports them,
+     * otherwise on a thread from a cached pool.
+     *
+     * @return executor to run request handlers on.
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.fine("Virtual threads are not available, requests will use a cached thread pool.");
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Runs the command requested and replies with its output as JSON.
+     * Read commands take their arguments from the "args" query parameter, write commands from the request body.
+     * Paths that only start with the command word, such as "/listfoo", are not found.
+     *
+     * @param exchange    the HTTP request and response.
+     * @param commandWord the command to run.
+     * @param isWrite     true if the command changes the data.
+     * @throws IOException if the reply cannot be sent.
+     */
+    private void handle(HttpExchange exchange, String commandWord, boolean isWrite) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (!path.equals("/" + commandWord)) {
+            reply(exchange, 404, null, null, new ArrayList<>(), "No command is served at " + path);
+            return;
+        }
+        String expectedMethod = isWrite ? "POST" : "GET";
+        if (!exchange.getRequestMethod().equals(expectedMethod)) {
+            reply(exchange, 405, commandWord, null, new ArrayList<>(),
+                    expectedMethod + " is required for " + commandWord);
+            return;
+        }
+
+        String argument = isWrite ? readBody(exchange) : readQueryParameter(exchange, ARGUMENT_PARAMETER);
+        String profileName = readQueryParameter(exchange, PROFILE_PARAMETER);
+        ResponseUi ui = new ResponseUi();
+        try {
+            Profile profile = profiles.acquire(profileName.isEmpty() ? profiles.getActiveName() : profileName);
+            ArrayList<String> events = null;
+            try {
+                Command command = parser.parse((commandWord + " " + argument).trim());
+                UserData commandData = profile.getStore().execute(command, ui, profile.getStorage());
+                if (!isWrite) {
+                    events = ui.getEvents(commandData);
+                }
+            } finally {
+                profiles.release(profile);
+            }
+            reply(exchange, 200, commandWord, events, ui.getLines(), null);
+        } catch (DukeException e) {
+            reply(exchange, 400, commandWord, null, ui.getLines(), e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warning("API request for " + commandWord + " failed: " + e);
+            reply(exchange, 500, commandWord, null, ui.getLines(), "Internal error while running " + commandWord);
+        }
+    }
+
+    private String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+    }
+
+    private String readQueryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return "";
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(name)) {
+                return URLDecoder.decode(parameter.substring(name.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Sends the reply as JSON, with the events shown as JSON objects if the command is a read command that ran.
+     */
+    private void reply(HttpExchange exchange, int status, String commandWord, ArrayList<String> events,
+                       ArrayList<String> output, String error) throws IOException {
+        String json = "{\"command\":" + JsonFormatter.quote(commandWord)
+                + ",\"events\":" + ((events == null) ? "null" : "[" + String.join(",", events) + "]")
+                + ",\"output\":" + JsonFormatter.array(output)
+                + ",\"error\":" + JsonFormatter.quote(error) + "}";
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(body);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.duke.server;
+
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.ui.JsonFormatter;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Scanner;
+
+/**
+ * Ui that collects all printed messages for one API request instead of printing them to the console,
+ * along with the events printed, so that they can also be replied as structured data.
+ */
+public class ResponseUi extends Ui {
+    private final ByteArrayOutputStream buffer;
+    private final ArrayList<Event> printedEvents = new ArrayList<>();
+
+    /**
+     * Constructor for an empty ResponseUi.
+     */
+    public ResponseUi() {
+        this(new ByteArrayOutputStream());
+    }
+
+    private ResponseUi(ByteArrayOutputStream buffer) {
+        super((Scanner) null, new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        this.buffer = buffer;
+    }
+
+    /**
+     * There is no user to read input from, so an empty line is returned.
+     * Commands that page their output, such as calendar, will therefore print everything.
+     *
+     * @return an empty string.
+     */
+    @Override
+    public String receiveCommand() {
+        return "";
+    }
+
+    /**
+     * Returns every line printed to this Ui so far.
+     *
+     * @return lines of output in the order they were printed.
+     */
+    public ArrayList<String> getLines() {
+        String output = buffer.toString(StandardCharsets.UTF_8);
+        ArrayList<String> lines = new ArrayList<>();
+        if (!output.isEmpty()) {
+            lines.addAll(Arrays.asList(output.split("\\R")));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns every event printed to this Ui so far as JSON objects, with the list each is in and its number in
+     * that list. A repeat of an event has the number of the event it repeats.
+     *
+     * @param data UserData the command printing the events ran on.
+     * @return JSON objects of the events in the order they were printed.
+     */
+    public ArrayList<String> getEvents(UserData data) {
+        IdentityHashMap<Event, String> listNames = new IdentityHashMap<>();
+        IdentityHashMap<Event, Integer> indexes = new IdentityHashMap<>();
+        for (EventList list : data.getAllEventLists()) {
+            for (int i = 0; i < list.getSize(); i++) {
+                Event event = list.getEvents().get(i);
+                listNames.put(event, list.getName());
+                indexes.put(event, i + 1);
+                if (event.getRepeatEventList() != null) {
+                    for (Event repeatEvent : event.getRepeatEventList()) {
+                        listNames.put(repeatEvent, list.getName());
+                        indexes.put(repeatEvent, i + 1);
+                    }
+                }
+            }
+        }
+        ArrayList<String> events = new ArrayList<>();
+        for (Event event : printedEvents) {
+            events.add(JsonFormatter.event(listNames.get(event), indexes.getOrDefault(event, 0), event));
+        }
+        return events;
+    }
+
+    @Override
+    public void printListEvent(int index, Event e, String eventListName) {
+        super.printListEvent(index, e, eventListName);
+        printedEvents.add(e);
+    }
+
+    @Override
+    public void printCalendar(Map.Entry<LocalDate, ArrayList<Event>> entry) {
+        super.printCalendar(entry);
+        printedEvents.addAll(entry.getValue());
+    }
+
+    @Override
+    public void printReminder(ArrayList<Event> eventsWithTime, ArrayList<Event> eventsWithoutTime) {
+        super.printReminder(eventsWithTime, eventsWithoutTime);
+        printedEvents.addAll(eventsWithTime);
+        printedEvents.addAll(eventsWithoutTime);
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.duke.storage;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.exception.InvalidListException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps completed events that are long past in a GZIP compressed file, archive.gz, out of the event lists.
+ * Each line of the archive is the name of the list the event came from followed by the event as saved in its file.
+ * Archiving appends a new GZIP member to the end of the file, so the events already archived are not rewritten.
+ */
+public class Archive {
+    private static final String ARCHIVE_FILE = "archive.gz";
+    private static final String POLICY_FILE = "archive-policy.txt";
+    private static final String SEPARATOR = " | ";
+
+    private final Path archivePath;
+    private final Path policyPath;
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates an archive stored in the given data folder.
+     *
+     * @param directory data folder.
+     */
+    public Archive(Path directory) {
+        archivePath = directory.resolve(ARCHIVE_FILE);
+        policyPath = directory.resolve(POLICY_FILE);
+    }
+
+    /**
+     * Moves every completed event whose last occurrence was before the given date from the lists to the archive.
+     * A repeated event is only archived once every repeat is completed.
+     *
+     * @param data   UserData to remove the events from.
+     * @param before events occurring on or after this date are kept.
+     * @return names of the lists events were archived from, to be saved.
+     * @throws IOException if the archive cannot be written, in which case no event is removed.
+     */
+    public ArrayList<String> archiveBefore(UserData data, LocalDate before) throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        ArrayList<EventList> changedLists = new ArrayList<>();
+        ArrayList<ArrayList<Event>> archivedEvents = new ArrayList<>();
+        for (EventList list : data.getAllEventLists()) {
+            ArrayList<Event> toArchive = new ArrayList<>();
+            for (Event event : list.getEvents()) {
+                if (isArchivable(event, before)) {
+                    toArchive.add(event);
+                    lines.add(list.getName() + SEPARATOR + StorageParser.eventToString(event, list.getName()));
+                }
+            }
+            if (!toArchive.isEmpty()) {
+                changedLists.add(list);
+                archivedEvents.add(toArchive);
+            }
+        }
+        if (lines.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(
+                archivePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND)), StandardCharsets.UTF_8))) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        ArrayList<String> changedNames = new ArrayList<>();
+        for (int i = 0; i < changedLists.size(); i++) {
+            changedLists.get(i).removeAll(archivedEvents.get(i));
+            changedNames.add(changedLists.get(i).getName());
+        }
+        logger.info(lines.size() + " events from before " + before + " archived");
+        return changedNames;
+    }
+
+    /**
+     * Returns the archived events whose description contains the keyword, ignoring case.
+     *
+     * @param keyword to search for, or blank for every archived event.
+     * @return matching events, numbered by their position in the archive.
+     * @throws IOException if the archive cannot be read.
+     */
+    public ArrayList<ArchivedEvent> search(String keyword) throws IOException {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        ArrayList<ArchivedEvent> matches = new ArrayList<>();
+        ArrayList<String> problems = new ArrayList<>();
+        List<String> lines = readLines();
+        for (int i = 0; i < lines.size(); i++) {
+            ArchivedEvent archivedEvent = parseLine(i + 1, lines.get(i), problems);
+            if (archivedEvent != null
+                    && archivedEvent.getEvent().getDescription().toLowerCase().contains(lowerCaseKeyword)) {
+                matches.add(archivedEvent);
+            }
+        }
+        if (!problems.isEmpty()) {
+            logger.warning(problems.size() + " archived events could not be read: " + problems.get(0));
+        }
+        return matches;
+    }
+
+    /**
+     * Moves the archived event with the given number back into its list.
+     * The event is added to the list before it is removed from the archive, and the list should be saved after.
+     *
+     * @param data   UserData to add the event to.
+     * @param number position of the event in the archive, starting from 1.
+     * @return the event restored, or null if there is no readable archived event with the number.
+     * @throws IOException if the archive cannot be read or written.
+     */
+    public ArchivedEvent restore(UserData data, int number) throws IOException {
+        List<String> lines = readLines();
+        if (number < 1 || number > lines.size()) {
+            return null;
+        }
+        ArchivedEvent archivedEvent = parseLine(number, lines.get(number - 1), new ArrayList<>());
+        if (archivedEvent == null) {
+            return null;
+        }
+        EventList list;
+        try {
+            list = data.getEventList(archivedEvent.getListName());
+        } catch (InvalidListException e) {
+            return null;
+        }
+
+        list.add(archivedEvent.getEvent());
+        lines.remove(number - 1);
+        Path temporaryPath = archivePath.resolveSibling(ARCHIVE_FILE + ".tmp");
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temporaryPath)), StandardCharsets.UTF_8))) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        Files.move(temporaryPath, archivePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Archived event " + number + " restored to " + archivedEvent.getListName());
+        return archivedEvent;
+    }
+
+    /**
+     * Returns the number of days after which completed events are archived when the data is loaded.
+     *
+     * @return number of days, or -1 if events are not archived automatically.
+     */
+    public int getPolicyDays() {
+        if (!Files.exists(policyPath)) {
+            return -1;
+        }
+        try {
+            List<String> lines = Files.readAllLines(policyPath);
+            return lines.isEmpty() ? -1 : Integer.parseInt(lines.get(0).trim());
+        } catch (IOException | NumberFormatException e) {
+            logger.warning("Archive policy could not be read, events will not be archived automatically");
+            return -1;
+        }
+    }
+
+    /**
+     * Sets the number of days after which completed events are archived when the data is loaded.
+     *
+     * @param days number of days, or -1 to stop archiving automatically.
+     * @throws IOException if the policy cannot be written.
+     */
+    public void setPolicyDays(int days) throws IOException {
+        if (days < 0) {
+            Files.deleteIfExists(policyPath);
+        } else {
+            Files.write(policyPath, List.of(Integer.toString(days)));
+        }
+    }
+
+    /**
+     * Returns true if the event and all its repeats are completed and occurred before the given date.
+     *
+     * @param event  Event to check.
+     * @param before date the event must have occurred before.
+     * @return true if the event can be archived.
+     */
+    static boolean isArchivable(Event event, LocalDate before) {
+        if (event.getDate() == null || !event.getDate().isBefore(before) || !event.getStatus().equals("O")) {
+            return false;
+        }
+        ArrayList<Event> repeatEventList = event.getRepeatEventList();
+        if (repeatEventList != null) {
+            for (Event repeatEvent : repeatEventList) {
+                if (!repeatEvent.getDate().isBefore(before) || !repeatEvent.getStatus().equals("O")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<String> readLines() throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+        if (!Files.exists(archivePath)) {
+            return lines;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archivePath)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static ArchivedEvent parseLine(int number, String line, ArrayList<String> problems) {
+        int separatorIndex = line.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            problems.add("line " + number + " has no list name");
+            return null;
+        }
+        String listName = line.substring(0, separatorIndex);
+        Event event = StorageParser.stringToEvent(line.substring(separatorIndex + SEPARATOR.length()), listName,
+                problems);
+        return (event == null) ? null : new ArchivedEvent(number, listName, event);
+    }
+}
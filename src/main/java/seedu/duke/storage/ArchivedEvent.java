@@ -0,0 +1,37 @@
+package seedu.duke.storage;
+
+import seedu.duke.event.Event;
+
+/**
+ * Event read from the archive, with the list it was archived from and its position in the archive.
+ */
+public class ArchivedEvent {
+    private final int number;
+    private final String listName;
+    private final Event event;
+
+    /**
+     * Creates an archived event.
+     *
+     * @param number   position of the event in the archive, starting from 1.
+     * @param listName name of the list the event was archived from.
+     * @param event    the event.
+     */
+    public ArchivedEvent(int number, String listName, Event event) {
+        this.number = number;
+        this.listName = listName;
+        this.event = event;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public String getListName() {
+        return listName;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+}
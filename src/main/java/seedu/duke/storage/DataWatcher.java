@@ -0,0 +1,112 @@
+package seedu.duke.storage;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.Profile;
+import seedu.duke.exception.DukeException;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.logging.Logger;
+
+/**
+ * Watches the data folder of a profile from a background thread, and loads the changes made to its event files
+ * outside the program, such as by a file sync tool, into the running program.
+ * Only the events whose lines changed are replaced (see {@link Storage#reloadIfChanged}), and files written by
+ * the program itself are recognised by their size and modified time and ignored.
+ */
+public class DataWatcher {
+    private static final long SETTLE_MILLISECONDS = 100;
+    private static final String[] EVENT_TYPES = {"Personal", "Zoom", "Timetable"};
+    private static Logger logger = EventLogger.getEventLogger();
+
+    private WatchService watchService;
+    private Profile profile;
+
+    /**
+     * Starts watching the data folder of the given profile instead of the profile watched before.
+     *
+     * @param newProfile profile whose data folder is watched.
+     */
+    public synchronized void watch(Profile newProfile) {
+        if (profile == newProfile) {
+            return;
+        }
+        stop();
+        profile = newProfile;
+        Path directory = newProfile.getStorage().getDirectoryPath();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.warning("Data folder " + directory + " cannot be watched: " + e.getMessage());
+            return;
+        }
+        WatchService service = watchService;
+        Thread thread = new Thread(() -> run(newProfile, service), "data-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching data folder " + directory + " for changes");
+    }
+
+    /**
+     * Stops watching the data folder.
+     */
+    public synchronized void stop() {
+        profile = null;
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Data folder watch could not be closed: " + e.getMessage());
+        }
+        watchService = null;
+    }
+
+    private void run(Profile watchedProfile, WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                //a sync tool may write a file in several parts, so wait for it to finish
+                Thread.sleep(SETTLE_MILLISECONDS);
+                LinkedHashSet<String> changedTypes = new LinkedHashSet<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    addChangedType(event, changedTypes);
+                }
+                key.reset();
+                for (String fileType : changedTypes) {
+                    reload(watchedProfile, fileType);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching data folder " + watchedProfile.getStorage().getDirectoryString());
+        }
+    }
+
+    private static void addChangedType(WatchEvent<?> event, LinkedHashSet<String> changedTypes) {
+        for (String fileType : EVENT_TYPES) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || event.context().toString().equalsIgnoreCase(fileType + ".txt")) {
+                changedTypes.add(fileType);
+            }
+        }
+    }
+
+    private void reload(Profile watchedProfile, String fileType) {
+        Storage storage = watchedProfile.getStorage();
+        try {
+            watchedProfile.getStore().write(data -> storage.reloadIfChanged(data, fileType));
+        } catch (DukeException e) {
+            logger.warning(fileType + " file could not be reloaded: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.duke.storage;
+
+import java.util.List;
+
+/**
+ * 64-bit FNV-1a hashes of the lines of data files, used to tell whether lines changed without keeping their text.
+ */
+class LineHash {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Returns the hash of one line.
+     *
+     * @param line line of a file, without its line break.
+     * @return hash of the line.
+     */
+    static long of(String line) {
+        return addText(FNV_OFFSET_BASIS, line);
+    }
+
+    /**
+     * Returns the hash of the lines, each followed by a line break, as they are written to a file.
+     *
+     * @param lines lines of a file.
+     * @return hash of the lines.
+     */
+    static long of(List<String> lines) {
+        long hash = FNV_OFFSET_BASIS;
+        for (String line : lines) {
+            hash = (addText(hash, line) ^ '\n') * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long addText(long hash, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
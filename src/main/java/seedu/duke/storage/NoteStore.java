@@ -0,0 +1,330 @@
+package seedu.duke.storage;
+
+import seedu.duke.EventLogger;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.event.StoredNotes;
+import seedu.duke.exception.MissingNotesException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the notes of events in the notes folder of the data folder, one file per distinct set of notes,
+ * named after the SHA-256 hash of its contents. The line of an event in its list file only holds
+ * {@value #REFERENCE_PREFIX} followed by the hash, so loading and saving the lists does not read or write the notes.
+ * Notes are read when they are first shown, and the most recently read are kept in memory.
+ * Files of notes that no event has any more are removed when every list is saved. Their notes are kept in memory
+ * while a command made before they were removed can still be undone or redone, so that an event given back its notes
+ * by undo can still show and save them.
+ */
+public class NoteStore {
+    static final String REFERENCE_PREFIX = "@notes/";
+    private static final String NOTES_DIRECTORY = "notes";
+    private static final String NOTES_EXTENSION = ".txt";
+    private static final int HASH_LENGTH = 64;
+    private static final int CACHE_SIZE = 16;
+    private static final int HASH_CACHE_SIZE = 256;
+
+    private final Path directory;
+    private final LinkedHashMap<String, List<String>> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private final LinkedHashMap<List<String>, String> hashesByNotes =
+            new LinkedHashMap<>(HASH_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<String>, String> eldest) {
+                    return size() > HASH_CACHE_SIZE;
+                }
+            };
+    private final HashMap<String, RemovedNotes> removedNotes = new HashMap<>();
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates a note store in the given data folder.
+     *
+     * @param dataDirectory data folder, in which the notes folder is created when notes are first saved.
+     */
+    public NoteStore(Path dataDirectory) {
+        directory = dataDirectory.resolve(NOTES_DIRECTORY);
+    }
+
+    /**
+     * Returns the field saved in place of the notes of the event, writing the notes to the store if they are
+     * not in it yet. The event itself is not changed, and keeps its notes until it is next loaded.
+     *
+     * @param event event whose notes are saved.
+     * @return the reference to the notes, or an empty string if the event has no notes.
+     * @throws IOException if the notes cannot be written.
+     */
+    String save(Event event) throws IOException {
+        if (!event.hasNotes()) {
+            return "";
+        }
+        StoredNotes storedNotes = event.getStoredNotes();
+        String hash = (storedNotes == null) ? getHash(getInlineNotes(event)) : storedNotes.getHash();
+        RemovedNotes notesToRestore;
+        synchronized (this) {
+            notesToRestore = removedNotes.get(hash);
+        }
+        if (notesToRestore != null) {
+            put(notesToRestore.notes);
+        }
+        return REFERENCE_PREFIX + hash;
+    }
+
+    /**
+     * Returns the field saved in place of the notes of the event, without writing the notes to the store, such as
+     * to compare the event with the lines of a file.
+     *
+     * @param event event whose notes are referred to.
+     * @return the reference to the notes, or an empty string if the event has no notes.
+     */
+    String getReference(Event event) {
+        if (!event.hasNotes()) {
+            return "";
+        }
+        StoredNotes storedNotes = event.getStoredNotes();
+        if (storedNotes != null) {
+            return REFERENCE_PREFIX + storedNotes.getHash();
+        }
+        return REFERENCE_PREFIX + findHash(getInlineNotes(event));
+    }
+
+    /**
+     * Removes the files of notes that no event in the data has, such as notes that were changed or whose events
+     * were deleted, and forgets the notes removed before that no command left in the data's history can give back.
+     * Must be called while no other thread changes the data.
+     *
+     * @param data UserData whose events may have notes in the store.
+     * @return number of files removed.
+     * @throws IOException if the notes folder cannot be read or a file cannot be removed.
+     */
+    public int removeUnreferenced(UserData data) throws IOException {
+        HashSet<String> referencedHashes = new HashSet<>();
+        for (EventList list : data.getAllEventLists()) {
+            for (Event event : list.getEvents()) {
+                addReferencedHash(event, referencedHashes);
+                if (event.getRepeatEventList() != null) {
+                    for (Event repeatEvent : event.getRepeatEventList()) {
+                        addReferencedHash(repeatEvent, referencedHashes);
+                    }
+                }
+            }
+        }
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        int removedCount = 0;
+        long oldestNumber = data.getHistory().getOldestNumber();
+        long nextNumber = data.getHistory().getNextNumber();
+        synchronized (this) {
+            removedNotes.values().removeIf(removed -> removed.commandNumber <= oldestNumber);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + NOTES_EXTENSION)) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    String hash = fileName.substring(0, fileName.length() - NOTES_EXTENSION.length());
+                    if (!isReference(REFERENCE_PREFIX + hash) || referencedHashes.contains(hash)) {
+                        continue;
+                    }
+                    List<String> notes = load(hash);
+                    if (notes != null) {
+                        removedNotes.put(hash, new RemovedNotes(notes, nextNumber));
+                    }
+                    Files.delete(file);
+                    cache.remove(hash);
+                    removedCount++;
+                }
+            }
+            hashesByNotes.values().removeIf(removedNotes::containsKey);
+        }
+        if (removedCount > 0) {
+            logger.fine(removedCount + " files of notes no event has were removed");
+        }
+        return removedCount;
+    }
+
+    private void addReferencedHash(Event event, HashSet<String> referencedHashes) {
+        if (!event.hasNotes()) {
+            return;
+        }
+        StoredNotes storedNotes = event.getStoredNotes();
+        if (storedNotes != null) {
+            referencedHashes.add(storedNotes.getHash());
+        } else {
+            referencedHashes.add(findHash(getInlineNotes(event)));
+        }
+    }
+
+    /**
+     * Returns the hash of notes kept in an event, hashing them again if they were not saved recently.
+     */
+    private synchronized String findHash(List<String> notes) {
+        String hash = hashesByNotes.get(notes);
+        return (hash == null) ? hash(toContent(notes)) : hash;
+    }
+
+    /**
+     * Returns the hash of notes kept in an event, writing them to the store the first time they are saved.
+     * The hashes of the notes saved most recently are remembered, so saving them again does not hash them again.
+     */
+    private synchronized String getHash(List<String> notes) throws IOException {
+        String hash = hashesByNotes.get(notes);
+        if (hash == null) {
+            hash = put(notes).getHash();
+            hashesByNotes.put(Collections.unmodifiableList(new ArrayList<>(notes)), hash);
+        }
+        return hash;
+    }
+
+    private static List<String> getInlineNotes(Event event) {
+        try {
+            return event.getNotes();
+        } catch (MissingNotesException e) {
+            throw new AssertionError("Notes kept in the event itself are never missing", e);
+        }
+    }
+
+    /**
+     * Writes the notes to the store, unless notes with the same contents are already stored.
+     *
+     * @param notes lines of notes.
+     * @return reference to the stored notes.
+     * @throws IOException if the notes cannot be written.
+     */
+    synchronized StoredNotes put(List<String> notes) throws IOException {
+        byte[] content = toContent(notes);
+        String hash = hash(content);
+        Path file = directory.resolve(hash + NOTES_EXTENSION);
+        if (!Files.exists(file)) {
+            Files.createDirectories(directory);
+            Path temporaryFile = directory.resolve(hash + ".tmp");
+            Files.write(temporaryFile, content);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.fine("Notes " + hash + " written, " + content.length + " bytes");
+        }
+        cache.put(hash, Collections.unmodifiableList(new ArrayList<>(notes)));
+        removedNotes.remove(hash);
+        return reference(hash);
+    }
+
+    /**
+     * Returns the reference to the stored notes named by the field saved in place of an event's notes.
+     *
+     * @param field notes field of an event's line.
+     * @return reference to the stored notes, or null if the field holds the notes themselves.
+     */
+    StoredNotes parseReference(String field) {
+        if (!isReference(field)) {
+            return null;
+        }
+        return reference(field.substring(REFERENCE_PREFIX.length()));
+    }
+
+    /**
+     * Returns true if the notes field of an event's line refers to notes in a note store.
+     *
+     * @param field notes field of an event's line.
+     * @return true if the field is {@value #REFERENCE_PREFIX} followed by a hash.
+     */
+    static boolean isReference(String field) {
+        if (field.length() != REFERENCE_PREFIX.length() + HASH_LENGTH || !field.startsWith(REFERENCE_PREFIX)) {
+            return false;
+        }
+        for (int i = REFERENCE_PREFIX.length(); i < field.length(); i++) {
+            if (Character.digit(field.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of stored notes kept in memory.
+     *
+     * @return number of cached notes.
+     */
+    synchronized int getCachedCount() {
+        return cache.size();
+    }
+
+    private StoredNotes reference(String hash) {
+        return new StoredNotes(hash, this::load);
+    }
+
+    /**
+     * Reads the notes with the given hash, from memory if they were read recently or their file was removed.
+     *
+     * @param hash hash of the notes.
+     * @return lines of notes, or null if the notes cannot be read.
+     */
+    private synchronized List<String> load(String hash) {
+        List<String> notes = cache.get(hash);
+        if (notes != null) {
+            return notes;
+        }
+        RemovedNotes removed = removedNotes.get(hash);
+        if (removed != null) {
+            return removed.notes;
+        }
+        try {
+            notes = Collections.unmodifiableList(Files.readAllLines(directory.resolve(hash + NOTES_EXTENSION)));
+        } catch (IOException e) {
+            logger.warning("Notes " + hash + " could not be read: " + e.getMessage());
+            return null;
+        }
+        cache.put(hash, notes);
+        logger.fine("Notes " + hash + " read, " + notes.size() + " lines");
+        return notes;
+    }
+
+    private static byte[] toContent(List<String> notes) {
+        return (String.join("\n", notes) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hash = new StringBuilder(HASH_LENGTH);
+            for (byte b : digest) {
+                hash.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    /**
+     * Notes whose file was removed, with the number of the next command in the history when they were removed.
+     * Only undoing or redoing a command numbered below that number can give them back.
+     */
+    private static class RemovedNotes {
+        private final List<String> notes;
+        private final long commandNumber;
+
+        private RemovedNotes(List<String> notes, long commandNumber) {
+            this.notes = notes;
+            this.commandNumber = commandNumber;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package seedu.duke.storage;
+
+import seedu.duke.EventLogger;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+/**
+ * Stores each event list as one file per month, named yyyy-mm.txt, in a folder named after the list.
+ * Events without a date are stored in undated.txt. An event is stored in the shard of the month it starts in,
+ * together with its repeats. As the events of a list are spread over its shards, index.txt records the order of
+ * the list as runs of events taken from each shard, such as "2020-10 | 3" for the next 3 events of October 2020,
+ * so that the list keeps its order, and the indices the user gives to commands, when it is loaded again.
+ * Only shards whose contents changed since they were last read or written are written when a list is saved.
+ */
+class ShardedLayout {
+    static final String UNDATED_SHARD = "undated";
+    private static final String INDEX_FILE = "index.txt";
+    private static final String SHARD_EXTENSION = ".txt";
+
+    private final Path directory;
+    private final NoteStore noteStore;
+    private final HashMap<Path, Long> shardHashes = new HashMap<>();
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Creates a sharded layout under the given data folder.
+     *
+     * @param directory data folder containing a folder for each list.
+     */
+    ShardedLayout(Path directory) {
+        this(directory, new NoteStore(directory));
+    }
+
+    /**
+     * Creates a sharded layout under the given data folder, saving the notes of events to the given store.
+     *
+     * @param directory data folder containing a folder for each list.
+     * @param noteStore store to save the notes of events to.
+     */
+    ShardedLayout(Path directory, NoteStore noteStore) {
+        this.directory = directory;
+        this.noteStore = noteStore;
+    }
+
+    /**
+     * Returns the folder holding the shards of a list.
+     *
+     * @param fileType name of the list, such as Personal.
+     * @return folder of the list.
+     */
+    Path getListDirectory(String fileType) {
+        return directory.resolve(fileType.toLowerCase());
+    }
+
+    /**
+     * Writes the shards of the list whose contents changed, deletes the shards that no longer hold any event,
+     * and updates the index of the list.
+     *
+     * @param list     EventList to save.
+     * @param fileType name of the list, such as Personal.
+     * @return number of bytes written.
+     * @throws IOException if a shard cannot be written or deleted.
+     */
+    long save(EventList list, String fileType) throws IOException {
+        Path listDirectory = getListDirectory(fileType);
+        Files.createDirectories(listDirectory);
+
+        TreeMap<String, ArrayList<String>> shards = new TreeMap<>();
+        ArrayList<String> runKeys = new ArrayList<>();
+        ArrayList<Integer> runLengths = new ArrayList<>();
+        for (Event event : list.getEvents()) {
+            String key = shardKey(event);
+            shards.computeIfAbsent(key, k -> new ArrayList<>())
+                    .add(StorageParser.eventToString(event, fileType, noteStore));
+            int lastRun = runKeys.size() - 1;
+            if (lastRun >= 0 && runKeys.get(lastRun).equals(key)) {
+                runLengths.set(lastRun, runLengths.get(lastRun) + 1);
+            } else {
+                runKeys.add(key);
+                runLengths.add(1);
+            }
+        }
+
+        long bytesWritten = 0;
+        int shardsWritten = 0;
+        for (Map.Entry<String, ArrayList<String>> shard : shards.entrySet()) {
+            long bytes = writeIfChanged(listDirectory.resolve(shard.getKey() + SHARD_EXTENSION), shard.getValue());
+            bytesWritten += bytes;
+            shardsWritten += (bytes > 0) ? 1 : 0;
+        }
+        Iterator<Path> trackedShards = shardHashes.keySet().iterator();
+        while (trackedShards.hasNext()) {
+            Path shard = trackedShards.next();
+            String key = keyOf(shard);
+            if (shard.getParent().equals(listDirectory) && key != null && !shards.containsKey(key)) {
+                Files.deleteIfExists(shard);
+                trackedShards.remove();
+                logger.fine("Empty shard " + shard + " deleted");
+            }
+        }
+
+        ArrayList<String> index = new ArrayList<>();
+        for (int i = 0; i < runKeys.size(); i++) {
+            index.add(runKeys.get(i) + " | " + runLengths.get(i));
+        }
+        bytesWritten += writeIfChanged(listDirectory.resolve(INDEX_FILE), index);
+        logger.fine(shardsWritten + " of " + shards.size() + " " + fileType + " shards written");
+        return bytesWritten;
+    }
+
+    /**
+     * Returns every shard of a list, including the shard of undated events, from the earliest month to the latest.
+     *
+     * @param fileType name of the list, such as Personal.
+     * @return shards to load.
+     * @throws IOException if the folder of the list cannot be read.
+     */
+    ArrayList<Path> getShards(String fileType) throws IOException {
+        Path listDirectory = getListDirectory(fileType);
+        ArrayList<Path> shards = new ArrayList<>();
+        if (!Files.isDirectory(listDirectory)) {
+            return shards;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(listDirectory, "*" + SHARD_EXTENSION)) {
+            for (Path file : files) {
+                if (keyOf(file) != null) {
+                    shards.add(file);
+                }
+            }
+        }
+        Collections.sort(shards);
+        return shards;
+    }
+
+    /**
+     * Puts the events loaded from the shards of a list back in the order recorded in the index of the list.
+     * If the index is missing or does not match the events loaded, such as when a shard was changed outside the
+     * program, the events are left in the order of their shards.
+     *
+     * @param list        EventList the events were loaded into.
+     * @param fileType    name of the list, such as Personal.
+     * @param shardEvents events loaded from each shard, keyed by the shard they were loaded from.
+     * @throws IOException if the index cannot be read.
+     */
+    void restoreOrder(EventList list, String fileType, Map<Path, ArrayList<Event>> shardEvents) throws IOException {
+        Path index = getListDirectory(fileType).resolve(INDEX_FILE);
+        if (!Files.exists(index)) {
+            return;
+        }
+        HashMap<String, Iterator<Event>> remaining = new HashMap<>();
+        ArrayList<Event> loadedEvents = new ArrayList<>();
+        for (Map.Entry<Path, ArrayList<Event>> shard : shardEvents.entrySet()) {
+            remaining.put(keyOf(shard.getKey()), shard.getValue().iterator());
+            loadedEvents.addAll(shard.getValue());
+        }
+
+        ArrayList<Event> orderedEvents = readOrder(index, remaining);
+        if (orderedEvents == null || orderedEvents.size() != loadedEvents.size()) {
+            logger.warning("Index of " + fileType + " shards does not match its shards, events are kept by month");
+            return;
+        }
+        list.removeAll(loadedEvents);
+        list.addAll(orderedEvents);
+    }
+
+    /**
+     * Returns the events of the shards in the order recorded in the index, taking them from each shard in turn.
+     *
+     * @param index     index of the list.
+     * @param remaining events of each shard not taken yet, keyed by the name of the shard.
+     * @return events in the order of the index, or null if the index names more events than the shards hold.
+     * @throws IOException if the index cannot be read.
+     */
+    private static ArrayList<Event> readOrder(Path index, HashMap<String, Iterator<Event>> remaining)
+            throws IOException {
+        ArrayList<Event> orderedEvents = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(index)) {
+                String[] words = line.split("\\|");
+                Iterator<Event> events = remaining.get(words[0].trim());
+                for (int count = Integer.parseInt(words[1].trim()); count > 0; count--) {
+                    if (events == null || !events.hasNext()) {
+                        return null;
+                    }
+                    orderedEvents.add(events.next());
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+        return orderedEvents;
+    }
+
+    /**
+     * Remembers the contents of a shard just read, so that it is not written again until its events change.
+     *
+     * @param shard shard read.
+     * @param lines lines of the shard.
+     */
+    void recordLoaded(Path shard, List<String> lines) {
+        shardHashes.put(shard, LineHash.of(lines));
+    }
+
+    /**
+     * Deletes every shard and index of the list, and forgets the contents of the deleted shards.
+     *
+     * @param fileType name of the list, such as Personal.
+     * @throws IOException if a shard cannot be deleted.
+     */
+    void delete(String fileType) throws IOException {
+        Path listDirectory = getListDirectory(fileType);
+        if (!Files.isDirectory(listDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(listDirectory, "*" + SHARD_EXTENSION)) {
+            for (Path file : files) {
+                Files.delete(file);
+                shardHashes.remove(file);
+            }
+        }
+        Files.deleteIfExists(listDirectory);
+    }
+
+    /**
+     * Returns the name of the shard the event is stored in.
+     *
+     * @param event Event to store.
+     * @return yyyy-mm of the date of the event, or undated if the event has no date.
+     */
+    static String shardKey(Event event) {
+        LocalDate date = event.getDate();
+        return (date == null) ? UNDATED_SHARD : YearMonth.from(date).toString();
+    }
+
+    /**
+     * Returns the name of the shard stored in the given file.
+     *
+     * @param file file in the folder of a list.
+     * @return name of the shard, or null if the file is not a shard.
+     */
+    private static String keyOf(Path file) {
+        String fileName = file.getFileName().toString();
+        if (!fileName.endsWith(SHARD_EXTENSION) || fileName.equals(INDEX_FILE)) {
+            return null;
+        }
+        return fileName.substring(0, fileName.length() - SHARD_EXTENSION.length());
+    }
+
+    private long writeIfChanged(Path file, ArrayList<String> lines) throws IOException {
+        long linesHash = LineHash.of(lines);
+        Long writtenHash = shardHashes.get(file);
+        if (writtenHash != null && writtenHash == linesHash && Files.exists(file)) {
+            return 0;
+        }
+        Files.write(file, lines);
+        shardHashes.put(file, linesHash);
+        return Files.size(file);
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.duke.storage;
 
 import seedu.duke.EventLogger;
+import seedu.duke.data.ChangeBus;
 import seedu.duke.data.UserData;
 import seedu.duke.event.Event;
 import seedu.duke.event.EventList;
 import seedu.duke.event.Goal;
 import seedu.duke.exception.InvalidListException;
+import seedu.duke.metrics.Metrics;
+import seedu.duke.trace.ParseBatchEvent;
+import seedu.duke.trace.StorageEvent;
 import seedu.duke.ui.Ui;
 
 import java.io.BufferedReader;
@@ -17,24 +21,47 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Saves and loads the events list to and from an external txt file.
+ * Each event list is stored either in a single file, or in the sharded layout as one file per month
+ * (see {@link ShardedLayout}). The layout used is recorded in layout.txt in the data folder.
+ * The notes of the events are kept apart from the lists in the {@link NoteStore}.
  */
 public class Storage {
+    public static final String SHARDED_LAYOUT = "sharded";
+    public static final String SINGLE_FILE_LAYOUT = "single";
+    private static final String[] EVENT_TYPES = {"Personal", "Zoom", "Timetable"};
 
     private Path fileDirectoryPath;
     private Path filePersonalPath;
     private Path fileZoomPath;
     private Path fileTimeTablePath;
     private Path fileGoalPath;
-
-    private Ui ui;
+    private Path fileSalvagePath;
+    private Path fileLayoutPath;
+    private ShardedLayout shardedLayout;
+    private Archive archive;
+    private NoteStore noteStore;
+    private HashMap<Path, long[]> fileStamps = new HashMap<>();
+    private HashMap<Path, long[]> fileLineHashes = new HashMap<>();
+
+    private volatile Ui ui;
     private static Logger logger = EventLogger.getEventLogger();
 
     /**
@@ -91,8 +118,21 @@ public class Storage {
         String[] timeTableWords = timeTable.split(",");
         fileTimeTablePath = createPath(timeTableWords);
 
+        String salvage = initPath + ",salvage.txt";
+        String[] salvageWords = salvage.split(",");
+        fileSalvagePath = createPath(salvageWords);
+
+        String layout = initPath + ",layout.txt";
+        String[] layoutWords = layout.split(",");
+        fileLayoutPath = createPath(layoutWords);
+
         initialiseFolder();
         this.ui = ui;
+        archive = new Archive(fileDirectoryPath);
+        noteStore = new NoteStore(fileDirectoryPath);
+        if (readLayout().equals(SHARDED_LAYOUT)) {
+            shardedLayout = new ShardedLayout(fileDirectoryPath, noteStore);
+        }
 
     }
 
@@ -102,7 +142,7 @@ public class Storage {
     protected void initialiseFolder() {
         if (!Files.exists(fileDirectoryPath)) {
             try {
-                Files.createDirectory(fileDirectoryPath);
+                Files.createDirectories(fileDirectoryPath);
                 logger.fine("Data folder was created on the computer successfully.");
             } catch (IOException e) {
                 System.out.println("IO exception encountered when creating data directory.");
@@ -132,7 +172,7 @@ public class Storage {
     }
 
     /**
-     * Saves All information onto the computer.
+     * Saves All information onto the computer, and removes the files of notes that no event has any more.
      *
      * @param data UserData object where all the current user event information is stored
      */
@@ -141,7 +181,11 @@ public class Storage {
         saveFile(fileTimeTablePath, data, "Timetable");
         saveFile(fileZoomPath, data, "Zoom");
         saveFile(fileGoalPath, data, "Goal");
-
+        try {
+            noteStore.removeUnreferenced(data);
+        } catch (IOException e) {
+            logger.warning("Notes no event has could not be removed: " + e.getMessage());
+        }
     }
 
     /**
@@ -153,16 +197,36 @@ public class Storage {
      */
     public void saveFile(Path fileName, UserData data, String fileType) {
 
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        long startTime = System.nanoTime();
         try {
             //firstly, form a temporary List of strings to store the data
             ArrayList<String> toBeWritten = new ArrayList<>();
 
+            long bytesWritten;
+            int entryCount;
             if (fileType.equals("Goal")) { //special case for goal
                 goalSave(fileName, data, toBeWritten);
+                bytesWritten = Files.size(fileName);
+                entryCount = toBeWritten.size();
+            } else if (shardedLayout != null) { //only the months that changed are written
+                EventList listOfEvents = data.getEventList(fileType);
+                bytesWritten = shardedLayout.save(listOfEvents, fileType);
+                fileName = shardedLayout.getListDirectory(fileType);
+                entryCount = listOfEvents.getSize();
+            } else if (isChangedOutside(fileType)) { //the file is newer, so the list's changes are made on top of it
+                mergeChangedFile(data, fileType);
+                eventSave(fileName, data, fileType, toBeWritten);
+                bytesWritten = Files.size(fileName);
+                entryCount = toBeWritten.size();
             } else { //special case for event
                 eventSave(fileName, data, fileType, toBeWritten);
-
+                bytesWritten = Files.size(fileName);
+                entryCount = toBeWritten.size();
             }
+            Metrics.recordSave(System.nanoTime() - startTime, bytesWritten);
+            commitStorageEvent(event, "save", fileName, entryCount, bytesWritten);
             logger.fine(fileType + " saved successfully");
 
 
@@ -194,12 +258,13 @@ public class Storage {
         ArrayList<Event> events = listOfEvents.getEvents();
 
         for (Event event:events) {
-            String entry = StorageParser.eventToString(event, fileType);
+            String entry = StorageParser.eventToString(event, fileType, noteStore);
             toBeWritten.add(entry);
             logger.fine("\"" + entry + "\" added to stuff to be written");
         }
 
         Files.write(fileName, toBeWritten);
+        recordFileStamp(fileName, toBeWritten);
         logger.fine("All changes recorded successfully to " + fileType + " save file");
     }
 
@@ -234,13 +299,66 @@ public class Storage {
         loadFile(fileZoomPath, data, "Zoom");
         loadFile(fileTimeTablePath, data, "Timetable");
         loadFile(fileGoalPath, data, "Goal");
+        applyArchivePolicy(data);
 
         ui.printStorageLoadMessage();
 
     }
 
+    /**
+     * Archives the completed events older than the number of days set by the user, if the user has set one.
+     *
+     * @param data UserData structure with all the user information stored
+     */
+    private void applyArchivePolicy(UserData data) {
+        int days = archive.getPolicyDays();
+        if (days < 0) {
+            return;
+        }
+        int sizeBefore = countEvents(data);
+        try {
+            for (String listName : archive.archiveBefore(data, LocalDate.now().minusDays(days))) {
+                saveFile(getFileLocation(listName), data, listName);
+            }
+        } catch (IOException e) {
+            ui.printErrorMessage("Error! Old events could not be archived");
+            logger.warning("Archive policy could not be applied: " + e.getMessage());
+        }
+        int archivedCount = sizeBefore - countEvents(data);
+        if (archivedCount > 0 && data.getHistory() != null) {
+            data.getHistory().clear();
+        }
+        if (archivedCount > 0) {
+            ui.printArchivedMessage(archivedCount, days);
+        }
+    }
+
+    /**
+     * Returns the number of events in all the lists, not counting repeats.
+     *
+     * @param data UserData structure with all the user information stored
+     * @return number of events
+     */
+    public static int countEvents(UserData data) {
+        int count = 0;
+        for (EventList list : data.getAllEventLists()) {
+            count += list.getSize();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the archive of old completed events kept in the data folder.
+     *
+     * @return the archive
+     */
+    public Archive getArchive() {
+        return archive;
+    }
+
     /**
      * Loads events from an external txt file.
+     * In the sharded layout, the events are loaded from every shard of the list instead.
      *
      * @param fileName is the file to load events from
      * @throws FileNotFoundException if no file with the given fileName is found
@@ -249,16 +367,17 @@ public class Storage {
 
         int totalEntries = 0;
         int errorEntries = 0;
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        long bytesRead = 0;
         try {
 
-            //First, extract out all the file information
-            this.initialiseFile(fileName, fileType);
-            List<String> fileLines = Files.readAllLines(fileName);
-
-            //Next, line by line reform the event
-
             //Extraction of goal
             if (fileType.equals("Goal")) {
+                this.initialiseFile(fileName, fileType);
+                bytesRead = Files.size(fileName);
+                List<String> fileLines = Files.readAllLines(fileName);
                 if (fileLines.size() != 0) {
                     Goal prevGoal = new Goal(fileLines.get(0));
                     data.setGoal(prevGoal);
@@ -267,17 +386,49 @@ public class Storage {
                 return;
             }
 
-            //extraction of all other events
-            for (int i = 0; i < fileLines.size(); i++) {
-                totalEntries++;
-                String line = fileLines.get(i);
-                Event activity = StorageParser.stringToEvent(line, fileType, ui);
-                if (activity == null) {
-                    errorEntries++;
-                    continue;
+            //First, find all the files holding the events
+            ArrayList<Path> files = new ArrayList<>();
+            if (shardedLayout != null) {
+                files = shardedLayout.getShards(fileType);
+                fileName = shardedLayout.getListDirectory(fileType);
+            } else {
+                this.initialiseFile(fileName, fileType);
+                files.add(fileName);
+            }
+
+            //Next, line by line reform the event
+            ParseBatchEvent parseEvent = new ParseBatchEvent();
+            parseEvent.begin();
+            EventList list = data.getEventList(fileType);
+            LinkedHashMap<Path, ArrayList<Event>> shardEvents = new LinkedHashMap<>();
+            for (Path file : files) {
+                byte[] content = Files.readAllBytes(file);
+                bytesRead += content.length;
+                ArrayList<String> lines = new ArrayList<>();
+                int sizeBefore = list.getSize();
+                errorEntries += loadEvents(file, content, data, fileType, lines);
+                totalEntries += lines.size();
+                if (shardedLayout != null) {
+                    shardedLayout.recordLoaded(file, lines);
+                    shardEvents.put(file, new ArrayList<>(list.getEvents().subList(sizeBefore, list.getSize())));
+                } else {
+                    recordFileStamp(file, lines);
                 }
-                data.addToEventList(fileType, activity);
-                logger.fine(fileType + " information and events successfully loaded");
+            }
+            if (shardedLayout != null) {
+                shardedLayout.restoreOrder(list, fileType, shardEvents);
+            }
+            ChangeBus.publish(ChangeBus.Kind.LOAD, data.getEventList(fileType), null);
+            logger.fine(fileType + " information and events successfully loaded");
+            parseEvent.end();
+            if (parseEvent.shouldCommit()) {
+                parseEvent.eventType = fileType;
+                parseEvent.lineCount = totalEntries;
+                parseEvent.errorCount = errorEntries;
+                parseEvent.commit();
+            }
+            if (errorEntries > 0) {
+                ui.printSalvageMessage(errorEntries, fileType, fileSalvagePath.toString());
             }
 
             ui.printMessage(Integer.toString(totalEntries - errorEntries) + "/" + Integer.toString(totalEntries)
@@ -292,6 +443,388 @@ public class Storage {
             //do nothing for now
             System.out.println("Error, invalid list");
             logger.warning(fileType + " is not a event type that exists");
+        } finally {
+            Metrics.recordLoad(System.nanoTime() - startTime, bytesRead);
+            commitStorageEvent(event, "load", fileName, totalEntries, bytesRead);
+        }
+    }
+
+    /**
+     * Adds the events in a file to the list, copying any corrupt lines to the salvage file.
+     *
+     * @param file file the events were read from
+     * @param content bytes of the file
+     * @param data UserData to add the events to
+     * @param fileType what kind of event is stored in the file
+     * @param lines list to add every line of the file to
+     * @return number of corrupt lines
+     * @throws InvalidListException if there is no such event type stored in the program
+     */
+    private int loadEvents(Path file, byte[] content, UserData data, String fileType, ArrayList<String> lines)
+            throws InvalidListException {
+        ArrayList<String> problems = new ArrayList<>();
+        ArrayList<String> salvage = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < content.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < content.length && content[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int textEnd = (lineEnd > lineStart && content[lineEnd - 1] == '\r') ? lineEnd - 1 : lineEnd;
+            String line = new String(content, lineStart, textEnd - lineStart, StandardCharsets.UTF_8);
+            lines.add(line);
+            Event activity = StorageParser.stringToEvent(line, fileType, problems, noteStore);
+            if (activity == null) {
+                salvage.add("line " + lines.size() + ", byte " + lineStart + ": " + problems.get(0));
+                salvage.add("    " + line);
+                problems.clear();
+            } else {
+                data.addToEventList(fileType, activity);
+            }
+            lineStart = lineEnd + 1;
+        }
+        if (!salvage.isEmpty()) {
+            saveSalvage(file, salvage);
+        }
+        return salvage.size() / 2;
+    }
+
+    /**
+     * Returns true if the file of the event type was changed outside the program since it was last loaded or saved,
+     * such as by a file sync tool. Only files of the single file layout are checked.
+     *
+     * @param fileType what kind of event is stored in the file
+     * @return true if the file's size or modified time is not the same as when it was last loaded or saved
+     */
+    public boolean isChangedOutside(String fileType) {
+        Path fileName = getFileLocation(fileType);
+        long[] stamp = fileStamps.get(fileName);
+        if (shardedLayout != null || stamp == null || !Files.exists(fileName)) {
+            return false;
+        }
+        try {
+            return !Arrays.equals(stamp, readFileStamp(fileName));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies the changes made to the file of the event type outside the program to its list, if there are any.
+     *
+     * @param data UserData object where all the current user event information is stored
+     * @param fileType what kind of event is stored in the file
+     * @return true if the file was changed outside the program and was reloaded
+     */
+    public boolean reloadIfChanged(UserData data, String fileType) {
+        if (!isChangedOutside(fileType)) {
+            return false;
+        }
+        try {
+            int changedCount = reloadFile(data, fileType);
+            if (data.getHistory() != null) {
+                data.getHistory().clear();
+            }
+            ui.printFileReloadedMessage(fileType, changedCount, false);
+            logger.info(fileType + " file changed outside the program, " + changedCount + " events reloaded");
+        } catch (IOException | InvalidListException e) {
+            ui.printStorageLoadingErrorMessage();
+            logger.warning(fileType + " file changed outside the program could not be reloaded");
+        }
+        return true;
+    }
+
+    /**
+     * Makes the changes of the list since its file was last loaded or saved again on top of the file, after the file
+     * was changed outside the program, so that neither the changes in the file nor the user's last change are lost.
+     * The list is first reloaded from the file. Events whose line was not in the file before are then added back,
+     * after the event they followed if it is still there, and events whose line was deleted from the list are
+     * removed again. An event changed both in the file and in the list is kept in both versions.
+     *
+     * @param data UserData object where all the current user event information is stored
+     * @param fileType what kind of event is stored in the file
+     * @throws IOException if the file cannot be read
+     * @throws InvalidListException if there is no such event type stored in the program
+     */
+    private void mergeChangedFile(UserData data, String fileType) throws IOException, InvalidListException {
+        Path fileName = getFileLocation(fileType);
+        EventList list = data.getEventList(fileType);
+        HashMap<Long, Integer> removedLines = countLines(fileLineHashes.get(fileName));
+        ArrayList<Event> addedEvents = new ArrayList<>();
+        ArrayList<Event> previousEvents = new ArrayList<>();
+        Event previousEvent = null;
+        for (Event event : list.getEvents()) {
+            if (!takeLine(removedLines, LineHash.of(StorageParser.eventToLine(event, fileType, noteStore)))) {
+                addedEvents.add(event);
+                previousEvents.add(previousEvent);
+            }
+            previousEvent = event;
+        }
+
+        int changedCount = reloadFile(data, fileType);
+        ArrayList<Event> deletedEvents = new ArrayList<>();
+        for (Event event : list.getEvents()) {
+            if (takeLine(removedLines, LineHash.of(StorageParser.eventToLine(event, fileType, noteStore)))) {
+                deletedEvents.add(event);
+            }
+        }
+        list.removeAll(deletedEvents);
+        Set<Event> listedEvents = Collections.newSetFromMap(new IdentityHashMap<>());
+        listedEvents.addAll(list.getEvents());
+        for (int i = 0; i < addedEvents.size(); i++) {
+            Event event = addedEvents.get(i);
+            if (listedEvents.contains(event)) {
+                continue;
+            }
+            int index = list.getEvents().indexOf(previousEvents.get(i));
+            list.add((index < 0) ? list.getSize() : index + 1, event);
+            listedEvents.add(event);
+        }
+        if (data.getHistory() != null) {
+            data.getHistory().clear();
+        }
+        ui.printFileReloadedMessage(fileType, changedCount, true);
+        logger.info(fileType + " file changed outside the program, " + changedCount + " events reloaded and "
+                + addedEvents.size() + " added, " + deletedEvents.size() + " deleted on top");
+    }
+
+    /**
+     * Counts the lines with each hash.
+     */
+    private static HashMap<Long, Integer> countLines(long[] lineHashes) {
+        HashMap<Long, Integer> counts = new HashMap<>();
+        if (lineHashes != null) {
+            for (long lineHash : lineHashes) {
+                counts.merge(lineHash, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Takes away one line with the given hash from the counts.
+     *
+     * @return true if there was such a line.
+     */
+    private static boolean takeLine(HashMap<Long, Integer> counts, long lineHash) {
+        Integer count = counts.get(lineHash);
+        if (count == null) {
+            return false;
+        }
+        if (count == 1) {
+            counts.remove(lineHash);
+        } else {
+            counts.put(lineHash, count - 1);
+        }
+        return true;
+    }
+
+    /**
+     * Makes the list of the event type the same as its file by replacing only the events whose lines differ.
+     * Lines are compared from the start and from the end of the file until they differ. In between, events whose
+     * line is still somewhere in the file are found by the line's hash and kept, and only new lines are parsed.
+     *
+     * @param data UserData object where all the current user event information is stored
+     * @param fileType what kind of event is stored in the file
+     * @return number of events removed and added
+     * @throws IOException if the file cannot be read
+     * @throws InvalidListException if there is no such event type stored in the program
+     */
+    int reloadFile(UserData data, String fileType) throws IOException, InvalidListException {
+        Path fileName = getFileLocation(fileType);
+        byte[] content = Files.readAllBytes(fileName);
+        String[] fileLines = new String(content, StandardCharsets.UTF_8).split("\r?\n");
+        int fileSize = (content.length == 0) ? 0 : fileLines.length;
+        EventList list = data.getEventList(fileType);
+        ArrayList<Event> events = list.getEvents();
+        String[] listLines = new String[events.size()];
+        for (int i = 0; i < listLines.length; i++) {
+            listLines[i] = StorageParser.eventToLine(events.get(i), fileType, noteStore);
+        }
+
+        int start = 0;
+        while (start < listLines.length && start < fileSize && isSameLine(listLines[start], fileLines[start])) {
+            start++;
+        }
+        int listEnd = listLines.length;
+        int fileEnd = fileSize;
+        while (listEnd > start && fileEnd > start && isSameLine(listLines[listEnd - 1], fileLines[fileEnd - 1])) {
+            listEnd--;
+            fileEnd--;
+        }
+
+        //events in between whose lines are still in the file are kept, and moved to where their line now is
+        HashMap<String, ArrayDeque<Event>> unchangedEvents = new HashMap<>();
+        ArrayList<Event> removedEvents = new ArrayList<>(events.subList(start, listEnd));
+        for (int i = start; i < listEnd; i++) {
+            unchangedEvents.computeIfAbsent(listLines[i], line -> new ArrayDeque<>()).add(events.get(i));
+        }
+        list.removeAll(removedEvents);
+        ArrayList<String> problems = new ArrayList<>();
+        ArrayList<String> salvage = new ArrayList<>();
+        int changedCount = removedEvents.size();
+        ArrayList<Event> addedEvents = new ArrayList<>();
+        for (int i = start; i < fileEnd; i++) {
+            ArrayDeque<Event> sameLineEvents = unchangedEvents.get(fileLines[i]);
+            Event event = (sameLineEvents == null) ? null : sameLineEvents.poll();
+            if (event != null) {
+                changedCount--;
+            } else {
+                event = StorageParser.stringToEvent(fileLines[i], fileType, problems, noteStore);
+                changedCount++;
+            }
+            if (event == null) {
+                salvage.add("line " + (i + 1) + ": " + problems.get(0));
+                salvage.add("    " + fileLines[i]);
+                problems.clear();
+            } else {
+                addedEvents.add(event);
+            }
+        }
+        list.addAll(start, addedEvents);
+        if (!salvage.isEmpty()) {
+            saveSalvage(fileName, salvage);
+        }
+        recordFileStamp(fileName, Arrays.asList(fileLines).subList(0, fileSize));
+        return changedCount;
+    }
+
+    private static boolean isSameLine(String listLine, String fileLine) {
+        return listLine.hashCode() == fileLine.hashCode() && listLine.equals(fileLine);
+    }
+
+    /**
+     * Records the size and modified time of the file, and the hashes of the lines in it, as last loaded or saved.
+     *
+     * @param fileName file loaded or saved
+     * @param lines lines in the file
+     */
+    private void recordFileStamp(Path fileName, List<String> lines) {
+        try {
+            fileStamps.put(fileName, readFileStamp(fileName));
+        } catch (IOException e) {
+            fileStamps.remove(fileName);
+        }
+        long[] lineHashes = new long[lines.size()];
+        for (int i = 0; i < lineHashes.length; i++) {
+            lineHashes[i] = LineHash.of(lines.get(i));
+        }
+        fileLineHashes.put(fileName, lineHashes);
+    }
+
+    private static long[] readFileStamp(Path fileName) throws IOException {
+        return new long[]{Files.size(fileName), Files.getLastModifiedTime(fileName).toMillis()};
+    }
+
+    /**
+     * Returns the path of the data folder.
+     *
+     * @return path of the data folder
+     */
+    public Path getDirectoryPath() {
+        return fileDirectoryPath;
+    }
+
+    /**
+     * Returns the layout the event lists are stored in.
+     *
+     * @return SHARDED_LAYOUT or SINGLE_FILE_LAYOUT.
+     */
+    public String getLayout() {
+        return (shardedLayout != null) ? SHARDED_LAYOUT : SINGLE_FILE_LAYOUT;
+    }
+
+    /**
+     * Stores every event list in the given layout instead of the current one.
+     * The lists are written in the new layout before the files of the old layout are deleted.
+     *
+     * @param data UserData object where all the current user event information is stored
+     * @param layout SHARDED_LAYOUT or SINGLE_FILE_LAYOUT
+     * @throws IOException if the files cannot be written or deleted
+     */
+    public void migrate(UserData data, String layout) throws IOException {
+        assert layout.equals(SHARDED_LAYOUT) || layout.equals(SINGLE_FILE_LAYOUT) : "unknown layout " + layout;
+        if (layout.equals(getLayout())) {
+            return;
+        }
+        ShardedLayout oldLayout = shardedLayout;
+        try {
+            if (layout.equals(SHARDED_LAYOUT)) {
+                ShardedLayout newLayout = new ShardedLayout(fileDirectoryPath, noteStore);
+                for (String fileType : EVENT_TYPES) {
+                    newLayout.save(data.getEventList(fileType), fileType);
+                }
+                Files.write(fileLayoutPath, List.of(SHARDED_LAYOUT));
+                shardedLayout = newLayout;
+                for (String fileType : EVENT_TYPES) {
+                    Files.deleteIfExists(getFileLocation(fileType));
+                }
+            } else {
+                for (String fileType : EVENT_TYPES) {
+                    eventSave(getFileLocation(fileType), data, fileType, new ArrayList<>());
+                }
+                Files.deleteIfExists(fileLayoutPath);
+                shardedLayout = null;
+                for (String fileType : EVENT_TYPES) {
+                    oldLayout.delete(fileType);
+                }
+            }
+        } catch (InvalidListException e) {
+            throw new AssertionError("Every event type has a list", e);
+        }
+        logger.info("Data folder " + fileDirectoryPath + " migrated to the " + layout + " layout");
+    }
+
+    private String readLayout() {
+        if (!Files.exists(fileLayoutPath)) {
+            return SINGLE_FILE_LAYOUT;
+        }
+        try {
+            List<String> lines = Files.readAllLines(fileLayoutPath);
+            return lines.isEmpty() ? SINGLE_FILE_LAYOUT : lines.get(0).trim();
+        } catch (IOException e) {
+            logger.warning("Layout of data folder could not be read, single files will be used");
+            return SINGLE_FILE_LAYOUT;
+        }
+    }
+
+    /**
+     * Adds the corrupt lines found while loading a file to the end of the salvage file, so that they are not lost
+     * when the file is next saved.
+     *
+     * @param fileName file the lines were loaded from
+     * @param salvage  line number, byte offset and reason of each corrupt line, each followed by the line itself
+     */
+    private void saveSalvage(Path fileName, ArrayList<String> salvage) {
+        ArrayList<String> toBeWritten = new ArrayList<>();
+        toBeWritten.add("Corrupt lines of " + fileName + " found on " + LocalDateTime.now() + ":");
+        toBeWritten.addAll(salvage);
+        try {
+            Files.write(fileSalvagePath, toBeWritten, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            logger.warning(salvage.size() / 2 + " corrupt lines of " + fileName + " saved to " + fileSalvagePath);
+        } catch (IOException e) {
+            ui.printErrorMessage("Error! Corrupt lines could not be written to " + fileSalvagePath);
+            logger.severe("Salvage file could not be written due to IO error!");
+        }
+    }
+
+    /**
+     * Ends the flight recorder event for saving or loading a file and commits it if it is being recorded.
+     *
+     * @param event      flight recorder event begun before the file was saved or loaded.
+     * @param operation  save or load.
+     * @param fileName   file saved or loaded.
+     * @param entryCount number of lines saved or loaded.
+     * @param bytes      size of the file.
+     */
+    private void commitStorageEvent(StorageEvent event, String operation, Path fileName, int entryCount, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.file = fileName.toString();
+            event.entryCount = entryCount;
+            event.bytes = bytes;
+            event.commit();
         }
     }
 
@@ -309,6 +842,15 @@ public class Storage {
         return newPath;
     }
 
+    /**
+     * Sets the Ui that messages about loading, saving and reloading the files are printed to from now on.
+     *
+     * @param ui Ui to print messages to.
+     */
+    public void setUi(Ui ui) {
+        this.ui = ui;
+    }
+
     /**
      * Function gives a string containing the Directory location.
      *
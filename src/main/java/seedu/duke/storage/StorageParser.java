@@ -3,18 +3,22 @@ package seedu.duke.storage;
 import seedu.duke.EventLogger;
 import seedu.duke.event.Event;
 import seedu.duke.event.Personal;
+import seedu.duke.event.RepeatUnit;
 import seedu.duke.event.Timetable;
 import seedu.duke.event.Zoom;
-import seedu.duke.exception.InvalidStatusException;
-import seedu.duke.exception.InvalidTimeUnitException;
+import seedu.duke.exception.DateErrorException;
+import seedu.duke.exception.MissingNotesException;
+import seedu.duke.exception.TimeErrorException;
 import seedu.duke.parser.DateTimeParser;
 import seedu.duke.ui.Ui;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.logging.Logger;
 
@@ -24,25 +28,56 @@ public class StorageParser {
 
     /**
      * Function helps to convert any event to a recordable string format to be written to txt file.
+     * The notes of the event are written into the string.
      *
      * @param activity Event object to be convert to a string representation
      * @param type What kind of event the activity is
      * @return String representation to be recorded into the txt files
      */
     public static String eventToString(Event activity, String type) {
+        return eventToString(activity, type, null);
+    }
+
+    /**
+     * Function helps to convert any event to a recordable string format to be written to txt file.
+     * The notes of the event are saved to the note store, and only their hash is written into the string.
+     *
+     * @param activity Event object to be convert to a string representation
+     * @param type What kind of event the activity is
+     * @param noteStore store to save the notes to, or null to write the notes into the string
+     * @return String representation to be recorded into the txt files
+     */
+    public static String eventToString(Event activity, String type, NoteStore noteStore) {
+        return joinFields(activity, type, notesToString(activity, noteStore));
+    }
+
+    /**
+     * Returns the line the event is saved as in a file using the note store, without saving its notes to the store,
+     * such as to compare the event with the lines of a file.
+     *
+     * @param activity Event object to be convert to a string representation
+     * @param type What kind of event the activity is
+     * @param noteStore store the notes of the event are saved to
+     * @return String representation as it is recorded into the txt files
+     */
+    static String eventToLine(Event activity, String type, NoteStore noteStore) {
+        return joinFields(activity, type, noteStore.getReference(activity));
+    }
+
+    private static String joinFields(Event activity, String type, String noteString) {
 
         ArrayList<String> words = new ArrayList<>();
 
         switch (type) {
 
         case "Personal":
-            personalToArguments((Personal) activity, words);
+            personalToArguments((Personal) activity, noteString, words);
             break;
         case "Zoom":
-            zoomToArguments((Zoom) activity, words);
+            zoomToArguments((Zoom) activity, noteString, words);
             break;
         case "Timetable":
-            timetableToArguments((Timetable) activity, words);
+            timetableToArguments((Timetable) activity, noteString, words);
             break;
         default:
             System.out.println("Error, wrong data type provided");
@@ -72,9 +107,10 @@ public class StorageParser {
      * Converts a personal event properties into strings.
      *
      * @param activity Personal event to be converted
+     * @param noteString notes of the event, or the reference to them in the note store
      * @param words Array List of strings that the arguments will be recorded to
      */
-    public static void personalToArguments(Personal activity, ArrayList<String> words) {
+    public static void personalToArguments(Personal activity, String noteString, ArrayList<String> words) {
 
         ArrayList<String> statuses = new ArrayList<>();
 
@@ -95,7 +131,7 @@ public class StorageParser {
         String repeatUnit = "0";
         String repeatNumber = "0";
         if (activity.getRepeatCount() != 0) { //it is a repeated activity
-            repeatUnit = activity.getRepeatType().toUpperCase();
+            repeatUnit = activity.getRepeatUnit().name();
             repeatNumber = Integer.toString(activity.getRepeatCount());
             ArrayList<Event> activitiesRepeated = activity.getRepeatEventList();
 
@@ -110,7 +146,6 @@ public class StorageParser {
         words.add(time);
         words.add(repeatUnit);
         words.add(repeatNumber);
-        String noteString = notesListToString(activity.getNotes());
         words.add(noteString);
         for (int i = 0; i < statuses.size(); i++) {
             boolean isDone = Boolean.parseBoolean(statuses.get(i));
@@ -127,9 +162,10 @@ public class StorageParser {
      * Converts a Zoom event properties into strings.
      *
      * @param activity Personal event to be converted
+     * @param noteString notes of the event, or the reference to them in the note store
      * @param words Array List of strings that the arguments will be recorded to
      */
-    public static void zoomToArguments(Zoom activity, ArrayList<String> words) {
+    public static void zoomToArguments(Zoom activity, String noteString, ArrayList<String> words) {
 
         ArrayList<String> statuses = new ArrayList<>();
 
@@ -150,7 +186,7 @@ public class StorageParser {
         String repeatUnit = "0";
         String repeatNumber = "0";
         if (activity.getRepeatCount() != 0) { //it is a repeated activity
-            repeatUnit = activity.getRepeatType().toUpperCase();
+            repeatUnit = activity.getRepeatUnit().name();
             repeatNumber = Integer.toString(activity.getRepeatCount());
             ArrayList<Event> activitiesRepeated = activity.getRepeatEventList();
 
@@ -167,7 +203,6 @@ public class StorageParser {
         words.add(repeatUnit);
         words.add(repeatNumber);
         words.add(url);
-        String noteString = notesListToString(activity.getNotes());
         words.add(noteString);
         for (int i = 0; i < statuses.size(); i++) {
             boolean isDone = Boolean.parseBoolean(statuses.get(i));
@@ -184,9 +219,10 @@ public class StorageParser {
      * Converts a timetable event properties into strings.
      *
      * @param activity timetable event to be converted
+     * @param noteString notes of the event, or the reference to them in the note store
      * @param words Array List of strings that the arguments will be recorded to
      */
-    public static void timetableToArguments(Timetable activity, ArrayList<String> words) {
+    public static void timetableToArguments(Timetable activity, String noteString, ArrayList<String> words) {
 
         ArrayList<String> statuses = new ArrayList<>();
 
@@ -207,7 +243,7 @@ public class StorageParser {
         String repeatUnit = "0";
         String repeatNumber = "0";
         if (activity.getRepeatCount() != 0) { //it is a repeated activity
-            repeatUnit = activity.getRepeatType().toUpperCase();
+            repeatUnit = activity.getRepeatUnit().name();
             repeatNumber = Integer.toString(activity.getRepeatCount());
             ArrayList<Event> activitiesRepeated = activity.getRepeatEventList();
 
@@ -227,7 +263,6 @@ public class StorageParser {
         words.add(repeatUnit);
         words.add(repeatNumber);
         words.add(location);
-        String noteString = notesListToString(activity.getNotes());
         words.add(noteString);
 
         for (int i = 0; i < statuses.size(); i++) {
@@ -250,194 +285,300 @@ public class StorageParser {
      * @return Event object constructed by the txt file
      */
     public static Event stringToEvent(String line, String type, Ui ui) {
-        String[] words = line.split("\\|");
-        String[] statuses;
-        String[] info;
-        String[] notes;
+        ArrayList<String> problems = new ArrayList<>();
+        Event activity = stringToEvent(line, type, problems);
+        if (activity == null) {
+            logger.warning("Event not loaded due to data corruption: " + problems.get(0));
+        }
+        return activity;
+    }
 
-        try {
-            for (int i = 0; i < words.length; i++) {
-                words[i] = words[i].trim();
+    /**
+     * Converts a string into the proper event, checking every field before it is used.
+     * Saved dates and times are checked by hand, so a corrupt line is rejected without any exception being thrown.
+     *
+     * @param line text from the txt file
+     * @param type what kind of event we are reconstructing
+     * @param problems list to add the reason the line is corrupt to, if it is
+     * @return Event object constructed by the txt file, or null if the line is corrupt
+     */
+    public static Event stringToEvent(String line, String type, ArrayList<String> problems) {
+        return stringToEvent(line, type, problems, null);
+    }
+
+    /**
+     * Converts a string into the proper event, checking every field before it is used.
+     * Notes saved in the note store are not read until they are shown.
+     *
+     * @param line text from the txt file
+     * @param type what kind of event we are reconstructing
+     * @param problems list to add the reason the line is corrupt to, if it is
+     * @param noteStore store holding the notes the line refers to, or null if the line holds its notes
+     * @return Event object constructed by the txt file, or null if the line is corrupt
+     */
+    public static Event stringToEvent(String line, String type, ArrayList<String> problems, NoteStore noteStore) {
+        String[] words = splitFields(line);
+        int notesIndex;
+        switch (type) {
+        case "Personal":
+            notesIndex = 5;
+            break;
+        case "Zoom":
+        case "Timetable":
+            notesIndex = 6;
+            break;
+        default:
+            problems.add("no such event type " + type);
+            return null;
+        }
+        int statusIndex = notesIndex + 1;
+        if (words.length <= statusIndex) {
+            problems.add("expected at least " + (statusIndex + 1) + " fields but found " + words.length);
+            return null;
+        }
+        String status = words[statusIndex];
+        if (!status.equals("T") && !status.equals("F")) {
+            problems.add("status \"" + status + "\" should be T or F");
+            return null;
+        }
+
+        //0 is name, 1 is date, 2 is time, 3 is repeat unit, 4 is repeat number, 5 is zoom link or location
+        boolean hasDate = type.equals("Timetable") || !words[1].equals("0");
+        LocalDate date = null;
+        LocalTime time = null;
+        if (hasDate) {
+            date = parseSavedDate(words[1]);
+            if (date == null) {
+                problems.add("date \"" + words[1] + "\" is not a valid date");
+                return null;
+            }
+            if (type.equals("Timetable") || !words[2].equals("0")) {
+                time = parseSavedTime(words[2]);
+                if (time == null) {
+                    problems.add("time \"" + words[2] + "\" is not a valid time");
+                    return null;
+                }
+            }
+        }
+
+        Event activity;
+        switch (type) {
+        case "Personal":
+            activity = new Personal(words[0], date, time);
+            break;
+        case "Zoom":
+            activity = new Zoom(words[0], words[5], date, time);
+            break;
+        default:
+            activity = new Timetable(words[0], date, time);
+            if (!words[5].equals("")) { //location provided
+                ((Timetable) activity).setLocation(words[5]);
             }
-            switch (type) {
-            case "Personal":
-                info = Arrays.copyOfRange(words, 0, 5);
-                notes = Arrays.copyOfRange(words, 5, 6);
-                statuses = Arrays.copyOfRange(words, 6, words.length);
-                return makePersonal(info, statuses, notes);
-            case "Zoom":
-                info = Arrays.copyOfRange(words, 0, 6);
-                notes = Arrays.copyOfRange(words, 6, 7);
-                statuses = Arrays.copyOfRange(words, 7, words.length);
-                return makeZoom(info, statuses, notes);
-            case "Timetable":
-                info = Arrays.copyOfRange(words, 0, 6);
-                notes = Arrays.copyOfRange(words, 6, 7);
-                statuses = Arrays.copyOfRange(words, 7, words.length);
-                return makeTimetable(info, statuses, notes);
-            default:
+            break;
+        }
+        if (status.equals("T")) {
+            activity.markAsDone();
+        } else {
+            activity.markAsUndone();
+        }
+        if (NoteStore.isReference(words[notesIndex])) {
+            if (noteStore == null) {
+                problems.add("notes are in a note store, which is not available here");
                 return null;
             }
-        } catch (Exception e) {
-            logger.warning("Event not loaded due to data corruption.");
+            //set before the repeats are cloned, so that they share the stored notes
+            activity.setStoredNotes(noteStore.parseReference(words[notesIndex]));
+        }
+        if (hasDate && !repeatSetter(activity, words, statusIndex, problems)) {
+            return null;
+        }
+        if (activity.getStoredNotes() == null) {
+            notesSetter(activity, words[notesIndex]);
         }
-        return null;
+        return activity;
     }
 
     /**
-     * Creates a personal event from a string of arguments.
+     * Splits a line from the txt file into its trimmed fields, keeping empty fields at the end of the line.
      *
-     * @param info Array of strings containing all the event information in text form
-     * @param statuses Array of strings containing statuses of repeated event if any
-     * @param notes Array of strings containing the notes associated with the event
-     * @return Personal event constructed from the arguments provided
-     * @throws Exception if there is data corruption in the files
+     * @param line text from the txt file
+     * @return fields of the line
      */
-    private static Personal makePersonal(String[] info, String[] statuses, String[] notes) throws Exception {
-        //0 is name, 1 is date, 2 is time, 3 is repeat unit, 4 is repeat number
-        Personal p = new Personal(info[0]);
-        if (info[1].equals("0")) {
-            //no date, event can be returned as is
-            setDone(p, statuses[0]);
-            notesSetter(p, notes[0]);
-            return p;
-        } else if (info[2].equals("0")) {
-            //no time, but got date
-            LocalDate date = DateTimeParser.dateParser(info[1]);
-            LocalTime time = null;
-            p.setDate(date);
-        } else {
-            //has both date and time
-            LocalDate date = DateTimeParser.dateParser(info[1]);
-            LocalTime time = DateTimeParser.timeParser(info[2]);
-            p.setDate(date);
-            p.setTime(time);
+    private static String[] splitFields(String line) {
+        int fieldCount = 1;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '|') {
+                fieldCount++;
+            }
         }
-        setDone(p, statuses[0]);
-        repeatSetter(p, statuses, info[3], info[4]);
-        notesSetter(p, notes[0]);
-        return p;
-
+        String[] words = new String[fieldCount];
+        int start = 0;
+        for (int i = 0; i < fieldCount; i++) {
+            int end = line.indexOf('|', start);
+            if (end < 0) {
+                end = line.length();
+            }
+            words[i] = line.substring(start, end).trim();
+            start = end + 1;
+        }
+        return words;
+    }
 
+    /**
+     * Reads a date from the txt file. Dates are saved as yyyy-mm-dd, which is checked by hand.
+     * Dates typed into the file by the user in another format the program accepts are read by DateTimeParser.
+     *
+     * @param text date from the txt file
+     * @return the date, or null if the text is not a valid date
+     */
+    private static LocalDate parseSavedDate(String text) {
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            int year = parseDigits(text, 0, 4);
+            int month = parseDigits(text, 5, 7);
+            int day = parseDigits(text, 8, 10);
+            if (year < 0 || month < 1 || month > 12 || day < 1
+                    || day > Month.of(month).length(Year.isLeap(year))) {
+                return null;
+            }
+            return LocalDate.of(year, month, day);
+        }
+        if (!isMadeOf(text, "0123456789/-")) {
+            return null;
+        }
+        try {
+            return DateTimeParser.dateParser(text);
+        } catch (DateErrorException e) {
+            return null;
+        }
     }
 
     /**
-     * Creates a zoom event from a string of arguments.
+     * Reads a time from the txt file. Times are saved as hhmm, which is checked by hand.
+     * Times typed into the file by the user in another format the program accepts are read by DateTimeParser.
      *
-     * @param info Array of strings containing all the event information in text form
-     * @param statuses Array of strings containing statuses of repeated event if any
-     * @param notes Array of strings containing the notes associated with the event
-     * @return zoom event constructed from the arguments provided
-     * @throws Exception if there is data corruption in the files
+     * @param text time from the txt file
+     * @return the time, or null if the text is not a valid time
      */
-    private static Zoom makeZoom(String[] info, String[] statuses, String[] notes) throws Exception {
-        //0 is name, 1 is date, 2 is time, 3 is repeat unit, 4 is repeat number, 5 is zoom link
-        Zoom z = new Zoom(info[0], info[5]);
-        if (info[1].equals("0")) {
-            //no date, event can be returned as is
-            setDone(z, statuses[0]);
-            notesSetter(z, notes[0]);
-            return z;
-        } else if (info[2].equals("0")) {
-            //no time, but got date
-            LocalDate date = DateTimeParser.dateParser(info[1]);
-            LocalTime time = null;
-            z.setDate(date);
-        } else {
-            //has both date and time
-            LocalDate date = DateTimeParser.dateParser(info[1]);
-            LocalTime time = DateTimeParser.timeParser(info[2]);
-            z.setDate(date);
-            z.setTime(time);
-        }
-        setDone(z, statuses[0]);
-        repeatSetter(z, statuses, info[3], info[4]);
-        notesSetter(z, notes[0]);
-        return z;
+    private static LocalTime parseSavedTime(String text) {
+        if (text.length() == 4) {
+            int hour = parseDigits(text, 0, 2);
+            int minute = parseDigits(text, 2, 4);
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                return null;
+            }
+            return LocalTime.of(hour, minute);
+        }
+        if (!isTypedTime(text)) {
+            return null;
+        }
+        try {
+            return DateTimeParser.timeParser(text);
+        } catch (TimeErrorException e) {
+            return null;
+        }
     }
 
     /**
-     * Creates a personal event from a string of arguments.
+     * Returns true if the text has the shape of a time the user can type, checked by hand: h:mm, or h:mm, h or hhmm
+     * followed by am or pm, with or without a space before it.
      *
-     * @param info Array of strings containing all the event information in text form
-     * @param statuses Array of strings containing statuses of repeated event if any
-     * @param notes Array of strings containing the notes associated with the event
-     * @return Personal event constructed from the arguments provided
-     * @throws Exception if there is data corruption in the files
+     * @param text time from the txt file
+     * @return true if the text can be read by DateTimeParser without going past its end
      */
-    private static Timetable makeTimetable(String[] info, String[] statuses, String[] notes) throws Exception {
-        //0 is name, 1 is date, 2 is time, 3 is repeat unit, 4 is repeat number, 5 is location
-        LocalDate date = DateTimeParser.dateParser(info[1]);
-        LocalTime time = DateTimeParser.timeParser(info[2]);
-        Timetable t = new Timetable(info[0], date, time);
-        if (!info[5].equals("")) { //location provided
-            t.setLocation(info[5]);
-        }
-        setDone(t, statuses[0]);
-        repeatSetter(t, statuses, info[3], info[4]);
-        notesSetter(t, notes[0]);
-        return t;
+    private static boolean isTypedTime(String text) {
+        String upperText = text.toUpperCase();
+        boolean hasMarker = upperText.endsWith("AM") || upperText.endsWith("PM");
+        String clock = hasMarker ? text.substring(0, text.length() - 2) : text;
+        if (hasMarker && clock.endsWith(" ")) {
+            clock = clock.substring(0, clock.length() - 1);
+        }
+        int colon = clock.indexOf(':');
+        if (colon < 0) {
+            return hasMarker && clock.length() != 3 && clock.length() <= 4
+                    && parseDigits(clock, 0, clock.length()) >= 0;
+        }
+        int minuteLength = clock.length() - colon - 1;
+        return colon <= 2 && minuteLength >= 1 && minuteLength <= 2
+                && parseDigits(clock, 0, colon) >= 0 && parseDigits(clock, colon + 1, clock.length()) >= 0;
     }
 
     /**
-     * Set the done status of the event from the string argument.
+     * Reads the digits between the given indexes of the text as a number.
      *
-     * @param e The event for the status to be set
-     * @param doneStatus String containing the status. "T" for true, "F" for false
-     * @throws InvalidStatusException if the status is not a "T" or "F"
+     * @param text text containing the number
+     * @param start index of the first digit
+     * @param end index after the last digit
+     * @return the number, or -1 if any of the characters is not a digit
      */
-    private static void setDone(Event e, String doneStatus) throws InvalidStatusException {
-        boolean isDone = doneStatus.equals("T");
-        boolean isNotDone = doneStatus.equals("F");
-        if (isDone) {
-            e.markAsDone();
-        } else if (isNotDone) {
-            e.markAsUndone();
-        } else {
-            throw new InvalidStatusException("Status needs to be true or false");
+    private static int parseDigits(String text, int start, int end) {
+        if (end > text.length() || start >= end) {
+            return -1;
+        }
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
         }
+        return number;
+    }
 
+    private static boolean isMadeOf(String text, String allowedCharacters) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (allowedCharacters.indexOf(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Setup of of repeated events.
      *
      * @param activity the event object where the repeated event is to be set
-     * @param statuses status information of all repeated events to be recorded
-     * @param timeUnit The time increment used to make the repeated event
-     * @param repeatNumber How many times the event repeated
-     * @throws Exception if there are file corruption errors
+     * @param words fields of the line in the txt file
+     * @param statusIndex index of the status of the event in words, followed by the statuses of its repeats
+     * @param problems list to add the reason the line is corrupt to, if it is
+     * @return true if the repeated events were set up, false if the repeat fields are corrupt
      */
-    private static void repeatSetter(Event activity, String[] statuses, String timeUnit, String repeatNumber)
-            throws Exception {
-
-        LocalDate startDate = activity.getDate();
-        LocalTime startTime = activity.getTime();
-        int count = Integer.parseInt(repeatNumber);
+    private static boolean repeatSetter(Event activity, String[] words, int statusIndex, ArrayList<String> problems) {
+        String repeatNumber = words[4];
+        int count = (repeatNumber.length() > 9) ? -1 : parseDigits(repeatNumber, 0, repeatNumber.length());
+        if (count < 0) {
+            problems.add("repeat number \"" + repeatNumber + "\" is not a number");
+            return false;
+        }
         if (count == 0) {
-            return;
+            return true;
+        }
+        RepeatUnit repeatUnit = RepeatUnit.parse(words[3]);
+        if (repeatUnit == null) {
+            problems.add("repeat unit \"" + words[3] + "\" should be daily, weekly or monthly");
+            return false;
+        }
+        if (words.length - statusIndex <= count) {
+            problems.add("expected " + (count + 1) + " statuses but found " + (words.length - statusIndex));
+            return false;
         }
+
+        activity.setRepeatUnit(repeatUnit);
+        LocalDate startDate = activity.getDate();
         ArrayList<Event> repeatEventList = new ArrayList<>();
         for (int i = 1; i <= count; i++) {
-            LocalDate repeatDate;
-            switch (timeUnit) {
-            case "MONTHLY":
-                repeatDate = startDate.plusMonths(i);
-                break;
-            case "WEEKLY":
-                repeatDate = startDate.plusWeeks(i);
-                break;
-            case "DAILY":
-                repeatDate = startDate.plusDays(i);
-                break;
-            default:
-                throw new InvalidTimeUnitException(timeUnit);
-            }
-            activity.setRepeatType(timeUnit);
+            LocalDate repeatDate = repeatUnit.advance(startDate, i);
             Event repeatEvent;
-            repeatEvent = activity.clone();
+            try {
+                repeatEvent = activity.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError("Events can always be cloned", e);
+            }
             repeatEvent.setDate(repeatDate);
-            if (statuses[i].equals("T")) {
+            if (words[statusIndex + i].equals("T")) {
                 repeatEvent.markAsDone();
             } else {
                 repeatEvent.markAsUndone();
@@ -445,10 +586,7 @@ public class StorageParser {
             repeatEventList.add(repeatEvent);
         }
         activity.setRepeatEventList(repeatEventList);
-
-
-
-
+        return true;
     }
 
     /**
@@ -473,6 +611,31 @@ public class StorageParser {
         e.setNotes(noteList);
     }
 
+    /**
+     * Returns the notes field of an event's line.
+     * If the notes cannot be saved to the note store, they are written into the line instead.
+     *
+     * @param activity event whose notes are saved
+     * @param noteStore store to save the notes to, or null to write the notes into the line
+     * @return notes field
+     */
+    private static String notesToString(Event activity, NoteStore noteStore) {
+        if (noteStore != null) {
+            try {
+                return noteStore.save(activity);
+            } catch (IOException e) {
+                logger.warning("Notes could not be saved to the note store, saved in the line instead: "
+                        + e.getMessage());
+            }
+        }
+        try {
+            return notesListToString(activity.getNotes());
+        } catch (MissingNotesException e) {
+            logger.warning("Notes are missing from the note store, only the reference to them is saved");
+            return NoteStore.REFERENCE_PREFIX + activity.getStoredNotes().getHash();
+        }
+    }
+
     /**
      * Convert ArrayList to String for notes.
      * @param notes list of notes.
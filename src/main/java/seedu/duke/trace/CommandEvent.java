@@ -0,0 +1,28 @@
+package seedu.duke.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the execution of one command.
+ */
+@Name("scheduler.Command")
+@Label("Command")
+@Category("Scheduler")
+@Description("Execution of a command, including waiting for other commands that change the data")
+public class CommandEvent extends Event {
+    @Label("Command Word")
+    public String commandWord;
+
+    @Label("List Name")
+    public String listName;
+
+    @Label("Read Only")
+    public boolean isReadOnly;
+
+    @Label("Failed")
+    public boolean isFailed;
+}
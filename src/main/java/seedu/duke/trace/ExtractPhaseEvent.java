@@ -0,0 +1,25 @@
+package seedu.duke.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning one phase of the extract command, such as detecting dates in the text.
+ */
+@Name("scheduler.ExtractPhase")
+@Label("Extract Phase")
+@Category("Scheduler")
+@Description("One phase of extracting event details from text")
+public class ExtractPhaseEvent extends Event {
+    @Label("Phase")
+    public String phase;
+
+    @Label("Text Length")
+    public int textLength;
+
+    @Label("Match Count")
+    public int matchCount;
+}
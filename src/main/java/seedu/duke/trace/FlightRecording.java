@@ -0,0 +1,43 @@
+package seedu.duke.trace;
+
+import jdk.jfr.Recording;
+import seedu.duke.EventLogger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+/**
+ * Records the scheduler's flight recorder events, along with the JVM's own, to a file that can be opened in
+ * JDK Mission Control. The recording is written when the program exits.
+ */
+public class FlightRecording {
+    private static final String[] SCHEDULER_EVENTS = {
+        "scheduler.Command", "scheduler.Storage", "scheduler.ParseBatch", "scheduler.ExtractPhase"
+    };
+    private static Logger logger = EventLogger.getEventLogger();
+
+    /**
+     * Starts recording to the given file until the program exits.
+     *
+     * @param destination file to write the recording to.
+     * @throws IOException if the file cannot be written to.
+     */
+    public static void start(Path destination) throws IOException {
+        Recording recording = new Recording();
+        recording.setName("Scheduler");
+        for (String eventName : SCHEDULER_EVENTS) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+        }
+        recording.enable("jdk.ThreadPark");
+        recording.enable("jdk.JavaMonitorEnter");
+        recording.enable("jdk.GarbageCollection");
+        recording.enable("jdk.ExecutionSample");
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        logger.info("Flight recording started, writing to " + destination);
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.duke.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the parsing of all lines of a save file into events.
+ */
+@Name("scheduler.ParseBatch")
+@Label("Parse Batch")
+@Category("Scheduler")
+@Description("Parsing of the lines of a save file into events")
+public class ParseBatchEvent extends Event {
+    @Label("Event Type")
+    public String eventType;
+
+    @Label("Line Count")
+    public int lineCount;
+
+    @Label("Error Count")
+    public int errorCount;
+}
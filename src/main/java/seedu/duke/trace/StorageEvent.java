@@ -0,0 +1,30 @@
+package seedu.duke.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the saving or loading of one save file.
+ */
+@Name("scheduler.Storage")
+@Label("Storage")
+@Category("Scheduler")
+@Description("Saving or loading of a save file")
+public class StorageEvent extends Event {
+    @Label("Operation")
+    public String operation;
+
+    @Label("File")
+    public String file;
+
+    @Label("Entry Count")
+    public int entryCount;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
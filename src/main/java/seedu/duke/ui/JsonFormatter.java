@@ -0,0 +1,89 @@
+package seedu.duke.ui;
+
+import seedu.duke.event.Event;
+
+import java.util.List;
+
+/**
+ * Formats values as JSON text for output read by other programs instead of users.
+ */
+public class JsonFormatter {
+
+    /**
+     * Returns the given string as a quoted JSON string with special characters escaped.
+     *
+     * @param value String to quote, may be null.
+     * @return JSON string literal, or null if the value is null.
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2);
+        quoted.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '"':
+                quoted.append("\\\"");
+                break;
+            case '\\':
+                quoted.append("\\\\");
+                break;
+            case '\n':
+                quoted.append("\\n");
+                break;
+            case '\r':
+                quoted.append("\\r");
+                break;
+            case '\t':
+                quoted.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    quoted.append(String.format("\\u%04x", (int) c));
+                } else {
+                    quoted.append(c);
+                }
+                break;
+            }
+        }
+        quoted.append('"');
+        return quoted.toString();
+    }
+
+    /**
+     * Returns the given strings as a JSON array of strings.
+     *
+     * @param values strings to put in the array.
+     * @return JSON array text.
+     */
+    public static String array(List<String> values) {
+        StringBuilder array = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                array.append(',');
+            }
+            array.append(quote(values.get(i)));
+        }
+        array.append(']');
+        return array.toString();
+    }
+
+    /**
+     * Returns the event as a JSON object, with the list it is in and its number in that list.
+     *
+     * @param listName name of the list the event is in, or null if it is not in a list.
+     * @param index    number of the event in its list, starting from 1, or 0 if it is not in a list.
+     * @param event    Event to format.
+     * @return JSON object text.
+     */
+    public static String event(String listName, int index, Event event) {
+        return "{\"list\":" + quote(listName)
+                + ",\"index\":" + ((index > 0) ? Integer.toString(index) : "null")
+                + ",\"description\":" + quote(event.getDescription())
+                + ",\"date\":" + quote((event.getDate() == null) ? null : event.getDate().toString())
+                + ",\"time\":" + quote((event.getTime() == null) ? null : event.getTime().toString())
+                + ",\"status\":" + quote("O".equals(event.getStatus()) ? "done" : "undone") + "}";
+    }
+}
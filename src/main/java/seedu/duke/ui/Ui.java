@@ -3,47 +3,165 @@ package seedu.duke.ui;
 import seedu.duke.event.Event;
 import seedu.duke.event.EventList;
 import seedu.duke.event.Goal;
-
+import seedu.duke.query.QueryResult;
+import seedu.duke.query.SearchResult;
+import seedu.duke.storage.ArchivedEvent;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 
 public class Ui {
+    private static final int MAX_REJECTED_ROWS_SHOWN = 20;
+    private static final int WORKLOAD_CELL_WIDTH = 9;
+    private static final int WORKLOAD_BAR_WIDTH = 40;
+    private static final DateTimeFormatter CALENDAR_DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
     Scanner in;
+    private BufferedReader reader;
+    private PrintStream output;
+    private BufferedWriter capture;
+    private long captureStartNanos;
 
     public Ui() {
         this.in = new Scanner(System.in);
     }
 
+    /**
+     * Constructor for a Ui that reads from the given scanner and prints to the given stream instead of the console.
+     *
+     * @param in     Scanner to read user input from, may be null if the Ui never receives input.
+     * @param output PrintStream to print all messages to.
+     */
+    public Ui(Scanner in, PrintStream output) {
+        this.in = in;
+        this.output = output;
+    }
+
+    /**
+     * Constructor for a Ui that reads lines from the given reader, such as a recorded session, instead of a scanner.
+     *
+     * @param reader BufferedReader to read user input from.
+     * @param output PrintStream to print all messages to.
+     */
+    public Ui(BufferedReader reader, PrintStream output) {
+        this.reader = reader;
+        this.output = output;
+    }
+
+    /**
+     * Returns the stream that all messages are printed to, which is the console unless another stream was given.
+     *
+     * @return PrintStream to print messages to.
+     */
+    protected PrintStream getOutput() {
+        return (output == null) ? System.out : output;
+    }
+
     public void printDividerLine() {
-        System.out.println("_________________________________");
+        getOutput().println("_________________________________");
     }
 
     public void printWelcomeMessage() {
         printDividerLine();
-        System.out.println("Welcome to scheduler--;!");
-        System.out.println("What can I do for you?");
+        getOutput().println("Welcome to scheduler--;!");
+        getOutput().println("What can I do for you?");
         printDividerLine();
     }
 
     public void printByeMessage() {
-        System.out.println("Thank you for using scheduler--;!");
-        System.out.println("We hope to see you soon!");
+        getOutput().println("Thank you for using scheduler--;!");
+        getOutput().println("We hope to see you soon!");
         printDividerLine();
     }
 
+    /**
+     * Reads the next line of user input, recording it in the session file if the session is being captured.
+     *
+     * @return line of input without leading and trailing spaces.
+     * @throws NoSuchElementException if there is no more input.
+     */
     public String receiveCommand() {
-        return in.nextLine().trim();
+        String line;
+        if (reader == null) {
+            line = in.nextLine();
+        } else {
+            try {
+                line = reader.readLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (line == null) {
+                throw new NoSuchElementException("No line found");
+            }
+        }
+        captureLine(line);
+        return line.trim();
+    }
+
+    /**
+     * Starts recording every line of input read, with the milliseconds since the capture started, to the session
+     * file, so that the session can be replayed later.
+     *
+     * @param sessionFile file to record the session to, replaced if it exists.
+     * @throws IOException if the file cannot be created.
+     */
+    public void startCapture(Path sessionFile) throws IOException {
+        stopCapture();
+        capture = Files.newBufferedWriter(sessionFile, StandardCharsets.UTF_8);
+        captureStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Stops recording input to the session file.
+     */
+    public void stopCapture() {
+        if (capture == null) {
+            return;
+        }
+        try {
+            capture.close();
+        } catch (IOException e) {
+            printErrorMessage("Session file could not be closed");
+        }
+        capture = null;
+    }
+
+    private void captureLine(String line) {
+        if (capture == null) {
+            return;
+        }
+        try {
+            capture.write((System.nanoTime() - captureStartNanos) / 1_000_000 + "\t" + line);
+            capture.newLine();
+            capture.flush();
+        } catch (IOException e) {
+            printErrorMessage("Session file could not be written, input is no longer captured");
+            capture = null;
+        }
     }
 
     public void printEventAddedMessage(Event event) {
-        System.out.println("You have successfully added this event to your list!");
-        System.out.println(event);
+        getOutput().println("You have successfully added this event to your list!");
+        getOutput().println(event);
     }
 
     /**
@@ -53,11 +171,11 @@ public class Ui {
      */
     public void printRepeatAdd(Event event) {
 
-        System.out.println(event);
+        getOutput().println(event);
         if (event.getRepeatCount() == 0) {
-            System.out.println("is no longer a repeated event");
+            getOutput().println("is no longer a repeated event");
         } else {
-            System.out.println("is now repeating " + event.getRepeatType() + " for "
+            getOutput().println("is now repeating " + event.getRepeatType() + " for "
                     + event.getRepeatCount() + " times.");
         }
 
@@ -69,50 +187,46 @@ public class Ui {
      * @param event Event object that contains repeated event information that will be printed by the UI
      */
     public void printRepeatList(Event event) {
-        System.out.println(event + " is also on:");
+        getOutput().println(event.getListText() + " is also on:");
         ArrayList<Event> repeatEventList = event.getRepeatEventList();
         int index = 1;
         for (Event e : repeatEventList) {
-            System.out.print("    " + index + ". ");
-            System.out.printf("%s ", e.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-            if (e.getTime() != null) {
-                System.out.printf("%s ", e.getTime().format(DateTimeFormatter.ofPattern("HH:mm")));
-            }
-            System.out.printf("[%s]", e.getStatus());
-            System.out.println();
+            getOutput().println("    " + index + ". " + e.getRepeatText());
             index++;
         }
     }
 
     public void printGoalMessage(Goal goal) {
         if (goal != null) {
-            System.out.println("Goal: " + goal);
+            getOutput().println("Goal: " + goal);
         } else {
-            System.out.println("You have no goal! Why not set one now?");
+            getOutput().println("You have no goal! Why not set one now?");
         }
     }
 
     public void printChangeGoalMessage(Goal goal) {
         if (goal != null) {
-            System.out.println("Goal changed to: " + goal);
+            getOutput().println("Goal changed to: " + goal);
         } else {
-            System.out.println("No more goal!");
+            getOutput().println("No more goal!");
         }
     }
 
     private void printCalendarDivider() {
-        System.out.println("---------------------------------------------------------------------------------------");
+        getOutput().println("---------------------------------------------------------------------------------------");
     }
 
+    /**
+     * Prints the events on one date of the calendar.
+     *
+     * @param entry date and the events on it, already in time order.
+     */
     public void printCalendar(Map.Entry<LocalDate, ArrayList<Event>> entry) {
         printCalendarDivider();
-        System.out.println(entry.getKey().format(DateTimeFormatter.ofPattern("dd MMM yyyy")));
+        getOutput().println(entry.getKey().format(CALENDAR_DATE_FORMAT));
         printCalendarDivider();
-        ArrayList<Event> eventsOnDate;
-        eventsOnDate = entry.getValue();
-        eventsOnDate.sort(Comparator.comparing(Event::getTime));
-        for (Event e : eventsOnDate) {
-            System.out.println(e.toCalendarString());
+        for (Event e : entry.getValue()) {
+            getOutput().println(e.getCalendarText());
         }
     }
 
@@ -123,11 +237,11 @@ public class Ui {
      * @param count number of events not in the calendar.
      */
     public void printCalendarStart(int size, int count) {
-        System.out.println("Calendar has " + size + " dates to display");
+        getOutput().println("Calendar has " + size + " dates to display");
         if (count > 1) {
-            System.out.println(count + " events not on the calendar because they have no date and time");
+            getOutput().println(count + " events not on the calendar because they have no date and time");
         } else if (count > 0) {
-            System.out.println(count + " event not on the calendar because it has no date and time");
+            getOutput().println(count + " event not on the calendar because it has no date and time");
         }
     }
 
@@ -136,7 +250,7 @@ public class Ui {
      */
     public void printCalendarEnd() {
         printCalendarDivider();
-        System.out.println("End of calendar");
+        getOutput().println("End of calendar");
     }
 
     /**
@@ -144,7 +258,7 @@ public class Ui {
      */
     public void printContinueQuery() {
         printCalendarDivider();
-        System.out.println("Enter 'q' to exit or enter to continue...");
+        getOutput().println("Enter 'q' to exit or enter to continue...");
     }
 
     public void printCheckMessage() {
@@ -157,11 +271,11 @@ public class Ui {
      * @param eventLists EventList ArrayList to list.
      */
     public void printAvailableList(ArrayList<EventList> eventLists) {
-        System.out.println("Following are all existing lists:");
+        getOutput().println("Following are all existing lists:");
         for (EventList list : eventLists) {
-            System.out.println(list.getName());
+            getOutput().println(list.getName());
         }
-        System.out.println("'list All' will list all existing lists.");
+        getOutput().println("'list All' will list all existing lists.");
     }
 
     /**
@@ -173,29 +287,417 @@ public class Ui {
         String eventListName = eventList.getName();
         ArrayList<Event> events = eventList.getEvents();
         if (events.size() == 0) {
-            System.out.println("You have no " + eventListName + " events!");
+            printNoEventsMessage(eventListName, false);
         } else {
-            System.out.println("Here is a list of your " + eventListName + " events:");
+            printListHeader(eventListName);
             int index = 1;
             for (Event e : events) {
-                System.out.print(index + ". ");
-                if (e.getRepeatEventList() != null) {
-                    printRepeatList(e);
-                } else {
-                    System.out.println(e);
-                }
-                if (e.getNotes().size() > 0) {
-                    String indexWord = Integer.toString(index);
-                    System.out.println("   Type \"view " + eventListName + " " + indexWord + "\" to see notes");
-                }
+                printListEvent(index, e, eventListName);
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Prints the line shown before the events of a list.
+     *
+     * @param eventListName name of the EventList listed.
+     */
+    public void printListHeader(String eventListName) {
+        getOutput().println("Here is a list of your " + eventListName + " events:");
+    }
+
+    /**
+     * Prints one event of a list with its number in the list.
+     *
+     * @param index         number of the event in the list, starting from 1.
+     * @param e             Event to print.
+     * @param eventListName name of the EventList the event is in.
+     */
+    public void printListEvent(int index, Event e, String eventListName) {
+        getOutput().print(index + ". ");
+        if (e.getRepeatEventList() != null) {
+            printRepeatList(e);
+        } else {
+            getOutput().println(e.getListText());
+        }
+        if (e.hasNotes()) {
+            String indexWord = Integer.toString(index);
+            getOutput().println("   Type \"view " + eventListName + " " + indexWord + "\" to see notes");
+        }
+    }
+
+    /**
+     * Prints that a list has no events to show.
+     *
+     * @param eventListName name of the EventList listed.
+     * @param isFiltered    true if the list has events, but none passed the filters given.
+     */
+    public void printNoEventsMessage(String eventListName, boolean isFiltered) {
+        if (isFiltered) {
+            getOutput().println("You have no " + eventListName + " events that match the filters!");
+        } else {
+            getOutput().println("You have no " + eventListName + " events!");
+        }
+    }
+
+    /**
+     * Prints the result of a CSV import, including the line numbers of rejected rows.
+     * Only the first few rejected rows are listed to avoid flooding the terminal.
+     *
+     * @param eventListName name of the EventList the rows were imported into.
+     * @param importedCount number of rows imported successfully.
+     * @param totalCount    number of rows read from the file.
+     * @param rejectedRows  descriptions of the rejected rows, in file order.
+     */
+    public void printImportMessage(String eventListName, int importedCount, int totalCount,
+                                   ArrayList<String> rejectedRows) {
+        getOutput().println(importedCount + "/" + totalCount + " rows imported successfully into " + eventListName);
+        if (rejectedRows.size() > 0) {
+            getOutput().println("The following rows were rejected:");
+            int shownCount = Math.min(rejectedRows.size(), MAX_REJECTED_ROWS_SHOWN);
+            for (int i = 0; i < shownCount; i++) {
+                getOutput().println(rejectedRows.get(i));
+            }
+            if (rejectedRows.size() > shownCount) {
+                getOutput().println("...and " + (rejectedRows.size() - shownCount) + " more rejected rows.");
+            }
+        }
+    }
+
+    /**
+     * Prints the active profile and the profiles currently loaded.
+     *
+     * @param activeName  name of the active profile.
+     * @param loadedNames names of the loaded profiles.
+     */
+    public void printProfileListMessage(String activeName, List<String> loadedNames) {
+        getOutput().println("You are using the " + activeName + " profile.");
+        getOutput().println("Loaded profiles: " + String.join(", ", loadedNames));
+    }
+
+    /**
+     * Prints the message after switching to another profile.
+     *
+     * @param name name of the profile switched to.
+     */
+    public void printProfileSwitchMessage(String name) {
+        getOutput().println("You are now using the " + name + " profile.");
+    }
+
+    /**
+     * Prints the usage statistics.
+     *
+     * @param lines lines of the statistics report.
+     */
+    public void printStats(ArrayList<String> lines) {
+        getOutput().println("Here are the usage statistics since the program started:");
+        for (String line : lines) {
+            getOutput().println(line);
+        }
+    }
+
+    /**
+     * Prints the times taken by each command when a captured session was replayed.
+     *
+     * @param lines lines of the replay report.
+     */
+    public void printReplayReport(ArrayList<String> lines) {
+        for (String line : lines) {
+            getOutput().println(line);
+        }
+    }
+
+    /**
+     * Prints the number of events and undone events on each day of a month as a grid, one row for each week,
+     * and the busiest day.
+     *
+     * @param month        month to print.
+     * @param eventCounts  number of events on each day of the month, from the first.
+     * @param undoneCounts number of undone events on each day of the month, from the first.
+     */
+    public void printWorkloadMonth(YearMonth month, int[] eventCounts, int[] undoneCounts) {
+        getOutput().println("Workload for " + month.format(DateTimeFormatter.ofPattern("MMMM yyyy"))
+                + ", as events/undone events on each day:");
+        StringBuilder row = new StringBuilder();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            row.append(String.format("%-" + WORKLOAD_CELL_WIDTH + "s",
+                    dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.ENGLISH)));
+        }
+        getOutput().println(row.toString().stripTrailing());
+
+        row = new StringBuilder();
+        int column = month.atDay(1).getDayOfWeek().getValue() - 1;
+        row.append(" ".repeat(column * WORKLOAD_CELL_WIDTH));
+        int busiestDay = 0;
+        for (int day = 1; day <= eventCounts.length; day++) {
+            String counts = (eventCounts[day - 1] == 0) ? "." : eventCounts[day - 1] + "/" + undoneCounts[day - 1];
+            row.append(String.format("%-" + WORKLOAD_CELL_WIDTH + "s", day + " " + counts));
+            column++;
+            if (column == 7 || day == eventCounts.length) {
+                getOutput().println(row.toString().stripTrailing());
+                row = new StringBuilder();
+                column = 0;
+            }
+            if (eventCounts[day - 1] > eventCounts[busiestDay]) {
+                busiestDay = day - 1;
+            }
+        }
+        if (eventCounts[busiestDay] > 0) {
+            getOutput().println("Busiest day: " + month.atDay(busiestDay + 1).format(DateTimeFormatter.ofPattern(
+                    "dd MMM yyyy")) + ", " + eventCounts[busiestDay] + " events, " + undoneCounts[busiestDay]
+                    + " undone");
+        }
+    }
+
+    /**
+     * Prints the number of events and undone events in each week overlapping a month as a histogram,
+     * with a # for each undone event and a + for each done event.
+     *
+     * @param month        month the weeks overlap.
+     * @param weekStarts   Monday starting each week.
+     * @param eventCounts  number of events in each week.
+     * @param undoneCounts number of undone events in each week.
+     */
+    public void printWorkloadWeeks(YearMonth month, ArrayList<LocalDate> weekStarts, int[] eventCounts,
+                                   int[] undoneCounts) {
+        int maxCount = 0;
+        for (int eventCount : eventCounts) {
+            maxCount = Math.max(maxCount, eventCount);
+        }
+        int eventsPerMark = Math.max(1, (maxCount + WORKLOAD_BAR_WIDTH - 1) / WORKLOAD_BAR_WIDTH);
+        getOutput().println("Workload by week for " + month.format(DateTimeFormatter.ofPattern("MMMM yyyy"))
+                + ", # for undone and + for done events:");
+        if (eventsPerMark > 1) {
+            getOutput().println("Each mark is up to " + eventsPerMark + " events.");
+        }
+        for (int week = 0; week < weekStarts.size(); week++) {
+            int undoneMarks = (undoneCounts[week] + eventsPerMark - 1) / eventsPerMark;
+            int doneMarks = (eventCounts[week] - undoneCounts[week] + eventsPerMark - 1) / eventsPerMark;
+            getOutput().println(weekStarts.get(week).format(DateTimeFormatter.ofPattern("dd MMM")) + " | "
+                    + "#".repeat(undoneMarks) + "+".repeat(doneMarks) + ((undoneMarks + doneMarks > 0) ? " " : "")
+                    + eventCounts[week] + " (" + undoneCounts[week] + " undone)");
+        }
+    }
+
+    /**
+     * Prints the files the usage statistics were exported to.
+     *
+     * @param jsonFile       location of the JSON file.
+     * @param prometheusFile location of the Prometheus text file.
+     */
+    public void printStatsExportedMessage(String jsonFile, String prometheusFile) {
+        getOutput().println("The usage statistics have been exported to:");
+        getOutput().println(jsonFile);
+        getOutput().println(prometheusFile);
+    }
+
+    /**
+     * Prints the number of completed events moved to the archive.
+     *
+     * @param count number of events archived.
+     * @param days  events completed more than this many days ago were archived.
+     */
+    public void printArchivedMessage(int count, int days) {
+        getOutput().println(count + " completed events older than " + days + " days have been moved to the archive.");
+    }
+
+    /**
+     * Prints the archived events found by a search, numbered by their position in the archive.
+     *
+     * @param archivedEvents events found.
+     */
+    public void printArchiveSearchResults(ArrayList<ArchivedEvent> archivedEvents) {
+        if (archivedEvents.isEmpty()) {
+            getOutput().println("No archived events were found.");
+            return;
+        }
+        getOutput().println("Here are the archived events found:");
+        for (ArchivedEvent archivedEvent : archivedEvents) {
+            getOutput().println(archivedEvent.getNumber() + ". " + archivedEvent.getEvent());
+        }
+    }
+
+    /**
+     * Prints the events matched by a query, each with the list it is in.
+     *
+     * @param results events matched, in the order to show them.
+     */
+    public void printQueryResults(ArrayList<QueryResult> results) {
+        if (results.isEmpty()) {
+            getOutput().println("No events match your query.");
+            return;
+        }
+        getOutput().println("Here are the events matching your query:");
+        int index = 1;
+        for (QueryResult result : results) {
+            getOutput().println(index + ". " + result.getListName() + ": " + result.getEvent().getListText());
+            index++;
+        }
+    }
+
+    /**
+     * Prints the next events from now, earliest first.
+     *
+     * @param results events found and the lists they are in.
+     */
+    public void printNextEvents(ArrayList<QueryResult> results) {
+        if (results.isEmpty()) {
+            getOutput().println("You have no upcoming events.");
+            return;
+        }
+        getOutput().println("Here are your next " + results.size() + " events:");
+        int index = 1;
+        for (QueryResult result : results) {
+            getOutput().println(index + ". " + result.getListName() + ": " + result.getEvent().getListText());
+            index++;
+        }
+    }
+
+    /**
+     * Prints the events found by a search, most alike first, and the words completing the last word searched for.
+     *
+     * @param results     events found and the lists they are in.
+     * @param lastWord    last word searched for.
+     * @param completions words starting with the last word, possibly empty.
+     */
+    public void printSearchResults(ArrayList<SearchResult> results, String lastWord, ArrayList<String> completions) {
+        if (results.isEmpty()) {
+            getOutput().println("No events are like what you searched for.");
+        } else {
+            getOutput().println("Here are the events most like what you searched for:");
+            int index = 1;
+            for (SearchResult result : results) {
+                getOutput().println(index + ". " + result.getListName() + ": " + result.getText());
                 index++;
             }
         }
+        if (!completions.isEmpty()) {
+            getOutput().println("Words starting with " + lastWord + ": " + String.join(", ", completions));
+        }
+    }
+
+    /**
+     * Prints how a query would be run.
+     *
+     * @param planLines lines describing the plan.
+     */
+    public void printQueryPlan(ArrayList<String> planLines) {
+        getOutput().println("This query would be run as follows:");
+        for (String line : planLines) {
+            getOutput().println(line);
+        }
+    }
+
+    /**
+     * Prints the event moved back from the archive to its list.
+     *
+     * @param archivedEvent event restored.
+     */
+    public void printArchiveRestoredMessage(ArchivedEvent archivedEvent) {
+        getOutput().println("This event has been restored to your " + archivedEvent.getListName() + " list:");
+        getOutput().println(archivedEvent.getEvent());
+    }
+
+    /**
+     * Prints the number of days after which completed events are archived automatically.
+     *
+     * @param days number of days, or -1 if events are not archived automatically.
+     */
+    public void printArchivePolicyMessage(int days) {
+        if (days < 0) {
+            getOutput().println("Completed events will not be archived automatically.");
+        } else {
+            getOutput().println("Completed events older than " + days + " days will be archived when your data "
+                    + "is loaded.");
+        }
+    }
+
+    /**
+     * Prints the layout the event lists are stored in.
+     *
+     * @param isSharded true if each list is stored as one file per month.
+     */
+    public void printLayoutMessage(boolean isSharded) {
+        if (isSharded) {
+            getOutput().println("Your events are stored in one file per month.");
+        } else {
+            getOutput().println("Your events are stored in one file per list.");
+        }
+    }
+
+    /**
+     * Prints the layout the event lists have been moved to.
+     *
+     * @param isSharded true if each list is now stored as one file per month.
+     */
+    public void printMigratedMessage(boolean isSharded) {
+        getOutput().println("Your events have been moved.");
+        printLayoutMessage(isSharded);
+    }
+
+    /**
+     * Prints the command that was undone or redone.
+     *
+     * @param commandWord word of the command undone or redone.
+     * @param isRedo      true if the command was redone.
+     */
+    public void printUndoMessage(String commandWord, boolean isRedo) {
+        getOutput().println((isRedo ? "Redone: " : "Undone: ") + commandWord);
+    }
+
+    /**
+     * Prints the number of commands that can be undone.
+     *
+     * @param depth number of commands kept in the history.
+     */
+    public void printHistoryDepthMessage(int depth) {
+        getOutput().println("The last " + depth + " commands that change your events can be undone.");
+    }
+
+    /**
+     * Prints a reminder of an event that is about to start.
+     *
+     * @param listName    name of the list the event is in.
+     * @param eventText   event as shown in its list.
+     * @param minutesLeft number of minutes until the event starts.
+     */
+    public void printReminderNotification(String listName, String eventText, long minutesLeft) {
+        getOutput().println("Reminder: your " + listName + " event starts in " + minutesLeft + " minutes:");
+        getOutput().println(eventText);
+    }
+
+    /**
+     * Prints how long before each event its reminder is printed.
+     *
+     * @param minutes number of minutes, or -1 if reminders are not printed.
+     */
+    public void printReminderLeadMessage(int minutes) {
+        if (minutes < 0) {
+            getOutput().println("Reminders will not be printed before your events.");
+        } else {
+            getOutput().println("A reminder will be printed " + minutes + " minutes before each of your events.");
+        }
+    }
+
+    /**
+     * Prints that the file of a list was changed outside the program and its changes were loaded.
+     *
+     * @param fileType     name of the list whose file changed.
+     * @param changedCount number of events removed and added.
+     * @param isMerged     true if the user's last change to the list was made again on top of the file's changes.
+     */
+    public void printFileReloadedMessage(String fileType, int changedCount, boolean isMerged) {
+        getOutput().println("Your " + fileType + " file was changed outside the program, so " + changedCount
+                + " events were updated from it.");
+        if (isMerged) {
+            getOutput().println("Your last change to " + fileType + " events was saved on top of the file's changes.");
+        }
     }
 
     public void printDeadlineChangedMessage(Event eventUpdated) {
-        System.out.println("You have successfully updated the deadline for this event!");
-        System.out.println(eventUpdated);
+        getOutput().println("You have successfully updated the deadline for this event!");
+        getOutput().println(eventUpdated);
     }
 
     /**
@@ -206,7 +708,7 @@ public class Ui {
      */
     public void printReminder(ArrayList<Event> eventsWithTime, ArrayList<Event> eventsWithoutTime) {
         if (eventsWithoutTime.size() == 0 && eventsWithTime.size() == 0) {
-            System.out.println("You have no events today!");
+            getOutput().println("You have no events today!");
         } else {
             printReminderEvents(eventsWithTime, eventsWithoutTime);
         }
@@ -219,9 +721,9 @@ public class Ui {
      * @param eventsWithoutTime events without time.
      */
     private void printReminderEvents(ArrayList<Event> eventsWithTime, ArrayList<Event> eventsWithoutTime) {
-        System.out.println("You have the following events today: ");
+        getOutput().println("You have the following events today: ");
         if (eventsWithTime.size() > 0) {
-            System.out.println("_________Events With Time________");
+            getOutput().println("_________Events With Time________");
             Collections.sort(eventsWithTime, new Comparator<Event>() {
                 @Override
                 public int compare(Event o1, Event o2) {
@@ -229,34 +731,48 @@ public class Ui {
                 }
             });
             for (int i = 0; i < eventsWithTime.size(); i++) {
-                System.out.println(eventsWithTime.get(i).toString());
+                getOutput().println(eventsWithTime.get(i).toString());
             }
 
         }
 
         if (eventsWithoutTime.size() > 0) {
-            System.out.println();
-            System.out.println("_________Events Without Time_____");
+            getOutput().println();
+            getOutput().println("_________Events Without Time_____");
             for (int i = 0; i < eventsWithoutTime.size(); i++) {
-                System.out.println(eventsWithoutTime.get(i).toString());
+                getOutput().println(eventsWithoutTime.get(i).toString());
             }
         }
 
     }
 
     public void printEventMarkedDoneMessage(Event doneEvent) {
-        System.out.println("You have successfully marked this event as done!");
-        System.out.println(doneEvent);
+        getOutput().println("You have successfully marked this event as done!");
+        getOutput().println(doneEvent);
     }
 
     public void printEventMarkedUndoneMessage(Event undoneEvent) {
-        System.out.println("You have successfully marked this event as undone!");
-        System.out.println(undoneEvent);
+        getOutput().println("You have successfully marked this event as undone!");
+        getOutput().println(undoneEvent);
+    }
+
+    /**
+     * Prints the number of events and repeats changed by a command acting on several events at once.
+     *
+     * @param count       number of events and repeats changed.
+     * @param change      what was done to the events, such as "deleted".
+     * @param listName    name of the list the events are in.
+     * @param description description of the events chosen.
+     */
+    public void printEventsChangedMessage(int count, String change, String listName, String description) {
+        String countString = (count == 0) ? "No" : String.valueOf(count);
+        getOutput().println(countString + ((count == 1) ? " event has" : " events have") + " been " + change
+                + " in your " + listName + " list (" + description + ").");
     }
 
     public void printEventDeletedMessage(Event deleteEvent) {
-        System.out.println("You have successfully deleted this event!");
-        System.out.println(deleteEvent);
+        getOutput().println("You have successfully deleted this event!");
+        getOutput().println(deleteEvent);
     }
 
     /**
@@ -266,10 +782,10 @@ public class Ui {
      * @param notes        list of notes.
      */
     public void printNoteMessage(Event eventUpdated, ArrayList<String> notes) {
-        System.out.println("You have successfully written the note for this event!");
-        System.out.println(eventUpdated);
+        getOutput().println("You have successfully written the note for this event!");
+        getOutput().println(eventUpdated);
         for (int i = 0; i < notes.size(); i++) {
-            System.out.println(notes.get(i));
+            getOutput().println(notes.get(i));
         }
 
     }
@@ -277,11 +793,11 @@ public class Ui {
     public void printViewNote(ArrayList<String> notes) {
 
         if (notes.size() == 0) {
-            System.out.println("You have not written any notes for this event!");
+            getOutput().println("You have not written any notes for this event!");
         } else {
-            System.out.println("These are the notes that you have taken: ");
+            getOutput().println("These are the notes that you have taken: ");
             for (int i = 0; i < notes.size(); i++) {
-                System.out.println(notes.get(i));
+                getOutput().println(notes.get(i));
             }
         }
 
@@ -292,28 +808,40 @@ public class Ui {
      * The program prints out this message to indicate the successful saving of the event information to a file.
      */
     public void printStorageSavedMessage() {
-        System.out.println("The file has successfully been saved!");
+        getOutput().println("The file has successfully been saved!");
     }
 
     /**
      * The program prints out this message to indicate the successful loading of event information for a file.
      */
     public void printStorageLoadMessage() {
-        System.out.println("The file has successfully been loaded!");
+        getOutput().println("The file has successfully been loaded!");
     }
 
     /**
      * Command prints this message if there are signs the users have modified the txt files incorrectly.
      */
     public void printStorageLoadingErrorMessage() {
-        System.out.println("The file does not exist or has been corrupted!");
+        getOutput().println("The file does not exist or has been corrupted!");
+    }
+
+    /**
+     * Prints the number of corrupt lines that could not be loaded from a file and where they were saved to.
+     *
+     * @param count       number of corrupt lines.
+     * @param fileType    type of events in the file.
+     * @param salvagePath file the corrupt lines were saved to.
+     */
+    public void printSalvageMessage(int count, String fileType, String salvagePath) {
+        getOutput().println(count + " corrupt " + fileType + " entries were not loaded and have been copied to "
+                + salvagePath);
     }
 
     /**
      * Prints the message when no date was detected for a personal event.
      */
     public void printExtractNoDatePersonalEventMessage() {
-        System.out.println("Since no date was detected in the text body, "
+        getOutput().println("Since no date was detected in the text body, "
                 + "the personal event will only contain the description.");
     }
 
@@ -321,7 +849,7 @@ public class Ui {
      * Prints the message when no date was detected for a zoom event.
      */
     public void printExtractNoDateZoomEventMessage() {
-        System.out.println("Since no date was detected in the text body, "
+        getOutput().println("Since no date was detected in the text body, "
                 + "the zoom event will only contain the description and zoom link.");
     }
 
@@ -330,7 +858,7 @@ public class Ui {
      * resulting in creation of zoom event with only link.
      */
     public void printExtractNoTimeZoomEventMessage() {
-        System.out.println("Even though date was detected, time was not, in Scheduler--; "
+        getOutput().println("Even though date was detected, time was not, in Scheduler--; "
                 + "a zoom event cannot have the date without the time. So "
                 + "a zoom event with only the date and zoom link will be created.");
     }
@@ -339,7 +867,7 @@ public class Ui {
      * Prints the message when no time was detected for a personal event.
      */
     public void printExtractNoTimePersonalEventMessage() {
-        System.out.println("Since no time was detected in the text body, "
+        getOutput().println("Since no time was detected in the text body, "
                 + "the personal event will only contain the description and the date.");
     }
 
@@ -350,12 +878,12 @@ public class Ui {
      * @param timeList An ArrayList of LocalTime containing all timings detected.
      */
     public void printExtractChooseTimeMessage(int timeCount, ArrayList<LocalTime> timeList) {
-        System.out.println("We have detected " + timeCount + " timings in this text body!");
-        System.out.println("Please select the time you want for this event from the list below!");
+        getOutput().println("We have detected " + timeCount + " timings in this text body!");
+        getOutput().println("Please select the time you want for this event from the list below!");
         int timeNumber = 0;
         printDividerLine();
         for (LocalTime time : timeList) {
-            System.out.println(timeNumber + 1 + ". " + time);
+            getOutput().println(timeNumber + 1 + ". " + time);
             timeNumber++;
         }
         printDividerLine();
@@ -367,7 +895,7 @@ public class Ui {
      * @param finalTime The only LocalTime object detected.
      */
     public void printExtractSingleTimeDetectedMessage(LocalTime finalTime) {
-        System.out.println("One timing detected and chosen: " + finalTime);
+        getOutput().println("One timing detected and chosen: " + finalTime);
     }
 
     /**
@@ -377,12 +905,12 @@ public class Ui {
      * @param dateList An ArrayList of LocalDate containing all dates detected.
      */
     public void printExtractChooseDateMessage(int dateCount, ArrayList<LocalDate> dateList) {
-        System.out.println("We have detected " + dateCount + " dates in this text body!");
-        System.out.println("Please select the date you want for this event from the list below!");
+        getOutput().println("We have detected " + dateCount + " dates in this text body!");
+        getOutput().println("Please select the date you want for this event from the list below!");
         int dateNumber = 0;
         printDividerLine();
         for (LocalDate date : dateList) {
-            System.out.println(dateNumber + 1 + ". " + date);
+            getOutput().println(dateNumber + 1 + ". " + date);
             dateNumber++;
         }
         printDividerLine();
@@ -394,15 +922,15 @@ public class Ui {
      * @param finalDate The only LocalDate object detected.
      */
     public void printExtractSingleDateDetectedMessage(LocalDate finalDate) {
-        System.out.println("One date detected and chosen: " + finalDate);
+        getOutput().println("One date detected and chosen: " + finalDate);
     }
 
     /**
      * Prints the instructions to tell users what to do for the extract feature.
      */
     public void printExtractTextBodyRequestMessage() {
-        System.out.println("Copy and paste or enter the body of the text you want to extract from!");
-        System.out.println("At the end of your text, press enter to go to the next line, enter 'extractend' "
+        getOutput().println("Copy and paste or enter the body of the text you want to extract from!");
+        getOutput().println("At the end of your text, press enter to go to the next line, enter 'extractend' "
                 + "with no quotation marks and press enter once more.");
     }
 
@@ -412,7 +940,7 @@ public class Ui {
      * @param field A string that could contain the any field that needs this method.
      */
     public void printExtractInvalidFieldChosenMessage(String field) {
-        System.out.println("Invalid " + field + " number to choose! Please choose again!");
+        getOutput().println("Invalid " + field + " number to choose! Please choose again!");
         printDividerLine();
     }
 
@@ -422,7 +950,7 @@ public class Ui {
      * @param field A string that could contain the any field that needs this method.
      */
     public void printExtractNoFieldMessage(String field) {
-        System.out.println("No " + field + " detected for this text body!");
+        getOutput().println("No " + field + " detected for this text body!");
     }
 
     /**
@@ -432,12 +960,12 @@ public class Ui {
      * @param zoomLinkList An ArrayList of String containing all the zoom links detected.
      */
     public void printExtractChooseZoomLinkMessage(int zoomLinkCount, ArrayList<String> zoomLinkList) {
-        System.out.println("We have detected " + zoomLinkCount + " zoom links in this text body!");
-        System.out.println("Please select the zoom link you want for this event from the list below!");
+        getOutput().println("We have detected " + zoomLinkCount + " zoom links in this text body!");
+        getOutput().println("Please select the zoom link you want for this event from the list below!");
         int zoomLinkNumber = 0;
         printDividerLine();
         for (String zoomLink : zoomLinkList) {
-            System.out.println(zoomLinkNumber + 1 + ". " + zoomLink);
+            getOutput().println(zoomLinkNumber + 1 + ". " + zoomLink);
             zoomLinkNumber++;
         }
         printDividerLine();
@@ -449,7 +977,7 @@ public class Ui {
      * @param zoomLink The only String of zoom link detected.
      */
     public void printExtractSingleZoomLinkDetectedMessage(String zoomLink) {
-        System.out.println("One zoom link detected and chosen: " + zoomLink);
+        getOutput().println("One zoom link detected and chosen: " + zoomLink);
     }
 
     /**
@@ -458,10 +986,10 @@ public class Ui {
      * @param exceptionMessage String of warning message from various exceptions.
      */
     public void printErrorMessage(String exceptionMessage) {
-        System.out.println(exceptionMessage);
+        getOutput().println(exceptionMessage);
     }
 
     public void printMessage(String message) {
-        System.out.println(message);
+        getOutput().println(message);
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidIndexException;
+import seedu.duke.exception.WrongNumberFormatException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Scanner;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArchiveCommandTest {
+    private static final String DIRECTORY = "data,archiveCommandTest";
+
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Ui ui;
+    private Storage storage;
+    private UserData data;
+
+    @BeforeEach
+    void setUp() throws IOException, DukeException {
+        Path directory = Paths.get(System.getProperty("user.dir"), "data", "archiveCommandTest");
+        if (Files.exists(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+        ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        storage = new Storage(DIRECTORY, ui);
+        data = new UserData();
+
+        new AddCommand("personal; Old dinner; 05/05/2000; 12:00").execute(data, ui, storage);
+        new AddCommand("personal; Old lunch; 04/05/2000").execute(data, ui, storage);
+        new AddCommand("zoom; Old tutorial; zoom.com/blah; 03/10/2000; 1330").execute(data, ui, storage);
+        RepeatCommand.parse("zoom; 1; weekly; 1").execute(data, ui, storage);
+        new AddCommand("personal; Future trip; 04/05/2100").execute(data, ui, storage);
+        DoneCommand.parse("personal; 1").execute(data, ui, storage);
+        DoneCommand.parse("zoom; 1").execute(data, ui, storage);
+        DoneCommand.parse("personal; 3").execute(data, ui, storage);
+        outputStreamCaptor.reset();
+    }
+
+    @Test
+    void execute_noArgument_onlyPastCompletedEventsArchived() throws DukeException, IOException {
+        new ArchiveCommand("").execute(data, ui, storage);
+
+        //the zoom event has a repeat that is not done, and the future trip is not past
+        assertEquals(2, data.getEventList("Personal").getSize());
+        assertEquals("Old lunch", data.getEventList("Personal").getEventByIndex(0).getDescription());
+        assertEquals(1, data.getEventList("Zoom").getSize());
+        assertTrue(outputStreamCaptor.toString().startsWith("1 completed events older than 30 days"));
+        assertEquals(2, Files.readAllLines(Paths.get(storage.getDirectoryString(), "personal.txt")).size());
+    }
+
+    @Test
+    void execute_searchAndRestore_eventMovedBackToList() throws DukeException {
+        DoneCommand.parse("zoom; 1; 10/10/2000").execute(data, ui, storage);
+        new ArchiveCommand("").execute(data, ui, storage);
+        assertEquals(0, data.getEventList("Zoom").getSize());
+        outputStreamCaptor.reset();
+
+        new ArchiveCommand("search TUTORIAL").execute(data, ui, storage);
+        assertEquals("Here are the archived events found:" + System.lineSeparator()
+                + "2. " + "[Z][O] Old tutorial, Link: zoom.com/blah on 2000-10-03, 13:30" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+
+        new ArchiveCommand("restore 2").execute(data, ui, storage);
+        assertEquals(1, data.getEventList("Zoom").getSize());
+        assertEquals(1, data.getEventList("Zoom").getEventByIndex(0).getRepeatCount());
+        outputStreamCaptor.reset();
+
+        new ArchiveCommand("search").execute(data, ui, storage);
+        assertTrue(outputStreamCaptor.toString().contains("1. [P][O] Old dinner"));
+        assertThrows(InvalidIndexException.class, () -> new ArchiveCommand("restore 2").execute(data, ui, storage));
+    }
+
+    @Test
+    void execute_archiveThenUndo_nothingUndone() throws DukeException {
+        UserDataStore store = new UserDataStore(data);
+        store.execute(new ArchiveCommand(""), ui, storage);
+
+        assertThrows(DukeException.class, () -> store.execute(new UndoCommand(""), ui, storage));
+        assertEquals(2, data.getEventList("Personal").getSize());
+        outputStreamCaptor.reset();
+        new ArchiveCommand("search dinner").execute(data, ui, storage);
+        assertTrue(outputStreamCaptor.toString().contains("1. [P][O] Old dinner"));
+    }
+
+    @Test
+    void execute_restoreThenUndo_restoredEventKept() throws DukeException, IOException {
+        UserDataStore store = new UserDataStore(data);
+        store.execute(new ArchiveCommand(""), ui, storage);
+        store.execute(new ArchiveCommand("restore 1"), ui, storage);
+
+        assertThrows(DukeException.class, () -> store.execute(new UndoCommand(""), ui, storage));
+        assertEquals(3, data.getEventList("Personal").getSize());
+        assertEquals(3, Files.readAllLines(Paths.get(storage.getDirectoryString(), "personal.txt")).size());
+    }
+
+    @Test
+    void loadAll_autoPolicySet_oldCompletedEventsArchived() throws DukeException {
+        new ArchiveCommand("auto 10").execute(data, ui, storage);
+        outputStreamCaptor.reset();
+
+        UserData loaded = new UserData();
+        new Storage(DIRECTORY, ui).loadAll(loaded);
+
+        assertEquals(2, loaded.getEventList("Personal").getSize());
+        assertTrue(outputStreamCaptor.toString().contains("1 completed events older than 10 days"));
+        new ArchiveCommand("auto off").execute(data, ui, storage);
+    }
+
+    @Test
+    void execute_invalidDays_exceptionThrown() {
+        assertThrows(WrongNumberFormatException.class, () -> new ArchiveCommand("-3").execute(data, ui, storage));
+        assertThrows(WrongNumberFormatException.class, () -> new ArchiveCommand("auto x").execute(data, ui, storage));
+    }
+}
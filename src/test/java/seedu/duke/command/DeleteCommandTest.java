@@ -165,4 +165,23 @@ class DeleteCommandTest {
         String actualStringFive = fifthE.getMessage();
         assertEquals(expectedStringFive, actualStringFive);
     }
-}
\ No newline at end of file
+
+    @Test
+    void execute_deleteSelections_eventsDeletedAndSavedOnce() throws DukeException {
+        DeleteCommand.parse("zoom; after 5/10/2020").execute(data, ui, storage);
+
+        assertEquals("1 event has been deleted in your Zoom list (events after 5/10/2020).",
+                outputStreamCaptor.toString().trim());
+        assertEquals(1, data.getEventList("Zoom").getSize());
+        assertEquals(null, data.getEventList("Zoom").getEventByIndex(0).getRepeatEventList());
+
+        outputStreamCaptor.reset();
+        DeleteCommand.parse("personal; 1-2").execute(data, ui, storage);
+
+        assertEquals("2 events have been deleted in your Personal list (events 1 to 2).",
+                outputStreamCaptor.toString().trim());
+        assertEquals(0, data.getEventList("Personal").getSize());
+        assertThrows(InvalidIndexException.class, () -> DeleteCommand.parse("zoom; 1-2").execute(data, ui, storage));
+        assertThrows(WrongNumberFormatException.class, () -> DeleteCommand.parse("zoom; 2-1"));
+    }
+}
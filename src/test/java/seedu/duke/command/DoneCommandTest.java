@@ -171,4 +171,21 @@ class DoneCommandTest {
         String actualStringFive = fifthE.getMessage();
         assertEquals(expectedStringFive, actualStringFive);
     }
-}
\ No newline at end of file
+
+    @Test
+    void execute_markSelectionsAsDone_occurrencesOnChosenDatesMarked() throws DukeException {
+        DoneCommand.parse("personal; before 5/5/2020").execute(data, ui, storage);
+
+        assertEquals("1 event has been marked as done in your Personal list (events before 5/5/2020).",
+                outputStreamCaptor.toString().trim());
+        assertEquals("X", data.getEventList("Personal").getEventByIndex(0).getStatus());
+        assertEquals("O", data.getEventList("Personal").getEventByIndex(1).getStatus());
+
+        outputStreamCaptor.reset();
+        DoneCommand.parse("zoom; all occurrences in 10/2020").execute(data, ui, storage);
+
+        assertEquals("2 events have been marked as done in your Zoom list (events in 10/2020).",
+                outputStreamCaptor.toString().trim());
+        assertEquals("O", data.getEventList("Zoom").getEventByIndex(0).getRepeatEventList().get(0).getStatus());
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.InvalidHelpTopicException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HelpCommandTest {
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Ui ui;
+    private Storage storage;
+    private UserData data;
+
+    @BeforeEach
+    public void setUp() {
+        ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        storage = new Storage("data", ui);
+        data = new UserData();
+    }
+
+    @Test
+    void execute_exactTopic_printsTopicOnly() throws DukeException {
+        new HelpCommand("calendar").execute(data, ui, storage);
+
+        String output = outputStreamCaptor.toString();
+        assertTrue(output.startsWith("calendar - displays your events in chronological order"));
+        assertFalse(output.contains("begin calendar"));
+        assertFalse(output.contains("end calendar"));
+        assertFalse(output.contains("bye - "));
+    }
+
+    @Test
+    void execute_uniquePrefix_printsMatchingTopic() throws DukeException {
+        new HelpCommand("calendar").execute(data, ui, storage);
+        String exactOutput = outputStreamCaptor.toString();
+        outputStreamCaptor.reset();
+
+        new HelpCommand("  CALEN ").execute(data, ui, storage);
+
+        assertEquals(exactOutput, outputStreamCaptor.toString());
+    }
+
+    @Test
+    void execute_ambiguousPrefix_throwsWithMatchingTopics() {
+        InvalidHelpTopicException e = assertThrows(InvalidHelpTopicException.class, () ->
+                new HelpCommand("re").execute(data, ui, storage));
+        assertEquals("re could be any of these help topics: redo, reminder, repeat", e.getMessage());
+    }
+
+    @Test
+    void execute_unknownTopic_throwsInvalidHelpTopicException() {
+        assertThrows(InvalidHelpTopicException.class, () -> new HelpCommand("fly").execute(data, ui, storage));
+    }
+
+    @Test
+    void execute_noArgument_printsSummary() throws DukeException {
+        new HelpCommand("").execute(data, ui, storage);
+
+        assertTrue(outputStreamCaptor.toString().contains("calendar"));
+        assertTrue(outputStreamCaptor.toString().contains("profile"));
+    }
+}
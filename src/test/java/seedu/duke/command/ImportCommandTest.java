@@ -0,0 +1,119 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.ChangeBus;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.EventAddErrorException;
+import seedu.duke.exception.WrongNumberOfArgumentsException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImportCommandTest {
+    private final PrintStream standardOut = System.out;
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Path csvFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        csvFile = Files.createTempFile("import", ".csv");
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    @Test
+    void execute_timetableRows_importValidRowsAndReportRejected() throws DukeException, IOException {
+        UserData data = new UserData();
+        Ui ui = new Ui();
+        Storage storage = new Storage("data", ui);
+        Files.write(csvFile, List.of("description,location,date,time",
+                "CS2113T lecture,I3-AUD,09/10/2020,4pm",
+                "CS2101 tutorial,12/10/2020,1000",
+                "\"Lab, week 1\",COM1,13/10/2020,1400",
+                "broken row,13/10/2020",
+                "bad date,COM1,40/10/2020,1400"));
+
+        new ImportCommand("timetable; " + csvFile).execute(data, ui, storage);
+
+        assertEquals(3, data.getEventList("Timetable").getSize());
+        assertEquals("Lab, week 1", data.getEventList("Timetable").getEventByIndex(2).getDescription());
+        assertEquals("3/5 rows imported successfully into Timetable" + System.lineSeparator()
+                + "The following rows were rejected:" + System.lineSeparator()
+                + "Line 5: Incorrect number of parameters for Timetable event! A Timetable  event can contain "
+                + "description, date and time or description, location, date and time." + System.lineSeparator()
+                + "Line 6: Something is wrong with the date!" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+    }
+
+    @Test
+    void execute_manyPersonalRows_importAllInOrder() throws DukeException, IOException {
+        UserData data = new UserData();
+        Ui ui = new Ui();
+        Storage storage = new Storage("data", ui);
+        ArrayList<String> rows = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            rows.add("task " + i + ",1/1/2021,0900");
+        }
+        Files.write(csvFile, rows);
+
+        new ImportCommand("personal; " + csvFile).execute(data, ui, storage);
+
+        assertEquals(10000, data.getEventList("Personal").getSize());
+        assertEquals("task 9999", data.getEventList("Personal").getEventByIndex(9999).getDescription());
+    }
+
+    @Test
+    void execute_inWrite_onlyAdditionsRecordedAndPublished() throws DukeException, IOException {
+        UserDataStore store = new UserDataStore(new UserData());
+        Ui ui = new Ui();
+        Storage storage = new Storage("data", ui);
+        ArrayList<ChangeBus.Kind> publishedKinds = new ArrayList<>();
+        store.getChangeBus().subscribe((liveData, changes) -> changes.forEach(c -> publishedKinds.add(c.getKind())));
+        Files.write(csvFile, List.of("task 1,1/1/2021,0900", "task 2,2/1/2021,0900"));
+
+        store.execute(new ImportCommand("personal; " + csvFile), ui, storage);
+
+        assertEquals(List.of(ChangeBus.Kind.ADD, ChangeBus.Kind.ADD), publishedKinds);
+        store.write(data -> data.getHistory().undo());
+        assertEquals(0, store.getData().getEventList("Personal").getSize());
+    }
+
+    @Test
+    void execute_invalidEventType_EventAddErrorException() {
+        UserData data = new UserData();
+        Ui ui = new Ui();
+        Storage storage = new Storage("data", ui);
+        assertThrows(EventAddErrorException.class, () -> {
+            new ImportCommand("goal; " + csvFile).execute(data, ui, storage);
+        });
+    }
+
+    @Test
+    void execute_missingFile_WrongNumberOfArgumentsException() {
+        UserData data = new UserData();
+        Ui ui = new Ui();
+        Storage storage = new Storage("data", ui);
+        assertThrows(WrongNumberOfArgumentsException.class, () -> {
+            new ImportCommand("zoom").execute(data, ui, storage);
+        });
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        System.setOut(standardOut);
+        Files.deleteIfExists(csvFile);
+    }
+}
@@ -6,13 +6,16 @@ import org.junit.jupiter.api.Test;
 import seedu.duke.data.UserData;
 import seedu.duke.event.EventList;
 import seedu.duke.exception.DukeException;
+import seedu.duke.exception.WrongNumberFormatException;
 import seedu.duke.storage.Storage;
 import seedu.duke.ui.Ui;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ListCommandTest {
     private final PrintStream standardOut = System.out;
@@ -90,6 +93,57 @@ class ListCommandTest {
                 outputStreamCaptor.toString());
     }
 
+    @Test
+    void execute_filtersAndPageSize_matchingEventsShownWithListNumbers() throws DukeException {
+        UserData data = new UserData();
+        Ui ui = new Ui(new Scanner("q" + System.lineSeparator()), new PrintStream(outputStreamCaptor));
+        Storage storage = new Storage("data", ui);
+        new AddCommand("personal; Breakfast; 01/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Lunch; 02/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Dinner; 03/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Supper; 04/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Party; 05/12/2000").execute(data, ui, storage);
+        DoneCommand.parse("personal; 1").execute(data, ui, storage);
+        outputStreamCaptor.reset();
+
+        ListCommand.parse("personal; undone; from 01/10/2000; to 31/10/2000; page 2").execute(data, ui, storage);
+
+        assertEquals("Here is a list of your Personal events:" + System.lineSeparator()
+                        + "2. [P][X] Lunch on 2000-10-02" + System.lineSeparator()
+                        + "3. [P][X] Dinner on 2000-10-03" + System.lineSeparator()
+                        + "---------------------------------------------------------------------------------------"
+                        + System.lineSeparator()
+                        + "Enter 'q' to exit or enter to continue..." + System.lineSeparator(),
+                outputStreamCaptor.toString());
+    }
+
+    @Test
+    void execute_eventChangedAfterListing_changedEventListed() throws DukeException {
+        UserData data = new UserData();
+        Ui ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        Storage storage = new Storage("data", ui);
+        new AddCommand("personal; party; 09/10/2000; 1300").execute(data, ui, storage);
+        RepeatCommand.parse("personal; 1; weekly; 1").execute(data, ui, storage);
+        ListCommand.parse("personal").execute(data, ui, storage);
+        outputStreamCaptor.reset();
+
+        DoneCommand.parse("personal; 1; 16/10/2000").execute(data, ui, storage);
+        data.getEventList("Personal").getEvents().get(0).setDescription("dinner");
+        outputStreamCaptor.reset();
+        ListCommand.parse("personal").execute(data, ui, storage);
+
+        assertEquals("Here is a list of your Personal events:" + System.lineSeparator()
+                        + "1. [P][X] dinner on 2000-10-09, 13:00 is also on:" + System.lineSeparator()
+                        + "    1. 2000-10-16 13:00 [O]" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+    }
+
+    @Test
+    void parse_invalidFilter_exceptionThrown() {
+        assertThrows(DukeException.class, () -> ListCommand.parse("personal; finished"));
+        assertThrows(WrongNumberFormatException.class, () -> ListCommand.parse("personal; page 0"));
+    }
+
     @AfterEach
     public void tearDown() {
         System.setOut(standardOut);
@@ -0,0 +1,73 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NextCommandTest {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final Clock NOON = Clock.fixed(LocalDateTime.of(2000, 10, 9, 12, 0).atZone(ZONE).toInstant(), ZONE);
+
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Ui ui;
+    private Storage storage;
+    private UserData data;
+
+    @BeforeEach
+    void setUp() throws DukeException {
+        ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        storage = new Storage("data,nextCommandTest", ui);
+        data = new UserData();
+        new AddCommand("zoom; Math class; zoom.com; 09/10/2000; 1300").execute(data, ui, storage);
+        RepeatCommand.parse("zoom; 1; weekly; 2").execute(data, ui, storage);
+        new AddCommand("timetable; Breakfast; 09/10/2000; 0800").execute(data, ui, storage);
+        new AddCommand("timetable; Tutorial; 10/10/2000; 0900").execute(data, ui, storage);
+        new AddCommand("personal; Buy milk; 09/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Old errand; 08/10/2000").execute(data, ui, storage);
+        outputStreamCaptor.reset();
+    }
+
+    @Test
+    void execute_count_nextEventsAcrossListsInOrder() throws DukeException {
+        new NextCommand("4", NOON).execute(data, ui, storage);
+
+        assertEquals("Here are your next 4 events:" + System.lineSeparator()
+                + "1. Personal: [P][X] Buy milk on 2000-10-09" + System.lineSeparator()
+                + "2. Zoom: [Z][X] Math class, Link: zoom.com on 2000-10-09, 13:00" + System.lineSeparator()
+                + "3. Timetable: [T][X] Tutorial on 2000-10-10, 09:00" + System.lineSeparator()
+                + "4. Zoom: [Z][X] Math class, Link: zoom.com on 2000-10-16, 13:00" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+    }
+
+    @Test
+    void execute_moreThanAvailable_allUpcomingShown() throws DukeException {
+        new NextCommand("", NOON).execute(data, ui, storage);
+
+        String[] lines = outputStreamCaptor.toString().split(System.lineSeparator());
+        assertEquals("Here are your next 5 events:", lines[0]);
+        assertEquals("5. Zoom: [Z][X] Math class, Link: zoom.com on 2000-10-23, 13:00", lines[5]);
+
+        outputStreamCaptor.reset();
+        new NextCommand("10", NOON).execute(data, ui, storage);
+        assertEquals(6, outputStreamCaptor.toString().split(System.lineSeparator()).length);
+    }
+
+    @Test
+    void constructor_invalidCount_exceptionThrown() {
+        assertThrows(DukeException.class, () -> new NextCommand("0"));
+        assertThrows(DukeException.class, () -> new NextCommand("many"));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.exception.DukeException;
+import seedu.duke.parser.Parser;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryCommandTest {
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Ui ui;
+    private Storage storage;
+    private UserData data;
+
+    @BeforeEach
+    void setUp() throws DukeException {
+        ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        storage = new Storage("data,queryCommandTest", ui);
+        data = new UserData();
+        new AddCommand("zoom; Math class; zoom.com; 09/10/2000; 1300").execute(data, ui, storage);
+        new AddCommand("personal; Lunch; 08/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Math revision; 10/10/2000").execute(data, ui, storage);
+        RepeatCommand.parse("personal; 2; daily; 2").execute(data, ui, storage);
+        outputStreamCaptor.reset();
+    }
+
+    @Test
+    void execute_dateAndDescriptionClauses_matchingEventsAndRepeatsPrinted() throws DukeException {
+        new Parser().parse("query date from 9/10/2000, description contains math, sort by date desc").execute(data, ui,
+                storage);
+
+        assertEquals("Here are the events matching your query:" + System.lineSeparator()
+                + "1. Personal: [P][X] Math revision on 2000-10-12" + System.lineSeparator()
+                + "2. Personal: [P][X] Math revision on 2000-10-11" + System.lineSeparator()
+                + "3. Personal: [P][X] Math revision on 2000-10-10" + System.lineSeparator()
+                + "4. Zoom: [Z][X] Math class, Link: zoom.com on 2000-10-09, 13:00" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+    }
+
+    @Test
+    void execute_explain_planPrinted() throws DukeException {
+        new Parser().parse("query explain list in (Zoom), status undone, limit 5").execute(data, ui, storage);
+
+        assertEquals("This query would be run as follows:" + System.lineSeparator()
+                + "Zoom: full scan, 1 of 1 entries read, then status checked" + System.lineSeparator()
+                + "Personal: not read" + System.lineSeparator()
+                + "Timetable: not read" + System.lineSeparator()
+                + "Reading stops after 5 matches" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.exception.DukeException;
+import seedu.duke.metrics.Metrics;
+import seedu.duke.parser.Parser;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatsCommandTest {
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Ui ui;
+    private Storage storage;
+    private UserDataStore store;
+
+    @BeforeEach
+    public void setUp() throws DukeException {
+        Metrics.reset();
+        ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        storage = new Storage("data", ui);
+        store = new UserDataStore(new UserData());
+        store.execute(new AddCommand("personal; Project meeting; 09/10/2000"), ui, storage);
+        store.execute(RepeatCommand.parse("personal; 1; weekly; 3"), ui, storage);
+        assertThrows(DukeException.class, () -> new Parser().parse("fly away"));
+        assertThrows(DukeException.class, () -> new Parser().parse("done personal"));
+        outputStreamCaptor.reset();
+    }
+
+    @Test
+    void execute_noArgument_printsCommandCountsAndListSizes() throws DukeException {
+        store.execute(new StatsCommand(""), ui, storage);
+
+        String output = outputStreamCaptor.toString();
+        assertTrue(output.contains("  add: 1, "));
+        assertTrue(output.contains("  repeat: 1, "));
+        assertTrue(output.contains("  unknown: 1" + System.lineSeparator()));
+        assertTrue(output.contains("  done: 1" + System.lineSeparator()));
+        assertTrue(output.contains("  Personal: 1, 4" + System.lineSeparator()));
+    }
+
+    @Test
+    void execute_export_writesJsonAndPrometheusFiles() throws Exception {
+        store.execute(new StatsCommand("export"), ui, storage);
+
+        String json = Files.readString(Paths.get(storage.getDirectoryString(), "metrics.json"));
+        String prometheus = Files.readString(Paths.get(storage.getDirectoryString(), "metrics.prom"));
+        assertTrue(json.startsWith("{\"commands\":{\"add\":{\"count\":1,"));
+        assertTrue(json.contains("\"Personal\":{\"events\":1,\"occurrences\":4}"));
+        assertTrue(prometheus.contains("scheduler_command_duration_seconds_count{command=\"add\"} 1\n"));
+        assertTrue(prometheus.contains("scheduler_parse_failures_total{command=\"unknown\"} 1\n"));
+        assertTrue(prometheus.contains("scheduler_list_occurrences{list=\"Personal\"} 4\n"));
+    }
+
+    @Test
+    void execute_loadMonth_printsGridOfDailyCounts() throws DukeException {
+        store.execute(DoneCommand.parse("personal; 1; 16/10/2000"), ui, storage);
+        outputStreamCaptor.reset();
+
+        store.execute(new StatsCommand("load 10/2000"), ui, storage);
+
+        String[] lines = outputStreamCaptor.toString().split(System.lineSeparator());
+        assertEquals("Workload for October 2000, as events/undone events on each day:", lines[0]);
+        assertEquals("Mon      Tue      Wed      Thu      Fri      Sat      Sun", lines[1]);
+        assertEquals(" ".repeat(54) + "1 .", lines[2]);
+        assertEquals("2 .      3 .      4 .      5 .      6 .      7 .      8 .", lines[3]);
+        assertEquals("9 1/1    10 .     11 .     12 .     13 .     14 .     15 .", lines[4]);
+        assertEquals("16 1/0   17 .     18 .     19 .     20 .     21 .     22 .", lines[5]);
+        assertEquals("30 1/1   31 .", lines[7]);
+        assertEquals("Busiest day: 09 Oct 2000, 1 events, 1 undone", lines[8]);
+    }
+
+    @Test
+    void execute_loadWeeks_printsHistogramOfWeeklyCounts() throws DukeException {
+        store.execute(DoneCommand.parse("personal; 1; 16/10/2000"), ui, storage);
+        outputStreamCaptor.reset();
+
+        store.execute(new StatsCommand("load weeks 10/2000"), ui, storage);
+
+        String[] lines = outputStreamCaptor.toString().split(System.lineSeparator());
+        assertEquals(7, lines.length);
+        assertEquals("25 Sep | 0 (0 undone)", lines[1]);
+        assertEquals("09 Oct | # 1 (1 undone)", lines[3]);
+        assertEquals("16 Oct | + 1 (0 undone)", lines[4]);
+    }
+
+    @Test
+    void execute_invalidArgument_throwsDukeException() {
+        assertThrows(DukeException.class, () -> store.execute(new StatsCommand("print"), ui, storage));
+        assertThrows(DukeException.class, () -> store.execute(new StatsCommand("load 13/2000"), ui, storage));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.duke.command;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Scanner;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UndoCommandTest {
+    private static final String DIRECTORY = "data,undoCommandTest";
+
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private Ui ui;
+    private Storage storage;
+    private UserData data;
+    private UserDataStore store;
+
+    @BeforeEach
+    void setUp() throws IOException, DukeException {
+        Path directory = Paths.get(System.getProperty("user.dir"), "data", "undoCommandTest");
+        if (Files.exists(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+        ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        storage = new Storage(DIRECTORY, ui);
+        data = new UserData();
+        store = new UserDataStore(data);
+
+        store.execute(new AddCommand("personal; Dinner; 05/05/2000; 12:00"), ui, storage);
+        store.execute(new AddCommand("personal; Lunch; 04/05/2000"), ui, storage);
+        store.execute(RepeatCommand.parse("personal; 1; weekly; 3"), ui, storage);
+        outputStreamCaptor.reset();
+    }
+
+    @Test
+    void execute_deleteThenUndo_eventBackAtSamePosition() throws DukeException, IOException {
+        store.execute(DeleteCommand.parse("personal; 1"), ui, storage);
+        assertEquals("Lunch", data.getEventList("Personal").getEventByIndex(0).getDescription());
+
+        store.execute(new UndoCommand(""), ui, storage);
+
+        assertEquals("Dinner", data.getEventList("Personal").getEventByIndex(0).getDescription());
+        assertEquals(3, data.getEventList("Personal").getEventByIndex(0).getRepeatCount());
+        assertEquals(2, Files.readAllLines(Paths.get(storage.getDirectoryString(), "personal.txt")).size());
+        assertEquals("Undone: delete" + System.lineSeparator(), outputStreamCaptor.toString()
+                .substring(outputStreamCaptor.toString().indexOf("Undone")));
+    }
+
+    @Test
+    void execute_undoThenRedo_changesMadeAgain() throws DukeException {
+        store.execute(DoneCommand.parse("personal; 2"), ui, storage);
+        store.execute(RepeatCommand.parse("personal; 1; weekly; 0"), ui, storage);
+        assertNull(data.getEventList("Personal").getEventByIndex(0).getRepeatEventList());
+
+        store.execute(new UndoCommand(""), ui, storage);
+        store.execute(new UndoCommand(""), ui, storage);
+        assertEquals(3, data.getEventList("Personal").getEventByIndex(0).getRepeatCount());
+        assertEquals("X", data.getEventList("Personal").getEventByIndex(1).getStatus());
+
+        store.execute(new RedoCommand(), ui, storage);
+        assertEquals("O", data.getEventList("Personal").getEventByIndex(1).getStatus());
+        assertEquals(3, data.getEventList("Personal").getEventByIndex(0).getRepeatCount());
+
+        store.execute(new AddCommand("personal; Breakfast"), ui, storage);
+        assertThrows(DukeException.class, () -> store.execute(new RedoCommand(), ui, storage));
+    }
+
+    @Test
+    void execute_depthSet_onlyThatManyCommandsUndone() throws DukeException {
+        store.execute(new UndoCommand("depth 1"), ui, storage);
+        assertEquals(1, data.getHistory().getUndoCount());
+
+        store.execute(new UndoCommand(""), ui, storage);
+        assertEquals(0, data.getEventList("Personal").getEventByIndex(0).getRepeatCount());
+        assertThrows(DukeException.class, () -> store.execute(new UndoCommand(""), ui, storage));
+        assertEquals(2, data.getEventList("Personal").getSize());
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.duke.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.event.Personal;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ChangeBusTest {
+    private final ArrayList<List<ChangeBus.Change>> batches = new ArrayList<>();
+    private UserDataStore store;
+    private Personal lunch;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserData data = new UserData();
+        lunch = new Personal("Lunch");
+        data.addToEventList("Personal", lunch);
+        store = new UserDataStore(data);
+        store.getChangeBus().subscribe((liveData, changes) -> batches.add(changes));
+    }
+
+    @Test
+    void write_severalChanges_givenTogetherInOrder() throws Exception {
+        store.write(data -> {
+            EventList personal = data.getEventList("Personal");
+            lunch.setDate(LocalDate.of(2000, 10, 9));
+            lunch.markAsDone();
+            personal.remove(lunch);
+        });
+        store.write(data -> data.getGoal());
+
+        assertEquals(1, batches.size());
+        List<ChangeBus.Change> changes = batches.get(0);
+        assertEquals(3, changes.size());
+        assertEquals(ChangeBus.Kind.FIELD, changes.get(0).getKind());
+        assertEquals(ChangeBus.Kind.FIELD, changes.get(1).getKind());
+        assertEquals(ChangeBus.Kind.REMOVE, changes.get(2).getKind());
+        assertSame(lunch, changes.get(2).getEvent());
+        assertSame(store.getData().getEventList("Personal"), changes.get(2).getList());
+    }
+
+    @Test
+    void write_eventMadeThenAdded_onlyAdditionGiven() throws Exception {
+        store.write(data -> {
+            Personal dinner = new Personal("Dinner", LocalDate.of(2000, 10, 9));
+            dinner.markAsDone();
+            data.addToEventList("Personal", dinner);
+        });
+
+        List<ChangeBus.Change> changes = batches.get(0);
+        assertEquals(1, changes.size());
+        assertEquals(ChangeBus.Kind.ADD, changes.get(0).getKind());
+    }
+
+    @Test
+    void publish_noWriteOpen_notGiven() throws Exception {
+        lunch.markAsDone();
+        store.getData().addToEventList("Personal", new Personal("Dinner"));
+        assertEquals(0, batches.size());
+    }
+
+    @Test
+    void publish_listLoaded_earlierAdditionsReplaced() throws Exception {
+        store.write(data -> {
+            EventList personal = data.getEventList("Personal");
+            for (int i = 0; i < 1000; i++) {
+                personal.add(new Personal("Event " + i));
+            }
+            ChangeBus.publish(ChangeBus.Kind.LOAD, personal, null);
+        });
+
+        ArrayList<Event> addedOrLoaded = new ArrayList<>();
+        for (ChangeBus.Change change : batches.get(0)) {
+            if (change.getKind() != ChangeBus.Kind.FIELD) {
+                addedOrLoaded.add(change.getEvent());
+            }
+        }
+        assertEquals(1, addedOrLoaded.size());
+        assertEquals(ChangeBus.Kind.LOAD, batches.get(0).get(batches.get(0).size() - 1).getKind());
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.duke.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.event.Personal;
+import seedu.duke.exception.InvalidProfileException;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfileManagerTest {
+    private static final String TEST_DIRECTORY = "data,profileManagerTest";
+    private final Path testPath = Paths.get(System.getProperty("user.dir"), TEST_DIRECTORY.split(","));
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        if (Files.exists(testPath)) {
+            try (Stream<Path> paths = Files.walk(testPath)) {
+                for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    void get_loadedProfile_returnsSameProfile() throws Exception {
+        ProfileManager profiles = new ProfileManager(TEST_DIRECTORY, new Ui(), 2);
+        assertSame(profiles.get("alice"), profiles.get("alice"));
+    }
+
+    @Test
+    void get_moreProfilesThanCapacity_leastRecentlyUsedSavedAndUnloaded() throws Exception {
+        ProfileManager profiles = new ProfileManager(TEST_DIRECTORY, new Ui(), 2);
+        Profile alice = profiles.get("alice");
+        alice.getStore().write(data -> data.addToEventList("Personal", new Personal("unsaved task")));
+        profiles.get("bob");
+        profiles.get("carol");
+
+        assertEquals(List.of("bob", "carol"), profiles.getLoadedNames());
+        List<String> savedLines = Files.readAllLines(testPath.resolve(Paths.get("profiles", "alice", "personal.txt")));
+        assertEquals(1, savedLines.size());
+        assertTrue(savedLines.get(0).contains("unsaved task"));
+
+        Profile reloadedAlice = profiles.get("alice");
+        assertNotSame(alice, reloadedAlice);
+        assertEquals(1, reloadedAlice.getStore().getData().getEventList("Personal").getSize());
+    }
+
+    @Test
+    void switchTo_capacityExceeded_activeProfileKeptLoaded() throws Exception {
+        ProfileManager profiles = new ProfileManager(TEST_DIRECTORY, new Ui(), 1);
+        Profile alice = profiles.switchTo("alice");
+        profiles.get("bob");
+        profiles.get("carol");
+
+        assertEquals(List.of("alice", "carol"), profiles.getLoadedNames());
+        assertEquals("alice", profiles.getActiveName());
+        assertSame(alice, profiles.getActive());
+    }
+
+    @Test
+    void acquire_capacityExceeded_acquiredProfileKeptUntilReleased() throws Exception {
+        ProfileManager profiles = new ProfileManager(TEST_DIRECTORY, new Ui(), 1);
+        Profile alice = profiles.acquire("alice");
+        profiles.get("bob");
+        alice.getStore().write(data -> data.addToEventList("Personal", new Personal("task")));
+        profiles.get("carol");
+
+        assertEquals(List.of("alice", "carol"), profiles.getLoadedNames());
+        assertSame(alice, profiles.get("alice"));
+
+        profiles.release(alice);
+        profiles.get("carol");
+        assertEquals(List.of("carol"), profiles.getLoadedNames());
+        List<String> savedLines = Files.readAllLines(testPath.resolve(Paths.get("profiles", "alice", "personal.txt")));
+        assertEquals(1, savedLines.size());
+    }
+
+    @Test
+    void acquire_profileNotLoaded_loadedWithoutPrinting() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Ui ui = new Ui((Scanner) null, new PrintStream(output));
+        ProfileManager profiles = new ProfileManager(TEST_DIRECTORY, ui, 2);
+        profiles.release(profiles.acquire("alice"));
+        assertEquals("", output.toString());
+
+        profiles.get("bob");
+        assertTrue(output.size() > 0);
+    }
+
+    @Test
+    void get_sameProfileFromManyThreads_loadedOnce() throws Exception {
+        ProfileManager profiles = new ProfileManager(TEST_DIRECTORY, new Ui(), 2);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Profile>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> profiles.get("alice")));
+            }
+            for (Future<Profile> future : futures) {
+                assertSame(futures.get(0).get(), future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void get_invalidName_throwsInvalidProfileException() {
+        ProfileManager profiles = new ProfileManager(TEST_DIRECTORY, new Ui(), 2);
+        assertThrows(InvalidProfileException.class, () -> profiles.get("../alice"));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.duke.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.event.Personal;
+import seedu.duke.event.Zoom;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserDataStoreTest {
+
+    @Test
+    void snapshot_afterWrite_doesNotChangeWithLiveData() throws Exception {
+        UserDataStore store = new UserDataStore(new UserData());
+        store.write(data -> data.addToEventList("Personal", new Personal("first")));
+        UserData snapshot = store.snapshot();
+
+        store.write(data -> data.getEventList("Personal").getEventByIndex(0).markAsDone());
+        store.write(data -> data.addToEventList("Personal", new Personal("second")));
+
+        assertTrue(snapshot.isReadOnly());
+        assertEquals(1, snapshot.getEventList("Personal").getSize());
+        assertEquals("[P][X] first", snapshot.getEventList("Personal").getEventByIndex(0).toString());
+        assertEquals(2, store.snapshot().getEventList("Personal").getSize());
+    }
+
+    @Test
+    void snapshot_unchangedList_sharedBetweenSnapshots() throws Exception {
+        UserDataStore store = new UserDataStore(new UserData());
+        store.write(data -> data.addToEventList("Zoom", new Zoom("class", "zoom.com")));
+        EventList zoomBefore = store.snapshot().getEventList("Zoom");
+
+        store.write(data -> data.addToEventList("Personal", new Personal("task")));
+        UserData snapshot = store.snapshot();
+
+        assertSame(zoomBefore, snapshot.getEventList("Zoom"));
+        assertEquals(1, snapshot.getEventList("Personal").getSize());
+    }
+
+    @Test
+    void snapshot_repeatsReplacedByFreshRepeats_snapshotUpdated() throws Exception {
+        UserDataStore store = new UserDataStore(new UserData());
+        Personal lunch = new Personal("lunch");
+        store.write(data -> {
+            data.addToEventList("Personal", lunch);
+            ArrayList<Event> repeats = new ArrayList<>();
+            repeats.add(new Personal("lunch"));
+            lunch.setRepeatEventList(repeats);
+            repeats.get(0).markAsDone();
+        });
+        assertEquals("[P][O] lunch", repeatOf(store.snapshot()).toString());
+
+        store.write(data -> {
+            ArrayList<Event> repeats = new ArrayList<>();
+            repeats.add(new Personal("lunch"));
+            lunch.setRepeatEventList(repeats);
+        });
+
+        assertEquals("[P][X] lunch", repeatOf(store.snapshot()).toString());
+    }
+
+    @Test
+    void snapshot_addToSnapshotList_throwsException() throws Exception {
+        UserDataStore store = new UserDataStore(new UserData());
+        EventList personal = store.snapshot().getEventList("Personal");
+        assertThrows(UnsupportedOperationException.class, () -> personal.add(new Personal("task")));
+    }
+
+    @Test
+    void snapshot_concurrentWrites_readersSeeWholeWritesOnly() throws Exception {
+        UserDataStore store = new UserDataStore(new UserData());
+        int writeCount = 500;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < writeCount; i++) {
+                    String description = "task " + i;
+                    store.write(data -> {
+                        data.addToEventList("Personal", new Personal(description));
+                        data.addToEventList("Zoom", new Zoom(description, "zoom.com"));
+                    });
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+
+        Thread[] readers = new Thread[4];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = new Thread(() -> {
+                try {
+                    int lastSize = 0;
+                    while (lastSize < writeCount && failure.get() == null) {
+                        UserData snapshot = store.snapshot();
+                        int personalSize = snapshot.getEventList("Personal").getSize();
+                        int zoomSize = snapshot.getEventList("Zoom").getSize();
+                        assertEquals(personalSize, zoomSize);
+                        assertTrue(personalSize >= lastSize);
+                        lastSize = personalSize;
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+        }
+
+        writer.start();
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join(10000);
+        }
+
+        assertNull(failure.get());
+        assertEquals(writeCount, store.snapshot().getEventList("Zoom").getSize());
+    }
+
+    private static Event repeatOf(UserData data) throws Exception {
+        return data.getEventList("Personal").getEventByIndex(0).getRepeatEventList().get(0);
+    }
+}
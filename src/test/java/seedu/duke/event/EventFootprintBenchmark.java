@@ -0,0 +1,60 @@
+package seedu.duke.event;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+/**
+ * Measures the heap used per event when many events are loaded, such as from a large save file.
+ * Descriptions, links and locations are created as new strings for every event, as they are when parsed from a file.
+ * Run with a fixed heap, e.g. "java -Xms2g -Xmx2g", for stable results.
+ */
+public class EventFootprintBenchmark {
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final int DISTINCT_DESCRIPTIONS = 200;
+
+    public static void main(String[] args) {
+        int eventCount = (args.length > 0) ? Integer.parseInt(args[0]) : EVENT_COUNT;
+        LocalDate startDate = LocalDate.of(2020, 1, 1);
+
+        long usedBefore = usedHeap();
+        ArrayList<Event> events = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            String description = new String("Weekly lecture " + (i % DISTINCT_DESCRIPTIONS));
+            LocalDate date = startDate.plusDays(i % 3650);
+            LocalTime time = LocalTime.of(8 + i % 12, 30);
+            switch (i % 3) {
+            case 0:
+                events.add(new Personal(description, date, time));
+                break;
+            case 1:
+                events.add(new Zoom(description, new String("zoom.us/j/" + (i % DISTINCT_DESCRIPTIONS)), date, time));
+                break;
+            default:
+                events.add(new Timetable(description, new String("LT" + (i % 30)), date, time));
+                break;
+            }
+        }
+        long usedAfter = usedHeap();
+
+        long bytesPerEvent = (usedAfter - usedBefore - 4L * eventCount) / eventCount;
+        System.out.println(eventCount + " events: " + (usedAfter - usedBefore) / (1024 * 1024) + " MB in total, "
+                + bytesPerEvent + " bytes per event");
+        if (events.size() != eventCount) {
+            throw new AssertionError("Events were not all kept");
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
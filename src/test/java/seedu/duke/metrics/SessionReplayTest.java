@@ -0,0 +1,64 @@
+package seedu.duke.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionReplayTest {
+    private final Path directory = Paths.get(System.getProperty("user.dir"), "data", "sessionReplayTest");
+    private final Path sessionFile = directory.resolve("session.txt");
+
+    @BeforeEach
+    void setUp() throws IOException {
+        if (Files.exists(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+        Files.createDirectories(directory.resolve("data"));
+        Files.write(directory.resolve("data").resolve("personal.txt"),
+                List.of("Breakfast | 2000-10-01 | 0 | 0 | 0 |  | F"));
+    }
+
+    @Test
+    void run_capturedSession_commandsTimedAndDataFolderUnchanged() throws IOException {
+        Files.write(sessionFile, List.of("0\tadd personal; Lunch; 02/10/2000", "1500\tlist personal",
+                "1600\tnote personal; 1", "1700\tfirst note", "1800\tnoteend", "2000\tlist zoom | blah",
+                "2500\tadd personal; Dinner; 03/10/2000"));
+
+        SessionReplay replay = new SessionReplay(sessionFile, "data,sessionReplayTest,data");
+        replay.run();
+
+        assertEquals(2, replay.getLatencies().get("add").size());
+        assertEquals(2, replay.getLatencies().get("list").size());
+        assertEquals(1, replay.getLatencies().get("note").size());
+        assertEquals(1, replay.getLatencies().get("(invalid)").size());
+        assertEquals(1, Files.readAllLines(directory.resolve("data").resolve("personal.txt")).size());
+        assertFalse(Files.exists(Paths.get(System.getProperty("user.dir"), "replay")));
+
+        ArrayList<String> report = replay.report();
+        assertEquals("Replayed a session captured over 2.5 s", report.get(0));
+        assertTrue(report.get(2).startsWith("  (invalid): 1, "));
+    }
+
+    @Test
+    void percentile_nearestRank_valueAtRankReturned() {
+        ArrayList<Long> sorted = new ArrayList<>(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L));
+        assertEquals(5L, SessionReplay.percentile(sorted, 0.5));
+        assertEquals(10L, SessionReplay.percentile(sorted, 0.99));
+        assertEquals(1L, SessionReplay.percentile(new ArrayList<>(List.of(1L)), 0.5));
+    }
+}
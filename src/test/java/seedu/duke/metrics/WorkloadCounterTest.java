@@ -0,0 +1,93 @@
+package seedu.duke.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.event.Event;
+import seedu.duke.event.Personal;
+import seedu.duke.event.RepeatUnit;
+import seedu.duke.event.Zoom;
+import seedu.duke.exception.DukeException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WorkloadCounterTest {
+    private static final LocalDate DAY = LocalDate.of(2020, 10, 9);
+
+    private final WorkloadCounter counter = new WorkloadCounter();
+    private UserDataStore store;
+    private Personal lunch;
+
+    @BeforeEach
+    void setUp() throws DukeException {
+        UserData data = new UserData();
+        lunch = new Personal("Lunch", DAY);
+        data.addToEventList("Personal", lunch);
+        data.addToEventList("Zoom", new Zoom("Lecture", "zoom.us", DAY, null));
+        store = new UserDataStore(data);
+        counter.watch(store);
+    }
+
+    @Test
+    void watch_eventsInAllLists_countedByDay() {
+        assertEquals(2, counter.getEventCount(DAY));
+        assertEquals(2, counter.getUndoneCount(DAY));
+        assertEquals(0, counter.getEventCount(DAY.plusDays(1)));
+    }
+
+    @Test
+    void write_eventsChanged_countsUpdated() throws DukeException {
+        store.write(data -> lunch.markAsDone());
+        assertEquals(2, counter.getEventCount(DAY));
+        assertEquals(1, counter.getUndoneCount(DAY));
+
+        store.write(data -> data.addToEventList("Personal", new Personal("Dinner", DAY.plusDays(1))));
+        assertEquals(1, counter.getEventCount(DAY.plusDays(1)));
+
+        store.write(data -> data.getEventList("Personal").remove(lunch));
+        assertEquals(1, counter.getEventCount(DAY));
+        assertEquals(1, counter.getUndoneCount(DAY));
+    }
+
+    @Test
+    void write_eventRepeated_repeatsCounted() throws DukeException {
+        store.write(data -> {
+            Event lecture = data.getEventList("Zoom").getEventByIndex(0);
+            ArrayList<Event> repeatEventList = new ArrayList<>();
+            for (int i = 1; i <= 2; i++) {
+                Event repeatEvent = cloneEvent(lecture);
+                repeatEvent.setDate(RepeatUnit.WEEKLY.advance(DAY, i));
+                repeatEventList.add(repeatEvent);
+            }
+            lecture.setRepeatUnit(RepeatUnit.WEEKLY);
+            lecture.setRepeatEventList(repeatEventList);
+        });
+
+        assertEquals(2, counter.getEventCount(DAY));
+        assertEquals(1, counter.getEventCount(DAY.plusWeeks(1)));
+        assertEquals(1, counter.getEventCount(DAY.plusWeeks(2)));
+    }
+
+    @Test
+    void write_removalUndone_eventsCountedAgain() throws DukeException {
+        store.write("delete", data -> data.getEventList("Personal").removeAll(data.getEventList("Personal")
+                .getEvents()));
+        assertEquals(1, counter.getEventCount(DAY));
+
+        store.write(data -> data.getHistory().undo());
+        assertEquals(2, counter.getEventCount(DAY));
+        assertEquals(2, counter.getUndoneCount(DAY));
+    }
+
+    private static Event cloneEvent(Event event) {
+        try {
+            return event.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
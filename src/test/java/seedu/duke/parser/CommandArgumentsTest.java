@@ -0,0 +1,61 @@
+package seedu.duke.parser;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandArgumentsTest {
+
+    @Test
+    void tokenize_commandWithFields_wordAndTrimmedFieldsRead() {
+        CommandArguments arguments = CommandArguments.tokenize("done PERSONAL ;  2 ; 10/10/2000  ");
+
+        assertEquals("done", arguments.getCommandWord());
+        assertEquals("PERSONAL ;  2 ; 10/10/2000", arguments.getArgument());
+        assertEquals(3, arguments.getFieldCount());
+        assertEquals("Personal", arguments.getListName(0));
+        assertEquals("10/10/2000", arguments.getField(2));
+        assertEquals("2 ; 10/10/2000", arguments.getFieldsFrom(1));
+        assertTrue(arguments.isInteger(1));
+        assertEquals(2, arguments.getInteger(1));
+    }
+
+    @Test
+    void tokenize_commandWordOnly_singleBlankField() {
+        CommandArguments arguments = CommandArguments.tokenize("list");
+
+        assertEquals("list", arguments.getCommandWord());
+        assertEquals("", arguments.getArgument());
+        assertEquals(1, arguments.getFieldCount());
+        assertTrue(arguments.isFieldBlank(0));
+        assertTrue(arguments.isFieldBlank(3));
+        assertEquals("", arguments.getField(3));
+    }
+
+    @Test
+    void isInteger_invalidNumbers_falseWithoutException() {
+        CommandArguments arguments = CommandArguments.ofArgument("x;  ; 1a; -; 2147483648; -2147483648; +7");
+
+        assertFalse(arguments.isInteger(0));
+        assertFalse(arguments.isInteger(1));
+        assertFalse(arguments.isInteger(2));
+        assertFalse(arguments.isInteger(3));
+        assertFalse(arguments.isInteger(4));
+        assertEquals(Integer.MIN_VALUE, arguments.getInteger(5));
+        assertEquals(7, arguments.getInteger(6));
+        assertFalse(arguments.isInteger(7));
+    }
+
+    @Test
+    void toFieldArray_emptyFieldsAtEnd_sameAsSplit() {
+        String argument = "personal; Lunch ; 02/10/2000;;";
+        CommandArguments arguments = CommandArguments.ofArgument(argument);
+
+        assertArrayEquals(argument.split(";"), arguments.toFieldArray(0));
+        assertArrayEquals(new String[]{" Lunch ", " 02/10/2000"}, arguments.toFieldArray(1));
+        assertArrayEquals(new String[0], CommandArguments.ofArgument(";;").toFieldArray(0));
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.duke.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.event.Event;
+import seedu.duke.event.EventList;
+import seedu.duke.event.Personal;
+import seedu.duke.exception.DukeException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DateOrderTest {
+    private UserDataStore store;
+
+    @BeforeEach
+    void setUp() throws DukeException {
+        UserData data = new UserData();
+        data.addToEventList("Personal", new Personal("Alpha", LocalDate.of(2020, 10, 5)));
+        data.addToEventList("Personal", new Personal("Bravo", LocalDate.of(2020, 10, 3), LocalTime.of(10, 0)));
+        data.addToEventList("Personal", new Personal("Charlie"));
+        data.addToEventList("Personal", new Personal("Delta", LocalDate.of(2020, 10, 3)));
+        store = new UserDataStore(data);
+        DateOrder.keep(store);
+    }
+
+    @Test
+    void copied_eventsAddedMovedAndRemoved_snapshotInDateOrder() throws DukeException {
+        store.write(data -> {
+            EventList personal = data.getEventList("Personal");
+            personal.getEventByIndex(0).setDate(LocalDate.of(2020, 10, 1));
+            personal.getEventByIndex(1).setRepeatEventList(new ArrayList<>(Arrays.asList(
+                    new Personal("Bravo again", LocalDate.of(2020, 10, 2)))));
+            personal.remove(personal.getEventByIndex(3));
+            data.addToEventList("Personal", new Personal("Echo", LocalDate.of(2020, 10, 4)));
+        });
+
+        UserData snapshot = store.snapshot();
+        Event[] byDate = EventIndex.of(snapshot.getEventList("Personal")).getEntriesByDate();
+
+        ArrayList<String> descriptions = new ArrayList<>();
+        for (Event entry : byDate) {
+            descriptions.add(entry.getDescription());
+        }
+        assertEquals(Arrays.asList("Alpha", "Bravo again", "Bravo", "Echo"), descriptions);
+        assertNotSame(store.getData().getEventList("Personal").getEventByIndex(0), byDate[0]);
+        assertSame(snapshot.getEventList("Personal").getEventByIndex(0), byDate[0]);
+    }
+
+    @Test
+    void copied_timeChangedAfterSnapshot_laterSnapshotReordered() throws DukeException {
+        UserData before = store.snapshot();
+        store.write(data -> data.getEventList("Personal").getEventByIndex(1).setTime(null));
+        store.write(data -> data.getEventList("Personal").getEventByIndex(3).setTime(LocalTime.of(9, 0)));
+
+        Event[] beforeByDate = EventIndex.of(before.getEventList("Personal")).getEntriesByDate();
+        Event[] afterByDate = EventIndex.of(store.snapshot().getEventList("Personal")).getEntriesByDate();
+
+        assertEquals("Delta", beforeByDate[0].getDescription());
+        assertEquals("Bravo", afterByDate[0].getDescription());
+        assertEquals("Delta", afterByDate[1].getDescription());
+        assertEquals("Alpha", afterByDate[2].getDescription());
+    }
+}
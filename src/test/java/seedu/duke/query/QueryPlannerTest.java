@@ -0,0 +1,87 @@
+package seedu.duke.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.Personal;
+import seedu.duke.event.Zoom;
+import seedu.duke.exception.DukeException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryPlannerTest {
+    private final QueryPlanner planner = new QueryPlanner();
+    private UserData data;
+
+    @BeforeEach
+    void setUp() throws DukeException {
+        data = new UserData();
+        for (int day = 1; day <= 28; day++) {
+            Personal event = new Personal("Day " + day, LocalDate.of(2020, 10, day));
+            if (day != 5) {
+                event.markAsDone();
+            }
+            data.addToEventList("Personal", event);
+        }
+        data.addToEventList("Zoom", new Zoom("CS2113 lecture", "zoom.us/j/1", LocalDate.of(2020, 10, 9), null));
+        data.addToEventList("Zoom", new Zoom("cs2113 tutorial", "zoom.us/j/2", LocalDate.of(2020, 10, 2), null));
+    }
+
+    @Test
+    void plan_narrowDateRange_dateRangeScanChosen() throws DukeException {
+        QueryPlan plan = planner.plan(Query.parse("list in (Personal), date between 3/10/2020 and 4/10/2020"), data);
+
+        assertEquals(QueryPlanner.DATE_RANGE_SCAN, plan.getAccessPath("Personal"));
+        assertNull(plan.getAccessPath("Zoom"));
+        assertEquals(2, plan.run().size());
+        assertEquals("Personal: date range scan, 2 of 28 entries read", plan.describe().get(0));
+    }
+
+    @Test
+    void plan_fewUndoneEvents_statusPartitionChosenAndDateChecked() throws DukeException {
+        QueryPlan plan = planner.plan(Query.parse("list personal, date from 1/10/2020, status undone"), data);
+
+        assertEquals(QueryPlanner.STATUS_PARTITION, plan.getAccessPath("Personal"));
+        ArrayList<QueryResult> results = plan.run();
+        assertEquals(1, results.size());
+        assertEquals("Day 5", results.get(0).getEvent().getDescription());
+        assertEquals("Personal: status partition, 1 of 28 entries read, then date checked", plan.describe().get(0));
+    }
+
+    @Test
+    void run_descriptionSortAndLimit_matchesAcrossListsSortedAndLimited() throws DukeException {
+        ArrayList<QueryResult> results = planner.plan(
+                Query.parse("description contains \"CS2113\", sort by date, limit 1"), data).run();
+
+        assertEquals(1, results.size());
+        assertEquals("Zoom", results.get(0).getListName());
+        assertEquals("cs2113 tutorial", results.get(0).getEvent().getDescription());
+    }
+
+    @Test
+    void plan_listChanged_indexRebuilt() throws DukeException {
+        Query query = Query.parse("date on 29/10/2020");
+        assertTrue(planner.plan(query, data).run().isEmpty());
+
+        Event added = new Personal("Day 29", LocalDate.of(2020, 10, 29));
+        data.addToEventList("Personal", added);
+
+        assertEquals(added, planner.plan(query, data).run().get(0).getEvent());
+    }
+
+    @Test
+    void parse_invalidClauses_exceptionThrown() {
+        assertThrows(DukeException.class, () -> Query.parse("colour red"));
+        assertThrows(DukeException.class, () -> Query.parse("list in (Zoom"));
+        assertThrows(DukeException.class, () -> Query.parse("sort by colour"));
+        assertThrows(DukeException.class, () -> Query.parse("limit 0"));
+        assertThrows(DukeException.class, () -> planner.plan(Query.parse("list in (Work)"), data));
+    }
+}
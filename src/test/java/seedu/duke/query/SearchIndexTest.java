@@ -0,0 +1,97 @@
+package seedu.duke.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.event.Event;
+import seedu.duke.event.Personal;
+import seedu.duke.event.Timetable;
+import seedu.duke.exception.DukeException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+    private final SearchIndex index = new SearchIndex();
+    private UserData data;
+
+    @BeforeEach
+    void setUp() throws DukeException {
+        data = new UserData();
+        LocalDate date = LocalDate.of(2020, 10, 9);
+        data.addToEventList("Timetable", new Timetable("CS2113T Lecture", "I3 Auditorium", date, LocalTime.NOON));
+        data.addToEventList("Timetable", new Timetable("CS2113T Tutorial", "COM1", date, LocalTime.MIDNIGHT));
+        data.addToEventList("Timetable", new Timetable("CS2101 Lecture", date, LocalTime.NOON));
+        data.addToEventList("Personal", new Personal("Lecture notes", date));
+        data.addToEventList("Personal", new Personal("Dinner", date));
+        index.refresh(data);
+    }
+
+    @Test
+    void search_misspeltWord_eventsFound() {
+        ArrayList<SearchResult> results = index.search("lectre", 10);
+
+        assertEquals(3, results.size());
+        for (SearchResult result : results) {
+            assertTrue(result.getText().contains("Lecture"));
+        }
+    }
+
+    @Test
+    void search_partlyTypedWords_closestFirst() {
+        ArrayList<SearchResult> results = index.search("CS2113T tut", 10);
+
+        assertTrue(results.get(0).getText().contains("CS2113T Tutorial"));
+        assertTrue(results.get(1).getText().contains("CS2113T Lecture"));
+    }
+
+    @Test
+    void search_location_timetableEventFound() {
+        ArrayList<SearchResult> results = index.search("auditorum", 10);
+
+        assertEquals(1, results.size());
+        assertEquals("Timetable", results.get(0).getListName());
+    }
+
+    @Test
+    void watch_eventsAddedDeletedAndRenamed_indexUpdated() throws DukeException {
+        SearchIndex watchingIndex = new SearchIndex();
+        UserDataStore store = new UserDataStore(data);
+        watchingIndex.watch(store);
+        assertEquals(5, watchingIndex.getTextCount());
+
+        store.write(liveData -> {
+            Event dinner = liveData.getEventList("Personal").getEventByIndex(1);
+            liveData.getEventList("Personal").remove(dinner);
+            liveData.addToEventList("Personal", new Personal("Lecture notes", LocalDate.of(2020, 10, 10)));
+            liveData.addToEventList("Personal", new Personal("Gym", LocalDate.of(2020, 10, 10)));
+        });
+        store.write(liveData -> liveData.getEventList("Timetable").getEventByIndex(2).setDescription("CS2101 Talk"));
+
+        assertEquals(5, watchingIndex.getTextCount());
+        assertTrue(watchingIndex.search("dinner", 10).isEmpty());
+        assertEquals(1, watchingIndex.search("gym", 10).size());
+        assertTrue(watchingIndex.search("talk", 10).get(0).getText().contains("CS2101 Talk"));
+        ArrayList<SearchResult> results = watchingIndex.search("lecture notes", 10);
+        assertEquals("[P][X] Lecture notes on 2020-10-09", results.get(0).getText());
+        assertEquals("[P][X] Lecture notes on 2020-10-10", results.get(1).getText());
+
+        store.write(liveData -> liveData.getEventList("Personal").getEventByIndex(0).markAsDone());
+
+        assertEquals("[P][X] Lecture notes on 2020-10-09", results.get(0).getText());
+        assertEquals("[P][O] Lecture notes on 2020-10-09", watchingIndex.search("lecture notes", 10).get(0).getText());
+    }
+
+    @Test
+    void complete_prefix_wordsStartingWithPrefix() {
+        assertEquals(Arrays.asList("lecture"), index.complete("lec", 5));
+        assertEquals(Arrays.asList("cs2113t", "cs2101"), index.complete("CS", 5));
+        assertTrue(index.complete("lecture", 5).isEmpty());
+    }
+}
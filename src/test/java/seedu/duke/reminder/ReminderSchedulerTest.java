@@ -0,0 +1,123 @@
+package seedu.duke.reminder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.AddCommand;
+import seedu.duke.command.DeleteCommand;
+import seedu.duke.command.RepeatCommand;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.exception.DukeException;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReminderSchedulerTest {
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private final MovableClock clock = new MovableClock(LocalDateTime.of(2000, 10, 9, 12, 0));
+    private Ui ui;
+    private Storage storage;
+    private UserDataStore store;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws DukeException {
+        ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        storage = new Storage("data,reminderSchedulerTest", ui);
+        store = new UserDataStore(new UserData());
+        store.execute(new AddCommand("zoom; Math class; zoom.com; 09/10/2000; 1300"), ui, storage);
+        store.execute(RepeatCommand.parse("zoom; 1; weekly; 2"), ui, storage);
+        store.execute(new AddCommand("personal; Dinner; 09/10/2000"), ui, storage);
+        scheduler = new ReminderScheduler(ui, clock);
+        scheduler.watch(store);
+        outputStreamCaptor.reset();
+    }
+
+    @Test
+    void fireDue_leadTimeReached_reminderPrintedOnce() {
+        assertEquals(3, scheduler.getPendingCount());
+        clock.set(LocalDateTime.of(2000, 10, 9, 12, 44));
+        assertEquals(0, scheduler.fireDue());
+
+        clock.set(LocalDateTime.of(2000, 10, 9, 12, 45));
+        assertEquals(1, scheduler.fireDue());
+        assertEquals("Reminder: your Zoom event starts in 15 minutes:" + System.lineSeparator()
+                + "[Z][X] Math class, Link: zoom.com on 2000-10-09, 13:00" + System.lineSeparator(),
+                outputStreamCaptor.toString());
+        assertEquals(0, scheduler.fireDue());
+        assertEquals(2, scheduler.getPendingCount());
+    }
+
+    @Test
+    void refresh_eventChangedOrDeleted_remindersUpdated() throws DukeException {
+        store.write(data -> data.getEventList("Personal").getEventByIndex(0).setTime(LocalTime.of(19, 0)));
+        assertEquals(4, scheduler.getPendingCount());
+
+        store.write(data -> data.getEventList("Zoom").getEventByIndex(0).setTime(LocalTime.of(18, 0)));
+        clock.set(LocalDateTime.of(2000, 10, 9, 12, 50));
+        assertEquals(0, scheduler.fireDue());
+
+        store.execute(DeleteCommand.parse("zoom; 1"), ui, storage);
+        assertEquals(1, scheduler.getPendingCount());
+        clock.set(LocalDateTime.of(2000, 10, 9, 18, 50));
+        assertEquals(1, scheduler.fireDue());
+    }
+
+    @Test
+    void refresh_firedEventDeleted_pendingCountStaysExact() throws DukeException {
+        clock.set(LocalDateTime.of(2000, 10, 9, 12, 45));
+        assertEquals(1, scheduler.fireDue());
+        assertEquals(2, scheduler.getPendingCount());
+
+        store.execute(DeleteCommand.parse("zoom; 1"), ui, storage);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void setLeadMinutes_longerLead_remindersDueEarlier() {
+        scheduler.setLeadMinutes(60);
+        assertEquals(1, scheduler.fireDue());
+        assertEquals(60, scheduler.getLeadMinutes());
+    }
+
+    /**
+     * Clock whose time can be set by the test.
+     */
+    private static class MovableClock extends Clock {
+        private Instant instant;
+
+        private MovableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        private void set(LocalDateTime dateTime) {
+            instant = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.duke.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.RepeatCommand;
+import seedu.duke.data.Profile;
+import seedu.duke.data.ProfileManager;
+import seedu.duke.data.UserData;
+import seedu.duke.ui.Ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiServerTest {
+    private static final String TEST_DIRECTORY = "data,apiServerTest";
+
+    private ApiServer server;
+    private ProfileManager profiles;
+    private UserData data;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        deleteDirectory(Paths.get(System.getProperty("user.dir"), TEST_DIRECTORY.split(",")));
+        profiles = new ProfileManager(TEST_DIRECTORY, new Ui(), 2);
+        data = profiles.getActive().getStore().getData();
+        server = new ApiServer(0, profiles);
+        server.start();
+    }
+
+    @Test
+    void addThenList_zoomEvent_listContainsAddedEvent() throws Exception {
+        String addReply = request("POST", "/add", "zoom; Math class; zoom.com; 09/10/2000; 1300");
+        assertEquals("{\"command\":\"add\",\"events\":null,"
+                + "\"output\":[\"You have successfully added this event to your list!\","
+                + "\"[Z][X] Math class, Link: zoom.com on 2000-10-09, 13:00\"],\"error\":null}", addReply);
+
+        String listReply = request("GET", "/list?args=" + URLEncoder.encode("zoom", StandardCharsets.UTF_8), null);
+        assertEquals("{\"command\":\"list\",\"events\":[{\"list\":\"Zoom\",\"index\":1,"
+                + "\"description\":\"Math class\",\"date\":\"2000-10-09\",\"time\":\"13:00\","
+                + "\"status\":\"undone\"}],"
+                + "\"output\":[\"Here is a list of your Zoom events:\","
+                + "\"1. [Z][X] Math class, Link: zoom.com on 2000-10-09, 13:00\"],\"error\":null}", listReply);
+        assertEquals(1, data.getEventList("Zoom").getSize());
+    }
+
+    @Test
+    void done_invalidIndex_replyWithError() throws Exception {
+        String reply = request("POST", "/done", "personal; 3");
+        assertEquals("{\"command\":\"done\",\"events\":null,\"output\":[],"
+                + "\"error\":\"Error, no such index is available!\"}", reply);
+    }
+
+    @Test
+    void list_wrongMethod_replyWithError() throws Exception {
+        String reply = request("POST", "/list", "");
+        assertTrue(reply.contains("\"error\":\"GET is required for list\""));
+    }
+
+    @Test
+    void list_pathLongerThanCommandWord_notFound() throws Exception {
+        URL url = new URL("http://localhost:" + server.getPort() + "/listfoo?args=personal");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+
+        assertEquals(404, connection.getResponseCode());
+        assertEquals("{\"command\":null,\"events\":null,\"output\":[],"
+                + "\"error\":\"No command is served at /listfoo\"}", request("GET", "/listfoo?args=personal", null));
+    }
+
+    @Test
+    void calendar_repeatedEvent_eachOccurrenceWithIndexOfItsEvent() throws Exception {
+        request("POST", "/add", "personal; Lunch; 09/10/2000; 1200");
+        request("POST", "/add", "personal; Dinner; 10/10/2000; 1900");
+        request("POST", "/done", "personal; 2");
+        Profile profile = profiles.getActive();
+        profile.getStore().execute(RepeatCommand.parse("personal; 1; weekly; 1"), new Ui(), profile.getStorage());
+
+        String reply = request("GET", "/calendar", null);
+
+        assertTrue(reply.startsWith("{\"command\":\"calendar\",\"events\":["
+                + "{\"list\":\"Personal\",\"index\":1,\"description\":\"Lunch\",\"date\":\"2000-10-09\","
+                + "\"time\":\"12:00\",\"status\":\"undone\"},"
+                + "{\"list\":\"Personal\",\"index\":2,\"description\":\"Dinner\",\"date\":\"2000-10-10\","
+                + "\"time\":\"19:00\",\"status\":\"done\"},"
+                + "{\"list\":\"Personal\",\"index\":1,\"description\":\"Lunch\",\"date\":\"2000-10-16\","
+                + "\"time\":\"12:00\",\"status\":\"undone\"}],\"output\":["));
+    }
+
+    @Test
+    void list_concurrentReadsDuringWrites_allReadsSucceed() throws Exception {
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20; i++) {
+                try {
+                    request("POST", "/add", "personal; task " + i);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+        writer.start();
+        for (int i = 0; i < 20; i++) {
+            assertTrue(request("GET", "/list?args=personal", null).endsWith("\"error\":null}"));
+        }
+        writer.join();
+        assertEquals(20, data.getEventList("Personal").getSize());
+    }
+
+    @Test
+    void addThenList_differentProfiles_profilesKeptSeparate() throws Exception {
+        request("POST", "/add?profile=alice", "personal; alice task");
+
+        assertEquals(1, profiles.get("alice").getStore().getData().getEventList("Personal").getSize());
+        assertEquals(0, data.getEventList("Personal").getSize());
+        assertTrue(request("GET", "/list?profile=alice&args=personal", null).contains("alice task"));
+    }
+
+    @Test
+    void list_invalidProfile_replyWithError() throws Exception {
+        String reply = request("GET", "/list?profile=..&args=personal", null);
+        assertTrue(reply.contains("\"error\":\".. is not a valid profile name."));
+    }
+
+    private String request(String method, String path, String body) throws IOException {
+        URL url = new URL("http://localhost:" + server.getPort() + path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        InputStream reply = connection.getResponseCode() < 400 ? connection.getInputStream()
+                : connection.getErrorStream();
+        try (reply) {
+            return new String(reply.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.AddCommand;
+import seedu.duke.command.RepeatCommand;
+import seedu.duke.command.ViewCommand;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.Personal;
+import seedu.duke.event.StoredNotes;
+import seedu.duke.exception.DukeException;
+import seedu.duke.exception.MissingNotesException;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Scanner;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoteStoreTest {
+    private static final String DIRECTORY = "data,noteStoreTest";
+
+    private final Path directory = Paths.get(System.getProperty("user.dir"), "data", "noteStoreTest");
+    private Ui ui;
+    private Storage storage;
+    private UserData data;
+
+    @BeforeEach
+    void setUp() throws IOException, DukeException {
+        if (Files.exists(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+        ui = new Ui(new Scanner(System.in), new PrintStream(new ByteArrayOutputStream()));
+        storage = new Storage(DIRECTORY, ui);
+        data = new UserData();
+        new AddCommand("personal; Meeting; 09/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Review; 10/10/2000").execute(data, ui, storage);
+        RepeatCommand.parse("personal; 1; weekly; 2").execute(data, ui, storage);
+    }
+
+    @Test
+    void saveFile_eventsWithSameNotes_onlyHashInLineAndOneNotesFile() throws IOException, DukeException {
+        ArrayList<String> notes = new ArrayList<>(Arrays.asList("agenda", "", "minutes"));
+        data.getEventList("Personal").getEventByIndex(0).setNotes(notes);
+        data.getEventList("Personal").getEventByIndex(1).setNotes(new ArrayList<>(notes));
+        storage.saveFile(storage.getFileLocation("Personal"), data, "Personal");
+
+        List<String> lines = Files.readAllLines(directory.resolve("personal.txt"));
+        assertFalse(lines.get(0).contains("agenda"));
+        assertTrue(lines.get(0).contains(NoteStore.REFERENCE_PREFIX));
+        try (Stream<Path> files = Files.list(directory.resolve("notes"))) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void stringToEvent_storedNotes_readOnlyWhenShownAndSharedByRepeats() throws DukeException {
+        NoteStore noteStore = new NoteStore(directory);
+        Event meeting = data.getEventList("Personal").getEventByIndex(0);
+        meeting.setNotes(new ArrayList<>(Arrays.asList("agenda", "minutes")));
+        String line = StorageParser.eventToString(meeting, "Personal", noteStore);
+
+        NoteStore reopened = new NoteStore(directory);
+        Event loaded = StorageParser.stringToEvent(line, "Personal", new ArrayList<>(), reopened);
+
+        assertTrue(loaded.hasNotes());
+        assertEquals(0, reopened.getCachedCount());
+        assertSame(loaded.getStoredNotes(), loaded.getRepeatEventList().get(1).getStoredNotes());
+        assertEquals(Arrays.asList("agenda", "minutes"), loaded.getNotes());
+        assertEquals(1, reopened.getCachedCount());
+        assertEquals(line, StorageParser.eventToString(loaded, "Personal", reopened));
+    }
+
+    @Test
+    void stringToEvent_notesInLine_movedToStoreWhenSaved() throws DukeException {
+        NoteStore noteStore = new NoteStore(directory);
+        Event event = StorageParser.stringToEvent("Lunch | 2000-10-02 | 0 | 0 | 0 | first`second` | F", "Personal",
+                new ArrayList<>(), noteStore);
+        assertNull(event.getStoredNotes());
+
+        String line = StorageParser.eventToString(event, "Personal", noteStore);
+
+        assertTrue(line.contains(NoteStore.REFERENCE_PREFIX));
+        assertEquals(Arrays.asList("first", "second", ""), event.getNotes());
+    }
+
+    @Test
+    void setNotes_eventWithStoredNotes_newNotesKeptInEvent() throws IOException, DukeException {
+        NoteStore noteStore = new NoteStore(directory);
+        Personal event = new Personal("Lunch");
+        event.setStoredNotes(noteStore.put(List.of("old")));
+
+        event.setNotes(new ArrayList<>(List.of("new")));
+
+        assertNull(event.getStoredNotes());
+        assertEquals(List.of("new"), event.getNotes());
+    }
+
+    @Test
+    void saveAll_notesChanged_oldNotesFileRemoved() throws DukeException, IOException {
+        Event meeting = data.getEventList("Personal").getEventByIndex(0);
+        meeting.setNotes(new ArrayList<>(List.of("agenda")));
+        storage.saveAll(data);
+        meeting.setNotes(new ArrayList<>(List.of("minutes")));
+        storage.saveAll(data);
+
+        try (Stream<Path> files = Files.list(directory.resolve("notes"))) {
+            assertEquals(1, files.count());
+        }
+        Event loaded = StorageParser.stringToEvent(Files.readAllLines(directory.resolve("personal.txt")).get(0),
+                "Personal", new ArrayList<>(), new NoteStore(directory));
+        assertEquals(List.of("minutes"), loaded.getNotes());
+    }
+
+    @Test
+    void removeUnreferenced_notesGivenBackAfterRemoval_stillShownAndSavedAgain() throws DukeException, IOException {
+        NoteStore noteStore = new NoteStore(directory);
+        Event meeting = data.getEventList("Personal").getEventByIndex(0);
+        StoredNotes oldNotes = noteStore.put(List.of("agenda"));
+        meeting.setStoredNotes(oldNotes);
+        meeting.setNotes(new ArrayList<>(List.of("minutes")));
+
+        assertEquals(1, noteStore.removeUnreferenced(data));
+        meeting.setStoredNotes(oldNotes);
+
+        assertEquals(List.of("agenda"), meeting.getNotes());
+        noteStore.save(meeting);
+        assertTrue(Files.exists(directory.resolve("notes").resolve(oldNotes.getHash() + ".txt")));
+    }
+
+    @Test
+    void removeUnreferenced_historyCleared_removedNotesForgotten() throws DukeException, IOException {
+        NoteStore noteStore = new NoteStore(directory);
+        Event meeting = data.getEventList("Personal").getEventByIndex(0);
+        StoredNotes oldNotes = noteStore.put(List.of("agenda"));
+        meeting.setStoredNotes(oldNotes);
+        meeting.setNotes(new ArrayList<>(List.of("minutes")));
+        assertEquals(1, noteStore.removeUnreferenced(data));
+
+        data.getHistory().clear();
+        noteStore.removeUnreferenced(data);
+        meeting.setStoredNotes(oldNotes);
+
+        assertThrows(MissingNotesException.class, meeting::getNotes);
+    }
+
+    @Test
+    void eventToLine_notesInEvent_sameLineWithoutWritingNotes() throws DukeException {
+        NoteStore noteStore = new NoteStore(directory);
+        Event meeting = data.getEventList("Personal").getEventByIndex(0);
+        meeting.setNotes(new ArrayList<>(List.of("agenda")));
+
+        String line = StorageParser.eventToLine(meeting, "Personal", noteStore);
+
+        assertFalse(Files.exists(directory.resolve("notes")));
+        assertEquals(StorageParser.eventToString(meeting, "Personal", noteStore), line);
+    }
+
+    @Test
+    void execute_viewNotesFileMissing_throwsMissingNotesException() throws DukeException {
+        NoteStore noteStore = new NoteStore(directory);
+        data.getEventList("Personal").getEventByIndex(0)
+                .setStoredNotes(noteStore.parseReference(NoteStore.REFERENCE_PREFIX + "0".repeat(64)));
+
+        assertThrows(MissingNotesException.class, () -> new ViewCommand("personal; 1").execute(data, ui, storage));
+    }
+}
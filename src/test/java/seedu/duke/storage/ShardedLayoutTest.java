@@ -0,0 +1,126 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.AddCommand;
+import seedu.duke.command.RepeatCommand;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.Personal;
+import seedu.duke.exception.DukeException;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Scanner;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedLayoutTest {
+    private static final String DIRECTORY = "data,shardedLayoutTest";
+
+    private final Path directory = Paths.get(System.getProperty("user.dir"), "data", "shardedLayoutTest");
+    private Ui ui;
+    private Storage storage;
+    private UserData data;
+
+    @BeforeEach
+    public void setUp() throws IOException, DukeException {
+        if (Files.exists(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+        ui = new Ui(new Scanner(System.in), new PrintStream(new ByteArrayOutputStream()));
+        storage = new Storage(DIRECTORY, ui);
+        data = new UserData();
+        new AddCommand("personal; Project meeting; 09/10/2000").execute(data, ui, storage);
+        new AddCommand("personal; Buy milk").execute(data, ui, storage);
+        new AddCommand("personal; Dentist; 20/12/2000; 10:00").execute(data, ui, storage);
+        new AddCommand("zoom; Lecture; zoom.us/j/1; 01/11/2000; 14:00").execute(data, ui, storage);
+        RepeatCommand.parse("personal; 1; monthly; 3").execute(data, ui, storage);
+    }
+
+    @Test
+    void migrate_toSharded_oneFilePerMonthAndSameEventsLoaded() throws IOException, DukeException {
+        storage.migrate(data, Storage.SHARDED_LAYOUT);
+
+        assertFalse(Files.exists(directory.resolve("personal.txt")));
+        assertTrue(Files.exists(directory.resolve("personal").resolve("2000-10.txt")));
+        assertTrue(Files.exists(directory.resolve("personal").resolve("2000-12.txt")));
+        assertTrue(Files.exists(directory.resolve("personal").resolve("undated.txt")));
+        assertTrue(Files.exists(directory.resolve("zoom").resolve("2000-11.txt")));
+        assertEquals(Arrays.asList("2000-10 | 1", "undated | 1", "2000-12 | 1"),
+                Files.readAllLines(directory.resolve("personal").resolve("index.txt")));
+
+        Storage reopened = new Storage(DIRECTORY, ui);
+        UserData loaded = new UserData();
+        reopened.loadAll(loaded);
+        assertEquals(Storage.SHARDED_LAYOUT, reopened.getLayout());
+        assertEquals(3, loaded.getEventList("Personal").getSize());
+        assertEquals(3, loaded.getEventList("Personal").getEventByIndex(0).getRepeatCount());
+        assertEquals(1, loaded.getEventList("Zoom").getSize());
+    }
+
+    @Test
+    void save_oneMonthChanged_onlyThatShardWritten() throws Exception {
+        ShardedLayout layout = new ShardedLayout(directory);
+        layout.save(data.getEventList("Personal"), "Personal");
+        assertEquals(0, layout.save(data.getEventList("Personal"), "Personal"));
+
+        data.getEventList("Personal").add(new Personal("Party", LocalDate.of(2000, 12, 31)));
+        long bytesWritten = layout.save(data.getEventList("Personal"), "Personal");
+
+        long expectedBytes = Files.size(directory.resolve("personal").resolve("2000-12.txt"))
+                + Files.size(directory.resolve("personal").resolve("index.txt"));
+        assertEquals(expectedBytes, bytesWritten);
+    }
+
+    @Test
+    void save_lastEventOfMonthDeleted_shardDeleted() throws Exception {
+        storage.migrate(data, Storage.SHARDED_LAYOUT);
+        Event dentist = data.getEventList("Personal").getEventByIndex(2);
+
+        data.getEventList("Personal").remove(dentist);
+        storage.saveFile(storage.getFileLocation("Personal"), data, "Personal");
+
+        assertFalse(Files.exists(directory.resolve("personal").resolve("2000-12.txt")));
+        assertTrue(Files.exists(directory.resolve("personal").resolve("2000-10.txt")));
+    }
+
+    @Test
+    void loadAll_sharded_eventsKeepTheirOrder() throws Exception {
+        storage.migrate(data, Storage.SHARDED_LAYOUT);
+        new AddCommand("personal; Party; 09/10/2000").execute(data, ui, storage);
+
+        UserData loaded = new UserData();
+        new Storage(DIRECTORY, ui).loadAll(loaded);
+
+        assertEquals(4, loaded.getEventList("Personal").getSize());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(data.getEventList("Personal").getEventByIndex(i).getDescription(),
+                    loaded.getEventList("Personal").getEventByIndex(i).getDescription());
+        }
+    }
+
+    @Test
+    void migrate_backToSingle_shardsRemovedAndSingleFilesWritten() throws IOException {
+        storage.migrate(data, Storage.SHARDED_LAYOUT);
+        storage.migrate(data, Storage.SINGLE_FILE_LAYOUT);
+
+        assertFalse(Files.exists(directory.resolve("personal")));
+        assertFalse(Files.exists(directory.resolve("layout.txt")));
+        assertEquals(3, Files.readAllLines(directory.resolve("personal.txt")).size());
+        assertEquals(Storage.SINGLE_FILE_LAYOUT, new Storage(DIRECTORY, ui).getLayout());
+    }
+}
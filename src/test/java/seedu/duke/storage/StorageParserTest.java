@@ -0,0 +1,120 @@
+package seedu.duke.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
+import seedu.duke.event.Timetable;
+import seedu.duke.exception.DukeException;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageParserTest {
+    private static final String DIRECTORY = "data,storageParserTest";
+
+    private ArrayList<String> problems;
+
+    @BeforeEach
+    public void setUp() {
+        problems = new ArrayList<>();
+    }
+
+    @Test
+    void stringToEvent_savedRepeatedEvent_eventWithRepeatsReturned() throws DukeException {
+        Event event = StorageParser.stringToEvent("math | 2010-01-31 | 1200 | MONTHLY | 2 | S17 | a`b` | F | T | F",
+                "Timetable", problems);
+
+        assertNotNull(event);
+        assertEquals(LocalDate.of(2010, 1, 31), event.getDate());
+        assertEquals(LocalTime.of(12, 0), event.getTime());
+        assertEquals("S17", ((Timetable) event).getLocation());
+        assertEquals(2, event.getRepeatCount());
+        assertEquals(LocalDate.of(2010, 2, 28), event.getRepeatEventList().get(0).getDate());
+        assertEquals("O", event.getRepeatEventList().get(0).getStatus());
+        assertEquals(Arrays.asList("a", "b", ""), event.getNotes());
+        assertTrue(problems.isEmpty());
+    }
+
+    @Test
+    void stringToEvent_dateTypedByUser_dateParsed() {
+        Event event = StorageParser.stringToEvent("lunch | 1/2/2020 | 0 | 0 | 0 |  | F", "Personal", problems);
+
+        assertNotNull(event);
+        assertEquals(LocalDate.of(2020, 2, 1), event.getDate());
+        assertNull(event.getTime());
+    }
+
+    @Test
+    void stringToEvent_timeTypedByUser_timeParsedOrRejected() {
+        Event event = StorageParser.stringToEvent("lunch | 2020-02-01 | 4:30 pm | 0 | 0 |  | F", "Personal", problems);
+
+        assertNotNull(event);
+        assertEquals(LocalTime.of(16, 30), event.getTime());
+        assertCorrupt("lunch | 2020-02-01 | pm | 0 | 0 |  | F", "Personal", "time \"pm\" is not a valid time");
+        assertCorrupt("lunch | 2020-02-01 | 12: | 0 | 0 |  | F", "Personal", "time \"12:\" is not a valid time");
+        assertCorrupt("lunch | 2020-02-01 | :30 am | 0 | 0 |  | F", "Personal",
+                "time \":30 am\" is not a valid time");
+    }
+
+    @Test
+    void stringToEvent_corruptLines_nullReturnedWithReason() {
+        assertCorrupt("lunch | 2010-01-01 | 1200", "Personal", "expected at least 7 fields but found 3");
+        assertCorrupt("lunch | 2010-02-30 | 1200 | 0 | 0 |  | F", "Personal",
+                "date \"2010-02-30\" is not a valid date");
+        assertCorrupt("lunch | tomorrow | 1200 | 0 | 0 |  | F", "Personal", "date \"tomorrow\" is not a valid date");
+        assertCorrupt("lunch | 2010-01-01 | 2460 | 0 | 0 |  | F", "Personal", "time \"2460\" is not a valid time");
+        assertCorrupt("lunch | 2010-01-01 | 1200 | 0 | 0 |  | X", "Personal", "status \"X\" should be T or F");
+        assertCorrupt("lunch | 2010-01-01 | 1200 | WEEKLY | two |  | F", "Personal",
+                "repeat number \"two\" is not a number");
+        assertCorrupt("lunch | 2010-01-01 | 1200 | YEARLY | 1 |  | F | F", "Personal",
+                "repeat unit \"YEARLY\" should be daily, weekly or monthly");
+        assertCorrupt("lunch | 2010-01-01 | 1200 | WEEKLY | 3 |  | F | F", "Personal",
+                "expected 4 statuses but found 2");
+        assertCorrupt("math | 0 | 0 | 0 | 0 | S17 |  | F", "Timetable", "date \"0\" is not a valid date");
+    }
+
+    @Test
+    void loadFile_corruptLines_goodLinesLoadedAndCorruptLinesSalvaged() throws IOException, DukeException {
+        Path directory = Paths.get(System.getProperty("user.dir"), "data", "storageParserTest");
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve("salvage.txt"));
+        Files.write(directory.resolve("personal.txt"), ("lunch | 2010-01-01 | 1200 | 0 | 0 |  | F\r\n"
+                + "dinner | 2010-01-01 | 9999 | 0 | 0 |  | F\r\n"
+                + "others | 0 | 0 | 0 | 0 |  | T\r\n").getBytes());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Storage storage = new Storage(DIRECTORY, new Ui(new Scanner(System.in), new PrintStream(output)));
+        UserData data = new UserData();
+
+        storage.loadFile(storage.getFileLocation("Personal"), data, "Personal");
+
+        assertEquals(2, data.getEventList("Personal").getSize());
+        assertTrue(output.toString().contains("2/3 loaded successfully for Personal"));
+        List<String> salvage = Files.readAllLines(directory.resolve("salvage.txt"));
+        assertEquals(3, salvage.size());
+        assertEquals("line 2, byte 42: time \"9999\" is not a valid time", salvage.get(1));
+        assertEquals("    dinner | 2010-01-01 | 9999 | 0 | 0 |  | F", salvage.get(2));
+    }
+
+    private void assertCorrupt(String line, String type, String reason) {
+        assertNull(StorageParser.stringToEvent(line, type, problems));
+        assertEquals(Arrays.asList(reason), problems);
+        problems.clear();
+    }
+}
@@ -4,9 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.duke.command.AddCommand;
 import seedu.duke.command.Command;
+import seedu.duke.command.DeleteCommand;
 import seedu.duke.command.GoalCommand;
 import seedu.duke.command.ListCommand;
 import seedu.duke.data.UserData;
+import seedu.duke.event.Event;
 import seedu.duke.exception.DukeException;
 import seedu.duke.ui.Ui;
 
@@ -16,10 +18,15 @@ import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class StorageTest {
@@ -163,6 +170,63 @@ class StorageTest {
 
 
 
+    }
+
+    @Test
+    void reloadIfChanged_lineChangedOutside_onlyThatEventReplaced() throws IOException, DukeException {
+        Path personalPath = createPath(new String[]{"data", "storageReloadTest", "personal.txt"});
+        Files.deleteIfExists(personalPath);
+        Ui ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        Storage store = new Storage("data,storageReloadTest", ui);
+        UserData data = new UserData();
+        new AddCommand("personal; Breakfast; 01/10/2000").execute(data, ui, store);
+        new AddCommand("personal; Lunch; 02/10/2000").execute(data, ui, store);
+        new AddCommand("personal; Dinner; 03/10/2000").execute(data, ui, store);
+        Event breakfast = data.getEventList("Personal").getEventByIndex(0);
+        Event dinner = data.getEventList("Personal").getEventByIndex(2);
+
+        List<String> lines = new ArrayList<>(Files.readAllLines(personalPath));
+        lines.set(1, lines.get(1).replace("Lunch", "Brunch"));
+        lines.add(lines.get(0).replace("Breakfast", "Supper"));
+        Files.write(personalPath, lines);
+        Files.setLastModifiedTime(personalPath, FileTime.fromMillis(0));
+        outputStreamCaptor.reset();
+
+        assertTrue(store.reloadIfChanged(data, "Personal"));
+
+        assertEquals(4, data.getEventList("Personal").getSize());
+        assertSame(breakfast, data.getEventList("Personal").getEventByIndex(0));
+        assertEquals("Brunch", data.getEventList("Personal").getEventByIndex(1).getDescription());
+        assertSame(dinner, data.getEventList("Personal").getEventByIndex(2));
+        assertEquals("Supper", data.getEventList("Personal").getEventByIndex(3).getDescription());
+        assertEquals("Your Personal file was changed outside the program, so 3 events were updated from it."
+                + System.lineSeparator(), outputStreamCaptor.toString());
+        assertFalse(store.reloadIfChanged(data, "Personal"));
+    }
+
+    @Test
+    void saveFile_fileChangedOutside_changeSavedOnTopOfFile() throws IOException, DukeException {
+        Path personalPath = createPath(new String[]{"data", "storageReloadTest", "personal.txt"});
+        Files.deleteIfExists(personalPath);
+        Ui ui = new Ui(new Scanner(System.in), new PrintStream(outputStreamCaptor));
+        Storage store = new Storage("data,storageReloadTest", ui);
+        UserData data = new UserData();
+        new AddCommand("personal; Breakfast; 01/10/2000").execute(data, ui, store);
+        new AddCommand("personal; Brunch; 01/10/2000").execute(data, ui, store);
+        Files.write(personalPath, List.of("Breakfast | 2000-10-01 | 0 | 0 | 0 |  | F",
+                "Brunch | 2000-10-01 | 0 | 0 | 0 |  | F",
+                "Tea | 2000-10-03 | 0 | 0 | 0 |  | F"));
+
+        DeleteCommand.parse("personal; 2").execute(data, ui, store);
+        new AddCommand("personal; Dinner; 03/10/2000").execute(data, ui, store);
+
+        List<String> lines = Files.readAllLines(personalPath);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("Breakfast"));
+        assertTrue(lines.get(1).startsWith("Tea"));
+        assertTrue(lines.get(2).startsWith("Dinner"));
+        assertEquals(3, data.getEventList("Personal").getSize());
+        assertTrue(outputStreamCaptor.toString().contains("was saved on top of the file's changes"));
     }
 
     /**
@@ -0,0 +1,51 @@
+package seedu.duke.trace;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import seedu.duke.command.ListCommand;
+import seedu.duke.data.UserData;
+import seedu.duke.data.UserDataStore;
+import seedu.duke.storage.Storage;
+import seedu.duke.ui.Ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Scanner;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandEventTest {
+
+    @Test
+    void execute_whileRecording_commandEventRecordedWithCommandWordAndList() throws Exception {
+        Ui ui = new Ui(new Scanner(System.in), new PrintStream(new ByteArrayOutputStream()));
+        UserDataStore store = new UserDataStore(new UserData());
+        Path recordingFile = Files.createTempFile("scheduler", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("scheduler.Command");
+            recording.start();
+            store.execute(ListCommand.parse("zoom"), ui, new Storage("data", ui));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getEventType().getName().equals("scheduler.Command"))
+                .collect(Collectors.toList());
+        Files.delete(recordingFile);
+        assertEquals(1, events.size());
+        assertEquals("list", events.get(0).getString("commandWord"));
+        assertEquals("Zoom", events.get(0).getString("listName"));
+        assertTrue(events.get(0).getBoolean("isReadOnly"));
+        assertFalse(events.get(0).getBoolean("isFailed"));
+    }
+}